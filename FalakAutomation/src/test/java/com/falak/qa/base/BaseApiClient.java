@@ -1,11 +1,33 @@
 package com.falak.qa.base;
 
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.net.ApiResponseCache;
+import com.falak.qa.net.ApiTransport;
+
 import io.qameta.allure.Step;
-import io.restassured.RestAssured;
+import io.restassured.builder.ResponseBuilder;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
 
 public abstract class BaseApiClient {
 
@@ -24,8 +46,13 @@ public abstract class BaseApiClient {
 	 * 🔹 تُستخدم هذه الدالة لإرسال طلب GET إلى واجهة API الخاصة بالأداة مع جميع
 	 * الإعدادات المشتركة (مثل: Base URI, Headers, Query Params).
 	 *
+	 * 🔹 الاستجابات الناجحة تُخزن على القرص (ApiResponseCache) بمفتاح البيئة +
+	 * الرابط + الباراميترز، وتُقدَّم من القرص ضمن مدة الصلاحية أو بعد 304.
+	 *
 	 * This method sends a GET request to the tool's API endpoint with all
 	 * preconfigured settings (Base URI, headers, and query parameters).
+	 * Successful responses are cached on disk keyed by environment, endpoint and
+	 * query parameters, and served from disk while fresh or after a 304.
 	 *
 	 * @return Response كائن يحتوي على الاستجابة من السيرفر The response object
 	 *         returned by the server.
@@ -35,7 +62,196 @@ public abstract class BaseApiClient {
 	 */
 	@Step("Send GET request to tool endpoint with preconfigured settings")
 	public Response sendGetRequest() {
-		return buildRequest().get();
+		return sendGet(getQueryParams());
+	}
+
+	// 📡 إرسال GET بباراميترز محددة (مع الذاكرة المؤقتة) | GET with explicit query params, through the cache
+	private Response sendGet(Map<String, Object> queryParams) {
+		if (!ApiResponseCache.isEnabled())
+			return buildRequest(queryParams).get();
+
+		// 🗄️ البحث في الذاكرة المؤقتة على القرص | Look up the on-disk cache
+		String key = ApiResponseCache.key(ConfigReader.initProperties().getProperty("environment", "prod"),
+				BASE_URL + getToolEndpoint(), queryParams);
+		ApiResponseCache.Entry cached = ApiResponseCache.lookup(key);
+		if (cached != null && cached.isFresh()) {
+			ApiResponseCache.recordHit(cached);
+			return fromCache(cached);
+		}
+
+		// 🔁 إعادة التحقق عبر If-None-Match إن توفر ETag | Revalidate with If-None-Match when an ETag is known
+		RequestSpecification request = buildRequest(queryParams);
+		if (cached != null && cached.etag != null)
+			request.header("If-None-Match", cached.etag);
+		Response response = request.get();
+
+		if (response.statusCode() == 304 && cached != null) {
+			ApiResponseCache.recordRevalidated(cached);
+			return fromCache(cached);
+		}
+		ApiResponseCache.recordMiss();
+		if (response.statusCode() != 200)
+			return response;
+
+		byte[] body = response.asByteArray();
+		ApiResponseCache.store(key, body, response.header("ETag"), response.contentType());
+		return new ResponseBuilder().clone(response).setBody(body).build();
+	}
+
+	/**
+	 * 🌊 Stream كسول لكل السجلات عبر كل الصفحات
+	 *
+	 * 🔹 تُجلب الصفحات عند الحاجة فقط، مع جلب مسبق للصفحة التالية أثناء استهلاك
+	 * الحالية. إذا توقف المستهلك مبكرًا (findFirst / anyMatch / limit) يتوقف الجلب؛
+	 * إغلاق الـ Stream يلغي الصفحة المجلوبة مسبقًا. الباراميترز الأصلية لا تُعدّل:
+	 * كل صفحة تُطلب بنسخة منها مع رقم الصفحة وحجمها. نهاية البيانات تحددها
+	 * {@link EndOfData} في {@link PageSpec}.
+	 *
+	 * 🌊 Lazily streams every record across all pages. Pages are fetched on
+	 * demand, with the next page prefetched while the current one is consumed;
+	 * short-circuiting consumers stop the fetching and closing the stream cancels
+	 * the prefetch. The client's query params are never mutated: each page is
+	 * requested with a copy plus the page number and size. End of data is decided
+	 * by the spec's {@link EndOfData}.
+	 *
+	 * @param spec وصف الترقيم | Pagination spec
+	 * @param <T>  نوع السجل | Record type
+	 * @return Stream كسول ومرتب | Lazy, ordered stream
+	 *
+	 *         📌 الهدف: عميل أداة جديد يكفيه تعريف الرابط وأسماء باراميترز الصفحات
+	 *         ونوع السجل.
+	 */
+	public <T> Stream<T> streamAll(PageSpec<T> spec) {
+		return streamAll(spec, PageListener.NONE);
+	}
+
+	/**
+	 * 🌊 مثل {@link #streamAll(PageSpec)} مع إشعار بعد جلب كل صفحة (عدد السجلات،
+	 * الإجمالي، الزمن)
+	 *
+	 * 🌊 Same as {@link #streamAll(PageSpec)}, notifying the listener after every
+	 * page fetch (records, server total, latency), prefetched pages included.
+	 *
+	 * @param spec     وصف الترقيم | Pagination spec
+	 * @param listener مستمع الصفحات | Page listener
+	 * @param <T>      نوع السجل | Record type
+	 * @return Stream كسول ومرتب | Lazy, ordered stream
+	 */
+	public <T> Stream<T> streamAll(PageSpec<T> spec, PageListener listener) {
+		// 📸 نسخة ثابتة من الباراميترز (قد تحتوي null) | Snapshot of the params (may hold nulls), never mutated
+		Map<String, Object> base = getQueryParams() == null ? new HashMap<>() : new HashMap<>(getQueryParams());
+		PagedSpliterator<T> pages = new PagedSpliterator<>(page -> {
+			Map<String, Object> params = new HashMap<>(base);
+			params.put(spec.pageParam, page);
+			params.put(spec.sizeParam, spec.pageSize);
+			return fetchRecords(page, params, spec, listener);
+		}, spec);
+		return StreamSupport.stream(pages, false).onClose(pages::cancel);
+	}
+
+	private <T> List<T> fetchRecords(int page, Map<String, Object> params, PageSpec<T> spec,
+			PageListener listener) {
+		long start = System.nanoTime();
+		Response response = sendGet(params);
+		validateStatusCode(response, 200);
+		List<T> records = new ArrayList<>(spec.pageSize);
+		JsonRecordStream<T> stream = new JsonRecordStream<>(response.asInputStream(), spec.arrayField,
+				spec.recordType);
+		stream.drainTo(records::add);
+		long total = spec.totalField == null ? -1 : stream.numericField(spec.totalField);
+		listener.onPage(page, records.size(), total, System.nanoTime() - start);
+		return records;
+	}
+
+	/**
+	 * ⚡ إرسال طلب GET غير متزامن (java.net.http) وإرجاع جسم الاستجابة كـ Future
+	 *
+	 * 🔹 لا يحجز خيط الاختبار: يُرسل الطلب عبر عميل HTTP/2 المشترك ويُكمل الـ Future
+	 * بجسم الاستجابة (بعد فك gzip/deflate) عند وصوله. يستخدم نفس الذاكرة المؤقتة على
+	 * القرص ونفس إعادة التحقق عبر ETag مثل {@link #sendGetRequest()}. يفشل الـ Future
+	 * بـ RuntimeException إذا لم يكن كود الحالة 200.
+	 *
+	 * ⚡ Sends the GET request without blocking the test thread, over the shared
+	 * java.net.http client (HTTP/2 when available). The future completes with the
+	 * decoded body; it shares the on-disk cache and ETag revalidation of
+	 * {@link #sendGetRequest()} and fails with a RuntimeException on a non-200
+	 * status.
+	 *
+	 * @return Future بجسم الاستجابة (في الذاكرة) | Future of the in-memory
+	 *         response body
+	 *
+	 *         📌 الهدف: تشغيل تحقق الـ API بالتوازي مع خطوات الواجهة بدل انتظارها.
+	 */
+	public CompletableFuture<InputStream> sendGetAsync() {
+		String url = BASE_URL + getToolEndpoint();
+		String key = null;
+		ApiResponseCache.Entry cached = null;
+		if (ApiResponseCache.isEnabled()) {
+			key = ApiResponseCache.key(ConfigReader.initProperties().getProperty("environment", "prod"), url,
+					getQueryParams());
+			cached = ApiResponseCache.lookup(key);
+			if (cached != null && cached.isFresh()) {
+				ApiResponseCache.recordHit(cached);
+				return CompletableFuture.completedFuture(new ByteArrayInputStream(cached.body));
+			}
+		}
+
+		HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url + toQueryString(getQueryParams())))
+				.timeout(Duration.ofSeconds(120)).header("Accept-Encoding", "gzip, deflate").GET();
+		getDefaultHeaders().forEach(request::header);
+		if (cached != null && cached.etag != null)
+			request.header("If-None-Match", cached.etag);
+
+		String cacheKey = key;
+		ApiResponseCache.Entry stale = cached;
+		// 📦 الجسم يُستقبل كاملًا بواسطة العميل (ofByteArray) فلا يُحجز خيط منفّذ للقراءة
+		// The client receives the whole body itself (ofByteArray), so no executor thread blocks reading it
+		return ApiTransport.asyncClient().sendAsync(request.build(), HttpResponse.BodyHandlers.ofByteArray())
+				.thenApply(response -> {
+					ApiTransport.recordAsync(response.version());
+					if (response.statusCode() == 304 && stale != null) {
+						ApiResponseCache.recordRevalidated(stale);
+						return new ByteArrayInputStream(stale.body);
+					}
+					if (response.statusCode() != 200)
+						throw new RuntimeException("❌ Async GET " + url + " failed (Status: " + response.statusCode() + ")");
+					byte[] bytes = decode(response);
+					if (cacheKey != null) {
+						ApiResponseCache.recordMiss();
+						ApiResponseCache.store(cacheKey, bytes, response.headers().firstValue("ETag").orElse(null),
+								response.headers().firstValue("Content-Type").orElse("application/json"));
+					}
+					return new ByteArrayInputStream(bytes);
+				});
+	}
+
+	// 🔗 بناء query string بنفس ترتيب الخريطة (القيم null تُرسل كاسم فقط) | Query string; null values are sent as bare names
+	private static String toQueryString(Map<String, Object> params) {
+		if (params == null || params.isEmpty())
+			return "";
+		StringJoiner joiner = new StringJoiner("&", "?", "");
+		params.forEach((k, v) -> joiner.add(URLEncoder.encode(k, StandardCharsets.UTF_8)
+				+ (v == null ? "" : "=" + URLEncoder.encode(String.valueOf(v), StandardCharsets.UTF_8))));
+		return joiner.toString();
+	}
+
+	// 🗜️ فك ضغط الجسم المستلم حسب Content-Encoding | Decodes the received body per Content-Encoding
+	private static byte[] decode(HttpResponse<byte[]> response) {
+		String encoding = response.headers().firstValue("Content-Encoding").orElse("").toLowerCase();
+		if (!encoding.contains("gzip") && !encoding.contains("deflate"))
+			return response.body();
+		try (InputStream in = encoding.contains("gzip") ? new GZIPInputStream(new ByteArrayInputStream(response.body()))
+				: new InflaterInputStream(new ByteArrayInputStream(response.body()))) {
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new RuntimeException("❌ Failed to decode async response body: " + e.getMessage(), e);
+		}
+	}
+
+	// 📦 إعادة بناء Response من نسخة مخزنة | Rebuilds a Response from a cached entry
+	private static Response fromCache(ApiResponseCache.Entry entry) {
+		return new ResponseBuilder().setStatusCode(200).setStatusLine("HTTP/1.1 200 OK").setBody(entry.body)
+				.setContentType(entry.contentType).build();
 	}
 
 	/**
@@ -81,7 +297,11 @@ public abstract class BaseApiClient {
 	 */
 	@Step("Build base request specification with common settings")
 	private RequestSpecification buildRequest() {
-		return RestAssured.given().baseUri(BASE_URL).basePath(getToolEndpoint()).queryParams(getQueryParams())
+		return buildRequest(getQueryParams());
+	}
+
+	private RequestSpecification buildRequest(Map<String, Object> queryParams) {
+		return ApiTransport.given().baseUri(BASE_URL).basePath(getToolEndpoint()).queryParams(queryParams)
 				.headers(getDefaultHeaders()).contentType("application/json");
 	}
 
@@ -2,6 +2,7 @@ package com.falak.qa.base;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.openqa.selenium.*;
@@ -9,9 +10,14 @@ import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
-import io.restassured.RestAssured;
 import io.restassured.response.Response;
 
+import com.falak.qa.net.ApiTransport;
+import com.falak.qa.net.NetworkIdle;
+import com.falak.qa.net.ScriptNetworkIdle;
+import com.falak.qa.utils.TableSnapshot;
+import com.falak.qa.utils.WebVitals;
+
 //	✅ BasePage: الكلاس الأساسي الذي يحتوي على دوال مشتركة بين جميع الصفحات
 // This class provides shared methods for interacting with web pages.
 public class BasePage {
@@ -24,11 +30,54 @@ public class BasePage {
 	// WebDriverWait for waiting on elements.
 	protected WebDriverWait wait;
 
+	// ⚡ محرك الانتظار القائم على الأحداث (MutationObserver + عدّاد XHR/fetch)
+	// Event-driven wait engine (one executeAsyncScript per wait instead of polling)
+	protected DomWaitEngine waitEngine;
+
+	// ⏱️ مهلة الانتظار الافتراضية
+	// Default wait timeout.
+	protected static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(20);
+
+	// 📈 آخر مقاييس أداء للصفحة (بعد waitForPageReady) | Latest Web Vitals captured by waitForPageReady
+	protected WebVitals.Snapshot webVitals;
+
 	// 🔧 المُنشئ: يستقبل الـ driver ويُنشئ وقت الانتظار العام
 	// Constructor initializes WebDriver and default wait time.
 	public BasePage(WebDriver driver) {
-		this.driver = driver;
-		this.wait = new WebDriverWait(driver, Duration.ofSeconds(20));
+		this.driver = requireThreadOwnedDriver(driver);
+		this.wait = new WebDriverWait(this.driver, DEFAULT_TIMEOUT);
+		this.waitEngine = new DomWaitEngine(this.driver);
+	}
+
+	// 🔧 مُنشئ بدون معاملات: يأخذ الـ driver من سياق الخيط الحالي (TestContext)
+	// No-arg constructor resolving the driver from the current thread's TestContext.
+	public BasePage() {
+		this(TestContext.current().getDriver());
+	}
+
+	/**
+	 * 🧵 يتحقق من أن الـ driver الممرّر يخص الخيط الحالي عند وجود TestContext
+	 *
+	 * 🔹 في التشغيل المتوازي (parallel="methods") يجب ألا تُنشأ صفحة على متصفح
+	 * يملكه خيط آخر. إذا لم يكن هناك سياق (استخدام خارج BaseTest) يُقبل الـ driver
+	 * كما هو.
+	 *
+	 * 🧵 Ensures a page object is never bound to a browser owned by another test
+	 * thread. Falls back to the given driver when no context is bound.
+	 *
+	 * @param driver الـ driver الممرّر | Driver passed to the page
+	 * @return نفس الـ driver بعد التحقق | The validated driver
+	 * @throws IllegalStateException إذا كان الـ driver لخيط آخر | If the driver
+	 *                               belongs to another thread's context
+	 */
+	private static WebDriver requireThreadOwnedDriver(WebDriver driver) {
+		return TestContext.find().map(ctx -> {
+			if (driver != ctx.getDriver()) {
+				throw new IllegalStateException("🚫 محاولة إنشاء صفحة على متصفح لا يخص الخيط الحالي: "
+						+ Thread.currentThread().getName());
+			}
+			return driver;
+		}).orElse(driver);
 	}
 
 	// ==================== Actions with Elements ====================
@@ -69,10 +118,14 @@ public class BasePage {
 	 * 👁️ ينتظر ظهور العنصر ثم يُرجعه
 	 *
 	 * 🔹 مفيد قبل أي تفاعل مع عنصر غير ظاهر فوراً (مثل حقول داخل تبويب/مودال). إذا
-	 * لم يظهر العنصر خلال المهلة → يرمي RuntimeException.
+	 * لم يظهر العنصر خلال المهلة → يرمي RuntimeException. يتم الانتظار عبر
+	 * DomWaitEngine (استدعاء واحد يعود عند ظهور العنصر)، مع الرجوع إلى
+	 * WebDriverWait للمحددات غير المدعومة (مثل linkText).
 	 *
 	 * 👁️ Waits for an element to become visible, then returns it. Useful before
-	 * interacting with elements that are not immediately visible.
+	 * interacting with elements that are not immediately visible. Resolved by the
+	 * DomWaitEngine in one round-trip; unsupported locators fall back to
+	 * WebDriverWait.
 	 *
 	 * @param locator محدد العنصر | Locator of the element to wait for
 	 * @return عنصر الويب الظاهر | The visible WebElement
@@ -81,8 +134,10 @@ public class BasePage {
 	@Step("Wait for visibility of element: {locator}")
 	public WebElement waitForElement(By locator) {
 		try {
-			WebElement element = wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
-			return element;
+			if (!DomWaitEngine.supports(locator)) {
+				return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+			}
+			return waitEngine.waitForVisible(locator, DEFAULT_TIMEOUT);
 		} catch (TimeoutException e) {
 			String message = "❌ فشل الانتظار لظهور العنصر (انتهت المهلة): " + locator;
 			Allure.attachment("خطأ في BasePage - waitForElement", message);
@@ -413,39 +468,24 @@ public class BasePage {
 	@Step("⏳ Wait for full page readiness (HTML + Element + API)")
 	public void waitForPageReady(String expectedPathSegment, Supplier<WebElement> mainElementSupplier) {
 		try {
-			// ✅ 1. التأكد من تحميل الصفحة HTML بالكامل
-			wait.until(driver -> ((JavascriptExecutor) driver).executeScript("return document.readyState")
-					.equals("complete"));
-			System.out.println("📥 Loaded HTML content");
+			// 📈 0. تسجيل PerformanceObserver مبكرًا بعد التنقل | Register the performance observers right away
+			WebVitals.install(driver);
 
-			// ✅ 2. التأكد من أن الرابط يحتوي على الجزء المتوقع
-			wait.until(driver -> driver.getCurrentUrl().contains(expectedPathSegment));
-			System.out.println("📥 URL contains expected path segment: " + expectedPathSegment);
+			// ✅ 1 + 2. تحميل HTML بالكامل + الرابط يحتوي على الجزء المتوقع (استدعاء واحد)
+			waitEngine.waitForAny(DEFAULT_TIMEOUT,
+					DomWaitEngine.allOf("documentReady", DomWaitEngine.documentComplete("readyState"),
+							DomWaitEngine.urlContains("url", expectedPathSegment)));
+			System.out.println("📥 Loaded HTML content, URL contains: " + expectedPathSegment);
 
 			// 🔄 3. تنفيذ أي انتظار مخصص حسب نوع الصفحة
 			waitForPageElements();
 			System.out.println("📥 Ran waitForPageElements()");
 
-			// 🎯 4. انتظار العنصر الرئيسي إن وُجد
+			// 🎯 4. انتظار العنصر الرئيسي إن وُجد (ظاهر + مفعّل + فارغ)
 			if (mainElementSupplier != null) {
-				System.out.println("🔍 Waiting for main element to be visible...");
-
-				boolean elementReady = wait.until(driver -> {
-					try {
-						WebElement el = mainElementSupplier.get();
-						boolean displayed = el.isDisplayed();
-						System.out.println("✅ Element found and displayed: " + displayed);
-						return el.isDisplayed() && el.isEnabled() && el.getAttribute("value").trim().isEmpty()
-								&& displayed;
-					} catch (Exception e) {
-						System.out.println("⚠️ Element not ready yet: " + e.getMessage());
-						return false;
-					}
-				});
-
-				if (!elementReady) {
-					throw new RuntimeException("❌ Main element is not ready for interaction.");
-				}
+				System.out.println("🔍 Waiting for main element to be ready...");
+				waitForMainElementReady(mainElementSupplier);
+				System.out.println("✅ Main element is ready for interaction");
 			} else {
 				System.out.println("ℹ️ No main element specified, skipping element wait");
 			}
@@ -457,6 +497,9 @@ public class BasePage {
 			Allure.step("📥 Page fully ready for interaction");
 			System.out.println("📥 Page fully ready for interaction ✅");
 
+			// 📈 7. قياس أداء الصفحة (TTFB/FCP/LCP/CLS) وفحص الميزانيات | Capture Web Vitals and check budgets
+			captureWebVitals();
+
 		} catch (Exception e) {
 			// 🧠 طباعة الرابط + لقطة شاشة عند الفشل
 			String currentUrl = driver.getCurrentUrl();
@@ -465,6 +508,197 @@ public class BasePage {
 		}
 	}
 
+	/**
+	 * 🎯 انتظار جاهزية العنصر الرئيسي داخل المتصفح
+	 *
+	 * 🔹 يُحصل على العنصر من الـ Supplier ثم يُنتظر داخل الصفحة حتى يصبح ظاهرًا
+	 * ومفعّلًا وقيمته فارغة. إذا لم يكن العنصر موجودًا بعد أو أُعيد رسمه (stale) يتم
+	 * الانتظار لأول تغيير في DOM ثم إعادة المحاولة.
+	 *
+	 * 🎯 Resolves the main element from the supplier and waits in-page until it is
+	 * shown, enabled and empty; retries after the next DOM change when the element
+	 * is missing or went stale.
+	 *
+	 * @param mainElementSupplier دالة تُعيد العنصر الرئيسي | Main element supplier
+	 * @throws TimeoutException إذا لم يجهز العنصر خلال المهلة | On timeout
+	 */
+	private void waitForMainElementReady(Supplier<WebElement> mainElementSupplier) {
+		long deadline = System.nanoTime() + DEFAULT_TIMEOUT.toNanos();
+		while (true) {
+			Duration remaining = Duration.ofNanos(Math.max(0, deadline - System.nanoTime()));
+			try {
+				WebElement el = mainElementSupplier.get();
+				waitEngine.waitForAny(remaining, DomWaitEngine.elementReady("mainElement", el));
+				return;
+			} catch (NoSuchElementException | StaleElementReferenceException e) {
+				if (System.nanoTime() >= deadline) {
+					throw new TimeoutException("❌ Main element is not ready for interaction.", e);
+				}
+				System.out.println("⚠️ Element not ready yet: " + e.getClass().getSimpleName());
+				waitEngine.awaitActivity(Duration.ofSeconds(1));
+			}
+		}
+	}
+
+	/**
+	 * ✏️ انتظار تغيّر نص عنصر عن قيمته السابقة
+	 *
+	 * ✏️ Waits until the element's text differs from a previously captured value
+	 * (e.g. a results counter after a new search).
+	 *
+	 * @param locator      محدد العنصر | Element locator
+	 * @param previousText النص السابق | Previously captured text
+	 * @return العنصر بعد التغيير | The element after the change
+	 * @throws RuntimeException عند انتهاء المهلة | On timeout
+	 */
+	@Step("Wait for text of {locator} to change")
+	public WebElement waitForTextChange(By locator, String previousText) {
+		try {
+			return waitEngine.waitForAny(DEFAULT_TIMEOUT,
+					DomWaitEngine.textChanged("textChanged", locator, previousText)).element;
+		} catch (TimeoutException e) {
+			String message = "❌ لم يتغير نص العنصر خلال المهلة: " + locator;
+			Allure.attachment("خطأ في BasePage - waitForTextChange", message);
+			throw new RuntimeException(message, e);
+		}
+	}
+
+	/**
+	 * 🔄 انتظار استبدال صفوف الجدول (بعد بحث/ترتيب/تنقل بين الصفحات)
+	 *
+	 * 🔄 Waits until the table rows were re-rendered: the previously captured first
+	 * row is detached or no longer first.
+	 *
+	 * @param rowsLocator      محدد الصفوف | Rows locator
+	 * @param previousFirstRow الصف الأول قبل الإجراء (يمكن أن يكون null) | First
+	 *                         row before the action (nullable)
+	 * @return الصف الأول الجديد | The new first row
+	 * @throws RuntimeException عند انتهاء المهلة | On timeout
+	 */
+	@Step("Wait for table rows {rowsLocator} to be replaced")
+	public WebElement waitForRowsReplaced(By rowsLocator, WebElement previousFirstRow) {
+		try {
+			return waitEngine.waitForAny(DEFAULT_TIMEOUT,
+					DomWaitEngine.rowsReplaced("rowsReplaced", rowsLocator, previousFirstRow)).element;
+		} catch (TimeoutException e) {
+			String message = "❌ لم يتم تحديث صفوف الجدول خلال المهلة: " + rowsLocator;
+			Allure.attachment("خطأ في BasePage - waitForRowsReplaced", message);
+			throw new RuntimeException(message, e);
+		}
+	}
+
+	/**
+	 * 🔔 انتظار ظهور رسالة Toast
+	 *
+	 * 🔔 Waits for a toast message matching the locator to be shown.
+	 *
+	 * @param toastLocator محدد الرسالة | Toast locator
+	 * @return عنصر الرسالة | The toast element
+	 * @throws RuntimeException عند انتهاء المهلة | On timeout
+	 */
+	@Step("Wait for toast {toastLocator}")
+	public WebElement waitForToast(By toastLocator) {
+		try {
+			return waitEngine.waitForVisible(toastLocator, DEFAULT_TIMEOUT);
+		} catch (TimeoutException e) {
+			String message = "❌ لم تظهر رسالة Toast خلال المهلة: " + toastLocator;
+			Allure.attachment("خطأ في BasePage - waitForToast", message);
+			throw new RuntimeException(message, e);
+		}
+	}
+
+	/**
+	 * 📸 التقاط لقطة للجدول بعد انتظار جاهزيتها
+	 *
+	 * 🔹 تُلتقط اللقطة باستدعاء واحد؛ إذا لم يتحقق الشرط (مثل وجود صفوف) يُنتظر أول
+	 * تغيير في DOM ثم يُعاد الالتقاط حتى انتهاء المهلة.
+	 *
+	 * 📸 Captures a TableSnapshot in one round-trip; when the predicate does not
+	 * hold yet (e.g. no rows), waits for the next DOM change and retries until the
+	 * timeout.
+	 *
+	 * @param tableLocator محدد عنصر table | Table locator
+	 * @param ready        شرط الجاهزية | Readiness predicate
+	 * @param timeout      أقصى مدة انتظار | Maximum wait
+	 * @param site         اسم موضع الاستدعاء (للمقاييس) | Call site, for metrics
+	 * @return لقطة الجدول | The table snapshot
+	 * @throws TimeoutException إذا لم يجهز الجدول خلال المهلة | On timeout
+	 */
+	protected TableSnapshot awaitTableSnapshot(By tableLocator, Predicate<TableSnapshot> ready, Duration timeout,
+			String site) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		while (true) {
+			try {
+				TableSnapshot snapshot = TableSnapshot.capture(driver, tableLocator, site);
+				if (ready.test(snapshot))
+					return snapshot;
+			} catch (NoSuchElementException ignore) {
+				// الجدول لم يُرسم بعد
+			}
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0)
+				throw new TimeoutException("❌ Table not ready within " + timeout.toMillis() + "ms: " + tableLocator);
+			waitEngine.awaitActivity(Duration.ofNanos(Math.min(remaining, Duration.ofSeconds(1).toNanos())));
+		}
+	}
+
+	/**
+	 * 🌐 متتبع الطلبات الجارية للخيط الحالي
+	 *
+	 * 🔹 يُستخدم المتتبع المسجّل في TestContext (CDP أو عدّاد محقون)، وإذا لم يوجد
+	 * سياق (استخدام خارج BaseTest) يُستخدم عدّاد XHR/fetch المحقون في الصفحة.
+	 *
+	 * 🌐 The current thread's in-flight request tracker; falls back to the
+	 * injected XHR/fetch counter when no TestContext is bound.
+	 *
+	 * @return NetworkIdle الحالي | The NetworkIdle to use
+	 */
+	protected NetworkIdle networkIdle() {
+		return TestContext.find().map(TestContext::getNetworkIdle).orElseGet(() -> new ScriptNetworkIdle(driver));
+	}
+
+	/**
+	 * 🧠 أخذ عينة ذاكرة/DOM قبل إجراء ترقيم أو فلترة
+	 *
+	 * 🔹 العينة تُؤخذ عند بدء الإجراء التالي، أي بعد أن استقرت الصفحة من الإجراء
+	 * السابق (الاختبار ينتظر النتائج بينهما). لا شيء خارج BaseTest.
+	 *
+	 * 🧠 Samples frontend memory and DOM counters when a pagination/filter action
+	 * starts, i.e. once the previous action has settled. A no-op without a
+	 * TestContext.
+	 *
+	 * @param action اسم الإجراء | Action label
+	 */
+	protected void sampleMemory(String action) {
+		TestContext.find().map(TestContext::getMemoryMonitor).ifPresent(m -> m.sample(action));
+	}
+
+	/**
+	 * 🌐 تنفيذ إجراء ثم انتظار سكون الشبكة بعده
+	 *
+	 * 🔹 ينتظر حتى لا توجد طلبات جارية لمدة quiet بعد تنفيذ الإجراء (بدل
+	 * Thread.sleep ثابت). لا يرمي خطأ عند انتهاء المهلة بل يُرجع false.
+	 *
+	 * 🌐 Runs an action, then waits until no request has been in flight for
+	 * {@code quiet} after it, instead of a fixed sleep. Returns false on timeout.
+	 *
+	 * @param action  الإجراء (مثل نقرة) | Action, e.g. a click
+	 * @param quiet   مدة السكون المطلوبة | Required quiet period
+	 * @param timeout أقصى مدة انتظار | Maximum wait
+	 * @return true إذا سكنت الشبكة | true if the network went idle
+	 */
+	@Step("🌐 Run action and wait for network idle ({quiet} quiet)")
+	public boolean runAndWaitForNetworkIdle(Runnable action, Duration quiet, Duration timeout) {
+		NetworkIdle idle = networkIdle();
+		long mark = idle.mark();
+		action.run();
+		boolean reached = idle.awaitIdle(mark, quiet, timeout);
+		if (!reached) {
+			Allure.step("⚠️ Network not idle after " + timeout.toMillis() + "ms (in flight: " + idle.inFlight() + ")");
+		}
+		return reached;
+	}
+
 	/**
 	 * ⏳ انتظار مخصص لعناصر أساسية في الصفحة - يمكن إعادة تعريفه في الصفحات الفرعية
 	 * Optional page-specific element wait (override this in specific Page Objects)
@@ -499,6 +733,39 @@ public class BasePage {
 
 		// ⏳ 2. ثم ننتظر انتهاء جميع طلبات الشبكة (API)
 		waitForToolLoadingApi();
+
+		// 📈 3. قياس أداء الصفحة وفحص الميزانيات | Capture Web Vitals and check budgets
+		captureWebVitals();
+	}
+
+	/**
+	 * 📈 قياس أداء الصفحة الحالية (TTFB / FCP / LCP / CLS / المهام الطويلة /
+	 * الموارد) وإرفاقه في Allure
+	 *
+	 * 🔹 اسم الصفحة هو اسم الـ Page Object (مثل NGramsPage)، والميزانيات تُقرأ من
+	 * perf.budget.ngramspage.lcp وما شابه. التجاوز يُفشل الاختبار فقط عند
+	 * perf.budget.enforce=true.
+	 *
+	 * 📈 Captures the current page's Web Vitals under the page object's name,
+	 * attaches them and checks the configured budgets (e.g.
+	 * perf.budget.ngramspage.lcp). Budget violations fail the test only when
+	 * perf.budget.enforce=true.
+	 *
+	 * @return اللقطة أو null | Snapshot, or null if the browser could not report
+	 */
+	public WebVitals.Snapshot captureWebVitals() {
+		webVitals = WebVitals.capture(driver, getClass().getSimpleName());
+		return webVitals;
+	}
+
+	/**
+	 * 📈 آخر مقاييس أداء تم قياسها لهذه الصفحة | Latest Web Vitals captured for
+	 * this page
+	 *
+	 * @return اللقطة أو null | Snapshot, or null
+	 */
+	public WebVitals.Snapshot getWebVitals() {
+		return webVitals;
 	}
 
 	/**
@@ -517,7 +784,7 @@ public class BasePage {
 	 */
 	@Step("Wait for tool-loading API to complete")
 	public void waitForToolLoadingApi() {
-		Response response = RestAssured.given().relaxedHTTPSValidation().when()
+		Response response = ApiTransport.givenRelaxed().when()
 				.get("https://falak.ksaa.gov.sa/api/new-public/corpus");
 
 		if (response.getStatusCode() != 200 && response.getStatusCode() != 304) {
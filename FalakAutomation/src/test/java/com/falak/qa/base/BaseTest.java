@@ -1,12 +1,25 @@
 package com.falak.qa.base;
 
+import com.falak.qa.config.BrowserProfileStats;
 import com.falak.qa.config.ConfigReader;
 import com.falak.qa.config.DriverFactory;
+import com.falak.qa.config.DriverPool;
 import com.falak.qa.config.EnvironmentConfigLoader;
+import com.falak.qa.config.LeanBrowser;
+import com.falak.qa.config.StubEndpoint;
+import com.falak.qa.enums.BrowserProfile;
+import com.falak.qa.enums.NetworkProfile;
+import com.falak.qa.net.FixtureStore;
+import com.falak.qa.net.NetworkIdle;
+import com.falak.qa.net.NetworkIdleFactory;
+import com.falak.qa.net.NetworkStubs;
+import com.falak.qa.net.NetworkStubsFactory;
 import com.falak.qa.net.NetworkTriage;
 import com.falak.qa.net.NetworkTriageFactory;
+import com.falak.qa.net.StubRule;
 import com.falak.qa.pages.home.HomePage;
 import com.falak.qa.utils.JcodecVideoRecorder;
+import com.falak.qa.utils.MemoryMonitor;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
@@ -14,22 +27,24 @@ import ru.yandex.qatools.ashot.AShot;
 import ru.yandex.qatools.ashot.Screenshot;
 import ru.yandex.qatools.ashot.shooting.ShootingStrategies;
 
-import org.openqa.selenium.ElementNotInteractableException;
-import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
 
 import java.lang.reflect.Method;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.BooleanSupplier;
 
 import javax.imageio.ImageIO;
 
-import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
@@ -42,36 +57,23 @@ import java.io.IOException;
 // This class handles test setup and teardown for all test classes.
 public class BaseTest {
 
-	// 🧠 المتغير الرئيسي للتعامل مع المتصفح
-	// WebDriver is the main interface to control the browser
-	protected WebDriver driver;
+	// 🔗 رابط الصفحة الذي سيتم فتحه عند تشغيل الاختبار (نفس القيمة لجميع الخيوط)
+	// This URL is loaded before each test (identical for every thread)
+	protected volatile String url;
 
-	// 🛠️ مصنع لإنشاء المتصفح حسب نوعه (Chrome, Firefox, etc.)
-	// DriverFactory initializes the chosen browser
-	protected DriverFactory driverFactory;
-
-	// 🏠 الكائن الخاص بالصفحة الرئيسية لفلك
-	// HomePage represents the main landing page of the application
-	protected HomePage homePage;
-
-	// 🔗 رابط الصفحة الذي سيتم فتحه عند تشغيل الاختبار
-	// This URL is loaded before each test
-	protected String url;
-
-	// 👇 طبقة مراقبة الشبكة (CDP/Proxy) موحّدة
-	protected NetworkTriage triage;
-
-	protected JcodecVideoRecorder videoRecorder;
-
-	private boolean videoStopped = false; // منع الإيقاف مرتين
+	// 🧵 المتصفح، المصنع، مراقبة الشبكة، الفيديو ومجلد التنزيلات لم تعد حقولًا في
+	// الكائن: كلها محفوظة في TestContext الخاص بالخيط الحالي حتى يمكن تشغيل
+	// الاختبارات بالتوازي (parallel="methods") دون تسرّب الجلسات.
+	// Driver, factory, triage, recorder and downloads dir live in the thread-confined
+	// TestContext so test methods can run in parallel without sharing sessions.
 
 	/**
 	 * 🔧 يُنفّذ جميع خطوات الإعداد قبل كل حالة اختبار
 	 *
 	 * 🔹 تقوم هذه الدالة بتهيئة بيئة التشغيل بشكل كامل: - قراءة ملف الإعدادات
 	 * (config.properties) وتحديد البيئة الحالية (dev, staging...). - تحميل إعدادات
-	 * البيئة من ملف JSON (مثل روابط الـ baseUrl). - إنشاء متصفح جديد باستخدام
-	 * DriverFactory. - فتح الرابط الأساسي وتأكيد نجاح التحميل. - إنشاء الصفحة
+	 * البيئة من ملف JSON (مثل روابط الـ baseUrl). - الحصول على متصفح جاهز من
+	 * DriverPool. - فتح الرابط الأساسي وتأكيد نجاح التحميل. - إنشاء الصفحة
 	 * الرئيسية HomePage للتفاعل معها. - تفعيل مراقبة الشبكة (Network Triage)
 	 * لالتقاط طلبات/أخطاء الـ API. - بدء تسجيل فيديو باستخدام JCodecVideoRecorder
 	 * لتوثيق الاختبار بصريًا.
@@ -79,13 +81,15 @@ public class BaseTest {
 	 * 🔧 This method runs before every test to prepare the execution environment: -
 	 * Reads config.properties and determines the active environment. - Loads
 	 * environment settings from JSON (e.g., baseUrl). - Initializes the browser
-	 * using DriverFactory. - Opens the base URL and verifies it loads successfully.
+	 * from DriverPool (reused or freshly created). - Opens the base URL and verifies it loads successfully.
 	 * - Creates the HomePage object for navigation and interaction. - Starts
 	 * Network Triage for capturing network/API activity. - Starts video recording
 	 * via JCodecVideoRecorder to document the test.
 	 *
 	 * @param method كائن Method يعكس اسم حالة الاختبار الحالية | Method object
 	 *               representing the running test
+	 * @param testNgContext سياق TestNG (لقراءة معامل networkProfile) | TestNG
+	 *                      context, used to read the networkProfile parameter
 	 * @throws RuntimeException إذا فشل أي جزء من عملية التهيئة | Throws
 	 *                          RuntimeException if setup fails
 	 *
@@ -94,7 +98,13 @@ public class BaseTest {
 	 */
 	@BeforeMethod(alwaysRun = true)
 	@Step("🔧 إعداد البيئة قبل تشغيل الاختبار")
-	public void setUp(Method method) {
+	public void setUp(Method method, ITestContext testNgContext) {
+		// 🧹 تنظيف أي سياق متبقٍّ على هذا الخيط (في حال فشل tearDown سابق)
+		TestContext.close().ifPresent(leaked -> {
+			Allure.step("⚠️ تم العثور على سياق اختبار متبقٍّ على الخيط، سيتم إغلاقه");
+			releaseContext(leaked, null);
+		});
+
 		try {
 			// 📥 قراءة ملف الإعدادات العامة مثل نوع البيئة (dev, staging, etc.)
 			Allure.step("📥 قراءة ملف الإعدادات config.properties");
@@ -108,32 +118,69 @@ public class BaseTest {
 			url = EnvironmentConfigLoader.getUrl("baseUrl");
 			Allure.step("🔗 رابط البيئة: " + url);
 
-			// 🚀 إنشاء المتصفح باستخدام DriverFactory
-			driverFactory = new DriverFactory();
-			driver = driverFactory.initDriver();
-			Allure.step("🚀 المتصفح جاهز للعمل");
+			// 🚀 الحصول على متصفح جاهز من DriverPool (أو إنشاؤه) وربطه بسياق الخيط الحالي
+			BrowserProfile profile = BrowserProfile.forTestClass(getClass());
+			DriverFactory driverFactory = DriverPool.acquire(profile);
+			WebDriver driver = driverFactory.getDriver();
+			TestContext context = TestContext.open(driverFactory);
+			Allure.step("🚀 المتصفح جاهز للعمل على الخيط: " + Thread.currentThread().getName() + " | الملف: "
+					+ profile.getArabicName());
+
+			// 🚫 حجب الروابط غير المطلوبة في الملف الخفيف (LEAN) أو إلغاء حجب سابق
+			driverFactory.applyBlockedUrls(blockedUrlsFor(profile));
+
+			// 🧪 استبدال ردود API المعلنة بـ @StubEndpoint (Fetch في كروم/إيدج، فلتر BrowserUp في فايرفوكس)
+			// قبل أول تنقل حتى تنطبق القواعد على تحميل الصفحة الرئيسية أيضًا
+			// Installed before the first navigation so the rules also cover the home page load
+			NetworkStubs stubs = NetworkStubsFactory.create(driver, driverFactory.getProxy());
+			context.setStubs(stubs);
+			List<StubRule> stubRules = stubRulesFor(method);
+			if (!stubRules.isEmpty())
+				stubs.add(stubRules.toArray(new StubRule[0]));
+
+			// 📼 تسجيل ردود API أو إعادة تشغيلها من ملف fixtures (fixtures.mode=record|replay)، قبل أول تنقل
+			// حتى تُسجَّل طلبات الصفحة الأساسية وتُعاد من الملف أيضًا
+			startFixtures(context, stubs, method);
 
 			// 🌐 فتح الرابط
+			long loadStart = System.nanoTime();
 			driver.get(url);
+			BrowserProfileStats.recordPageLoad(profile, System.nanoTime() - loadStart);
 			Allure.step("✅ تم فتح الرابط بنجاح");
 
+			// 📶 ظروف الشبكة المُحاكاة (بعد تحميل الرابط الأساسي حتى لا تتأثر مقاييس ملف المتصفح)
+			driverFactory.applyNetworkProfile(NetworkProfile.forTest(getClass(), method,
+					testNgContext.getCurrentXmlTest().getParameter("networkProfile")));
+			String networkProfile = driverFactory.getNetworkProfile().getId();
+			Allure.parameter("networkProfile", networkProfile);
+
 			// 🏠 إنشاء كائن الصفحة الرئيسية
-			homePage = new HomePage(driver);
+			context.setHomePage(new HomePage(driver));
 
 			// ✅ تفعيل Triage المناسب (CDP للكروم/إيدج، Proxy للفايرفوكس، No-op احتياطي)
-			triage = NetworkTriageFactory.create(driver, driverFactory.getProxy());
+			NetworkTriage triage = NetworkTriageFactory.create(driver, driverFactory.getProxy());
+			context.setTriage(triage);
+			triage.setNetworkProfile(networkProfile);
 			triage.start(); // يبدأ الاستماع لأحداث الشبكة
 			Allure.step("🕸️ Network Triage started");
 
+			// 🌐 تتبع الطلبات الجارية لانتظار سكون الشبكة بدل Thread.sleep
+			NetworkIdle networkIdle = NetworkIdleFactory.create(driver);
+			networkIdle.start();
+			context.setNetworkIdle(networkIdle);
+
+			// 🧠 مراقبة نمو الذاكرة وعُقد DOM بين دورات الترقيم والفلترة
+			context.setMemoryMonitor(new MemoryMonitor(driver));
+
 			// 🎥 بدء تسجيل الفيديو
 			try {
-				videoRecorder = new JcodecVideoRecorder(10);
+				JcodecVideoRecorder videoRecorder = new JcodecVideoRecorder(10);
 				videoRecorder.start(method.getName());
 //				Allure.step("🎥 Video recording started: " + method.getName());
-				videoStopped = false;
+				context.setVideoRecorder(videoRecorder);
 			} catch (Exception ve) {
 				Allure.step("⚠️ Failed to start video recording: " + ve.getMessage());
-				videoRecorder = null;
+				context.setVideoRecorder(null);
 			}
 
 		} catch (Exception e) {
@@ -143,18 +190,110 @@ public class BaseTest {
 		}
 	}
 
+	/**
+	 * 🚫 قائمة الروابط المحجوبة لملف التشغيل الحالي
+	 *
+	 * 🔹 للملف LEAN: الأنماط من `lean.blocked.urls` في config.properties مع أي
+	 * أنماط إضافية في @LeanBrowser(block = ...) على كلاس الاختبار. لبقية الملفات:
+	 * قائمة فارغة.
+	 *
+	 * 🚫 Blocked URL patterns for the profile: `lean.blocked.urls` plus the
+	 * class-level @LeanBrowser(block = ...) extras for LEAN, nothing otherwise.
+	 *
+	 * @param profile ملف التشغيل | Launch profile
+	 * @return أنماط الحجب | Blocked URL patterns
+	 */
+	private List<String> blockedUrlsFor(BrowserProfile profile) {
+		if (profile != BrowserProfile.LEAN)
+			return List.of();
+		List<String> patterns = new ArrayList<>();
+		for (String p : ConfigReader.initProperties().getProperty("lean.blocked.urls", "").split(",")) {
+			if (!p.isBlank())
+				patterns.add(p.trim());
+		}
+		LeanBrowser lean = getClass().getAnnotation(LeanBrowser.class);
+		if (lean != null)
+			patterns.addAll(Arrays.asList(lean.block()));
+		return patterns;
+	}
+
+	/**
+	 * 📼 بدء تسجيل ردود API أو إعادة تشغيلها حسب fixtures.mode
+	 *
+	 * 🔹 record: تُسجّل ردود الروابط المطابقة لـ fixtures.url وتُحفظ عند انتهاء
+	 * الاختبار. replay: تُرد الطلبات من الملف المسجّل بعد قواعد @StubEndpoint، فإن
+	 * لم يوجد ملف للاختبار يعمل على الخادم الحقيقي مع تحذير.
+	 *
+	 * 📼 Starts recording or replaying API responses per fixtures.mode. record
+	 * captures responses of fixtures.url and saves them when the test ends;
+	 * replay answers from the recorded file after any @StubEndpoint rules, and
+	 * runs live with a warning when the test has no recording.
+	 *
+	 * @param context سياق الاختبار | Test context
+	 * @param stubs   طبقة الاستبدال | Request stubs
+	 * @param method  دالة الاختبار | Test method
+	 */
+	private void startFixtures(TestContext context, NetworkStubs stubs, Method method) {
+		String mode = ConfigReader.initProperties().getProperty("fixtures.mode", "off").trim().toLowerCase();
+		if ("off".equals(mode))
+			return;
+		String urlGlob = ConfigReader.initProperties().getProperty("fixtures.url", "/api/").trim();
+		Path file = FixtureStore.fileFor(getClass(), method.getName());
+		Allure.parameter("fixtures", mode);
+
+		if ("record".equals(mode)) {
+			FixtureStore store = FixtureStore.create(file);
+			stubs.record(urlGlob, store);
+			context.setFixtures(store);
+		} else if ("replay".equals(mode)) {
+			if (!Files.exists(file)) {
+				Allure.step("⚠️ No recorded fixtures for this test, running live: " + file);
+				return;
+			}
+			try {
+				FixtureStore store = FixtureStore.load(file);
+				stubs.add(StubRule.replay(urlGlob, store));
+				context.setFixtures(store);
+				Allure.step("📼 Replaying " + store.size() + " recorded response(s) from " + file);
+			} catch (IOException e) {
+				throw new RuntimeException("❌ Failed to load fixtures: " + file, e);
+			}
+		} else {
+			throw new RuntimeException("❌ Unknown fixtures.mode: " + mode + " (expected off, record or replay)");
+		}
+	}
+
+	/**
+	 * 🧪 قواعد الاستبدال المعلنة بـ @StubEndpoint: قواعد الدالة أولًا ثم قواعد
+	 * الكلاس، حتى تتقدّم قواعد الدالة عند التطابق
+	 *
+	 * 🧪 Stub rules declared with @StubEndpoint: method rules first, then class
+	 * rules, so a method rule wins when both match.
+	 *
+	 * @param method دالة الاختبار | Test method
+	 * @return القواعد بالترتيب | Rules in match order
+	 */
+	private List<StubRule> stubRulesFor(Method method) {
+		List<StubRule> rules = new ArrayList<>();
+		for (StubEndpoint stub : method.getAnnotationsByType(StubEndpoint.class))
+			rules.add(StubRule.from(stub));
+		for (StubEndpoint stub : getClass().getAnnotationsByType(StubEndpoint.class))
+			rules.add(StubRule.from(stub));
+		return rules;
+	}
+
 	/**
 	 * 🧹 يُنفّذ جميع خطوات التنظيف بعد كل حالة اختبار
 	 *
 	 * 🔹 تقوم هذه الدالة بضمان إغلاق بيئة الاختبار بشكل آمن ومرتب: - إيقاف تسجيل
 	 * الفيديو وإرفاقه في تقرير Allure في حال فشل الاختبار. - إيقاف مراقبة الشبكة
-	 * (Network Triage) لضمان عدم بقاء أي جلسات مفتوحة. - إغلاق المتصفح بعد الانتظار
-	 * لفترة قصيرة، لتفادي إنهاء العمليات الجارية.
+	 * (Network Triage) لضمان عدم بقاء أي جلسات مفتوحة. - إعادة المتصفح إلى
+	 * DriverPool لتصفيره وإعادة استخدامه (أو إغلاقه عند الإخلاء).
 	 *
 	 * 🧹 This method runs after each test to ensure proper cleanup: - Stops the
 	 * video recorder and attaches the recording to Allure on failure. - Stops the
-	 * network triage to release any ongoing listeners or proxies. - Closes the
-	 * browser after a short delay, ensuring stability of teardown.
+	 * network triage to release any ongoing listeners or proxies. - Returns the
+	 * browser to DriverPool to be reset and reused (or quit when evicted).
 	 *
 	 * @param result كائن ITestResult يصف نتيجة حالة الاختبار (نجاح/فشل/تخطي) |
 	 *               ITestResult describing the outcome of the executed test
@@ -168,33 +307,76 @@ public class BaseTest {
 	@AfterMethod(alwaysRun = true)
 	@Step("🧹 تنظيف البيئة بعد الاختبار")
 	public void tearDown(ITestResult result) {
+		// 🧵 فك ارتباط السياق عن الخيط أولًا حتى لا يبقى معلّقًا حتى لو فشل الإغلاق
+		TestContext.close().ifPresent(context -> releaseContext(context, result));
+	}
+
+	/**
+	 * 🧹 يغلق موارد سياق اختبار واحد: الفيديو، مراقبة الشبكة، ثم المتصفح.
+	 *
+	 * 🧹 Releases the resources of a single test context: video, triage, then the
+	 * browser.
+	 *
+	 * @param context سياق الاختبار المراد إغلاقه | Context to release
+	 * @param result  نتيجة الاختبار (قد تكون null للسياقات المتبقية) | Test result
+	 *                (null for leaked contexts)
+	 */
+	private void releaseContext(TestContext context, ITestResult result) {
 		try {
 			// 🎥 إيقاف تسجيل الفيديو وإرفاقه عند الفشل
-			safeStopAndAttachVideoOnFailure(result);
+			safeStopAndAttachVideoOnFailure(context, result);
 
-			// 🛑 إيقاف مراقبة الشبكة
-			if (triage != null) {
+			// 🛑 إيقاف تتبع الطلبات الجارية ثم مراقبة الشبكة
+			if (context.getNetworkIdle() != null) {
 				try {
-					triage.stop();
+					context.getNetworkIdle().close();
 				} catch (Exception ignore) {
 				}
-				Allure.step("🕸️ Network Triage stopped");
 			}
-
-			Allure.step("🛑 إغلاق المتصفح بعد الاختبار");
-
-			// ⏳ انتظار قصير لضمان استقرار العمليات قبل الإغلاق
-			Thread.sleep(500);
-
-			// ✅ إغلاق المتصفح إذا كان ما يزال نشطًا
-			if (driver != null) {
-				driver.quit();
-				Allure.step("✅ تم إغلاق المتصفح بنجاح");
+			if (context.getStubs() != null) {
+				try {
+					context.getStubs().close();
+				} catch (Exception ignore) {
+				}
+			}
+			if (context.getFixtures() != null) {
+				try {
+					saveOrReportFixtures(context.getFixtures(), result);
+				} catch (Exception e) {
+					Allure.step("⚠️ Failed to save fixtures: " + e.getMessage());
+				}
+			}
+			if (context.getMemoryMonitor() != null) {
+				try {
+					context.getMemoryMonitor()
+							.report(result != null ? result.getMethod().getMethodName() : "unfinished-context");
+				} catch (Exception ignore) {
+				}
+			}
+			if (context.getTriage() != null) {
+				try {
+					context.getTriage().drainToReport();
+				} catch (Exception ignore) {
+				}
+				try {
+					context.getTriage()
+							.reportTimings(result != null ? result.getMethod().getMethodName() : "unfinished-context");
+				} catch (Exception ignore) {
+				}
+				try {
+					context.getTriage().stop();
+				} catch (Exception ignore) {
+				}
+				Allure.step("🕸️ Network Triage stopped");
 			}
 
-		} catch (InterruptedException e) {
-			Allure.step("⚠️ فشل أثناء الانتظار قبل الإغلاق: " + e.getMessage());
-			e.printStackTrace();
+			// ♻️ إعادة المتصفح إلى DriverPool (تصفير وإعادة استخدام، أو إغلاق عند الإخلاء)
+			// 🗑️ الجلسة الفاشلة (أو المُعاد تشغيلها) لا تعود للمجمّع | A failed or retried session is never pooled
+			if (result != null && (result.getStatus() == ITestResult.FAILURE || result.wasRetried()))
+				DriverPool.discard(context.getDriverFactory(), "test failed");
+			else
+				DriverPool.release(context.getDriverFactory());
+			Allure.step("✅ تم تحرير جلسة المتصفح");
 
 		} catch (Exception e) {
 			Allure.step("🚫 فشل إغلاق المتصفح: " + e.getMessage());
@@ -202,6 +384,32 @@ public class BaseTest {
 		}
 	}
 
+	/**
+	 * 💾 حفظ التسجيل (للاختبارات الناجحة فقط حتى لا تُجمَّد ردود خاطئة) أو إرفاق
+	 * ملخص الإعادة
+	 *
+	 * 💾 Saves a recording, only for passing tests so a broken backend response
+	 * is never frozen, or attaches the replay summary.
+	 *
+	 * @param fixtures المخزن | Fixture store
+	 * @param result   نتيجة الاختبار | Test result
+	 * @throws IOException إذا فشل الحفظ | If saving fails
+	 */
+	private void saveOrReportFixtures(FixtureStore fixtures, ITestResult result) throws IOException {
+		String mode = ConfigReader.initProperties().getProperty("fixtures.mode", "off").trim().toLowerCase();
+		if (!"record".equals(mode)) {
+			fixtures.report("📼 Replayed fixtures");
+			return;
+		}
+		if (result == null || result.getStatus() != ITestResult.SUCCESS) {
+			Allure.step("⏭️ Test did not pass, fixtures not saved: " + fixtures.file());
+			return;
+		}
+		fixtures.save();
+		fixtures.report("📼 Recorded fixtures");
+		Allure.step("💾 Saved " + fixtures.size() + " recorded response(s) to " + fixtures.file());
+	}
+
 	/**
 	 * ⛑️ يوقف تسجيل الفيديو إن لم يكن موقوفًا مسبقًا ويُرفقه في تقرير Allure عند
 	 * فشل الاختبار.
@@ -225,12 +433,13 @@ public class BaseTest {
 	 *                          📌 الهدف: ضمان إغلاق الفيديو وتوثيقه عند الفشل
 	 *                          لتسهيل تحليل الأخطاء بعد التنفيذ.
 	 */
-	private void safeStopAndAttachVideoOnFailure(ITestResult result) {
-		if (videoRecorder == null || videoStopped)
+	private void safeStopAndAttachVideoOnFailure(TestContext context, ITestResult result) {
+		JcodecVideoRecorder videoRecorder = context.getVideoRecorder();
+		if (videoRecorder == null || context.isVideoStopped())
 			return;
 		try {
 			File video = videoRecorder.stopAndGetFile();
-			videoStopped = true;
+			context.markVideoStopped();
 			if (result != null && result.getStatus() == ITestResult.FAILURE && video != null && video.length() > 0) {
 				try (FileInputStream fis = new FileInputStream(video)) {
 					// Allure.addAttachment("📹 Failure video - " + result.getName(), "video/mp4",
@@ -260,7 +469,79 @@ public class BaseTest {
 	 *         صفحات الـ POM.
 	 */
 	public NetworkTriage getTriage() {
-		return triage;
+		return TestContext.current().getTriage();
+	}
+
+	/**
+	 * 🧪 يُرجع طبقة استبدال الردود للاختبار الحالي لإضافة قواعد برمجيًا.
+	 *
+	 * 🧪 Returns the current test's request stubs, for rules added in code, e.g.
+	 * {@code getStubs().add(StubRule.status("/api/tools/ngram/*", 500))}.
+	 *
+	 * @return كائن NetworkStubs الحالي | The current NetworkStubs instance
+	 *
+	 *         📌 الهدف: حقن أخطاء أو بيانات ثابتة في منتصف الاختبار.
+	 */
+	public NetworkStubs getStubs() {
+		return TestContext.current().getStubs();
+	}
+
+	/**
+	 * 🧠 يُرجع المتصفح الخاص بالخيط الحالي.
+	 *
+	 * 🧠 Returns the WebDriver owned by the current test thread.
+	 *
+	 * @return WebDriver الخاص بالاختبار الحالي | The current test's WebDriver
+	 *
+	 *         📌 الهدف: ضمان أن كل اختبار متوازٍ يتعامل مع متصفحه فقط.
+	 */
+	protected WebDriver getDriver() {
+		return TestContext.current().getDriver();
+	}
+
+	/**
+	 * 🛠️ يُرجع DriverFactory الذي أنشأ متصفح الخيط الحالي.
+	 *
+	 * 🛠️ Returns the DriverFactory that created the current thread's browser.
+	 *
+	 * @return DriverFactory الحالي | The current DriverFactory
+	 */
+	protected DriverFactory getDriverFactory() {
+		return TestContext.current().getDriverFactory();
+	}
+
+	/**
+	 * 🏠 يُرجع الصفحة الرئيسية المُنشأة في setUp للخيط الحالي.
+	 *
+	 * 🏠 Returns the HomePage created in setUp for the current thread.
+	 *
+	 * @return HomePage الحالية | The current HomePage
+	 */
+	protected HomePage getHomePage() {
+		return TestContext.current().getHomePage();
+	}
+
+	/**
+	 * 📂 يُرجع مجلد التنزيلات الخاص بجلسة المتصفح الحالية.
+	 *
+	 * 📂 Returns the downloads folder of the current browser session.
+	 *
+	 * @return مسار مجلد التنزيلات | Downloads directory path
+	 */
+	protected Path getDownloadsDir() {
+		return TestContext.current().getDownloadsDir();
+	}
+
+	/**
+	 * 🌐 يُرجع متتبع الطلبات الجارية (سكون الشبكة) للخيط الحالي.
+	 *
+	 * 🌐 Returns the in-flight request tracker of the current thread, e.g.
+	 * {@code long m = getNetworkIdle().mark(); click(); getNetworkIdle().awaitIdle(m, quiet, timeout);}
+	 *
+	 * @return NetworkIdle الحالي | The current NetworkIdle
+	 */
+	protected NetworkIdle getNetworkIdle() {
+		return TestContext.current().getNetworkIdle();
 	}
 
 	/**
@@ -319,9 +600,11 @@ public class BaseTest {
 	 * NetworkTriage (أولوية أعلى – تُلتقط سريعًا). 2) التحقّق من ظهور جدول النتائج
 	 * (TABLE). 3) التحقّق من ظهور رسالة "لا توجد بيانات" (NO_DATA).
 	 *
-	 * ⏳ Waits for outcome by polling UI + network: 1) Checks triage for any network
-	 * error (highest priority). 2) Checks if the result table is visible (TABLE).
-	 * 3) Checks if "no data" message is visible (NO_DATA).
+	 * ⏳ Waits for outcome by re-checking UI + network whenever the DOM or the
+	 * in-flight requests change (DomWaitEngine, at most one second apart): 1)
+	 * Checks triage for any network error (highest priority). 2) Checks if the
+	 * result table is visible (TABLE). 3) Checks if "no data" message is visible
+	 * (NO_DATA).
 	 *
 	 * @param tableVisible  دالة تُعيد true عند ظهور الجدول | Supplier that returns
 	 *                      true when the table is visible
@@ -342,14 +625,10 @@ public class BaseTest {
 	@Step("⏳ Wait for outcome (table/no-data/triage-error) with timeout: {timeout}")
 	protected OutcomeResult waitForOutcomeWithTriage(BooleanSupplier tableVisible, BooleanSupplier noDataVisible,
 			Duration timeout) {
-		WebDriverWait wait = new WebDriverWait(driver, timeout);
-		wait.pollingEvery(Duration.ofMillis(200)).ignoring(NoSuchElementException.class)
-				.ignoring(StaleElementReferenceException.class).ignoring(ElementNotInteractableException.class);
-
-		// نستخدم until لإرجاع OutcomeResult
-		return wait.until(d -> {
-			System.out.println("⏳ Polling... table / no-data / triage-error");
+		DomWaitEngine engine = new DomWaitEngine(getDriver());
+		long deadline = System.nanoTime() + timeout.toNanos();
 
+		while (true) {
 			// 1) triage أولاً (أسرع التقاطًا للأخطاء)
 			try {
 				var triageErr = getTriage().firstError();
@@ -379,9 +658,15 @@ public class BaseTest {
 			} catch (Exception ignore) {
 			}
 
-			// لا شيء بعد
-			return null; // يواصل الانتظار
-		});
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				throw new TimeoutException("Timed out after " + timeout.toMillis()
+						+ "ms waiting for table / no-data / triage-error");
+			}
+
+			// ⚡ لا شيء بعد: انتظار أول تغيير في DOM أو الشبكة (بحد أقصى ثانية لالتقاط أخطاء triage)
+			engine.awaitActivity(Duration.ofNanos(Math.min(remaining, Duration.ofSeconds(1).toNanos())));
+		}
 	}
 
 	/**
@@ -404,7 +689,7 @@ public class BaseTest {
 	protected void attachFullPageScreenshot(String title) {
 		try {
 			Screenshot screenshot = new AShot().shootingStrategy(ShootingStrategies.viewportRetina(100, 0, 0, 2))
-					.takeScreenshot(driver);
+					.takeScreenshot(getDriver());
 
 			BufferedImage image = screenshot.getImage();
 			ByteArrayOutputStream os = new ByteArrayOutputStream();
@@ -435,12 +720,14 @@ public class BaseTest {
 	@Step("🎥 Attach failure video (if present): {title}")
 	protected void attachFailureVideo(String title) {
 		try {
+			TestContext context = TestContext.current();
+			JcodecVideoRecorder videoRecorder = context.getVideoRecorder();
 			if (videoRecorder == null)
 				return;
 			// لو ما توقف بعد، وقّفه الآن حتى يكتمل الملف
-			if (!videoStopped) {
+			if (!context.isVideoStopped()) {
 				videoRecorder.stopAndGetFile();
-				videoStopped = true;
+				context.markVideoStopped();
 			}
 			File video = videoRecorder.getOutputFile();
 			if (video != null && video.exists() && video.length() > 0) {
@@ -0,0 +1,501 @@
+package com.falak.qa.base;
+
+import io.qameta.allure.Allure;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+//	✅ DomWaitEngine: محرك انتظار قائم على الأحداث (MutationObserver + عدّاد طلبات XHR/fetch) داخل الصفحة
+// Event-driven wait engine: a MutationObserver and an in-flight XHR/fetch counter injected into the page,
+// resolving conditions with a single executeAsyncScript call instead of WebDriver polling
+public class DomWaitEngine {
+
+	// ⏱️ أقصى مدة لاستدعاء async واحد؛ الانتظارات الأطول تُقسَّم على عدة استدعاءات
+	// Upper bound of a single async call; longer waits are chained (keeps script timeout small)
+	private static final Duration SLICE = Duration.ofSeconds(30);
+
+	// 🐢 أقل فاصل بين إعادات التحقق في awaitActivity (مثل الاستطلاع السابق كل 200ms)، حتى لا تدور
+	// الحلقة بسرعة WebDriver مع مؤشرات تحميل أو أشرطة تقدّم متحركة عبر JS
+	// Minimum re-check interval for awaitActivity loops, so JS-animated spinners do not spin them
+	private static final Duration MIN_RECHECK = Duration.ofMillis(200);
+
+	// 🔁 عدد الإخفاقات المتتالية المسموح بها (مثل التنقل أثناء الانتظار) قبل رمي الخطأ
+	private static final int MAX_CONSECUTIVE_FAILURES = 20;
+
+	/**
+	 * 🧩 سكربت التثبيت: يُحقن مرة واحدة لكل مستند (idempotent) ويُنشئ
+	 * window.__falakWait الذي يحتوي على: عدّاد الطلبات الجارية، توقيت آخر نشاط
+	 * للشبكة/DOM، وقائمة المستمعين التي تُنبَّه عند كل تغيير.
+	 */
+	static final String INSTALL_SCRIPT = """
+			(function(){
+			  if (window.__falakWait) return;
+			  var w = { inflight: 0, lastNet: Date.now(), lastMut: Date.now(), listeners: [] };
+			  w.notify = function(){
+			    var ls = w.listeners.slice();
+			    for (var i = 0; i < ls.length; i++) { try { ls[i](); } catch (e) {} }
+			  };
+			  function begin(){ w.inflight++; w.lastNet = Date.now(); w.notify(); }
+			  function end(){ w.inflight = Math.max(0, w.inflight - 1); w.lastNet = Date.now(); w.notify(); }
+			  new MutationObserver(function(){ w.lastMut = Date.now(); w.notify(); })
+			    .observe(document.documentElement, { childList: true, subtree: true, attributes: true, characterData: true });
+			  var send = XMLHttpRequest.prototype.send;
+			  XMLHttpRequest.prototype.send = function(){
+			    begin();
+			    this.addEventListener('loadend', end);
+			    // رمي متزامن (حالة غير صالحة / رابط محظور) → لا loadend، فنُنقص العدّاد هنا
+			    try { return send.apply(this, arguments); }
+			    catch (e) { this.removeEventListener('loadend', end); end(); throw e; }
+			  };
+			  if (window.fetch) {
+			    var f = window.fetch;
+			    window.fetch = function(){
+			      begin();
+			      try { return f.apply(this, arguments).finally(end); }
+			      catch (e) { end(); throw e; }
+			    };
+			  }
+			  window.__falakWait = w;
+			})();
+			""";
+
+	/**
+	 * 🎯 سكربت الانتظار: يُقيّم الشروط فورًا ثم عند كل Mutation أو تغيّر في الشبكة،
+	 * ويُرجع أول شرط تحقق (أو name=null عند انتهاء المهلة).
+	 */
+	private static final String WAIT_SCRIPT = INSTALL_SCRIPT + """
+			var conds = arguments[0], timeoutMs = arguments[1], done = arguments[arguments.length - 1];
+			var w = window.__falakWait;
+			function all(loc){
+			  if (loc.using === 'xpath') {
+			    var snap = document.evaluate(loc.value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);
+			    var out = [];
+			    for (var i = 0; i < snap.snapshotLength; i++) out.push(snap.snapshotItem(i));
+			    return out;
+			  }
+			  return Array.prototype.slice.call(document.querySelectorAll(loc.value));
+			}
+			function first(loc){
+			  if (loc.using === 'xpath')
+			    return document.evaluate(loc.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+			  return document.querySelector(loc.value);
+			}
+			function shown(el){
+			  if (!el || !el.isConnected) return false;
+			  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) return false;
+			  return getComputedStyle(el).visibility !== 'hidden';
+			}
+			function evalCond(c){
+			  var el;
+			  switch (c.kind) {
+			    case 'present': return first(c.loc);
+			    case 'visible': el = first(c.loc); return shown(el) ? el : null;
+			    case 'textChanged':
+			      el = first(c.loc);
+			      var t = el ? String(el.innerText || el.textContent || '').trim() : '';
+			      return (t !== '' && t !== c.previous) ? el : null;
+			    case 'rowsReplaced':
+			      var rows = all(c.loc);
+			      return (rows.length > 0 && (!c.previous || !c.previous.isConnected || rows[0] !== c.previous)) ? rows[0] : null;
+			    case 'toastSpy':
+			      var s = window.__toastSpy;
+			      return (s && s.lastType === 'error' && (Date.now() - s.ts) <= c.maxAgeMs) ? true : null;
+			    case 'readyState': return document.readyState === 'complete' ? true : null;
+			    case 'urlContains': return location.href.indexOf(c.value) >= 0 ? true : null;
+			    case 'elementReady':
+			      el = c.element;
+			      return (shown(el) && !el.disabled && String(el.value || '').trim() === '') ? el : null;
+			    case 'networkIdle':
+			      return (w.inflight === 0 && (Date.now() - Math.max(w.lastNet, c.since || 0)) >= c.quietMs) ? true : null;
+			    case 'activity':
+			      if (c.since == null) c.since = Date.now();
+			      return (w.lastMut >= c.since || w.lastNet >= c.since) ? true : null;
+			    case 'allOf':
+			      var last = true;
+			      for (var j = 0; j < c.conds.length; j++) { last = evalCond(c.conds[j]); if (!last) return null; }
+			      return last;
+			  }
+			  return null;
+			}
+			function check(){
+			  for (var i = 0; i < conds.length; i++) {
+			    var r = null;
+			    try { r = evalCond(conds[i]); } catch (e) { r = null; }
+			    if (r) return { name: conds[i].name, element: (r instanceof Element) ? r : null };
+			  }
+			  return null;
+			}
+			var hit = check();
+			if (hit) { done(hit); return; }
+			var finished = false, timer, poll;
+			function listener(){ var r = check(); if (r) finish(r); }
+			function finish(v){
+			  if (finished) return;
+			  finished = true;
+			  clearTimeout(timer); clearInterval(poll);
+			  var k = w.listeners.indexOf(listener);
+			  if (k >= 0) w.listeners.splice(k, 1);
+			  done(v);
+			}
+			w.listeners.push(listener);
+			// شبكة أمان: تغييرات CSS فقط (بدون Mutation) أو مؤقّت networkIdle
+			poll = setInterval(listener, 250);
+			timer = setTimeout(function(){ finish({ name: null }); }, timeoutMs);
+			""";
+
+	private final WebDriver driver;
+	private Duration scriptTimeoutSet = Duration.ZERO;
+
+	public DomWaitEngine(WebDriver driver) {
+		this.driver = driver;
+	}
+
+	// ==================== Conditions ====================
+
+	/**
+	 * 🎯 شرط انتظار يُقيَّم داخل المتصفح. Condition evaluated inside the browser.
+	 */
+	public static final class Condition {
+		final String name;
+		final Map<String, Object> spec;
+
+		private Condition(String name, String kind) {
+			this.name = name;
+			this.spec = new HashMap<>();
+			spec.put("name", name);
+			spec.put("kind", kind);
+		}
+
+		private Condition with(String key, Object value) {
+			spec.put(key, value);
+			return this;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+
+	/** 📍 العنصر موجود في DOM | Element present in the DOM */
+	public static Condition present(String name, By locator) {
+		return new Condition(name, "present").with("loc", toJsLocator(locator));
+	}
+
+	/** 👁️ العنصر ظاهر | Element visible */
+	public static Condition visible(String name, By locator) {
+		return new Condition(name, "visible").with("loc", toJsLocator(locator));
+	}
+
+	/**
+	 * ✏️ نص العنصر (غير الفارغ) تغيّر عن القيمة السابقة | Element text is
+	 * non-empty and differs from previous
+	 */
+	public static Condition textChanged(String name, By locator, String previousText) {
+		return new Condition(name, "textChanged").with("loc", toJsLocator(locator)).with("previous",
+				previousText == null ? "" : previousText.trim());
+	}
+
+	/**
+	 * 🔄 صفوف الجدول استُبدلت (الصف الأول السابق لم يعد موجودًا) | Table rows were
+	 * replaced
+	 */
+	public static Condition rowsReplaced(String name, By rowsLocator, WebElement previousFirstRow) {
+		return new Condition(name, "rowsReplaced").with("loc", toJsLocator(rowsLocator)).with("previous",
+				previousFirstRow);
+	}
+
+	/** 🚨 رسالة خطأ التُقطت عبر window.__toastSpy | Error toast seen by the toast spy */
+	public static Condition errorToastSeen(String name, long maxAgeMs) {
+		return new Condition(name, "toastSpy").with("maxAgeMs", maxAgeMs);
+	}
+
+	/** 📥 document.readyState = complete */
+	public static Condition documentComplete(String name) {
+		return new Condition(name, "readyState");
+	}
+
+	/** 🔗 الرابط الحالي يحتوي على جزء معيّن | Current URL contains a fragment */
+	public static Condition urlContains(String name, String fragment) {
+		return new Condition(name, "urlContains").with("value", fragment);
+	}
+
+	/** 🎯 عنصر معيّن ظاهر، مفعّل، وقيمته فارغة | Element shown, enabled and empty */
+	public static Condition elementReady(String name, WebElement element) {
+		return new Condition(name, "elementReady").with("element", element);
+	}
+
+	/**
+	 * 🌐 لا توجد طلبات XHR/fetch جارية منذ quietMs (وبعد لحظة sinceMillis بتوقيت
+	 * المتصفح) | No XHR/fetch in flight for quietMs, counted from browser time
+	 * sinceMillis at the earliest
+	 */
+	public static Condition networkIdle(String name, long sinceMillis, long quietMs) {
+		return new Condition(name, "networkIdle").with("since", sinceMillis).with("quietMs", quietMs);
+	}
+
+	/**
+	 * ⚡ أي نشاط DOM أو شبكة منذ لحظة معيّنة بتوقيت المتصفح (null = بداية الانتظار)
+	 * | Any DOM/network activity since a browser timestamp (null = wait start)
+	 */
+	public static Condition activitySince(String name, Long browserMillis) {
+		return new Condition(name, "activity").with("since", browserMillis);
+	}
+
+	/** 🧩 جميع الشروط تحققت | All conditions hold */
+	public static Condition allOf(String name, Condition... conditions) {
+		List<Map<String, Object>> specs = new ArrayList<>();
+		for (Condition c : conditions)
+			specs.add(c.spec);
+		return new Condition(name, "allOf").with("conds", specs);
+	}
+
+	// ==================== Waiting ====================
+
+	/**
+	 * 🏁 نتيجة الانتظار: اسم الشرط الذي تحقق + العنصر المطابق (إن وُجد). Outcome:
+	 * the condition that fired and its matched element, if any.
+	 */
+	public static final class Outcome {
+		public final String name;
+		public final WebElement element;
+
+		Outcome(String name, WebElement element) {
+			this.name = name;
+			this.element = element;
+		}
+	}
+
+	/**
+	 * ⏳ الانتظار حتى يتحقق أول شرط من الشروط المعطاة
+	 *
+	 * 🔹 يتم تقييم الشروط داخل المتصفح عند كل Mutation أو تغيّر في الطلبات الجارية
+	 * (مع شبكة أمان كل 250ms)، ويعود الاستدعاء مرة واحدة عند التحقق بدل عشرات
+	 * الاستدعاءات من WebDriverWait. إذا حدث تنقّل أثناء الانتظار يُعاد الحقن
+	 * تلقائيًا في المستند الجديد.
+	 *
+	 * ⏳ Waits until the first of the given conditions holds. Conditions are
+	 * re-evaluated in the page on every mutation or in-flight request change, so
+	 * the wait costs one round-trip per slice instead of one per poll. Navigation
+	 * during the wait re-injects the engine into the new document.
+	 *
+	 * @param timeout    أقصى مدة انتظار | Maximum wait
+	 * @param conditions الشروط بالترتيب (الأولوية للأول) | Conditions, first wins
+	 * @return الشرط الذي تحقق | The condition that fired
+	 * @throws TimeoutException إذا انتهت المهلة دون تحقق أي شرط | On timeout
+	 *
+	 *                          📌 الهدف: استبدال الانتظار بالاستطلاع (polling)
+	 *                          بانتظار قائم على الأحداث.
+	 */
+	public Outcome waitForAny(Duration timeout, Condition... conditions) {
+		List<Map<String, Object>> specs = new ArrayList<>();
+		for (Condition c : conditions)
+			specs.add(c.spec);
+
+		long deadline = System.nanoTime() + timeout.toNanos();
+		int failures = 0;
+		WebDriverException lastError = null;
+
+		while (true) {
+			long remainingMs = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+			long sliceMs = Math.min(remainingMs, SLICE.toMillis());
+			ensureScriptTimeout(sliceMs);
+			try {
+				Object raw = ((JavascriptExecutor) driver).executeAsyncScript(WAIT_SCRIPT, specs, sliceMs);
+				failures = 0;
+				if (raw instanceof Map) {
+					Map<?, ?> res = (Map<?, ?>) raw;
+					Object name = res.get("name");
+					if (name != null) {
+						Object el = res.get("element");
+						return new Outcome(name.toString(), el instanceof WebElement ? (WebElement) el : null);
+					}
+				}
+			} catch (WebDriverException e) {
+				// 🔄 غالبًا تنقّل/إعادة تحميل أثناء الانتظار → نعيد الحقن في المستند الجديد
+				lastError = e;
+				if (++failures > MAX_CONSECUTIVE_FAILURES)
+					throw e;
+			}
+			if (System.nanoTime() >= deadline) {
+				String names = Arrays.toString(Arrays.stream(conditions).map(Condition::getName).toArray());
+				Allure.step("⌛ DomWaitEngine timeout after " + timeout.toMillis() + "ms waiting for " + names);
+				throw new TimeoutException("Timed out after " + timeout.toMillis() + "ms waiting for any of " + names,
+						lastError);
+			}
+		}
+	}
+
+	/**
+	 * 👁️ انتظار ظهور عنصر وإرجاعه | Waits for an element to be visible and
+	 * returns it.
+	 *
+	 * @param locator محدد العنصر | Element locator
+	 * @param timeout أقصى مدة انتظار | Maximum wait
+	 * @return العنصر الظاهر | The visible element
+	 * @throws TimeoutException عند انتهاء المهلة | On timeout
+	 */
+	public WebElement waitForVisible(By locator, Duration timeout) {
+		return waitForAny(timeout, visible("visible", locator)).element;
+	}
+
+	/**
+	 * ⚡ الانتظار حتى حدوث أي نشاط في DOM أو الشبكة (أو انتهاء المدة) دون رمي خطأ
+	 *
+	 * ⚡ Blocks until any DOM mutation or request start/finish happens, or until
+	 * {@code max} elapses; never throws on timeout. Used to re-check Java-side
+	 * conditions only when something actually changed. Returns no sooner than
+	 * 200ms (or {@code max} if shorter) after it was called, so a page that
+	 * mutates constantly cannot turn the caller's loop into a busy spin.
+	 *
+	 * @param max أقصى مدة | Upper bound
+	 * @return true إذا حدث نشاط | true if activity was observed
+	 */
+	public boolean awaitActivity(Duration max) {
+		long start = System.nanoTime();
+		boolean active = awaitActivitySince(null, max);
+		long floorMs = (Math.min(MIN_RECHECK.toNanos(), max.toNanos()) - (System.nanoTime() - start)) / 1_000_000;
+		if (active && floorMs > 0) {
+			try {
+				Thread.sleep(floorMs);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+		return active;
+	}
+
+	/**
+	 * ⚡ مثل awaitActivity لكن يحتسب النشاط منذ لحظة محددة بتوقيت المتصفح (مثل
+	 * القيمة المُرجعة من {@link #install()} قبل تنفيذ إجراء)، فلا يضيع تغيير حدث بين
+	 * الإجراء وبدء الانتظار.
+	 *
+	 * ⚡ Like awaitActivity, but counts activity since a browser timestamp (e.g.
+	 * the value returned by {@link #install()} before an action), so changes
+	 * between the action and the wait are not missed.
+	 *
+	 * @param browserMillis لحظة البداية بتوقيت المتصفح | Browser-clock start
+	 * @param max           أقصى مدة | Upper bound
+	 * @return true إذا حدث نشاط | true if activity was observed
+	 */
+	public boolean awaitActivitySince(Long browserMillis, Duration max) {
+		try {
+			waitForAny(max, activitySince("activity", browserMillis));
+			return true;
+		} catch (TimeoutException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * 🧩 حقن المحرك في المستند الحالي (إن لم يكن محقونًا) وإرجاع توقيت المتصفح
+	 *
+	 * 🧩 Installs the observer/counter in the current document if missing and
+	 * returns the browser clock, to be used as a "since" marker before an action.
+	 *
+	 * @return Date.now() في المتصفح | Browser Date.now()
+	 */
+	public long install() {
+		Object now = ((JavascriptExecutor) driver).executeScript(INSTALL_SCRIPT + "return Date.now();");
+		return ((Number) now).longValue();
+	}
+
+	/**
+	 * 🌐 عدد طلبات XHR/fetch الجارية حسب العدّاد المحقون | In-flight XHR/fetch
+	 * count from the injected counter
+	 *
+	 * @return عدد الطلبات الجارية | In-flight request count
+	 */
+	public int inFlightRequests() {
+		Object n = ((JavascriptExecutor) driver)
+				.executeScript(INSTALL_SCRIPT + "return window.__falakWait.inflight;");
+		return ((Number) n).intValue();
+	}
+
+	/**
+	 * 🔍 هل يمكن تحويل المحدد إلى صيغة يفهمها المحرك؟ | Whether the locator can be
+	 * evaluated in the page.
+	 *
+	 * @param locator المحدد | Locator
+	 * @return true إذا كان مدعومًا | true if supported
+	 */
+	public static boolean supports(By locator) {
+		return toJsLocatorOrNull(locator) != null;
+	}
+
+	private void ensureScriptTimeout(long sliceMs) {
+		Duration needed = Duration.ofMillis(sliceMs).plusSeconds(5);
+		if (needed.compareTo(scriptTimeoutSet) > 0) {
+			Duration target = SLICE.plusSeconds(5);
+			driver.manage().timeouts().scriptTimeout(target);
+			scriptTimeoutSet = target;
+		}
+	}
+
+	/**
+	 * 🔁 تحويل المحدد إلى {using: css|xpath, value} لاستخدامه داخل السكربتات
+	 *
+	 * 🔁 Converts a locator to {using: css|xpath, value} for in-page scripts.
+	 *
+	 * @param locator المحدد | Locator
+	 * @return الخريطة الناتجة | The script-side locator
+	 * @throws IllegalArgumentException إذا لم يكن المحدد مدعومًا | If unsupported
+	 */
+	public static Map<String, Object> toJsLocator(By locator) {
+		Map<String, Object> loc = toJsLocatorOrNull(locator);
+		if (loc == null)
+			throw new IllegalArgumentException("Unsupported locator for DomWaitEngine: " + locator);
+		return loc;
+	}
+
+	// 🔁 تحويل By إلى (css | xpath) بالاعتماد على تمثيله النصي في Selenium ("By.xpath: ...")
+	private static Map<String, Object> toJsLocatorOrNull(By locator) {
+		String s = locator.toString();
+		int colon = s.indexOf(": ");
+		if (!s.startsWith("By.") || colon < 0)
+			return null;
+		String type = s.substring(3, colon);
+		String value = s.substring(colon + 2);
+		String using;
+		switch (type) {
+		case "xpath":
+			using = "xpath";
+			break;
+		case "cssSelector":
+			using = "css";
+			break;
+		case "id":
+			using = "css";
+			value = "[id=\"" + value.replace("\"", "\\\"") + "\"]";
+			break;
+		case "name":
+			using = "css";
+			value = "[name=\"" + value.replace("\"", "\\\"") + "\"]";
+			break;
+		case "className":
+			using = "css";
+			value = "." + value;
+			break;
+		case "tagName":
+			using = "css";
+			break;
+		default:
+			return null;
+		}
+		Map<String, Object> loc = new HashMap<>();
+		loc.put("using", using);
+		loc.put("value", value);
+		return loc;
+	}
+
+}
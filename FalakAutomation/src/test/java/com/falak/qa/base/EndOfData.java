@@ -0,0 +1,97 @@
+package com.falak.qa.base;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+//	✅ EndOfData: استراتيجية قابلة للتبديل لتحديد نهاية البيانات في الـ API المقسّم لصفحات
+// Pluggable end-of-data strategy for paginated endpoints
+@FunctionalInterface
+public interface EndOfData<T> {
+
+	/** 🚦 قرار الصفحة | Verdict for a fetched page */
+	enum Verdict {
+		// ▶️ قدّم الصفحة وتابع | Emit the page and keep going
+		CONTINUE,
+		// ⏹️ قدّم الصفحة ثم توقف | Emit the page, then stop
+		LAST,
+		// 🗑️ تجاهل الصفحة وتوقف | Drop the page and stop
+		DISCARD
+	}
+
+	/**
+	 * 🚦 تقييم صفحة تم جلبها
+	 *
+	 * 🚦 Judges a fetched page.
+	 *
+	 * @param pageNumber   رقم الصفحة | Page number
+	 * @param page         سجلات الصفحة | Page records
+	 * @param previousPage الصفحة السابقة أو null | Previous page, or null
+	 * @param pageSize     حجم الصفحة المطلوب | Requested page size
+	 * @return القرار | Verdict
+	 */
+	Verdict check(int pageNumber, List<T> page, List<T> previousPage, int pageSize);
+
+	/**
+	 * 🔗 دمج استراتيجيتين (يُؤخذ القرار الأشد) | Combines two strategies, the
+	 * stricter verdict wins
+	 *
+	 * @param other الاستراتيجية الأخرى | Other strategy
+	 * @return استراتيجية مدمجة | Combined strategy
+	 */
+	default EndOfData<T> or(EndOfData<T> other) {
+		return (n, page, prev, size) -> {
+			Verdict a = check(n, page, prev, size);
+			Verdict b = other.check(n, page, prev, size);
+			return a.compareTo(b) >= 0 ? a : b;
+		};
+	}
+
+	/**
+	 * 📄 صفحة فارغة → تجاهل، صفحة أقصر من الحجم → الأخيرة
+	 *
+	 * 📄 Empty page → discard; page shorter than the page size → last.
+	 *
+	 * @param <T> نوع السجل | Record type
+	 * @return الاستراتيجية | Strategy
+	 */
+	static <T> EndOfData<T> shortOrEmptyPage() {
+		return (n, page, prev, size) -> page.isEmpty() ? Verdict.DISCARD
+				: page.size() < size ? Verdict.LAST : Verdict.CONTINUE;
+	}
+
+	/**
+	 * 🔁 تكرار أول سجل من الصفحة السابقة → تجاهل (خادم يعيد نفس الصفحة)
+	 *
+	 * 🔁 First record repeats the previous page's first record → discard (server
+	 * keeps returning the same page).
+	 *
+	 * @param key مفتاح المقارنة | Comparison key
+	 * @param <T> نوع السجل | Record type
+	 * @return الاستراتيجية | Strategy
+	 */
+	static <T> EndOfData<T> repeatedFirstRecord(Function<T, ?> key) {
+		return (n, page, prev, size) -> !page.isEmpty() && prev != null && !prev.isEmpty()
+				&& Objects.equals(key.apply(page.get(0)), key.apply(prev.get(0))) ? Verdict.DISCARD : Verdict.CONTINUE;
+	}
+
+	/**
+	 * 🛡️ حد أقصى لعدد الصفحات (حماية من الحلقات اللانهائية)
+	 *
+	 * 🛡️ Hard cap on the number of pages (infinite-loop guard).
+	 *
+	 * @param firstPage رقم أول صفحة | First page number
+	 * @param maxPages  الحد الأقصى | Maximum number of pages
+	 * @param <T>       نوع السجل | Record type
+	 * @return الاستراتيجية | Strategy
+	 */
+	static <T> EndOfData<T> maxPages(int firstPage, int maxPages) {
+		return (n, page, prev, size) -> {
+			if (n - firstPage >= maxPages)
+				throw new RuntimeException(
+						"🚨 Too many pages fetched. Possible infinite loop or unfiltered API response.");
+			return Verdict.CONTINUE;
+		};
+	}
+
+}
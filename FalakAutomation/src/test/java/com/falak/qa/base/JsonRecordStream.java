@@ -0,0 +1,178 @@
+package com.falak.qa.base;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+//	✅ JsonRecordStream: قراءة تدفقية لمصفوفة سجلات داخل استجابة JSON عبر Jackson JsonParser (سجل تلو الآخر)
+// Streaming decoder for one record array inside a JSON response object, one record at a time via JsonParser
+public class JsonRecordStream<T> implements Iterator<T>, AutoCloseable {
+
+	// 🧩 يُعاد استخدامه بين الاستجابات (آمن للخيوط بعد الإعداد) | Shared, thread-safe once configured
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private final JsonParser parser;
+	private final String arrayField;
+	private final Class<T> recordType;
+	private final Map<String, Long> numericFields = new HashMap<>();
+	private boolean started;
+	private boolean inArray;
+	private boolean finished;
+	private T next;
+
+	/**
+	 * 🛠️ المُنشئ: يفتح محلل JSON على جسم الاستجابة دون قراءته كاملًا
+	 *
+	 * 🛠️ Opens a JSON parser over the response body without reading it in full.
+	 *
+	 * @param body       جسم الاستجابة (يُغلق مع close) | Response body, closed
+	 *                   by close()
+	 * @param arrayField اسم حقل مصفوفة السجلات في المستوى الأعلى | Top-level
+	 *                   field holding the record array
+	 * @param recordType نوع السجل | Record type
+	 */
+	public JsonRecordStream(InputStream body, String arrayField, Class<T> recordType) {
+		this.arrayField = arrayField;
+		this.recordType = recordType;
+		try {
+			this.parser = MAPPER.getFactory().createParser(body);
+		} catch (IOException e) {
+			throw new RuntimeException("❌ Failed to open JSON response stream: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next == null && !finished) {
+			next = readNext();
+			if (next == null)
+				close();
+		}
+		return next != null;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext())
+			throw new NoSuchElementException("No more records in '" + arrayField + "'");
+		T current = next;
+		next = null;
+		return current;
+	}
+
+	/**
+	 * 📤 دفع كل السجلات إلى المستهلك أثناء التحليل
+	 *
+	 * 📤 Pushes every record to the consumer as it is parsed, then closes.
+	 *
+	 * @param consumer المستهلك | Record consumer
+	 * @return عدد السجلات | Number of records pushed
+	 */
+	public int drainTo(Consumer<? super T> consumer) {
+		int count = 0;
+		try {
+			while (hasNext()) {
+				consumer.accept(next());
+				count++;
+			}
+		} finally {
+			close();
+		}
+		return count;
+	}
+
+	/**
+	 * 🌊 عرض السجلات كـ Stream (يجب إغلاقه، مثلًا عبر try-with-resources)
+	 *
+	 * 🌊 Exposes the records as a lazy, ordered Stream. Close it (e.g.
+	 * try-with-resources) to release the connection if not fully consumed.
+	 *
+	 * @return Stream من السجلات | Stream of records
+	 */
+	public Stream<T> stream() {
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	/**
+	 * 🔢 قيمة حقل رقمي في المستوى الأعلى (مثل totalRecords) أو -1 إذا لم يُقرأ بعد
+	 *
+	 * 🔢 Value of a top-level numeric field (e.g. totalRecords), or -1 if not
+	 * parsed yet. Fields after the record array are only known once iteration
+	 * has finished.
+	 *
+	 * @param name اسم الحقل | Field name
+	 * @return القيمة أو -1 | Value, or -1
+	 */
+	public long numericField(String name) {
+		return numericFields.getOrDefault(name, -1L);
+	}
+
+	@Override
+	public void close() {
+		finished = true;
+		try {
+			parser.close();
+		} catch (IOException ignored) {
+			// 🔹 لا شيء يمكن فعله عند فشل الإغلاق
+		}
+	}
+
+	// 🔎 التقدم حتى السجل التالي داخل المصفوفة، مع تخطي أي حقول أخرى
+	// Advances to the next record inside the array, skipping every other field
+	private T readNext() {
+		try {
+			if (!started) {
+				started = true;
+				if (parser.nextToken() != JsonToken.START_OBJECT)
+					throw new RuntimeException("❌ API response is not a JSON object");
+			}
+			while (true) {
+				if (inArray) {
+					JsonToken t = parser.nextToken();
+					if (t == JsonToken.START_OBJECT)
+						return MAPPER.readValue(parser, recordType);
+					if (t == JsonToken.END_ARRAY) {
+						inArray = false;
+						continue;
+					}
+					if (t == null)
+						return null;
+					parser.skipChildren();
+					continue;
+				}
+
+				// 🔹 حقول المستوى الأعلى فقط (القيم الأخرى تُتخطى بالكامل)
+				if (parser.nextToken() != JsonToken.FIELD_NAME)
+					return null;
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				if (arrayField.equals(field) && value == JsonToken.START_ARRAY) {
+					inArray = true;
+				} else if (value != null && value.isNumeric()) {
+					numericFields.put(field, parser.getLongValue());
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException("❌ Failed to decode API response stream: " + e.getMessage(), e);
+		}
+	}
+
+}
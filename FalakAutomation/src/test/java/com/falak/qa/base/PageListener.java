@@ -0,0 +1,24 @@
+package com.falak.qa.base;
+
+//	✅ PageListener: إشعار بعد جلب كل صفحة من Stream مقسّم لصفحات (قد يُستدعى من خيط الجلب المسبق)
+// Callback fired after each page fetched by a paginated stream; may run on the prefetch thread
+@FunctionalInterface
+public interface PageListener {
+
+	/** 🔇 مستمع لا يفعل شيئًا | Listener that ignores every page */
+	PageListener NONE = (pageNumber, records, totalRecords, nanos) -> {
+	};
+
+	/**
+	 * 📄 صفحة تم جلبها وفك ترميزها
+	 *
+	 * 📄 A page has been fetched and decoded.
+	 *
+	 * @param pageNumber   رقم الصفحة | Page number
+	 * @param records      عدد السجلات في الصفحة | Records in the page
+	 * @param totalRecords الإجمالي كما أرسله الخادم أو -1 | Server total, or -1
+	 * @param nanos        زمن الجلب | Fetch time in nanoseconds
+	 */
+	void onPage(int pageNumber, int records, long totalRecords, long nanos);
+
+}
@@ -0,0 +1,89 @@
+package com.falak.qa.base;
+
+//	✅ PageSpec: وصف ترقيم صفحات نقطة نهاية (أسماء الباراميترز، الحجم، حقل السجلات، نوع السجل، نهاية البيانات)
+// Declarative pagination description of a tool endpoint: page params, size, record field/type, end-of-data
+public final class PageSpec<T> {
+
+	final Class<T> recordType;
+	final String arrayField;
+	String pageParam = "pageNumber";
+	String sizeParam = "limit";
+	int firstPage = 0;
+	int pageSize = 1000;
+	String totalField;
+	EndOfData<T> endOfData;
+
+	private PageSpec(Class<T> recordType, String arrayField) {
+		this.recordType = recordType;
+		this.arrayField = arrayField;
+		this.endOfData = EndOfData.<T>shortOrEmptyPage().or(EndOfData.maxPages(0, 10000));
+	}
+
+	/**
+	 * 🏗️ وصف جديد لنوع السجل وحقل المصفوفة في الاستجابة
+	 *
+	 * 🏗️ New spec for the record type and the response field holding the array.
+	 * Defaults: pageNumber / limit, first page 0, 1000 per page, stop on an
+	 * empty or short page, 10000 pages max.
+	 *
+	 * @param recordType نوع السجل | Record type
+	 * @param arrayField حقل المصفوفة (مثل result) | Array field (e.g. result)
+	 * @param <T>        نوع السجل | Record type
+	 * @return الوصف | Spec
+	 */
+	public static <T> PageSpec<T> of(Class<T> recordType, String arrayField) {
+		return new PageSpec<>(recordType, arrayField);
+	}
+
+	public PageSpec<T> withPageParams(String pageParam, String sizeParam) {
+		this.pageParam = pageParam;
+		this.sizeParam = sizeParam;
+		return this;
+	}
+
+	public PageSpec<T> withFirstPage(int firstPage) {
+		this.firstPage = firstPage;
+		return this;
+	}
+
+	public PageSpec<T> withPageSize(int pageSize) {
+		this.pageSize = pageSize;
+		return this;
+	}
+
+	/**
+	 * 🔢 حقل إجمالي السجلات في الاستجابة (يُمرَّر إلى {@link PageListener})
+	 *
+	 * @param totalField اسم الحقل (مثل totalRecords) | Top-level total field
+	 *                   name (e.g. totalRecords)
+	 * @return الوصف | Spec
+	 */
+	public PageSpec<T> withTotalField(String totalField) {
+		this.totalField = totalField;
+		return this;
+	}
+
+	public PageSpec<T> withEndOfData(EndOfData<T> endOfData) {
+		this.endOfData = endOfData;
+		return this;
+	}
+
+	/**
+	 * 📋 نسخة بحجم صفحة مختلف (الوصف الأصلي لا يتغير) | Copy with another page
+	 * size; the original is untouched
+	 *
+	 * @param size الحجم | Page size
+	 * @return نسخة | Copy
+	 */
+	public PageSpec<T> copyWithPageSize(int size) {
+		PageSpec<T> copy = new PageSpec<>(recordType, arrayField);
+		copy.pageParam = pageParam;
+		copy.sizeParam = sizeParam;
+		copy.firstPage = firstPage;
+		copy.pageSize = size;
+		copy.totalField = totalField;
+		copy.endOfData = endOfData;
+		return copy;
+	}
+
+}
@@ -0,0 +1,115 @@
+package com.falak.qa.base;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+//	✅ PagedSpliterator: Spliterator كسول فوق API مقسّم لصفحات مع جلب مسبق للصفحة التالية
+// Lazy Spliterator over a paginated API that prefetches the next page while the current one is consumed
+final class PagedSpliterator<T> implements Spliterator<T> {
+
+	// 🧵 خيوط الجلب المسبق (daemon) مشتركة بين كل الـ Streams ولا ترث سياق Allure: لا تقرير إلا على خيط المستهلك
+	// Shared daemon prefetch threads; they inherit no Allure context, so only the consuming thread reports
+	private static final ExecutorService PREFETCH = Executors.newCachedThreadPool(r -> {
+		Thread t = new Thread(null, r, "api-page-prefetch", 0, false);
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final IntFunction<List<T>> fetcher;
+	private final EndOfData<T> endOfData;
+	private final int pageSize;
+
+	private List<T> buffer = List.of();
+	private int index;
+	private List<T> previous;
+	private int nextPage;
+	private boolean done;
+	private CompletableFuture<List<T>> prefetched;
+
+	PagedSpliterator(IntFunction<List<T>> fetcher, PageSpec<T> spec) {
+		this.fetcher = fetcher;
+		this.endOfData = spec.endOfData;
+		this.pageSize = spec.pageSize;
+		this.nextPage = spec.firstPage;
+	}
+
+	@Override
+	public boolean tryAdvance(Consumer<? super T> action) {
+		while (index >= buffer.size()) {
+			if (done)
+				return false;
+			loadNextPage();
+		}
+		action.accept(buffer.get(index++));
+		return true;
+	}
+
+	// 📥 استلام الصفحة التالية (من الجلب المسبق إن وُجد) ثم تقييمها | Takes the next page, then judges it
+	private void loadNextPage() {
+		int pageNumber = nextPage++;
+		List<T> page = prefetched != null ? join(prefetched) : fetcher.apply(pageNumber);
+		prefetched = null;
+
+		EndOfData.Verdict verdict = endOfData.check(pageNumber, page, previous, pageSize);
+		if (verdict == EndOfData.Verdict.DISCARD) {
+			done = true;
+			buffer = List.of();
+			index = 0;
+			return;
+		}
+		if (verdict == EndOfData.Verdict.LAST) {
+			done = true;
+		} else {
+			// ⏭️ جلب الصفحة التالية أثناء استهلاك الحالية | Fetch the next page while this one is consumed
+			int upcoming = nextPage;
+			prefetched = CompletableFuture.supplyAsync(() -> fetcher.apply(upcoming), PREFETCH);
+		}
+		previous = page;
+		buffer = page;
+		index = 0;
+	}
+
+	private static <T> List<T> join(CompletableFuture<List<T>> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			throw cause instanceof RuntimeException ? (RuntimeException) cause
+					: new RuntimeException("❌ Failed to fetch page: " + cause.getMessage(), cause);
+		}
+	}
+
+	/**
+	 * 🛑 إيقاف الجلب وإلغاء الصفحة المجلوبة مسبقًا (عند إغلاق الـ Stream)
+	 *
+	 * 🛑 Stops fetching and cancels the prefetched page (on stream close).
+	 */
+	void cancel() {
+		done = true;
+		if (prefetched != null)
+			prefetched.cancel(true);
+		prefetched = null;
+	}
+
+	@Override
+	public Spliterator<T> trySplit() {
+		return null;
+	}
+
+	@Override
+	public long estimateSize() {
+		return Long.MAX_VALUE;
+	}
+
+	@Override
+	public int characteristics() {
+		return ORDERED | NONNULL;
+	}
+
+}
@@ -0,0 +1,190 @@
+package com.falak.qa.base;
+
+import com.falak.qa.config.DriverFactory;
+import com.falak.qa.net.FixtureStore;
+import com.falak.qa.net.NetworkIdle;
+import com.falak.qa.net.NetworkStubs;
+import com.falak.qa.net.NetworkTriage;
+import com.falak.qa.pages.home.HomePage;
+import com.falak.qa.utils.JcodecVideoRecorder;
+import com.falak.qa.utils.MemoryMonitor;
+
+import org.openqa.selenium.WebDriver;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+//	✅ TestContext: سياق اختبار مقيّد بالخيط (Thread-Confined) يجمع موارد كل حالة اختبار
+// Thread-confined holder of the per-test resources (driver, factory, triage, network-idle tracker, request stubs,
+// API fixtures, memory monitor, recorder, downloads dir)
+public final class TestContext {
+
+	// 🧵 كل خيط (Thread) يملك سياقه الخاص، فلا تتشارك الاختبارات المتوازية أي جلسة
+	// Each TestNG worker thread owns exactly one context at a time
+	private static final ThreadLocal<TestContext> CURRENT = new ThreadLocal<>();
+
+	private final WebDriver driver;
+	private final DriverFactory driverFactory;
+	private final Path downloadsDir;
+	private NetworkTriage triage;
+	private NetworkIdle networkIdle;
+	private NetworkStubs stubs;
+	private FixtureStore fixtures;
+	private MemoryMonitor memoryMonitor;
+	private HomePage homePage;
+	private JcodecVideoRecorder videoRecorder;
+	private boolean videoStopped;
+
+	private TestContext(DriverFactory driverFactory) {
+		this.driverFactory = driverFactory;
+		this.driver = driverFactory.getDriver();
+		this.downloadsDir = driverFactory.getDownloadsDir();
+	}
+
+	/**
+	 * 🧵 ربط سياق جديد بالخيط الحالي انطلاقًا من DriverFactory مُهيّأ
+	 *
+	 * 🔹 تُستدعى من BaseTest.setUp بعد تهيئة المتصفح. إذا كان هناك سياق سابق لم
+	 * يُغلق (تسرّب من اختبار سابق) يتم رفض الربط بدل مشاركة جلسة قديمة.
+	 *
+	 * 🧵 Binds a fresh context to the current thread from an initialized
+	 * DriverFactory. Refuses to bind over a leaked context from a previous test.
+	 *
+	 * @param driverFactory المصنع الذي يملك المتصفح | Factory owning the browser
+	 * @return السياق المربوط | The bound context
+	 * @throws IllegalStateException إذا كان للخيط سياق مفتوح مسبقًا | If the thread
+	 *                               already owns an open context
+	 *
+	 *                               📌 الهدف: منع تسرّب الجلسات بين الاختبارات
+	 *                               المتوازية.
+	 */
+	public static TestContext open(DriverFactory driverFactory) {
+		if (CURRENT.get() != null) {
+			throw new IllegalStateException("🚫 الخيط " + Thread.currentThread().getName()
+					+ " يملك سياق اختبار مفتوح بالفعل (لم يتم إغلاقه في tearDown)");
+		}
+		TestContext ctx = new TestContext(driverFactory);
+		CURRENT.set(ctx);
+		return ctx;
+	}
+
+	/**
+	 * 🔎 إرجاع سياق الخيط الحالي
+	 *
+	 * 🔎 Returns the context bound to the current thread.
+	 *
+	 * @return السياق الحالي | The current context
+	 * @throws IllegalStateException إذا لم يكن هناك سياق (خارج setUp/tearDown) | If
+	 *                               no context is bound
+	 */
+	public static TestContext current() {
+		TestContext ctx = CURRENT.get();
+		if (ctx == null) {
+			throw new IllegalStateException(
+					"🚫 لا يوجد سياق اختبار للخيط " + Thread.currentThread().getName() + " (هل تم استدعاء setUp؟)");
+		}
+		return ctx;
+	}
+
+	/**
+	 * 🔎 إرجاع سياق الخيط الحالي إن وُجد (بدون رمي استثناء)
+	 *
+	 * 🔎 Returns the current thread's context if any.
+	 *
+	 * @return Optional بالسياق الحالي | Optional current context
+	 */
+	public static Optional<TestContext> find() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	/**
+	 * 🧹 فك ارتباط السياق عن الخيط الحالي وإرجاعه (لإغلاق موارده)
+	 *
+	 * 🧹 Unbinds the context from the current thread and returns it.
+	 *
+	 * @return السياق الذي تم فكّه إن وُجد | The unbound context, if any
+	 */
+	public static Optional<TestContext> close() {
+		TestContext ctx = CURRENT.get();
+		CURRENT.remove();
+		return Optional.ofNullable(ctx);
+	}
+
+	public WebDriver getDriver() {
+		return driver;
+	}
+
+	public DriverFactory getDriverFactory() {
+		return driverFactory;
+	}
+
+	public Path getDownloadsDir() {
+		return downloadsDir;
+	}
+
+	public NetworkTriage getTriage() {
+		return triage;
+	}
+
+	void setTriage(NetworkTriage triage) {
+		this.triage = triage;
+	}
+
+	public NetworkIdle getNetworkIdle() {
+		return networkIdle;
+	}
+
+	void setNetworkIdle(NetworkIdle networkIdle) {
+		this.networkIdle = networkIdle;
+	}
+
+	public NetworkStubs getStubs() {
+		return stubs;
+	}
+
+	void setStubs(NetworkStubs stubs) {
+		this.stubs = stubs;
+	}
+
+	public FixtureStore getFixtures() {
+		return fixtures;
+	}
+
+	void setFixtures(FixtureStore fixtures) {
+		this.fixtures = fixtures;
+	}
+
+	public MemoryMonitor getMemoryMonitor() {
+		return memoryMonitor;
+	}
+
+	void setMemoryMonitor(MemoryMonitor memoryMonitor) {
+		this.memoryMonitor = memoryMonitor;
+	}
+
+	public HomePage getHomePage() {
+		return homePage;
+	}
+
+	void setHomePage(HomePage homePage) {
+		this.homePage = homePage;
+	}
+
+	public JcodecVideoRecorder getVideoRecorder() {
+		return videoRecorder;
+	}
+
+	void setVideoRecorder(JcodecVideoRecorder videoRecorder) {
+		this.videoRecorder = videoRecorder;
+		this.videoStopped = false;
+	}
+
+	boolean isVideoStopped() {
+		return videoStopped;
+	}
+
+	void markVideoStopped() {
+		this.videoStopped = true;
+	}
+
+}
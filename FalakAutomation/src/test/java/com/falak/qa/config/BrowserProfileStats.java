@@ -0,0 +1,137 @@
+package com.falak.qa.config;
+
+import com.falak.qa.enums.BrowserProfile;
+import com.falak.qa.utils.SuiteMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ BrowserProfileStats: قياس زمن تشغيل المتصفح وتحميل الصفحة لكل ملف تشغيل ومقارنته بالوضع المرئي
+// Startup / page-load timings per browser profile, compared against headed mode
+public final class BrowserProfileStats {
+
+	// 📁 آخر قياسات للوضع المرئي (HEADED) تُستخدم كمرجع عند تشغيل headless فقط
+	// Last headed averages, used as baseline when the current run has no headed samples
+	private static final Path BASELINE_FILE = Path.of(System.getProperty("user.dir"), "target",
+			"browser-profile-baseline.properties");
+
+	private static final Map<BrowserProfile, Timing> STARTUP = new EnumMap<>(BrowserProfile.class);
+	private static final Map<BrowserProfile, Timing> PAGE_LOAD = new EnumMap<>(BrowserProfile.class);
+
+	static {
+		for (BrowserProfile p : BrowserProfile.values()) {
+			STARTUP.put(p, new Timing());
+			PAGE_LOAD.put(p, new Timing());
+		}
+		SuiteMetrics.register("🖥️ Browser profiles", BrowserProfileStats::summary);
+	}
+
+	private BrowserProfileStats() {
+	}
+
+	/**
+	 * ⏱️ تسجيل زمن تشغيل متصفح لملف معيّن | Records a browser startup time.
+	 *
+	 * @param profile ملف التشغيل | Launch profile
+	 * @param nanos   المدة بالنانو ثانية | Duration in nanoseconds
+	 */
+	public static void recordStartup(BrowserProfile profile, long nanos) {
+		STARTUP.get(profile).add(nanos);
+	}
+
+	/**
+	 * ⏱️ تسجيل زمن تحميل الصفحة الأولى لملف معيّن | Records a first page-load
+	 * time.
+	 *
+	 * @param profile ملف التشغيل | Launch profile
+	 * @param nanos   المدة بالنانو ثانية | Duration in nanoseconds
+	 */
+	public static void recordPageLoad(BrowserProfile profile, long nanos) {
+		PAGE_LOAD.get(profile).add(nanos);
+	}
+
+	private static String summary() {
+		Properties baseline = loadBaseline();
+		double headedStartup = STARTUP.get(BrowserProfile.HEADED).avgMs();
+		double headedLoad = PAGE_LOAD.get(BrowserProfile.HEADED).avgMs();
+		String baselineSource = "this run";
+
+		if (STARTUP.get(BrowserProfile.HEADED).count() > 0) {
+			baseline.setProperty("startup.ms", String.valueOf(headedStartup));
+			baseline.setProperty("pageLoad.ms", String.valueOf(headedLoad));
+			saveBaseline(baseline);
+		} else if (baseline.containsKey("startup.ms")) {
+			headedStartup = Double.parseDouble(baseline.getProperty("startup.ms"));
+			headedLoad = Double.parseDouble(baseline.getProperty("pageLoad.ms", "0"));
+			baselineSource = "previous headed run";
+		} else {
+			baselineSource = null;
+		}
+
+		StringBuilder sb = new StringBuilder();
+		for (BrowserProfile p : BrowserProfile.values()) {
+			Timing s = STARTUP.get(p);
+			Timing l = PAGE_LOAD.get(p);
+			if (s.count() == 0 && l.count() == 0)
+				continue;
+			sb.append(String.format("%-8s startups=%d avgStartup=%.0fms pageLoads=%d avgPageLoad=%.0fms", p,
+					s.count(), s.avgMs(), l.count(), l.avgMs()));
+			if (p != BrowserProfile.HEADED && baselineSource != null) {
+				sb.append(String.format(" | Δ vs headed (%s): startup %+.0fms, pageLoad %+.0fms", baselineSource,
+						s.avgMs() - headedStartup, l.avgMs() - headedLoad));
+			}
+			sb.append('\n');
+		}
+		return sb.length() == 0 ? "no samples" : sb.toString().trim();
+	}
+
+	private static Properties loadBaseline() {
+		Properties p = new Properties();
+		if (Files.exists(BASELINE_FILE)) {
+			try (InputStream in = Files.newInputStream(BASELINE_FILE)) {
+				p.load(in);
+			} catch (IOException ignored) {
+			}
+		}
+		return p;
+	}
+
+	private static void saveBaseline(Properties p) {
+		try {
+			Files.createDirectories(BASELINE_FILE.getParent());
+			try (OutputStream out = Files.newOutputStream(BASELINE_FILE)) {
+				p.store(out, "Headed browser baseline (avg ms)");
+			}
+		} catch (IOException e) {
+			System.out.println("⚠️ Failed to save headed baseline: " + e.getMessage());
+		}
+	}
+
+	// ⏱️ عدّاد بسيط آمن للخيوط (مجموع + عدد)
+	private static final class Timing {
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder count = new LongAdder();
+
+		void add(long n) {
+			nanos.add(n);
+			count.increment();
+		}
+
+		long count() {
+			return count.sum();
+		}
+
+		double avgMs() {
+			long c = count.sum();
+			return c == 0 ? 0 : nanos.sum() / 1_000_000.0 / c;
+		}
+	}
+
+}
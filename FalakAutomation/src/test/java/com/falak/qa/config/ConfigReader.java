@@ -12,17 +12,22 @@ import java.util.Properties;
 public class ConfigReader {
 
 	//	🧠 كائن لتخزين الإعدادات على شكل (مفتاح = قيمة)
-	// This object holds the key-value pairs from the properties file
-	private static Properties prop;
+	// This object holds the key-value pairs from the properties file.
+	// 🧵 يُحمَّل مرة واحدة ويُشارك للقراءة فقط بين الخيوط المتوازية (volatile + synchronized)
+	// Loaded once and shared read-only across parallel test threads
+	private static volatile Properties prop;
 
     /**
      * ✅ تحميل جميع الإعدادات من ملف config.properties
      *
      * 🔹 هذه الدالة تُستخدم لتهيئة ملف الخصائص (Properties) وتحميل جميع القيم 
      *    المعرّفة فيه مثل: البيئة، المتصفح، وغيرها من الإعدادات الخاصة بالاختبارات.
+     * 🔹 يتم التحميل مرة واحدة فقط (آمن للخيوط)، وأي استدعاء لاحق يُعيد نفس الكائن
+     *    بدل إعادة قراءة الملف من كل خيط اختبار.
      *
      * ✅ Loads all configuration properties from the `config.properties` file.
      *    Useful for initializing environment, browser type, and other test settings.
+     *    The file is read once (thread-safe); later calls return the same instance.
      *
      * @return كائن Properties يحتوي على جميع الإعدادات | Properties object containing the loaded settings
      * @throws RuntimeException إذا فشل تحميل الملف أو لم يتم العثور عليه | If the file cannot be loaded or found
@@ -31,32 +36,43 @@ public class ConfigReader {
      */
     @Step("📥 Load configuration from config.properties")
     public static Properties initProperties() {
-        prop = new Properties(); // 🧱 إنشاء كائن جديد من Properties
+        Properties loaded = prop;
+        if (loaded != null) {
+            return loaded;
+        }
+
+        synchronized (ConfigReader.class) {
+            if (prop != null) {
+                return prop;
+            }
+
+            loaded = new Properties(); // 🧱 إنشاء كائن جديد من Properties
 
-        try {
             // 📂 تحديد مسار ملف الإعدادات داخل المشروع
-            FileInputStream ip = new FileInputStream("src/test/resources/config.properties");
+            try (FileInputStream ip = new FileInputStream("src/test/resources/config.properties")) {
 
-            // 📥 تحميل البيانات من الملف إلى الكائن prop
-            prop.load(ip);
+                // 📥 تحميل البيانات من الملف إلى الكائن
+                loaded.load(ip);
 
-            // 📝 توثيق نجاح تحميل الإعدادات في تقرير Allure
-            Allure.step("📥 تم تحميل ملف الإعدادات بنجاح من config.properties");
+                // 📝 توثيق نجاح تحميل الإعدادات في تقرير Allure
+                Allure.step("📥 تم تحميل ملف الإعدادات بنجاح من config.properties");
 
-        } catch (IOException e) {
-            // ❌ في حال وجود مشكلة في فتح الملف أو قراءته
-            String errorMsg = "❌ فشل تحميل ملف الإعدادات: " + e.getMessage();
+            } catch (IOException e) {
+                // ❌ في حال وجود مشكلة في فتح الملف أو قراءته
+                String errorMsg = "❌ فشل تحميل ملف الإعدادات: " + e.getMessage();
 
-            // 🔍 تسجيل المشكلة في الكونسول وتقرير Allure
-            System.out.println(errorMsg);
-            Allure.step(errorMsg);
+                // 🔍 تسجيل المشكلة في الكونسول وتقرير Allure
+                System.out.println(errorMsg);
+                Allure.step(errorMsg);
 
-            // 🚫 إيقاف التنفيذ إذا لم يتم العثور على الملف
-            throw new RuntimeException("⚠️ لا يمكن تحميل ملف الإعدادات، تحقق من المسار أو وجود الملف.");
-        }
+                // 🚫 إيقاف التنفيذ إذا لم يتم العثور على الملف
+                throw new RuntimeException("⚠️ لا يمكن تحميل ملف الإعدادات، تحقق من المسار أو وجود الملف.");
+            }
 
-        // 🔄 إعادة الكائن المحمّل
-        return prop;
+            // 🔄 نشر الكائن المحمّل لباقي الخيوط
+            prop = loaded;
+            return loaded;
+        }
     }
 
 
@@ -76,7 +92,7 @@ public class ConfigReader {
      */
     @Step("🔑 Get property value for key: {key}")
     public String getProperty(String key) {
-        return prop.getProperty(key);
+        return initProperties().getProperty(key);
     }
 
 }
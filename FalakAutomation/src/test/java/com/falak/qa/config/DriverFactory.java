@@ -7,20 +7,31 @@ import org.openqa.selenium.Proxy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
 import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
 import org.openqa.selenium.edge.EdgeDriver;
 import org.openqa.selenium.edge.EdgeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 
 import com.browserup.bup.BrowserUpProxy;
 import com.browserup.bup.BrowserUpProxyServer;
+import com.falak.qa.enums.BrowserProfile;
+import com.falak.qa.enums.NetworkProfile;
+import com.falak.qa.net.CdpHub;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 //	✅ DriverFactory هذا الكلاس مسؤول عن إنشاء وتكوين المتصفح (WebDriver) بناءً على إعدادات المشروع.
 // This class handles initializing the WebDriver instance according to project settings.
@@ -39,6 +50,15 @@ public class DriverFactory {
 
 	private Path downloadsDir;
 
+	private BrowserProfile profile = BrowserProfile.HEADED;
+	private boolean blocking; // هل توجد أنماط حجب مفعّلة على هذه الجلسة
+	private NetworkProfile networkProfile = NetworkProfile.NONE; // ظروف الشبكة المُحاكاة حاليًا
+	private CdpHub.Registration networkLease; // حجز Network طالما يوجد حجب أو تقييد
+
+	// 🔢 عدّاد الجلسات: لكل متصفح مجلد تنزيلات خاص حتى لا تتداخل ملفات الاختبارات المتوازية
+	// Per-session counter so parallel browsers never share a downloads folder
+	private static final AtomicInteger SESSION_SEQ = new AtomicInteger();
+
 	/**
 	 * 🌐 تهيئة المتصفح استنادًا إلى الإعدادات المعرّفة في ملف config.properties
 	 *
@@ -60,6 +80,29 @@ public class DriverFactory {
 	 */
 	@Step("🌐 Initialize WebDriver based on configuration")
 	public WebDriver initDriver() {
+		return initDriver(BrowserProfile.fromConfig());
+	}
+
+	/**
+	 * 🌐 تهيئة المتصفح بملف تشغيل محدد (HEADED / HEADLESS / LEAN)
+	 *
+	 * 🔹 HEADED: نافذة كاملة مكبّرة كما في السابق. 🔹 HEADLESS: بدون واجهة مع مقاس
+	 * نافذة ثابت (viewport.width × viewport.height) بدل maximize. 🔹 LEAN: مثل
+	 * HEADLESS مع تخطي أعمال التشغيل الأول وتعطيل الشبكة الخلفية والإضافات و GPU.
+	 *
+	 * 🌐 Initializes the browser with the given launch profile. HEADED keeps the
+	 * maximized window; HEADLESS uses a fixed viewport; LEAN additionally skips
+	 * first-run work and disables background networking, extensions and GPU
+	 * compositing.
+	 *
+	 * @param profile ملف التشغيل | Launch profile
+	 * @return WebDriver كائن جاهز | Ready WebDriver
+	 * @throws RuntimeException إذا فشلت عملية التهيئة | If initialization fails
+	 */
+	@Step("🌐 Initialize WebDriver with profile: {profile}")
+	public WebDriver initDriver(BrowserProfile profile) {
+		long t0 = System.nanoTime();
+		this.profile = profile;
 		try {
 			// 🧩 1. تحميل الإعدادات من ملف config.properties
 			prop = ConfigReader.initProperties();
@@ -67,10 +110,11 @@ public class DriverFactory {
 			// 🌐 2. جلب نوع المتصفح من الإعدادات
 			this.browserName = prop.getProperty("browser").trim().toLowerCase();
 			String browserName = this.browserName;
-			Allure.step("🌐 المتصفح المختار: " + browserName);
+			Allure.step("🌐 المتصفح المختار: " + browserName + " | الملف: " + profile.getArabicName());
 
-			// 📂 3. إنشاء مجلد التنزيلات داخل المشروع
-			downloadsDir = Path.of(System.getProperty("user.dir"), "downloads");
+			// 📂 3. إنشاء مجلد تنزيلات خاص بهذه الجلسة داخل المشروع
+			downloadsDir = Path.of(System.getProperty("user.dir"), "downloads",
+					"session-" + SESSION_SEQ.incrementAndGet());
 			try {
 				Files.createDirectories(downloadsDir);
 			} catch (IOException ignored) {
@@ -86,6 +130,7 @@ public class DriverFactory {
 				prefs.put("download.directory_upgrade", true);
 				prefs.put("safebrowsing.enabled", true);
 				opt.setExperimentalOption("prefs", prefs);
+				applyChromiumProfile(opt);
 				driver = new ChromeDriver(opt);
 				break;
 
@@ -106,6 +151,7 @@ public class DriverFactory {
 				ff.addPreference("browser.helperApps.neverAsk.saveToDisk",
 						"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet,application/vnd.ms-excel,text/csv,application/octet-stream");
 				ff.addPreference("pdfjs.disabled", true);
+				applyFirefoxProfile(ff);
 
 				driver = new FirefoxDriver(ff);
 				break;
@@ -116,19 +162,26 @@ public class DriverFactory {
 				prefss.put("download.default_directory", downloadsDir.toString());
 				prefss.put("download.prompt_for_download", false);
 				optt.setExperimentalOption("prefs", prefss);
+				applyChromiumProfile(optt);
 				driver = new EdgeDriver(optt);
 				break;
 
 			default:
 				Allure.step("⚠️ متصفح غير معروف، سيتم استخدام Chrome كخيار افتراضي");
-				driver = new ChromeDriver();
+				ChromeOptions fallback = new ChromeOptions();
+				applyChromiumProfile(fallback);
+				driver = new ChromeDriver(fallback);
 			}
 
 			// ⏳ 5. ضبط وقت الانتظار الضمني
 			driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
 
-			// 🖥️ 6. تكبير النافذة لتحسين الاستقرار
-			driver.manage().window().maximize();
+			// 🖥️ 6. تكبير النافذة لتحسين الاستقرار (في وضع headless المقاس ثابت من الخيارات)
+			if (!profile.isHeadless()) {
+				driver.manage().window().maximize();
+			}
+
+			BrowserProfileStats.recordStartup(profile, System.nanoTime() - t0);
 
 		} catch (Exception e) {
 			Allure.step("❌ فشل تهيئة المتصفح: " + e.getMessage());
@@ -139,6 +192,179 @@ public class DriverFactory {
 		return driver;
 	}
 
+	/**
+	 * 🧩 تطبيق ملف التشغيل على خيارات Chrome/Edge
+	 *
+	 * 🧩 Applies the launch profile to Chrome/Edge options.
+	 *
+	 * @param opt خيارات Chromium | Chromium options
+	 */
+	private void applyChromiumProfile(ChromiumOptions<?> opt) {
+		if (!profile.isHeadless())
+			return;
+		opt.addArguments("--headless=new", "--window-size=" + viewportWidth() + "," + viewportHeight());
+		if (profile == BrowserProfile.LEAN) {
+			opt.addArguments("--no-first-run", "--no-default-browser-check", "--disable-background-networking",
+					"--disable-component-update", "--disable-sync", "--disable-extensions", "--disable-gpu",
+					"--disable-default-apps", "--mute-audio");
+		}
+	}
+
+	/**
+	 * 🧩 تطبيق ملف التشغيل على خيارات Firefox
+	 *
+	 * 🧩 Applies the launch profile to Firefox options.
+	 *
+	 * @param ff خيارات Firefox | Firefox options
+	 */
+	private void applyFirefoxProfile(org.openqa.selenium.firefox.FirefoxOptions ff) {
+		if (!profile.isHeadless())
+			return;
+		ff.addArguments("-headless", "--width=" + viewportWidth(), "--height=" + viewportHeight());
+		if (profile == BrowserProfile.LEAN) {
+			ff.addPreference("browser.shell.checkDefaultBrowser", false);
+			ff.addPreference("browser.startup.homepage_override.mstone", "ignore");
+			ff.addPreference("datareporting.policy.dataSubmissionEnabled", false);
+			ff.addPreference("app.update.auto", false);
+			ff.addPreference("extensions.update.enabled", false);
+			ff.addPreference("network.prefetch-next", false);
+			ff.addPreference("layers.acceleration.disabled", true);
+			ff.addPreference("media.autoplay.default", 5);
+		}
+	}
+
+	/**
+	 * 🚫 حجب أنماط روابط غير مطلوبة للاختبار (تحليلات، خطوط، فيديو)
+	 *
+	 * 🔹 Chrome/Edge: عبر CDP Network.setBlockedURLs. 🔹 Firefox: عبر قائمة الحجب
+	 * في BrowserUp proxy (تُرجع 204). 🔹 قائمة فارغة تُلغي أي حجب سابق (جلسات
+	 * DriverPool تُعاد بين الكلاسات).
+	 *
+	 * 🚫 Blocks URL patterns not needed by a test (CDP setBlockedURLs on
+	 * Chrome/Edge, BrowserUp blacklist on Firefox). An empty list clears any
+	 * previous blocking, since pooled sessions move between classes.
+	 *
+	 * @param patterns أنماط الروابط (* تطابق أي نص) | URL patterns (* wildcard)
+	 */
+	@Step("🚫 Apply blocked URL patterns")
+	public void applyBlockedUrls(List<String> patterns) {
+		if (patterns.isEmpty() && !blocking)
+			return;
+		try {
+			Optional<CdpHub> hub = CdpHub.of(driver);
+			if (hub.isPresent()) {
+				holdNetwork(hub.get());
+				hub.get().setBlockedUrls(patterns);
+			} else if (proxy != null) {
+				proxy.clearBlacklist();
+				for (String pattern : patterns) {
+					proxy.blacklistRequests(globToRegex(pattern), 204);
+				}
+			}
+			blocking = !patterns.isEmpty();
+			releaseNetworkIfUnused();
+			if (blocking) {
+				Allure.step("🚫 Blocked URL patterns: " + patterns);
+			}
+		} catch (Exception e) {
+			Allure.step("⚠️ Failed to apply blocked URLs: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 📶 تطبيق ظروف شبكة مُحاكاة (زمن استجابة، عرض نطاق، فقدان حزم)
+	 *
+	 * 🔹 Chrome/Edge: عبر CDP Network.emulateNetworkConditions. 🔹 Firefox: عبر
+	 * حدود BrowserUp proxy (زمن الاستجابة وعرض النطاق فقط). 🔹 NONE تُلغي أي تقييد
+	 * سابق (جلسات DriverPool تُعاد بين الكلاسات).
+	 *
+	 * 📶 Applies an emulated network profile (CDP emulateNetworkConditions on
+	 * Chrome/Edge, BrowserUp latency/bandwidth limits on Firefox, where packet
+	 * loss is not available). NONE clears a previous profile, since pooled
+	 * sessions move between classes.
+	 *
+	 * @param target الملف المطلوب | Profile to apply
+	 */
+	@Step("📶 Apply network profile: {target}")
+	public void applyNetworkProfile(NetworkProfile target) {
+		if (target == networkProfile)
+			return;
+		try {
+			boolean off = target == NetworkProfile.NONE;
+			Optional<CdpHub> hub = CdpHub.of(driver);
+			if (hub.isPresent()) {
+				holdNetwork(hub.get());
+				// 🔹 الإنتاجية بالبايت/ثانية (-1 = بدون حد) | Throughput in bytes/second, -1 disables
+				hub.get().emulateNetworkConditions(target.getLatencyMs(),
+						off || target.getDownloadKbps() < 0 ? -1 : target.getDownloadKbps() * 125,
+						off || target.getUploadKbps() < 0 ? -1 : target.getUploadKbps() * 125,
+						target.getPacketLossPercent());
+			} else if (proxy != null) {
+				// 🔹 0 = بدون حد في BrowserUp | 0 removes the BrowserUp limit
+				proxy.setLatency(target.getLatencyMs(), TimeUnit.MILLISECONDS);
+				proxy.setReadBandwidthLimit(Math.max(0, target.getDownloadKbps()) * 125);
+				proxy.setWriteBandwidthLimit(Math.max(0, target.getUploadKbps()) * 125);
+				if (target.getPacketLossPercent() > 0)
+					Allure.step("ℹ️ Packet loss is not emulated through the BrowserUp proxy (" + target.getId() + ")");
+			} else {
+				Allure.step("⚠️ Network profile " + target.getId() + " not supported by this browser");
+				return;
+			}
+			networkProfile = target;
+			releaseNetworkIfUnused();
+			Allure.step("📶 Network profile: " + target + " | " + target.getArabicName());
+		} catch (Exception e) {
+			Allure.step("⚠️ Failed to apply network profile " + target.getId() + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 📶 ظروف الشبكة المُطبّقة حاليًا على هذه الجلسة | Network profile currently
+	 * applied to this session
+	 *
+	 * @return الملف الحالي | Current profile
+	 */
+	public NetworkProfile getNetworkProfile() {
+		return networkProfile;
+	}
+
+	// 🔌 Network يبقى مفعّلًا طالما يوجد حجب أو تقييد، حتى لو أوقف Triage حجزه
+	// Keeps Network enabled while blocking or throttling is active, whatever the triage does with its own lease
+	private void holdNetwork(CdpHub hub) {
+		if (networkLease == null)
+			networkLease = hub.enable(CdpHub.Domain.NETWORK);
+	}
+
+	private void releaseNetworkIfUnused() {
+		if (networkLease != null && !blocking && networkProfile == NetworkProfile.NONE) {
+			networkLease.close();
+			networkLease = null;
+		}
+	}
+
+	private static String globToRegex(String glob) {
+		return Arrays.stream(glob.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*"));
+	}
+
+	private int viewportWidth() {
+		return Integer.parseInt(prop.getProperty("viewport.width", "1920").trim());
+	}
+
+	private int viewportHeight() {
+		return Integer.parseInt(prop.getProperty("viewport.height", "1080").trim());
+	}
+
+	/**
+	 * 🖥️ إرجاع ملف التشغيل الذي أُنشئ به المتصفح
+	 *
+	 * 🖥️ Returns the launch profile this browser was created with.
+	 *
+	 * @return ملف التشغيل | Launch profile
+	 */
+	public BrowserProfile getProfile() {
+		return profile;
+	}
+
 	/**
 	 * 🌐 إرجاع كائن البروكسي الحالي (إن تم تهيئته)
 	 *
@@ -176,6 +402,58 @@ public class DriverFactory {
 		return driver;
 	}
 
+	/**
+	 * 🏊 إرجاع مفتاح المجمّع (DriverPool) الخاص بهذه الجلسة
+	 *
+	 * 🏊 Returns the DriverPool key of this session.
+	 *
+	 * @return مفتاح المجمّع (نوع المتصفح + الملف) | Pool key (browser type +
+	 *         profile)
+	 */
+	public String getPoolKey() {
+		return poolKey(browserName, profile);
+	}
+
+	/**
+	 * 🏊 بناء مفتاح المجمّع من نوع المتصفح وملف التشغيل
+	 *
+	 * 🏊 Builds a pool key from browser type and profile.
+	 *
+	 * @param browserName نوع المتصفح | Browser type
+	 * @param profile     ملف التشغيل | Launch profile
+	 * @return مفتاح المجمّع | Pool key
+	 */
+	public static String poolKey(String browserName, BrowserProfile profile) {
+		return browserName + "/" + profile.name().toLowerCase();
+	}
+
+	/**
+	 * 🛑 إغلاق المتصفح والبروكسي (إن وُجد) الخاصين بهذه الجلسة
+	 *
+	 * 🛑 Quits the browser and stops the BrowserUp proxy (if any) of this session.
+	 */
+	@Step("🛑 Quit WebDriver session")
+	public void quit() {
+		try {
+			if (driver != null) {
+				CdpHub.close(driver);
+				driver.quit();
+			}
+		} catch (Exception e) {
+			System.out.println("⚠️ Failed to quit browser: " + e.getMessage());
+		} finally {
+			driver = null;
+			networkLease = null;
+		}
+		try {
+			if (proxy != null && proxy.isStarted()) {
+				proxy.stop();
+			}
+		} catch (Exception e) {
+			System.out.println("⚠️ Failed to stop BrowserUp proxy: " + e.getMessage());
+		}
+	}
+
 	/**
 	 * 📂 إرجاع مسار مجلد التنزيلات المستخدم في الاختبارات
 	 *
@@ -0,0 +1,303 @@
+package com.falak.qa.config;
+
+import com.falak.qa.enums.BrowserProfile;
+import com.falak.qa.enums.NetworkProfile;
+import com.falak.qa.net.CdpHub;
+import com.falak.qa.utils.SuiteMetrics;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+//	✅ DriverPool: مجمّع جلسات متصفح قابلة لإعادة الاستخدام حسب نوع المتصفح
+// Pool of reusable browser sessions keyed by browser type
+public final class DriverPool {
+
+	// 🧊 الجلسات الخاملة الجاهزة لكل نوع متصفح (LIFO: الأحدث استخدامًا أولًا)
+	// Idle, reset sessions per browser key (LIFO so the warmest one is reused first)
+	private static final Map<String, Deque<DriverFactory>> IDLE = new ConcurrentHashMap<>();
+
+	// 🔢 عدد مرات استخدام كل جلسة (للإخلاء بعد تجاوز الحد)
+	// Use count per pooled session
+	private static final Map<DriverFactory, AtomicInteger> USES = new ConcurrentHashMap<>();
+
+	// ⏱️ مهلة السكربت الأصلية لكل جلسة (DomWaitEngine يرفعها أثناء الاختبار)
+	// Original script timeout per session; DomWaitEngine raises it during a test
+	private static final Map<DriverFactory, Duration> SCRIPT_TIMEOUTS = new ConcurrentHashMap<>();
+
+	// 📊 المقاييس
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder RESETS = new LongAdder();
+	private static final LongAdder RESET_NANOS = new LongAdder();
+	private static final LongAdder EVICTIONS = new LongAdder();
+
+	static {
+		SuiteMetrics.register("🏊 Driver pool", DriverPool::summary);
+	}
+
+	private DriverPool() {
+	}
+
+	/**
+	 * 🏊 الحصول على جلسة متصفح جاهزة من المجمّع أو إنشاء جلسة جديدة
+	 *
+	 * 🔹 يتم سحب جلسة خاملة لنفس نوع المتصفح (hit) بعد التحقق من سلامتها، وإلا
+	 * تُؤخذ جلسة مُجهّزة مسبقًا من DriverPrewarmer أو تُنشأ جلسة جديدة (miss).
+	 * إذا كان المجمّع معطّلًا (driver.pool.enabled=false) لا تُعاد أي جلسة
+	 * للاستخدام.
+	 *
+	 * 🏊 Hands out a healthy idle session for the configured browser and profile
+	 * (hit) or takes a pre-warmed one / creates a new one (miss). When the pool is disabled
+	 * no session is ever reused.
+	 *
+	 * @param profile ملف التشغيل المطلوب (جزء من مفتاح المجمّع) | Requested launch
+	 *                profile (part of the pool key)
+	 * @return DriverFactory يملك متصفحًا جاهزًا | Factory owning a ready browser
+	 * @throws RuntimeException إذا فشل إنشاء المتصفح | If browser creation fails
+	 *
+	 *                          📌 الهدف: إزالة تكلفة تشغيل المتصفح من كل اختبار.
+	 */
+	@Step("🏊 Acquire {profile} browser session from pool")
+	public static DriverFactory acquire(BrowserProfile profile) {
+		if (isEnabled()) {
+			Deque<DriverFactory> idle = IDLE.computeIfAbsent(DriverFactory.poolKey(configuredBrowser(), profile),
+					k -> new ConcurrentLinkedDeque<>());
+			DriverFactory pooled;
+			while ((pooled = idle.pollFirst()) != null) {
+				if (isHealthy(pooled)) {
+					HITS.increment();
+					USES.computeIfAbsent(pooled, f -> new AtomicInteger()).incrementAndGet();
+					Allure.step("♻️ Reusing pooled " + pooled.getBrowserName() + " session");
+					return pooled;
+				}
+				evict(pooled, "unhealthy while idle");
+			}
+		}
+
+		// 🔥 لا توجد جلسة خاملة: استخدام متصفح مُجهّز مسبقًا في الخلفية إن وُجد
+		MISSES.increment();
+		DriverFactory created = DriverPrewarmer.take(profile).orElseGet(() -> DriverPrewarmer.createForeground(profile));
+		USES.put(created, new AtomicInteger(1));
+		try {
+			SCRIPT_TIMEOUTS.put(created, created.getDriver().manage().timeouts().getScriptTimeout());
+		} catch (Exception e) {
+			System.out.println("⚠️ Could not read script timeout: " + e.getMessage());
+		}
+		Allure.step("🆕 New " + created.getBrowserName() + " session created");
+		return created;
+	}
+
+	/**
+	 * 🔁 إعادة الجلسة إلى المجمّع بعد تصفيرها، أو إخلاؤها
+	 *
+	 * 🔹 يتم إخلاء الجلسة (إغلاقها) إذا تجاوزت الحد الأقصى لإعادة الاستخدام
+	 * (driver.pool.max.reuse) أو فشل التصفير أو كانت غير سليمة. خلاف ذلك تُصفّر
+	 * (الكوكيز، التخزين، التبويبات الإضافية، about:blank) وتعود خاملة.
+	 *
+	 * 🔁 Returns the session to the pool after a reset, or evicts it when it is past
+	 * the reuse limit, the reset fails or it is unhealthy.
+	 *
+	 * @param factory المصنع المالك للجلسة | Factory owning the session
+	 */
+	@Step("🔁 Release browser session to pool")
+	public static void release(DriverFactory factory) {
+		if (factory == null)
+			return;
+
+		if (!isEnabled()) {
+			evict(factory, "pool disabled");
+			return;
+		}
+
+		int uses = USES.getOrDefault(factory, new AtomicInteger()).get();
+		if (uses >= maxReuse()) {
+			evict(factory, "reuse limit reached (" + uses + ")");
+			return;
+		}
+
+		long t0 = System.nanoTime();
+		boolean reset = reset(factory);
+		RESET_NANOS.add(System.nanoTime() - t0);
+		RESETS.increment();
+
+		if (!reset || !isHealthy(factory)) {
+			evict(factory, "reset failed");
+			return;
+		}
+
+		IDLE.computeIfAbsent(factory.getPoolKey(), k -> new ConcurrentLinkedDeque<>()).offerFirst(factory);
+	}
+
+	/**
+	 * 🗑️ إخلاء الجلسة بدل إعادتها إلى المجمّع (مثل جلسة اختبار فاشل)
+	 *
+	 * 🗑️ Evicts a session instead of returning it to the pool, e.g. after a
+	 * failed test whose browser state cannot be trusted.
+	 *
+	 * @param factory المصنع المالك للجلسة | Factory owning the session
+	 * @param reason  سبب الإخلاء | Eviction reason
+	 */
+	public static void discard(DriverFactory factory, String reason) {
+		if (factory != null)
+			evict(factory, reason);
+	}
+
+	/**
+	 * 🛑 إغلاق جميع الجلسات الخاملة والمُجهّزة مسبقًا (يُستدعى في نهاية الـ Suite)
+	 *
+	 * 🛑 Quits every idle and pre-warmed session; called at suite end.
+	 */
+	public static void shutdown() {
+		DriverPrewarmer.shutdown();
+		IDLE.values().forEach(idle -> {
+			DriverFactory f;
+			while ((f = idle.pollFirst()) != null) {
+				USES.remove(f);
+				SCRIPT_TIMEOUTS.remove(f);
+				f.quit();
+			}
+		});
+	}
+
+	/**
+	 * 🧽 تصفير الجلسة: إغلاق التبويبات الإضافية، مسح التخزين والكوكيز ومجلد
+	 * التنزيلات، استعادة المهلات، ثم about:blank
+	 *
+	 * 🧽 Resets a session: closes extra tabs, clears storage, cookies and the
+	 * downloads folder, restores the implicit wait and script timeout, then
+	 * navigates to about:blank.
+	 *
+	 * @param factory المصنع المالك للجلسة | Factory owning the session
+	 * @return true إذا نجح التصفير | true if the reset succeeded
+	 */
+	private static boolean reset(DriverFactory factory) {
+		WebDriver driver = factory.getDriver();
+		try {
+			// 🗂️ إبقاء أول تبويب فقط
+			List<String> handles = new ArrayList<>(driver.getWindowHandles());
+			String keep = handles.get(0);
+			for (String handle : handles.subList(1, handles.size())) {
+				driver.switchTo().window(handle).close();
+			}
+			driver.switchTo().window(keep);
+
+			// 💾 مسح التخزين المحلي للأصل الحالي قبل مغادرته
+			try {
+				((JavascriptExecutor) driver)
+						.executeScript("try{window.localStorage.clear();window.sessionStorage.clear();}catch(e){}");
+			} catch (Exception ignore) {
+			}
+
+			// 🍪 مسح الكوكيز (كل النطاقات عبر CDP عند توفره)
+			driver.manage().deleteAllCookies();
+			if (driver instanceof HasCdp) {
+				((HasCdp) driver).executeCdpCommand("Network.clearBrowserCookies", Map.of());
+			}
+
+			// 📂 تفريغ مجلد التنزيلات حتى لا يقبل الاختبار التالي ملف تصدير سابق
+			clearDownloads(factory.getDownloadsDir());
+
+			// 🔌 إزالة مشتركي CDP الذين لم يُغلقهم أصحابهم (شبكة أمان)
+			CdpHub.find(driver).ifPresent(hub -> {
+				int leaked = hub.dropSubscribers();
+				if (leaked > 0)
+					System.out.println("🔌 Dropped " + leaked + " CDP subscriber(s) left open by the previous test");
+			});
+
+			// 📶 إلغاء ظروف الشبكة المُحاكاة حتى لا يبدأ الاختبار التالي على شبكة بطيئة
+			factory.applyNetworkProfile(NetworkProfile.NONE);
+
+			driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(10));
+			// ⏱️ استعادة مهلة السكربت الأصلية حتى لا يرث الاختبار التالي مهلة DomWaitEngine
+			Duration scriptTimeout = SCRIPT_TIMEOUTS.get(factory);
+			if (scriptTimeout != null)
+				driver.manage().timeouts().scriptTimeout(scriptTimeout);
+			driver.get("about:blank");
+			return true;
+		} catch (Exception e) {
+			System.out.println("⚠️ Pooled session reset failed: " + e.getMessage());
+			return false;
+		}
+	}
+
+	// 🧹 حذف محتويات المجلد مع إبقائه (مسار التنزيل مثبّت في تفضيلات المتصفح)
+	// Deletes the folder's contents but keeps the folder, which the browser prefs point at
+	private static void clearDownloads(Path dir) throws IOException {
+		if (dir == null || !Files.isDirectory(dir))
+			return;
+		try (Stream<Path> files = Files.walk(dir)) {
+			List<Path> contents = files.filter(p -> !p.equals(dir)).sorted(Comparator.reverseOrder()).toList();
+			for (Path p : contents)
+				Files.deleteIfExists(p);
+		}
+	}
+
+	private static boolean isHealthy(DriverFactory factory) {
+		try {
+			WebDriver driver = factory.getDriver();
+			if (driver == null)
+				return false;
+			if (driver instanceof RemoteWebDriver && ((RemoteWebDriver) driver).getSessionId() == null)
+				return false;
+			return !driver.getWindowHandles().isEmpty()
+					&& ((JavascriptExecutor) driver).executeScript("return 1") != null;
+		} catch (Exception e) {
+			return false;
+		}
+	}
+
+	private static void evict(DriverFactory factory, String reason) {
+		EVICTIONS.increment();
+		USES.remove(factory);
+		SCRIPT_TIMEOUTS.remove(factory);
+		System.out.println("🗑️ Evicting " + factory.getBrowserName() + " session: " + reason);
+		factory.quit();
+	}
+
+	private static boolean isEnabled() {
+		return Boolean.parseBoolean(ConfigReader.initProperties().getProperty("driver.pool.enabled", "true").trim());
+	}
+
+	private static int maxReuse() {
+		try {
+			return Integer.parseInt(ConfigReader.initProperties().getProperty("driver.pool.max.reuse", "20").trim());
+		} catch (NumberFormatException e) {
+			return 20;
+		}
+	}
+
+	private static String configuredBrowser() {
+		return ConfigReader.initProperties().getProperty("browser").trim().toLowerCase();
+	}
+
+	private static String summary() {
+		long hits = HITS.sum();
+		long misses = MISSES.sum();
+		long resets = RESETS.sum();
+		double hitRate = (hits + misses) == 0 ? 0 : 100.0 * hits / (hits + misses);
+		double avgResetMs = resets == 0 ? 0 : RESET_NANOS.sum() / 1_000_000.0 / resets;
+		return String.format("hits=%d misses=%d hitRate=%.1f%% resets=%d avgReset=%.0fms evictions=%d", hits, misses,
+				hitRate, resets, avgResetMs, EVICTIONS.sum());
+	}
+
+}
@@ -0,0 +1,243 @@
+package com.falak.qa.config;
+
+import com.falak.qa.enums.BrowserProfile;
+import com.falak.qa.net.CdpHub;
+import com.falak.qa.utils.SuiteMetrics;
+
+import io.qameta.allure.Allure;
+
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.Deque;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ DriverPrewarmer: تجهيز متصفحات الاختبارات القادمة في الخلفية أثناء تشغيل الاختبار الحالي
+// Creates the next tests' browsers on background threads while the current test runs
+public final class DriverPrewarmer {
+
+	// 📦 المتصفحات الجاهزة أو قيد التجهيز (بترتيب الإطلاق)
+	// Ready or in-flight browsers, in launch order
+	private static final Deque<CompletableFuture<DriverFactory>> READY = new ConcurrentLinkedDeque<>();
+
+	// 🔢 عدد المتصفحات الجاهزة + قيد التجهيز (لا يتجاوز عمق الاستباق)
+	// Ready + in-flight count, bounded by the look-ahead depth
+	private static final AtomicInteger QUEUED = new AtomicInteger();
+
+	// 🧊 عدد المتصفحات التي تُنشأ الآن في المسار الرئيسي (لا تعبئة خلفية أثناءها)
+	// Foreground cold starts in progress; background refill waits for them
+	private static final AtomicInteger FOREGROUND = new AtomicInteger();
+
+	// ⏱️ أقصى انتظار لإكمال المتصفحات قيد التجهيز عند الإيقاف | Max wait for in-flight launches at shutdown
+	private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(60);
+
+	private static final int DEPTH = readDepth();
+
+	// 🖥️ يتم التجهيز المسبق لملف التشغيل الافتراضي فقط (الكلاسات المُعلَّمة بـ @LeanBrowser تُنشأ عند الطلب)
+	// Only the configured default profile is pre-warmed
+	private static final BrowserProfile PROFILE = BrowserProfile.fromConfig();
+
+	// 🧵 خيوط خلفية (daemon) لإنشاء المتصفحات
+	private static final ExecutorService WORKERS = DEPTH <= 0 ? null
+			: Executors.newFixedThreadPool(DEPTH, r -> {
+				Thread t = new Thread(r, "driver-prewarm");
+				t.setDaemon(true);
+				return t;
+			});
+
+	// 📊 المقاييس
+	private static final LongAdder CREATIONS = new LongAdder();
+	private static final LongAdder CREATION_NANOS = new LongAdder();
+	private static final LongAdder TAKES = new LongAdder();
+	private static final LongAdder TAKE_WAIT_NANOS = new LongAdder();
+	private static final LongAdder SAVED_NANOS = new LongAdder();
+
+	static {
+		SuiteMetrics.register("🔥 Driver pre-warming", DriverPrewarmer::summary);
+	}
+
+	private DriverPrewarmer() {
+	}
+
+	/**
+	 * 🔥 أخذ متصفح تم تجهيزه مسبقًا في الخلفية (إن وُجد) ثم إعادة تعبئة الطابور
+	 *
+	 * 🔹 إذا كان المتصفح ما يزال قيد الإنشاء يتم انتظاره فقط للمدة المتبقية. إذا
+	 * فشل إنشاؤه في الخلفية يُعاد Optional.empty ليتم الإنشاء في المسار الرئيسي.
+	 * يتم قياس الوقت الموفَّر = متوسط زمن الإنشاء البارد − زمن الانتظار الفعلي.
+	 *
+	 * 🔥 Takes a browser pre-created on a background thread, waiting only for the
+	 * remaining time if it is still in flight, then tops the look-ahead queue up
+	 * again. The saved startup time (average cold start minus actual wait) is
+	 * recorded per take.
+	 *
+	 * @param profile ملف التشغيل المطلوب | Requested launch profile
+	 * @return Optional بمصنع جاهز، أو فارغ إذا كان التجهيز المسبق معطّلًا أو فشل أو
+	 *         كان الملف مختلفًا | Ready factory, or empty when pre-warming is off,
+	 *         failed, or the profile differs
+	 *
+	 *         📌 الهدف: إخراج تشغيل المتصفح من المسار الحرج لكل اختبار.
+	 */
+	public static Optional<DriverFactory> take(BrowserProfile profile) {
+		if (WORKERS == null || profile != PROFILE)
+			return Optional.empty();
+
+		// 🧊 لا يوجد متصفح مُجهّز: المستدعي ينشئ واحدًا عبر createForeground الذي يعيد التعبئة بعده
+		// Miss: the caller cold-starts through createForeground, which refills once it is done
+		CompletableFuture<DriverFactory> next = READY.pollFirst();
+		if (next == null)
+			return Optional.empty();
+		QUEUED.decrementAndGet();
+		refill();
+
+		long t0 = System.nanoTime();
+		try {
+			DriverFactory factory = next.join();
+			long waited = System.nanoTime() - t0;
+			TAKES.increment();
+			TAKE_WAIT_NANOS.add(waited);
+			SAVED_NANOS.add(Math.max(0, averageCreationNanos() - waited));
+			Allure.step("🔥 Using pre-warmed " + factory.getBrowserName() + " session (waited " + waited / 1_000_000
+					+ " ms)");
+			return Optional.of(factory);
+		} catch (Exception e) {
+			System.out.println("⚠️ Pre-warmed session failed, creating in foreground: " + e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 🚀 إنشاء متصفح جديد مع قياس زمن الإنشاء (يُستخدم في الخلفية وفي المسار
+	 * الرئيسي)
+	 *
+	 * 🚀 Creates a browser and records its cold-start time; used both by the
+	 * background workers and by the foreground fallback.
+	 *
+	 * @param profile ملف التشغيل | Launch profile
+	 * @return DriverFactory يملك متصفحًا جاهزًا | Factory owning a ready browser
+	 */
+	private static DriverFactory createTimed(BrowserProfile profile) {
+		long t0 = System.nanoTime();
+		DriverFactory factory = new DriverFactory();
+		factory.initDriver(profile);
+		CREATION_NANOS.add(System.nanoTime() - t0);
+		CREATIONS.increment();
+		return factory;
+	}
+
+	/**
+	 * 🧊 إنشاء متصفح في المسار الرئيسي عند عدم توفر متصفح مُجهّز
+	 *
+	 * 🔹 لا تبدأ التعبئة الخلفية أثناء الإنشاء (حتى لا يُدفع ثمن تشغيلين معًا عند
+	 * أول miss)، وتبدأ بعد انتهائه.
+	 *
+	 * 🧊 Cold-starts a browser on the caller's thread after a miss. Background
+	 * refill is held off while it runs, so the first miss does not pay for two
+	 * concurrent launches, and resumes once it is done.
+	 *
+	 * @param profile ملف التشغيل | Launch profile
+	 * @return DriverFactory يملك متصفحًا جاهزًا | Factory owning a ready browser
+	 */
+	public static DriverFactory createForeground(BrowserProfile profile) {
+		FOREGROUND.incrementAndGet();
+		try {
+			return createTimed(profile);
+		} finally {
+			FOREGROUND.decrementAndGet();
+			if (WORKERS != null && profile == PROFILE)
+				refill();
+		}
+	}
+
+	/**
+	 * 🛑 إيقاف الخيوط الخلفية وإغلاق المتصفحات غير المستخدمة
+	 *
+	 * 🔹 تُنتظر المتصفحات قيد التجهيز (حتى SHUTDOWN_TIMEOUT) ثم تُغلق كلها بشكل
+	 * متزامن، حتى لا يبقى chromedriver أو متصفح يعمل بعد خروج الـ JVM.
+	 *
+	 * 🛑 Stops the workers, waits (up to SHUTDOWN_TIMEOUT) for in-flight launches
+	 * and quits every unused pre-warmed browser synchronously, so no chromedriver
+	 * or browser outlives the JVM.
+	 */
+	public static void shutdown() {
+		if (WORKERS == null)
+			return;
+		WORKERS.shutdown();
+		try {
+			if (!WORKERS.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS))
+				System.out.println("⚠️ Pre-warm launches still running after " + SHUTDOWN_TIMEOUT.toSeconds() + "s");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+
+		CompletableFuture<DriverFactory> f;
+		while ((f = READY.pollFirst()) != null) {
+			QUEUED.decrementAndGet();
+			if (!f.isDone()) {
+				// 🔸 ما زال قيد التشغيل بعد المهلة: يُغلق فور اكتماله | Still launching: quit once it completes
+				f.thenAccept(DriverFactory::quit);
+				continue;
+			}
+			try {
+				f.join().quit();
+			} catch (Exception e) {
+				System.out.println("⚠️ Pre-warmed session failed, nothing to quit: " + e.getMessage());
+			}
+		}
+		WORKERS.shutdownNow();
+	}
+
+	private static void refill() {
+		while (!WORKERS.isShutdown() && FOREGROUND.get() == 0) {
+			int queued = QUEUED.get();
+			if (queued >= DEPTH)
+				return;
+			if (QUEUED.compareAndSet(queued, queued + 1)) {
+				READY.offerLast(CompletableFuture.supplyAsync(DriverPrewarmer::createWarm, WORKERS));
+			}
+		}
+	}
+
+	private static DriverFactory createWarm() {
+		DriverFactory factory = createTimed(PROFILE);
+		// 🧩 فتح جلسة CDP (محور المتصفح) مسبقًا (Chrome/Edge) حتى لا يتحمل setUp كلفتها
+		WebDriver driver = factory.getDriver();
+		try {
+			CdpHub.of(driver);
+		} catch (Exception e) {
+			System.out.println("⚠️ Pre-warm CDP session failed: " + e.getMessage());
+		}
+		return factory;
+	}
+
+	private static long averageCreationNanos() {
+		long n = CREATIONS.sum();
+		return n == 0 ? 0 : CREATION_NANOS.sum() / n;
+	}
+
+	private static int readDepth() {
+		try {
+			return Integer.parseInt(ConfigReader.initProperties().getProperty("driver.prewarm.depth", "1").trim());
+		} catch (NumberFormatException e) {
+			return 1;
+		}
+	}
+
+	private static String summary() {
+		long takes = TAKES.sum();
+		double avgWaitMs = takes == 0 ? 0 : TAKE_WAIT_NANOS.sum() / 1_000_000.0 / takes;
+		double savedMs = SAVED_NANOS.sum() / 1_000_000.0;
+		return String.format(
+				"depth=%d coldStarts=%d avgColdStart=%.0fms prewarmedTakes=%d avgWait=%.0fms saved=%.0fms (%.0fms/test)",
+				DEPTH, CREATIONS.sum(), averageCreationNanos() / 1_000_000.0, takes, avgWaitMs, savedMs,
+				takes == 0 ? 0 : savedMs / takes);
+	}
+
+}
@@ -7,6 +7,8 @@ import io.qameta.allure.Step;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 //	✅ EnvironmentConfigLoader كلاس مخصص لتحميل إعدادات الروابط الخاصة بالبيئة من
 //  ملف JSON This class loads URLs and settings from the config-environment.json file
@@ -14,8 +16,12 @@ import java.io.IOException;
 public class EnvironmentConfigLoader {
 
 	//	🧠 يحتوي على بيانات البيئة النشطة (dev، staging، prod)
-	// Holds the currently loaded environment block
-	private static JsonNode environmentData;
+	// Holds the currently loaded environment block (published safely to every test thread)
+	private static volatile JsonNode environmentData;
+
+	// 🧵 ذاكرة مؤقتة للبيئات المحمّلة حتى لا يُعاد قراءة ملف JSON من كل خيط
+	// Cache of parsed environment blocks so parallel setUp calls don't re-read the file
+	private static final Map<String, JsonNode> LOADED = new ConcurrentHashMap<>();
 
 	// ========== تحميل إعدادات البيئة ==========
 
@@ -39,18 +45,28 @@ public class EnvironmentConfigLoader {
      */
     @Step("🔧 Load environment configuration from JSON for environment: {environment}")
     public static void loadConfig(String environment) {
+        JsonNode cached = LOADED.get(environment);
+        if (cached != null) {
+            environmentData = cached;
+            return;
+        }
+
         ObjectMapper mapper = new ObjectMapper();
 
         try {
             File file = new File("src/test/resources/config-environment.json");
             JsonNode rootNode = mapper.readTree(file);
 
-            environmentData = rootNode.get(environment);
+            JsonNode loaded = rootNode.get(environment);
 
-            if (environmentData == null) {
+            if (loaded == null) {
                 throw new RuntimeException("🚫 البيئة غير موجودة: " + environment);
             }
 
+            // 🧵 نشر كتلة البيئة كاملة التحميل فقط (لا يرى أي خيط حالة نصف محمّلة)
+            LOADED.putIfAbsent(environment, loaded);
+            environmentData = LOADED.get(environment);
+
             Allure.step("🔧 Loaded configuration for environment: " + environment);
 
         } catch (IOException e) {
@@ -0,0 +1,24 @@
+package com.falak.qa.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 🪶 تفعيل ملف المتصفح الخفيف (LEAN) لكلاس اختبار: بدون واجهة، مقاس نافذة
+ * ثابت، بدون إضافات أو شبكة خلفية أو GPU، مع حجب روابط التحليلات والخطوط
+ * والفيديو غير المطلوبة. Opts a test class into the LEAN browser profile.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+@Inherited
+public @interface LeanBrowser {
+
+	/**
+	 * 🚫 أنماط روابط إضافية تُحجب لهذا الكلاس (بصيغة CDP: * تطابق أي نص). Extra URL
+	 * patterns blocked for this class (CDP syntax, * is a wildcard).
+	 */
+	String[] block() default {};
+}
@@ -0,0 +1,25 @@
+package com.falak.qa.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.falak.qa.enums.NetworkProfile;
+
+/**
+ * 📶 تشغيل كلاس (أو حالة) اختبار على ظروف شبكة مُحاكاة مثل 3G أو قمر صناعي أو
+ * واي فاي مع فقدان حزم. Runs a test class or method under an emulated network
+ * profile; takes precedence over the TestNG networkProfile parameter.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Inherited
+public @interface NetworkConditions {
+
+	/**
+	 * 📶 ملف الشبكة. The network profile to apply.
+	 */
+	NetworkProfile value();
+}
@@ -2,7 +2,6 @@ package com.falak.qa.config;
 
 import io.qameta.allure.Allure;
 import org.openqa.selenium.TimeoutException;
-import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.ElementClickInterceptedException;
 import org.openqa.selenium.ElementNotInteractableException;
@@ -10,7 +9,6 @@ import org.openqa.selenium.StaleElementReferenceException;
 import org.testng.IRetryAnalyzer;
 import org.testng.ITestResult;
 
-import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.concurrent.TimeUnit;
@@ -108,19 +106,10 @@ public class RetryAnalyzer implements IRetryAnalyzer {
 				Thread.currentThread().interrupt();
 			}
 
-			// ✅ إغلاق الجلسة القديمة لتفادي مشاكل في إعادة التشغيل
-			try {
-				Object testInstance = result.getInstance();
-				Field driverField = testInstance.getClass().getDeclaredField("driver");
-				driverField.setAccessible(true);
-				WebDriver driver = (WebDriver) driverField.get(testInstance);
-				if (driver != null) {
-					driver.quit();
-					Allure.step("🛑 تم إغلاق المتصفح بعد فشل المحاولة السابقة");
-				}
-			} catch (Exception e) {
-				Allure.step("⚠️ لم يتمكن من إغلاق المتصفح قبل إعادة المحاولة: " + e.getMessage());
-			}
+			// ✅ لا يُغلق المتصفح هنا: TestNG يستدعي retry قبل @AfterMethod، و BaseTest.tearDown
+			// يحرّر موارد السياق كاملة ثم يُخلي الجلسة الفاشلة بدل إعادتها إلى DriverPool
+			// The session is not closed here: retry runs before @AfterMethod, and BaseTest.tearDown
+			// releases the whole context and evicts the failed session instead of pooling it
 
 			return true;
 		}
@@ -0,0 +1,76 @@
+package com.falak.qa.config;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 🧪 استبدال ردّ نقطة API باستجابة مُعدّة أو خطأ أو تأخير، لاختبارات الواجهة
+ * فقط وحقن أخطاء 500. Stubs, delays or fails a backend endpoint for UI-only
+ * tests and error injection; rules on the method are matched before class
+ * rules.
+ *
+ * <pre>
+ * &#64;StubEndpoint(url = "/api/tools/ngram/*", fixture = "fixtures/ngram-empty.json")
+ * &#64;StubEndpoint(url = "/api/tools/concordancer/*", status = 500)
+ * </pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Inherited
+@Repeatable(StubEndpoint.List.class)
+public @interface StubEndpoint {
+
+	/**
+	 * 🔗 نمط الرابط (* تطابق أي نص، ويُطابق في أي موضع من الرابط). URL glob,
+	 * matched anywhere in the request URL.
+	 */
+	String url();
+
+	/**
+	 * 🔤 طريقة HTTP (فارغة = أي طريقة). HTTP method; empty matches any.
+	 */
+	String method() default "";
+
+	/**
+	 * 🔢 رمز الحالة للاستجابة المُعدّة. Status code of the canned response.
+	 */
+	int status() default 200;
+
+	/**
+	 * 📄 ملف JSON من classpath كمحتوى للاستجابة. Classpath resource used as the
+	 * response body.
+	 */
+	String fixture() default "";
+
+	/**
+	 * 📝 محتوى الاستجابة مباشرة (عند غياب fixture). Inline response body, used
+	 * when no fixture is given.
+	 */
+	String body() default "";
+
+	/**
+	 * ⏳ تأخير قبل الرد؛ بدون محتوى أو حالة يُمرَّر الطلب الحقيقي بعد التأخير.
+	 * Delay before answering; with no body, fixture or status the real request
+	 * is passed through after the delay.
+	 */
+	long delayMs() default 0;
+
+	/**
+	 * ❌ إفشال الطلب بخطأ شبكة بدل الرد. Fails the request with a network error.
+	 */
+	boolean fail() default false;
+
+	/**
+	 * 📚 حاوية التكرار. Repeatable container.
+	 */
+	@Retention(RetentionPolicy.RUNTIME)
+	@Target({ ElementType.TYPE, ElementType.METHOD })
+	@Inherited
+	@interface List {
+		StubEndpoint[] value();
+	}
+}
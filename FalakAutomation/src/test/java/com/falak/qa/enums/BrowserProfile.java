@@ -0,0 +1,66 @@
+package com.falak.qa.enums;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.config.LeanBrowser;
+
+/**
+ * 🖥️ ملفات تشغيل المتصفح (Profiles) | Browser launch profiles
+ */
+public enum BrowserProfile {
+	HEADED("متصفح كامل بواجهة"), HEADLESS("متصفح بدون واجهة"), LEAN("متصفح خفيف بدون واجهة");
+
+	private final String arabicName; // الاسم العربي الظاهر في التقارير
+
+	BrowserProfile(String arabicName) {
+		this.arabicName = arabicName;
+	}
+
+	/**
+	 * 📝 يُرجع الاسم العربي للملف
+	 *
+	 * 📝 Returns the Arabic display name of the profile.
+	 *
+	 * @return الاسم العربي | Arabic display name
+	 */
+	public String getArabicName() {
+		return arabicName;
+	}
+
+	/**
+	 * 👻 هل يعمل هذا الملف بدون واجهة؟
+	 *
+	 * 👻 Whether this profile launches the browser headless.
+	 *
+	 * @return true لـ HEADLESS و LEAN | true for HEADLESS and LEAN
+	 */
+	public boolean isHeadless() {
+		return this != HEADED;
+	}
+
+	/**
+	 * ⚙️ الملف الافتراضي حسب قيمة execution.mode في config.properties
+	 *
+	 * ⚙️ Default profile derived from `execution.mode` (headless → HEADLESS,
+	 * anything else → HEADED).
+	 *
+	 * @return الملف الافتراضي للتشغيل | Default run profile
+	 */
+	public static BrowserProfile fromConfig() {
+		String mode = ConfigReader.initProperties().getProperty("execution.mode", "headed").trim();
+		return "headless".equalsIgnoreCase(mode) ? HEADLESS : HEADED;
+	}
+
+	/**
+	 * 🧪 الملف المناسب لكلاس اختبار: LEAN إذا كان الكلاس مُعلَّمًا بـ @LeanBrowser،
+	 * وإلا الملف الافتراضي من الإعدادات.
+	 *
+	 * 🧪 Profile for a test class: LEAN when annotated with {@link LeanBrowser},
+	 * otherwise the configured default.
+	 *
+	 * @param testClass كلاس الاختبار | Test class
+	 * @return الملف المناسب | Matching profile
+	 */
+	public static BrowserProfile forTestClass(Class<?> testClass) {
+		return testClass != null && testClass.isAnnotationPresent(LeanBrowser.class) ? LEAN : fromConfig();
+	}
+}
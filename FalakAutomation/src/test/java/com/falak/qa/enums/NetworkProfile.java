@@ -0,0 +1,117 @@
+package com.falak.qa.enums;
+
+import java.lang.reflect.Method;
+import java.util.Locale;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.config.NetworkConditions;
+
+/**
+ * 📶 ملفات ظروف الشبكة المُحاكاة | Emulated network condition profiles
+ *
+ * 🔹 Chrome/Edge: CDP Network.emulateNetworkConditions. 🔹 Firefox: حدود زمن
+ * الاستجابة وعرض النطاق في BrowserUp proxy (فقدان الحزم غير مدعوم هناك).
+ */
+public enum NetworkProfile {
+	NONE("none", "بدون تقييد", 0, -1, -1, 0),
+	THREE_G("3g", "شبكة 3G", 563, 1_440, 675, 0),
+	HIGH_LATENCY_SATELLITE("high-latency-satellite", "قمر صناعي بزمن استجابة عالٍ", 650, 10_000, 1_000, 0),
+	LOSSY_WIFI("lossy-wifi", "واي فاي مع فقدان حزم", 40, 20_000, 5_000, 5);
+
+	private final String id; // الاسم المستخدم في الإعدادات ومعاملات TestNG
+	private final String arabicName; // الاسم العربي الظاهر في التقارير
+	private final long latencyMs; // زمن إضافي لكل طلب (ذهاب وإياب)
+	private final long downloadKbps; // -1 = بدون حد
+	private final long uploadKbps; // -1 = بدون حد
+	private final double packetLossPercent;
+
+	NetworkProfile(String id, String arabicName, long latencyMs, long downloadKbps, long uploadKbps,
+			double packetLossPercent) {
+		this.id = id;
+		this.arabicName = arabicName;
+		this.latencyMs = latencyMs;
+		this.downloadKbps = downloadKbps;
+		this.uploadKbps = uploadKbps;
+		this.packetLossPercent = packetLossPercent;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getArabicName() {
+		return arabicName;
+	}
+
+	public long getLatencyMs() {
+		return latencyMs;
+	}
+
+	public long getDownloadKbps() {
+		return downloadKbps;
+	}
+
+	public long getUploadKbps() {
+		return uploadKbps;
+	}
+
+	public double getPacketLossPercent() {
+		return packetLossPercent;
+	}
+
+	/**
+	 * 🔎 إيجاد الملف بالمعرّف (3g) أو باسم الثابت (THREE_G) بدون حساسية للأحرف
+	 *
+	 * 🔎 Resolves a profile by id (e.g. 3g) or constant name (e.g. THREE_G),
+	 * case-insensitively.
+	 *
+	 * @param name الاسم | Name
+	 * @return الملف | Profile
+	 * @throws IllegalArgumentException إذا كان الاسم غير معروف | If unknown
+	 */
+	public static NetworkProfile fromName(String name) {
+		String n = name.trim();
+		for (NetworkProfile p : values()) {
+			if (p.id.equalsIgnoreCase(n) || p.name().equalsIgnoreCase(n.replace('-', '_')))
+				return p;
+		}
+		throw new IllegalArgumentException("❌ Unknown network profile: " + name + " (expected one of none, 3g, "
+				+ "high-latency-satellite, lossy-wifi)");
+	}
+
+	/**
+	 * 🧪 الملف المناسب لحالة اختبار
+	 *
+	 * 🔹 الأولوية: @NetworkConditions على الميثود ← على الكلاس ← معامل TestNG
+	 * networkProfile ← network.profile في config.properties ← NONE.
+	 *
+	 * 🧪 Profile for a test: {@link NetworkConditions} on the method, then on the
+	 * class, then the TestNG parameter {@code networkProfile}, then
+	 * {@code network.profile} from config.properties, otherwise NONE.
+	 *
+	 * @param testClass      كلاس الاختبار | Test class
+	 * @param method         ميثود الاختبار (قد تكون null) | Test method, nullable
+	 * @param testNgParameter قيمة معامل TestNG (قد تكون null) | TestNG parameter
+	 *                       value, nullable
+	 * @return الملف المناسب | Matching profile
+	 */
+	public static NetworkProfile forTest(Class<?> testClass, Method method, String testNgParameter) {
+		if (method != null && method.isAnnotationPresent(NetworkConditions.class))
+			return method.getAnnotation(NetworkConditions.class).value();
+		if (testClass != null && testClass.isAnnotationPresent(NetworkConditions.class))
+			return testClass.getAnnotation(NetworkConditions.class).value();
+		if (testNgParameter != null && !testNgParameter.isBlank())
+			return fromName(testNgParameter);
+		String configured = ConfigReader.initProperties().getProperty("network.profile", "none");
+		return configured.isBlank() ? NONE : fromName(configured);
+	}
+
+	@Override
+	public String toString() {
+		if (this == NONE)
+			return id;
+		return String.format(Locale.ROOT, "%s (latency %dms, down %s, up %s, loss %.0f%%)", id, latencyMs,
+				downloadKbps < 0 ? "∞" : downloadKbps + "kbps", uploadKbps < 0 ? "∞" : uploadKbps + "kbps",
+				packetLossPercent);
+	}
+}
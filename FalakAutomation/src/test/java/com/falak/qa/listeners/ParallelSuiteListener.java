@@ -0,0 +1,64 @@
+package com.falak.qa.listeners;
+
+import com.falak.qa.config.ConfigReader;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * 🧵 يضبط وضع التوازي وعدد الخيوط للـ Suite من ملف config.properties. Applies the
+ * parallel mode and thread count from config.properties to every suite.
+ */
+public class ParallelSuiteListener implements IAlterSuiteListener {
+
+	/**
+	 * 🧵 يعدّل إعدادات التوازي في الـ Suite قبل بدء التشغيل
+	 *
+	 * 🔹 يقرأ المفتاحين `parallel.mode` (methods / none) و `parallel.threads` من
+	 * config.properties. إذا كانت قيمة `parallel.threads` صفرًا أو غير صالحة يتم
+	 * استخدام عدد أنوية المعالج المتاحة على جهاز الـ CI.
+	 *
+	 * 🧵 Alters the suites before execution: reads `parallel.mode` (methods / none)
+	 * and `parallel.threads` from config.properties. A zero or invalid thread count
+	 * falls back to the number of available processors on the CI agent.
+	 *
+	 * @param suites قائمة الـ Suites المعرّفة في testng.xml | Suites declared in
+	 *               testng.xml
+	 *
+	 *               📌 الهدف: جعل زمن التشغيل يتناسب مع عدد الأنوية دون تعديل
+	 *               testng.xml.
+	 */
+	@Override
+	public void alter(List<XmlSuite> suites) {
+		Properties prop = ConfigReader.initProperties();
+		String mode = prop.getProperty("parallel.mode", "methods").trim().toLowerCase();
+		int threads = resolveThreadCount(prop.getProperty("parallel.threads", "0"));
+
+		for (XmlSuite suite : suites) {
+			if ("none".equals(mode)) {
+				suite.setParallel(XmlSuite.ParallelMode.NONE);
+				suite.setThreadCount(1);
+			} else {
+				suite.setParallel(XmlSuite.ParallelMode.METHODS);
+				suite.setThreadCount(threads);
+			}
+			System.out.println("🧵 Suite [" + suite.getName() + "] parallel=" + suite.getParallel() + " threads="
+					+ suite.getThreadCount());
+		}
+	}
+
+	private static int resolveThreadCount(String raw) {
+		try {
+			int parsed = Integer.parseInt(raw.trim());
+			if (parsed > 0) {
+				return parsed;
+			}
+		} catch (NumberFormatException ignored) {
+		}
+		return Runtime.getRuntime().availableProcessors();
+	}
+
+}
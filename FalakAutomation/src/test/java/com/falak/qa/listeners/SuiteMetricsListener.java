@@ -0,0 +1,33 @@
+package com.falak.qa.listeners;
+
+import com.falak.qa.config.DriverPool;
+import com.falak.qa.utils.SuiteMetrics;
+
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * 📊 يغلق الموارد المشتركة ويطبع تقرير الأداء عند انتهاء الـ Suite. Shuts down
+ * shared resources and prints the performance report at suite end.
+ */
+public class SuiteMetricsListener implements ISuiteListener {
+
+	/**
+	 * 📊 يُنفّذ بعد انتهاء جميع اختبارات الـ Suite
+	 *
+	 * 🔹 يُغلق جميع جلسات المتصفح الخاملة في DriverPool ثم يطبع تقرير المقاييس
+	 * (SuiteMetrics) في الكونسول وفي target/suite-metrics.txt.
+	 *
+	 * 📊 Runs after every test of the suite: drains the idle sessions of the
+	 * DriverPool, then renders SuiteMetrics to the console and
+	 * target/suite-metrics.txt.
+	 *
+	 * @param suite الـ Suite المنتهية | The finished suite
+	 */
+	@Override
+	public void onFinish(ISuite suite) {
+		DriverPool.shutdown();
+		SuiteMetrics.render();
+	}
+
+}
@@ -0,0 +1,402 @@
+package com.falak.qa.models.ngrams;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.ObjIntConsumer;
+import java.util.function.UnaryOperator;
+
+//	✅ NGramColumnStore: مخزن عمودي مضغوط لنتائج N-Gram (نصوص في مخزن أحرف مشترك + تكرارات في int[])
+// Compact columnar container for crawled N-Gram results: words in one shared char buffer, counts in an int[]
+//
+// 📏 البصمة التقريبية لـ 1,000,000 صف (متوسط 15 حرفًا عربيًا لكل متتابعة، JVM 64-bit مع compressed oops):
+// Approximate footprint for 1,000,000 rows (avg 15 Arabic chars per gram, 64-bit JVM, compressed oops):
+//   chars   char[15M]          ≈ 30.0 MB
+//   offsets int[1M + 1]        ≈  4.0 MB
+//   counts  int[1M]            ≈  4.0 MB
+//   tokens  short[1M]          ≈  2.0 MB
+//   index   int[2^21]          ≈  8.4 MB   (open addressing, load ≤ 0.5)
+//   total                      ≈ 48 MB, 5 arrays
+// List<NGramResult> للمقارنة | For comparison, List<NGramResult>:
+//   NGramResult 24 B + String 24 B + byte[] UTF-16 (16 + 30) 48 B + list slot 4 B ≈ 100 B/row ≈ 100 MB, 3M objects
+//   (+ 4 MB and 1 object per row again for every List<String> re-mapping in assertions)
+public final class NGramColumnStore {
+
+	private final char[] chars;
+	private final int[] offsets;
+	private final int[] counts;
+	private final short[] tokens;
+	private final int[] index;
+	private final int size;
+
+	private NGramColumnStore(char[] chars, int[] offsets, int[] counts, short[] tokens, int size) {
+		this.chars = chars;
+		this.offsets = offsets;
+		this.counts = counts;
+		this.tokens = tokens;
+		this.size = size;
+		this.index = buildIndex();
+	}
+
+	/**
+	 * 🏗️ إنشاء Builder جديد | Creates a new builder
+	 *
+	 * @return Builder فارغ | Empty builder
+	 */
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * 🔁 تحويل قائمة نتائج موجودة إلى مخزن عمودي
+	 *
+	 * 🔁 Builds a store from existing results.
+	 *
+	 * @param results النتائج | Results
+	 * @return مخزن عمودي | Columnar store
+	 */
+	public static NGramColumnStore of(Iterable<NGramResult> results) {
+		Builder builder = new Builder();
+		for (NGramResult r : results)
+			builder.add(r);
+		return builder.build();
+	}
+
+	// ==================== Row access ====================
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * 📝 نص المتتابعة في الصف (يُنشئ String جديدًا) | Word of a row (allocates a
+	 * String)
+	 *
+	 * @param row رقم الصف (يبدأ من 0) | Row index (0-based)
+	 * @return النص | Word
+	 */
+	public String word(int row) {
+		return new String(chars, offsets[row], offsets[row + 1] - offsets[row]);
+	}
+
+	/**
+	 * 🔢 التكرار في الصف | Count of a row
+	 *
+	 * @param row رقم الصف (يبدأ من 0) | Row index (0-based)
+	 * @return التكرار | Count
+	 */
+	public int count(int row) {
+		return counts[row];
+	}
+
+	/**
+	 * 🔤 عدد الكلمات في المتتابعة (مثل trim().split("\\s+").length)
+	 *
+	 * 🔤 Number of whitespace-separated tokens, as trim().split("\\s+").length.
+	 *
+	 * @param row رقم الصف (يبدأ من 0) | Row index (0-based)
+	 * @return عدد الكلمات | Token count
+	 */
+	public int tokenCount(int row) {
+		return tokens[row];
+	}
+
+	/**
+	 * 🔁 المرور على كل الصفوف بالترتيب | Visits every row in order
+	 *
+	 * @param action يستقبل النص والتكرار | Receives word and count
+	 */
+	public void forEach(ObjIntConsumer<String> action) {
+		for (int i = 0; i < size; i++)
+			action.accept(word(i), counts[i]);
+	}
+
+	/**
+	 * 🔄 مخزن جديد بعد تحويل كل نص (النصوص الفارغة بعد التحويل تُهمل)
+	 *
+	 * 🔄 Returns a new store with every word transformed; words that become blank
+	 * are dropped.
+	 *
+	 * @param fn دالة التحويل | Transformation
+	 * @return مخزن جديد | New store
+	 */
+	public NGramColumnStore mapWords(UnaryOperator<String> fn) {
+		Builder builder = new Builder();
+		for (int i = 0; i < size; i++) {
+			String mapped = fn.apply(word(i));
+			if (mapped != null && !mapped.isBlank())
+				builder.add(mapped, counts[i]);
+		}
+		return builder.build();
+	}
+
+	// ==================== Membership ====================
+
+	/**
+	 * 🔎 هل النص موجود؟ (O(1) عبر فهرس تجزئة) | O(1) membership via hash index
+	 *
+	 * @param word النص | Word
+	 * @return true إذا وُجد | true if present
+	 */
+	public boolean contains(String word) {
+		return indexOf(word) >= 0;
+	}
+
+	/**
+	 * 🔎 رقم أول صف يطابق النص أو -1 | First row holding the word, or -1
+	 *
+	 * @param word النص | Word
+	 * @return رقم الصف أو -1 | Row index or -1
+	 */
+	public int indexOf(String word) {
+		if (word == null || size == 0)
+			return -1;
+		int mask = index.length - 1;
+		for (int slot = mix(word.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int row = index[slot] - 1;
+			if (row < 0)
+				return -1;
+			if (equalsAt(row, word))
+				return row;
+		}
+	}
+
+	/**
+	 * 🔗 هل كل القيم موجودة؟ (للتحقق من UI ⊆ API) | Whether every value is
+	 * present (UI ⊆ API)
+	 *
+	 * @param words القيم | Values
+	 * @return true إذا وُجدت كلها | true if all present
+	 */
+	public boolean containsAll(Collection<String> words) {
+		return firstMissing(words) == null;
+	}
+
+	/**
+	 * 🔗 أول قيمة غير موجودة أو null | First value not present, or null
+	 *
+	 * @param words القيم | Values
+	 * @return أول قيمة مفقودة | First missing value
+	 */
+	public String firstMissing(Collection<String> words) {
+		for (String w : words)
+			if (!contains(w))
+				return w;
+		return null;
+	}
+
+	// ==================== Whole-column checks ====================
+
+	/**
+	 * ✅ هل كل النصوص تبدأ بالبادئة؟ | Whether every word starts with the prefix
+	 *
+	 * @param prefix البادئة | Prefix
+	 * @return النتيجة | Result
+	 */
+	public boolean allStartWith(String prefix) {
+		return firstNotStartingWith(prefix) < 0;
+	}
+
+	/**
+	 * ❌ أول صف لا يبدأ بالبادئة أو -1 | First row not starting with prefix, or -1
+	 *
+	 * @param prefix البادئة | Prefix
+	 * @return رقم الصف أو -1 | Row index or -1
+	 */
+	public int firstNotStartingWith(String prefix) {
+		for (int i = 0; i < size; i++) {
+			int len = offsets[i + 1] - offsets[i];
+			if (len < prefix.length() || !regionEquals(offsets[i], prefix))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * ✅ هل كل النصوص تنتهي باللاحقة؟ | Whether every word ends with the suffix
+	 *
+	 * @param suffix اللاحقة | Suffix
+	 * @return النتيجة | Result
+	 */
+	public boolean allEndWith(String suffix) {
+		return firstNotEndingWith(suffix) < 0;
+	}
+
+	/**
+	 * ❌ أول صف لا ينتهي باللاحقة أو -1 | First row not ending with suffix, or -1
+	 *
+	 * @param suffix اللاحقة | Suffix
+	 * @return رقم الصف أو -1 | Row index or -1
+	 */
+	public int firstNotEndingWith(String suffix) {
+		for (int i = 0; i < size; i++) {
+			int len = offsets[i + 1] - offsets[i];
+			if (len < suffix.length() || !regionEquals(offsets[i + 1] - suffix.length(), suffix))
+				return i;
+		}
+		return -1;
+	}
+
+	/**
+	 * ✅ هل كل النصوص تحتوي على القيمة؟ | Whether every word contains the value
+	 *
+	 * @param part القيمة | Value
+	 * @return النتيجة | Result
+	 */
+	public boolean allContain(String part) {
+		for (int i = 0; i < size; i++)
+			if (!rowContains(i, part))
+				return false;
+		return true;
+	}
+
+	/**
+	 * ✅ هل لا يحتوي أي نص على القيمة؟ | Whether no word contains the value
+	 *
+	 * @param part القيمة | Value
+	 * @return النتيجة | Result
+	 */
+	public boolean noneContain(String part) {
+		for (int i = 0; i < size; i++)
+			if (rowContains(i, part))
+				return false;
+		return true;
+	}
+
+	/**
+	 * 🔤 هل كل المتتابعات بعدد الكلمات المطلوب؟ | Whether every gram has exactly n
+	 * tokens
+	 *
+	 * @param n عدد الكلمات | Token count
+	 * @return النتيجة | Result
+	 */
+	public boolean allHaveTokenCount(int n) {
+		for (int i = 0; i < size; i++)
+			if (tokens[i] != n)
+				return false;
+		return true;
+	}
+
+	/**
+	 * 🔢 هل كل التكرارات ضمن المدى [min, max]؟ | Whether every count is within
+	 * [min, max]
+	 *
+	 * @param min الحد الأدنى | Minimum
+	 * @param max الحد الأقصى | Maximum
+	 * @return النتيجة | Result
+	 */
+	public boolean allCountsBetween(int min, int max) {
+		for (int i = 0; i < size; i++)
+			if (counts[i] < min || counts[i] > max)
+				return false;
+		return true;
+	}
+
+	// ==================== Internals ====================
+
+	private boolean regionEquals(int start, String s) {
+		for (int k = 0; k < s.length(); k++)
+			if (chars[start + k] != s.charAt(k))
+				return false;
+		return true;
+	}
+
+	private boolean equalsAt(int row, String word) {
+		return offsets[row + 1] - offsets[row] == word.length() && regionEquals(offsets[row], word);
+	}
+
+	private boolean rowContains(int row, String part) {
+		int from = offsets[row];
+		int last = offsets[row + 1] - part.length();
+		for (int s = from; s <= last; s++)
+			if (regionEquals(s, part))
+				return true;
+		return false;
+	}
+
+	// 🧮 نفس String.hashCode دون إنشاء String | Same as String.hashCode, without allocating
+	private int hashAt(int row) {
+		int h = 0;
+		for (int k = offsets[row]; k < offsets[row + 1]; k++)
+			h = 31 * h + chars[k];
+		return h;
+	}
+
+	private static int mix(int h) {
+		return h ^ (h >>> 16);
+	}
+
+	private int[] buildIndex() {
+		int capacity = Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+		int[] table = new int[capacity];
+		int mask = capacity - 1;
+		for (int row = 0; row < size; row++) {
+			int slot = mix(hashAt(row)) & mask;
+			while (table[slot] != 0)
+				slot = (slot + 1) & mask;
+			table[slot] = row + 1;
+		}
+		return table;
+	}
+
+	private static short countTokens(String word) {
+		String t = word.trim();
+		int n = 1;
+		boolean inSpace = false;
+		for (int k = 0; k < t.length(); k++) {
+			char c = t.charAt(k);
+			boolean space = c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+			if (space && !inSpace)
+				n++;
+			inSpace = space;
+		}
+		return (short) Math.min(n, Short.MAX_VALUE);
+	}
+
+	/**
+	 * 🏗️ Builder تراكمي (ليس آمنًا للخيوط) | Append-only builder, not thread-safe
+	 */
+	public static final class Builder {
+		private char[] chars = new char[1 << 12];
+		private int[] offsets = new int[1 << 8];
+		private int[] counts = new int[1 << 8];
+		private short[] tokens = new short[1 << 8];
+		private int size;
+		private int length;
+
+		private Builder() {
+			offsets[0] = 0;
+		}
+
+		public Builder add(NGramResult result) {
+			return add(result.getWord(), result.getCount());
+		}
+
+		public Builder add(String word, int count) {
+			String w = word == null ? "" : word;
+			if (size + 1 >= offsets.length) {
+				int cap = offsets.length * 2;
+				offsets = Arrays.copyOf(offsets, cap);
+				counts = Arrays.copyOf(counts, cap);
+				tokens = Arrays.copyOf(tokens, cap);
+			}
+			if (length + w.length() > chars.length)
+				chars = Arrays.copyOf(chars, Math.max(chars.length * 2, length + w.length()));
+			w.getChars(0, w.length(), chars, length);
+			length += w.length();
+			counts[size] = count;
+			tokens[size] = countTokens(w);
+			offsets[++size] = length;
+			return this;
+		}
+
+		public NGramColumnStore build() {
+			return new NGramColumnStore(Arrays.copyOf(chars, length), Arrays.copyOf(offsets, size + 1),
+					Arrays.copyOf(counts, size), Arrays.copyOf(tokens, size), size);
+		}
+	}
+
+}
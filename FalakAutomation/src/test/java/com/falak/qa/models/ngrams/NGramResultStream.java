@@ -0,0 +1,34 @@
+package com.falak.qa.models.ngrams;
+
+import com.falak.qa.base.JsonRecordStream;
+
+import java.io.InputStream;
+
+//	✅ NGramResultStream: قراءة تدفقية لاستجابة N-Gram عبر Jackson JsonParser (سجل تلو الآخر)
+// Streaming decoder for an N-Gram API response: yields NGramResult records one by one via JsonParser
+public final class NGramResultStream extends JsonRecordStream<NGramResult> {
+
+	/**
+	 * 🛠️ المُنشئ: يفتح محلل JSON على جسم الاستجابة دون قراءته كاملًا
+	 *
+	 * 🛠️ Opens a JSON parser over the response body without reading it in full.
+	 *
+	 * @param body جسم الاستجابة (يُغلق مع close) | Response body, closed by close()
+	 */
+	public NGramResultStream(InputStream body) {
+		super(body, "result", NGramResult.class);
+	}
+
+	/**
+	 * 🔢 إجمالي السجلات كما أرسله الخادم، أو -1 إذا لم يُقرأ بعد
+	 *
+	 * 🔢 The server's totalRecords, or -1 if not parsed yet. When the field
+	 * follows the result array it is only known once iteration has finished.
+	 *
+	 * @return totalRecords أو -1 | totalRecords, or -1
+	 */
+	public int totalRecords() {
+		return (int) numericField("totalRecords");
+	}
+
+}
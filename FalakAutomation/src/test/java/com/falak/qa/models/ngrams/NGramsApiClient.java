@@ -1,13 +1,28 @@
 package com.falak.qa.models.ngrams;
 
 import com.falak.qa.base.BaseApiClient;
+import com.falak.qa.base.EndOfData;
+import com.falak.qa.base.PageSpec;
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.utils.SubsetVerifier;
 
 import io.qameta.allure.Allure;
 import io.restassured.response.Response;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
 
 public class NGramsApiClient extends BaseApiClient {
 
@@ -108,17 +123,129 @@ public class NGramsApiClient extends BaseApiClient {
 	}
 
 	/**
-	 * 📡 جلب جميع نتائج أداة N-Gram من خلال API (صفحة تلو الأخرى)
+	 * 🌊 فتح قراءة تدفقية لنتائج N-Gram (دون تحميل الجسم كاملًا)
 	 *
-	 * 🔹 يُستخدم هذا الميثود لاسترجاع **كل النتائج** الخاصة بأداة N-Gram عبر
-	 * استدعاءات متتابعة للـ API مع دعم تقسيم النتائج إلى صفحات (Pagination). يقوم
-	 * بالتكرار حتى نفاد الصفحات أو عند كشف تكرار النتائج.
+	 * 🔹 يُرسل طلب GET ويتحقق من كود 200، ثم يُرجع قارئًا يحلل سجلات result واحدًا
+	 * تلو الآخر مباشرة من اتصال HTTP عبر Jackson JsonParser؛ لا يُحتفظ بنص
+	 * الاستجابة ولا بقائمة الصفحة كاملة.
 	 *
-	 * 📡 Fetch all N-Gram tool results from the API (page by page).
+	 * 🌊 Opens a streaming reader over the N-Gram results.
 	 *
-	 * 🔹 This method retrieves **all results** for the N-Gram tool by making
-	 * multiple paginated API calls. It continues until no further results are
-	 * available or duplication is detected.
+	 * 🔹 Sends the GET request, validates status 200, and returns a reader that
+	 * decodes "result" records one at a time straight from the HTTP body with
+	 * Jackson's JsonParser; neither the raw body nor the full page list is held.
+	 *
+	 * @return قارئ تدفقي يجب إغلاقه | A streaming reader that must be closed
+	 *
+	 *         📌 الهدف: تقليل استهلاك الذاكرة عند جلب صفحات كبيرة (limit=1000).
+	 */
+	public NGramResultStream openResultStream() {
+		Response response = sendGetRequest();
+		validateStatusCode(response, 200);
+		return new NGramResultStream(response.asInputStream());
+	}
+
+	/**
+	 * 🌊 نتائج N-Gram كـ Stream كسول ومرتب
+	 *
+	 * 🌊 The N-Gram results as a lazy, ordered Stream. Use try-with-resources if
+	 * the stream may not be fully consumed.
+	 *
+	 * @return Stream من NGramResult | Stream of NGramResult
+	 */
+	public Stream<NGramResult> streamResults() {
+		return openResultStream().stream();
+	}
+
+	/**
+	 * 📤 دفع نتائج N-Gram إلى مستهلك أثناء التحليل
+	 *
+	 * 📤 Pushes each N-Gram result to the consumer as it is parsed.
+	 *
+	 * @param consumer المستهلك | Record consumer
+	 * @return عدد السجلات | Number of records
+	 */
+	public int forEachResult(Consumer<NGramResult> consumer) {
+		return openResultStream().drainTo(consumer);
+	}
+
+	// 🛡️ حماية من الحلقات اللانهائية | Safety cap on the number of pages
+	private static final int MAX_SAFE_PAGES = 10000;
+
+	// 📑 وصف ترقيم نقطة N-Gram | Pagination spec of the N-Gram endpoint
+	private static final PageSpec<NGramResult> PAGES = PageSpec.of(NGramResult.class, "result")
+			.withPageParams("pageNumber", "limit").withFirstPage(0).withTotalField("totalRecords")
+			.withEndOfData(EndOfData.<NGramResult>shortOrEmptyPage()
+					.or(EndOfData.repeatedFirstRecord(NGramResult::getWord))
+					.or(EndOfData.maxPages(0, MAX_SAFE_PAGES)));
+
+	/**
+	 * 🌊 Stream كسول لكل نتائج N-Gram عبر كل الصفحات
+	 *
+	 * 🔹 الصفحات تُجلب عند الحاجة مع جلب مسبق للصفحة التالية، ويتوقف الجلب إذا
+	 * توقف المستهلك مبكرًا (مثل anyMatch أو limit). الفلاتر الأصلية لا تُعدّل.
+	 *
+	 * 🌊 Lazily streams every N-Gram result across pages, prefetching the next
+	 * page and stopping as soon as the consumer short-circuits. The given filters
+	 * are not mutated. Close the stream (try-with-resources) if it may not be
+	 * fully consumed.
+	 *
+	 * @param toolId        المعرّف الفريد للأداة | The unique identifier of the
+	 *                      tool
+	 * @param initialParams الفلاتر المستخدمة في البحث | The filter parameters
+	 * @return Stream كسول من النتائج | Lazy stream of results
+	 */
+	public static Stream<NGramResult> streamAllResults(String toolId, NGramsFilterParams initialParams) {
+		return new NGramsApiClient(toolId, initialParams.toMap())
+				.streamAll(PAGES.copyWithPageSize(limitOf(initialParams)));
+	}
+
+	/**
+	 * 🎯 التحقق من أن صفوف الـ UI موجودة في نتائج الـ API مع إيقاف الجلب مبكرًا
+	 *
+	 * 🔹 تُقرأ النتائج من {@link #streamAllResults} صفحة بصفحة ويتوقف الجلب فور
+	 * مطابقة كل صفوف الـ UI؛ الزحف الكامل فقط عند وجود صفوف مفقودة.
+	 *
+	 * 🎯 Checks that every UI row is among the API results, reading pages lazily
+	 * and stopping as soon as all rows are matched. Only a missing row forces a
+	 * full crawl.
+	 *
+	 * @param assertion     اسم التحقق | Assertion name
+	 * @param toolId        المعرّف الفريد للأداة | The unique identifier of the
+	 *                      tool
+	 * @param initialParams الفلاتر المستخدمة في البحث | The filter parameters
+	 * @param uiRows        صفوف الـ UI (بنفس تطبيع normalizer) | UI rows, already
+	 *                      normalized the same way
+	 * @param normalizer    تطبيع كلمة الـ API قبل المقارنة | Normalization applied
+	 *                      to each API word
+	 * @return النتيجة | Outcome
+	 */
+	public static SubsetVerifier.Result verifyUiSubset(String assertion, String toolId,
+			NGramsFilterParams initialParams, Collection<String> uiRows, UnaryOperator<String> normalizer) {
+		NGramsApiClient client = new NGramsApiClient(toolId, initialParams.toMap());
+		PageSpec<NGramResult> spec = PAGES.copyWithPageSize(limitOf(initialParams));
+		return SubsetVerifier.verify(assertion, uiRows, listener -> client.streamAll(spec, listener),
+				r -> r.getWord() == null ? null : normalizer.apply(r.getWord()));
+	}
+
+	/**
+	 * 📡 جلب جميع نتائج أداة N-Gram من خلال API (بالتوازي بعد الصفحة الأولى)
+	 *
+	 * 🔹 تُجلب الصفحة الأولى أولًا لمعرفة totalRecords ومنه عدد الصفحات، ثم تُطلب
+	 * بقية الصفحات بالتوازي بحد أقصى api.parallelism (افتراضيًا عدد الأنوية).
+	 * تُجمع النتائج بترتيب الصفحات مع الإبقاء على شروط التوقف: صفحة فارغة، صفحة
+	 * أقصر من الحد، أو تكرار أول كلمة (الصفحات التي تليها تُهمل). إذا لم يُرجع الـ
+	 * API قيمة totalRecords يتم الرجوع إلى الجلب المتتابع. يُسجَّل زمن كل صفحة.
+	 *
+	 * 📡 Fetch all N-Gram tool results from the API.
+	 *
+	 * 🔹 The first page is fetched alone to learn totalRecords (hence the page
+	 * count); the remaining pages are then requested concurrently with bounded
+	 * parallelism (api.parallelism, default = CPU cores). Results are reassembled
+	 * in page order and the original stop rules still apply: empty page, short
+	 * page, or repeated first word (later pages are discarded). Falls back to
+	 * sequential paging when totalRecords is unknown. Per-page latency is
+	 * reported.
 	 *
 	 * @param toolId        المعرّف الفريد للأداة | The unique identifier of the
 	 *                      tool
@@ -126,56 +253,415 @@ public class NGramsApiClient extends BaseApiClient {
 	 *                      parameters
 	 * @return قائمة بجميع النتائج المجمعة | A list of all collected N-Gram results
 	 *
-	 * @throws RuntimeException في حال تجاوز الحد الأقصى للصفحات أو استجابة API غير
-	 *                          طبيعية Throws RuntimeException if maximum safe
-	 *                          iterations are exceeded or the API response is
-	 *                          abnormal
+	 * @throws RuntimeException في حال تجاوز الحد الأقصى للصفحات أو فشل جلب صفحة
+	 *                          Throws RuntimeException if maximum safe iterations
+	 *                          are exceeded or a page request fails
 	 *
 	 *                          📌 الهدف: ضمان جمع النتائج كاملة بشكل موثوق عبر جميع
-	 *                          الصفحات بدون فقدان أو تكرار.
+	 *                          الصفحات بدون فقدان أو تكرار، وبزمن أقل.
 	 */
 	public static List<NGramResult> getAllResults(String toolId, NGramsFilterParams initialParams) {
-		// 📦 قائمة لتخزين جميع النتائج | List to store all fetched results
 		List<NGramResult> allResults = new ArrayList<>();
+		crawl(toolId, initialParams, allResults::add);
 
-		// 🧠 متغير لتتبع أول كلمة بكل صفحة | Track first word per page to detect
-		// duplicates
-		String lastFirstWord = null;
+		// 📤 إرجاع النتائج | Return final list
+		return allResults;
+	}
 
-		// 🔢 بداية الترقيم الصفحي (0-based) | Page index (starts from 0)
-		int page = 0;
+	/**
+	 * 🗜️ جلب جميع نتائج أداة N-Gram في مخزن عمودي مضغوط
+	 *
+	 * 🔹 نفس منطق {@link #getAllResults} لكن النتائج تُكتب مباشرة في
+	 * {@link NGramColumnStore} (نصوص في مخزن أحرف واحد وتكرارات في int[]) بحيث
+	 * يمكن التحقق منها دون بناء قوائم وسيطة.
+	 *
+	 * 🗜️ Same crawl as {@link #getAllResults}, collected into a compact
+	 * {@link NGramColumnStore} so assertions can run without intermediate lists.
+	 *
+	 * @param toolId        المعرّف الفريد للأداة | The unique identifier of the
+	 *                      tool
+	 * @param initialParams الفلاتر المستخدمة في البحث | The initial filter
+	 *                      parameters
+	 * @return مخزن عمودي بجميع النتائج | Columnar store of all results
+	 */
+	public static NGramColumnStore getAllResultsColumnar(String toolId, NGramsFilterParams initialParams) {
+		NGramColumnStore.Builder builder = NGramColumnStore.builder();
+		crawl(toolId, initialParams, builder::add);
+		return builder.build();
+	}
 
+	// 📡 جلب الصفحات ودفع النتائج بالترتيب إلى sink | Crawls all pages and pushes results, in order, to the sink
+	private static void crawl(String toolId, NGramsFilterParams initialParams, Consumer<NGramResult> sink) {
 		// 🎯 تحديد الحد الأقصى لكل صفحة | Max number of items per page
-		int limit = initialParams.getLimit() > 0 ? initialParams.getLimit() : 1000;
+		int limit = limitOf(initialParams);
+
+		// 📄 الصفحة الأولى (لمعرفة إجمالي السجلات) | First page, to learn totalRecords
+		PageResult first = fetchPage(toolId, initialParams, 0, limit);
+		List<PageResult> pages = new ArrayList<>();
+		pages.add(first);
+
+		boolean morePages = first.rows.size() >= limit;
+		if (morePages && first.totalRecords > 0) {
+			int totalPages = (int) Math.ceil(first.totalRecords / (double) limit);
+			if (totalPages > MAX_SAFE_PAGES) {
+				throw new RuntimeException(
+						"🚨 Too many pages fetched. Possible infinite loop or unfiltered API response.");
+			}
+			pages.addAll(fetchPagesConcurrently(toolId, initialParams, 1, totalPages, limit));
+		} else if (morePages) {
+			// 🔁 totalRecords غير متوفر → جلب متتابع كما في السابق
+			for (int page = 1;; page++) {
+				if (page >= MAX_SAFE_PAGES) {
+					throw new RuntimeException(
+							"🚨 Too many pages fetched. Possible infinite loop or unfiltered API response.");
+				}
+				PageResult next = fetchPage(toolId, initialParams, page, limit);
+				pages.add(next);
+				if (next.rows.size() < limit || next.rows.get(0).getWord().equals(pages.get(page - 1).firstWord()))
+					break;
+			}
+		}
 
-		// 🛡️ حماية من الحلقات اللانهائية | Safety cap for infinite loop
-		int maxSafeIterations = 10000;
+		finish(pages, limit, sink);
+	}
 
-		// 🔁 التكرار عبر الصفحات | Loop through pages
-		while (true) {
-			// 🧭 تحديث رقم الصفحة في الفلاتر | Update page number
-			initialParams.setPageNumber(page);
+	/**
+	 * ⏳ جلب غير متزامن جارٍ: الصفحات تُجلب في الخلفية، أما التجميع وتقرير Allure
+	 * فيحدثان في {@link #join()} على خيط المستدعي
+	 *
+	 * ⏳ An in-flight async crawl. Pages are fetched in the background; assembly
+	 * and Allure reporting happen in {@link #join()} on the caller's thread, so
+	 * HTTP client threads never touch the Allure context.
+	 *
+	 * @param <T> شكل النتائج المجمّعة | Assembled result type
+	 */
+	public static final class PendingCrawl<T> {
+		private final CrawlState crawl;
+		private final Function<List<PageResult>, T> assembler;
 
-			// 🧪 تحويل الفلاتر إلى خريطة لإرسالها | Convert filters into map
-			Map<String, Object> currentParams = initialParams.toMap();
-			currentParams.put("limit", limit);
+		private PendingCrawl(CrawlState crawl, Function<List<PageResult>, T> assembler) {
+			this.crawl = crawl;
+			this.assembler = assembler;
+		}
 
-			// 📤 إنشاء عميل API | Build API client for current request
-			NGramsApiClient client = new NGramsApiClient(toolId, currentParams);
+		/**
+		 * ⏳ انتظار الصفحات ثم تجميعها وتقريرها على هذا الخيط | Waits for the pages,
+		 * then assembles and reports them on this thread
+		 *
+		 * @return النتائج | Results
+		 * @throws RuntimeException إذا فشل جلب صفحة | If a page request failed
+		 */
+		public T join() {
+			try {
+				return assembler.apply(crawl.result.join());
+			} catch (CompletionException e) {
+				Throwable cause = e.getCause() == null ? e : e.getCause();
+				throw new RuntimeException("❌ Failed to fetch N-Gram page: " + cause.getMessage(), cause);
+			}
+		}
 
-			// 📥 جلب النتائج وتحويلها إلى كائن Java | Fetch and parse response
-			NGramsResponse response = client.getResultsAsPojo();
-			List<NGramResult> resultPage = response.getResult();
+		/**
+		 * 🛑 التخلي عن النتائج: لا تُطلق طلبات صفحات جديدة، والطلبات الجارية فقط تكتمل
+		 * في الخلفية | Abandons the results: no new page requests are launched, only
+		 * the in-flight ones finish in the background
+		 */
+		public void cancel() {
+			if (crawl.result.cancel(true)) {
+				System.out.println("🛑 Async N-Gram crawl cancelled after " + crawl.requests.get() + " page requests");
+				Allure.step("🛑 Async N-Gram crawl cancelled after " + crawl.requests.get() + " page requests");
+			}
+		}
 
-			// 🛑 إذا فارغة → انتهينا | Stop if page is empty
-			if (resultPage == null || resultPage.isEmpty()) {
-				break;
+		public boolean isDone() {
+			return crawl.result.isDone();
+		}
+
+		/**
+		 * 🔢 عدد طلبات الصفحات التي أُطلقت حتى الآن (لا يزيد بعد {@link #cancel()} إلا
+		 * بالطلبات الجارية) | Page requests launched so far; after {@link #cancel()}
+		 * it only grows by requests that were already in flight
+		 *
+		 * @return عدد الطلبات | Requests issued
+		 */
+		public int requestsIssued() {
+			return crawl.requests.get();
+		}
+	}
+
+	// 🧭 حالة جلب غير متزامن: النتيجة وعدد الطلبات | Async crawl state: result future and requests issued
+	private static final class CrawlState {
+		final CompletableFuture<List<PageResult>> result = new CompletableFuture<>();
+		final AtomicInteger requests = new AtomicInteger();
+
+		// 🛑 بعد الإلغاء أو الفشل لا تُطلق طلبات جديدة | No new requests once cancelled or failed
+		boolean stopped() {
+			return result.isDone();
+		}
+	}
+
+	/**
+	 * ⚡ جلب جميع نتائج N-Gram بشكل غير متزامن (java.net.http)
+	 *
+	 * 🔹 يُرجع فورًا؛ الصفحات تُجلب عبر عميل HTTP غير المتزامن بنفس منطق
+	 * {@link #getAllResults} (الصفحة الأولى ثم الباقي بتوازٍ محدود وشروط التوقف
+	 * نفسها). يمكن بدء الجلب مع بحث الواجهة ثم استدعاء join() عند التحقق، فتتداخل
+	 * المدتان بدل أن تُجمعا.
+	 *
+	 * ⚡ Returns immediately; pages are fetched over the non-blocking client with
+	 * the same rules as {@link #getAllResults}. Start it alongside the UI search
+	 * and join at assertion time so both latencies overlap.
+	 *
+	 * @param toolId        المعرّف الفريد للأداة | The unique identifier of the
+	 *                      tool
+	 * @param initialParams الفلاتر المستخدمة في البحث | The initial filter
+	 *                      parameters
+	 * @return جلب جارٍ بقائمة النتائج | Pending crawl of all results
+	 */
+	public static PendingCrawl<List<NGramResult>> getAllResultsAsync(String toolId,
+			NGramsFilterParams initialParams) {
+		int limit = limitOf(initialParams);
+		return new PendingCrawl<>(crawlAsync(toolId, initialParams), pages -> {
+			List<NGramResult> allResults = new ArrayList<>();
+			finish(pages, limit, allResults::add);
+			return allResults;
+		});
+	}
+
+	/**
+	 * ⚡ مثل {@link #getAllResultsAsync} لكن في مخزن عمودي
+	 *
+	 * ⚡ Same as {@link #getAllResultsAsync}, collected into a
+	 * {@link NGramColumnStore}.
+	 *
+	 * @param toolId        المعرّف الفريد للأداة | The unique identifier of the
+	 *                      tool
+	 * @param initialParams الفلاتر المستخدمة في البحث | The initial filter
+	 *                      parameters
+	 * @return جلب جارٍ بمخزن النتائج | Pending crawl into a columnar store
+	 */
+	public static PendingCrawl<NGramColumnStore> getAllResultsColumnarAsync(String toolId,
+			NGramsFilterParams initialParams) {
+		int limit = limitOf(initialParams);
+		return new PendingCrawl<>(crawlAsync(toolId, initialParams), pages -> {
+			NGramColumnStore.Builder builder = NGramColumnStore.builder();
+			finish(pages, limit, builder::add);
+			return builder.build();
+		});
+	}
+
+	// ⚡ الجلب غير المتزامن: الصفحة الأولى ثم الباقي، بلا أي تقرير Allure خارج خيط المستدعي
+	// Async crawl: first page, then the rest; nothing here reports to Allure off the caller's thread
+	private static CrawlState crawlAsync(String toolId, NGramsFilterParams initialParams) {
+		int limit = limitOf(initialParams);
+		Allure.step("⚡ Async N-Gram crawl started for tool " + toolId);
+
+		CrawlState crawl = new CrawlState();
+		fetchPageAsync(crawl, toolId, initialParams, 0, limit).thenCompose(first -> {
+			List<PageResult> pages = new ArrayList<>();
+			pages.add(first);
+			if (first.rows.size() < limit || crawl.stopped())
+				return CompletableFuture.completedFuture(pages);
+			if (first.totalRecords <= 0)
+				return fetchSequentialAsync(crawl, toolId, initialParams, pages, limit);
+
+			int totalPages = (int) Math.ceil(first.totalRecords / (double) limit);
+			if (totalPages > MAX_SAFE_PAGES)
+				throw new RuntimeException(
+						"🚨 Too many pages fetched. Possible infinite loop or unfiltered API response.");
+			return fetchPagesAsync(crawl, toolId, initialParams, 1, totalPages, limit).thenApply(rest -> {
+				pages.addAll(rest);
+				return pages;
+			});
+		}).whenComplete((pages, error) -> {
+			if (error != null)
+				crawl.result.completeExceptionally(error);
+			else
+				crawl.result.complete(pages);
+		});
+		return crawl;
+	}
+
+	// 📥 جلب صفحة واحدة بشكل غير متزامن | Fetch one page without blocking
+	private static CompletableFuture<PageResult> fetchPageAsync(CrawlState crawl, String toolId,
+			NGramsFilterParams params, int page, int limit) {
+		Map<String, Object> currentParams = params.toMap();
+		currentParams.put("pageNumber", page);
+		currentParams.put("limit", limit);
+
+		crawl.requests.incrementAndGet();
+		long t0 = System.nanoTime();
+		return new NGramsApiClient(toolId, currentParams).sendGetAsync().thenApply(body -> {
+			List<NGramResult> rows = new ArrayList<>(limit);
+			NGramResultStream stream = new NGramResultStream(body);
+			stream.drainTo(rows::add);
+			return new PageResult(page, rows, stream.totalRecords(), System.nanoTime() - t0);
+		});
+	}
+
+	// 🚀 الصفحات [from, to) مع حد أقصى للطلبات الجارية دون حجز خيوط | Bounded in-flight requests, no blocked threads
+	private static CompletableFuture<List<PageResult>> fetchPagesAsync(CrawlState crawl, String toolId,
+			NGramsFilterParams params, int from, int to, int limit) {
+		int parallelism = Math.max(1, Math.min(configuredParallelism(), to - from));
+		List<CompletableFuture<PageResult>> futures = new ArrayList<>();
+		for (int page = from; page < to; page++)
+			futures.add(new CompletableFuture<>());
+
+		AtomicInteger nextPage = new AtomicInteger(from);
+		Runnable[] launch = new Runnable[1];
+		launch[0] = () -> {
+			if (crawl.stopped()) {
+				// 🛑 أُلغي الجلب → لا طلبات جديدة | Crawl cancelled: launch nothing more
+				nextPage.set(to);
+				futures.forEach(f -> f.cancel(false));
+				return;
+			}
+			int p = nextPage.getAndIncrement();
+			if (p >= to)
+				return;
+			// ↪️ إصابة الذاكرة المؤقتة تكتمل فورًا؛ المتابعة غير المتزامنة تُبقي عمق المكدس ثابتًا
+			// Cache hits complete immediately; continuing asynchronously keeps the stack depth flat
+			fetchPageAsync(crawl, toolId, params, p, limit).whenCompleteAsync((result, error) -> {
+				if (error != null) {
+					// 🛑 لا طلبات جديدة بعد الفشل | Stop launching after a failure
+					nextPage.set(to);
+					futures.forEach(f -> f.completeExceptionally(error));
+				} else {
+					futures.get(p - from).complete(result);
+				}
+				launch[0].run();
+			});
+		};
+		for (int i = 0; i < parallelism; i++)
+			launch[0].run();
+
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(v -> {
+			List<PageResult> results = new ArrayList<>(futures.size());
+			futures.forEach(f -> results.add(f.join()));
+			return results;
+		});
+	}
+
+	// 🔁 totalRecords غير متوفر → صفحة تلو الأخرى | Unknown totalRecords: one page after another
+	private static CompletableFuture<List<PageResult>> fetchSequentialAsync(CrawlState crawl, String toolId,
+			NGramsFilterParams params, List<PageResult> pages, int limit) {
+		int page = pages.size();
+		if (page >= MAX_SAFE_PAGES)
+			return CompletableFuture.failedFuture(new RuntimeException(
+					"🚨 Too many pages fetched. Possible infinite loop or unfiltered API response."));
+		return fetchPageAsync(crawl, toolId, params, page, limit).thenComposeAsync(next -> {
+			pages.add(next);
+			if (crawl.stopped() || next.rows.size() < limit
+					|| next.rows.get(0).getWord().equals(pages.get(page - 1).firstWord()))
+				return CompletableFuture.completedFuture(pages);
+			return fetchSequentialAsync(crawl, toolId, params, pages, limit);
+		});
+	}
+
+	// 🧩 تجميع + تقرير الأزمنة + سجل العدد الكلي | Assemble, report latency, log total
+	private static void finish(List<PageResult> pages, int limit, Consumer<NGramResult> sink) {
+		int total = assemble(pages, limit, sink);
+		reportLatency(pages);
+
+		// 🧮 سجل العدد الكلي | Log total results
+		System.out.println("📦 Total N-Gram results fetched: " + total);
+		Allure.step("📦 Total N-Gram results fetched: " + total);
+	}
+
+	private static int limitOf(NGramsFilterParams params) {
+		return params.getLimit() > 0 ? params.getLimit() : 1000;
+	}
+
+	/**
+	 * 📄 نتيجة صفحة واحدة مع زمن جلبها | One fetched page and its latency
+	 */
+	private static final class PageResult {
+		final int page;
+		final List<NGramResult> rows;
+		final int totalRecords;
+		final long nanos;
+
+		PageResult(int page, List<NGramResult> rows, int totalRecords, long nanos) {
+			this.page = page;
+			this.rows = rows == null ? List.of() : rows;
+			this.totalRecords = totalRecords;
+			this.nanos = nanos;
+		}
+
+		String firstWord() {
+			return rows.isEmpty() ? null : rows.get(0).getWord();
+		}
+	}
+
+	// 📥 جلب صفحة واحدة دون تعديل الفلاتر المشتركة | Fetch one page without mutating shared params
+	private static PageResult fetchPage(String toolId, NGramsFilterParams params, int page, int limit) {
+		Map<String, Object> currentParams = params.toMap();
+		currentParams.put("pageNumber", page);
+		currentParams.put("limit", limit);
+
+		// 🌊 قراءة تدفقية بدل response.as(...) | Streaming decode instead of response.as(...)
+		long t0 = System.nanoTime();
+		List<NGramResult> rows = new ArrayList<>(limit);
+		NGramResultStream stream = new NGramsApiClient(toolId, currentParams).openResultStream();
+		stream.drainTo(rows::add);
+		return new PageResult(page, rows, stream.totalRecords(), System.nanoTime() - t0);
+	}
+
+	/**
+	 * 🚀 جلب الصفحات [from, to) بالتوازي مع حد أقصى للتوازي
+	 *
+	 * 🔹 تُنشأ الخيوط لكل عملية جلب وتُغلق بعدها، ولا ترث سياق Allure: الخطوات
+	 * والأزمنة والأخطاء تُقرَّر على خيط المستدعي فقط.
+	 *
+	 * 🚀 Fetches pages [from, to) with bounded parallelism. Worker threads live
+	 * only for this crawl and carry no Allure context; steps, latency and failures
+	 * are reported on the caller's thread.
+	 */
+	private static List<PageResult> fetchPagesConcurrently(String toolId, NGramsFilterParams params, int from, int to,
+			int limit) {
+		int parallelism = Math.max(1, Math.min(configuredParallelism(), to - from));
+		ExecutorService pool = Executors.newFixedThreadPool(parallelism, r -> {
+			Thread t = new Thread(null, r, "ngram-page-fetch", 0, false);
+			t.setDaemon(true);
+			return t;
+		});
+		Allure.step("🚀 Fetching pages " + from + ".." + (to - 1) + " with parallelism " + parallelism);
+
+		try {
+			List<CompletableFuture<PageResult>> futures = new ArrayList<>();
+			for (int page = from; page < to; page++) {
+				int p = page;
+				futures.add(CompletableFuture.supplyAsync(() -> fetchPage(toolId, params, p, limit), pool));
 			}
 
-			// 🧐 التقاط أول كلمة للمقارنة | Capture first word for duplication check
-			String firstWord = resultPage.get(0).getWord();
+			List<PageResult> results = new ArrayList<>(futures.size());
+			for (CompletableFuture<PageResult> f : futures) {
+				results.add(f.join());
+			}
+			return results;
+		} catch (CompletionException e) {
+			throw new RuntimeException("❌ Failed to fetch N-Gram page: " + e.getCause().getMessage(), e.getCause());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	/**
+	 * 🧩 تجميع الصفحات بالترتيب مع شروط التوقف الأصلية
+	 *
+	 * 🧩 Reassembles pages in order, applying the original stop rules (empty page,
+	 * repeated first word, short page).
+	 */
+	private static int assemble(List<PageResult> pages, int limit, Consumer<NGramResult> sink) {
+		int total = 0;
+		String lastFirstWord = null;
+
+		for (PageResult page : pages) {
+			// 🛑 إذا فارغة → انتهينا | Stop if page is empty
+			if (page.rows.isEmpty())
+				break;
 
 			// 🛑 وقف عند التكرار | Stop if duplicate detected
+			String firstWord = page.firstWord();
 			if (firstWord.equals(lastFirstWord)) {
 				System.out.println("⚠️ Duplicate first word detected: " + firstWord + ". Stopping.");
 				Allure.step("⚠️ Duplicate first word detected: " + firstWord + ". Stopping.");
@@ -183,34 +669,43 @@ public class NGramsApiClient extends BaseApiClient {
 			}
 
 			// ✅ أضف النتائج للقائمة | Add results to master list
-			allResults.addAll(resultPage);
+			page.rows.forEach(sink);
+			total += page.rows.size();
 			lastFirstWord = firstWord;
 
-			// 🧾 سجل معلومات الصفحة | Log page details
-			System.out.println("📄 Fetched page: " + page + " | 🔤 First word: " + firstWord);
-			Allure.step("📄 Fetched page: " + page + " | 🔤 First word: " + firstWord);
+			System.out.println("📄 Fetched page: " + page.page + " | 🔤 First word: " + firstWord + " | ⏱️ "
+					+ page.nanos / 1_000_000 + " ms");
 
 			// ✅ إذا أقل من الحد → انتهى | Stop if last page
-			if (resultPage.size() < limit) {
+			if (page.rows.size() < limit)
 				break;
-			}
-
-			// ⏭️ انتقل للصفحة التالية | Go to next page
-			page++;
-
-			// 🛑 حماية من الدوران | Prevent unsafe loops
-			if (page >= maxSafeIterations) {
-				throw new RuntimeException(
-						"🚨 Too many pages fetched. Possible infinite loop or unfiltered API response.");
-			}
 		}
+		return total;
+	}
 
-		// 🧮 سجل العدد الكلي | Log total results
-		System.out.println("📦 Total N-Gram results fetched: " + allResults.size());
-		Allure.step("📦 Total N-Gram results fetched: " + allResults.size());
+	// ⏱️ تقرير زمن كل صفحة (min / avg / p95 / max) | Per-page latency report
+	private static void reportLatency(List<PageResult> pages) {
+		long[] ms = pages.stream().mapToLong(p -> p.nanos / 1_000_000).sorted().toArray();
+		long sum = Arrays.stream(ms).sum();
+		String summary = String.format("⏱️ N-Gram page latency: pages=%d min=%dms avg=%dms p95=%dms max=%dms total=%dms",
+				ms.length, ms[0], sum / ms.length, ms[(int) Math.ceil(ms.length * 0.95) - 1], ms[ms.length - 1], sum);
+		System.out.println(summary);
+		Allure.step(summary);
 
-		// 📤 إرجاع النتائج | Return final list
-		return allResults;
+		StringBuilder perPage = new StringBuilder();
+		for (PageResult p : pages)
+			perPage.append("page ").append(p.page).append(": ").append(p.nanos / 1_000_000).append(" ms, ")
+					.append(p.rows.size()).append(" rows\n");
+		Allure.addAttachment("N-Gram per-page latency", perPage.toString());
+	}
+
+	private static int configuredParallelism() {
+		try {
+			int n = Integer.parseInt(ConfigReader.initProperties().getProperty("api.parallelism", "0").trim());
+			return n > 0 ? n : Runtime.getRuntime().availableProcessors();
+		} catch (NumberFormatException e) {
+			return Runtime.getRuntime().availableProcessors();
+		}
 	}
 
 }
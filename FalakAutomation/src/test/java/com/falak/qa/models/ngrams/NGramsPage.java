@@ -5,19 +5,22 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
@@ -28,6 +31,9 @@ import org.openqa.selenium.support.ui.WebDriverWait;
 import org.testng.Assert;
 
 import com.falak.qa.base.BasePage;
+import com.falak.qa.base.DomWaitEngine;
+import com.falak.qa.net.NetworkIdleStats;
+import com.falak.qa.utils.TableSnapshot;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
@@ -62,12 +68,6 @@ public class NGramsPage extends BasePage {
 	/* 🔢 حقل ادخال الحد الأقصى للتكرار */
 	private final By maxFreqInput = By.xpath("//input[@formcontrolname='selectedMaxFreq']");
 
-	/* 📝 خلايا العمود الأول فقط (جُمل / نصوص النتائج) */
-	private final By firstColumnCells = By.xpath("//div[contains(@class,'tool-results')]//table//tbody/tr/td[1]");
-
-	/* 📝 خلايا العمود الثاني فقط (ارقام عدد التكرار / نصوص النتائج) */
-	private final By secondColumnCells = By.xpath("//div[contains(@class,'tool-results')]//table//tbody/tr/td[2]");
-
 	/* 📋 كل صفّ بيانات داخل جدول النتائج */
 	private final By resultRow = By.xpath("//div[contains(@class,'tool-results')]//table//tbody/tr");
 
@@ -114,9 +114,6 @@ public class NGramsPage extends BasePage {
 	// 📌 قالب XPath لخلايا الجدول، يحتوي على متغيرين: ROW_INDEX وCOLUMN_INDEX
 	private static final String COLUMN_CELL_XPATH_TEMPLATE = "//tbody[contains(@class,'p-datatable-tbody')]/tr[{ROW_INDEX}]/td[{COLUMN_INDEX}]";
 
-	/** قالب XPath لخلايا عمود معيّن (1 = أول عمود) */
-	private static final String COLUMN_CELLS_XPATH_TMPL = "//table[@role='table']//tbody[@role='rowgroup']//tr/td[%d]";
-
 	private static final String RESULTS_PER_PAGE_OPTION_XPATH_TEMPLATE = "//div[contains(@class,'p-dropdown-panel') and not(contains(@style,'display: none'))]//li[@role='option' and @aria-label='%s']";
 
 	// 🔢 شريط الترقيم (Paginator) الظاهر أسفل نتائج الجدول
@@ -293,6 +290,12 @@ public class NGramsPage extends BasePage {
 		super(driver);
 	}
 
+	// 📦 مُنشئ يعتمد على سياق الخيط الحالي (TestContext)
+	// Resolves the WebDriver from the current thread's TestContext.
+	public NGramsPage() {
+		this(com.falak.qa.base.TestContext.current().getDriver());
+	}
+
 	/**
 	 * 🏷️ إرجاع النص الظاهر لعنوان الأداة الرئيسي
 	 *
@@ -690,18 +693,17 @@ public class NGramsPage extends BasePage {
 	@Step("📥 Fetched all visible sentences from first column")
 	public List<String> getFirstColumnSentences() {
 		try {
-			// ⏳ انتظر حتى تظهر أي خلية تحتوي نصًا غير فارغ
-			new WebDriverWait(driver, Duration.ofSeconds(15)).until(driver -> {
-				List<WebElement> cells = driver.findElements(firstColumnCells);
-				return cells.stream().map(WebElement::getText).map(String::trim).anyMatch(text -> !text.isEmpty());
-			});
-
-			List<WebElement> cells = driver.findElements(firstColumnCells);
+			// ⏳ لقطة واحدة للجدول بعد ظهور أي خلية تحتوي نصًا غير فارغ في العمود الأول
+			String site = "NGramsPage.getFirstColumnSentences";
+			List<String> cells = awaitTableSnapshot(resultsTable,
+					snap -> snap.column(1).stream().anyMatch(text -> !text.isEmpty()), Duration.ofSeconds(15), site)
+					.column(1);
+			// ⏱️ الطريقة السابقة: findElements + getText لكل خلية (مرتين: الانتظار ثم القراءة)
+			TableSnapshot.recordLegacyRoundTrips(site, 2 + 2L * cells.size());
 			if (cells.isEmpty())
 				throw new RuntimeException("❌ No first-column cells were found!");
 
-			List<String> texts = cells.stream().map(WebElement::getText).map(String::trim)
-					.filter(text -> !text.isEmpty()).toList();
+			List<String> texts = cells.stream().filter(text -> !text.isEmpty()).toList();
 
 			Allure.step("🔎 First-column sentences count: " + texts.size());
 			System.out.println("🔎 Fetched texts from first column:");
@@ -739,20 +741,18 @@ public class NGramsPage extends BasePage {
 	@Step("📥 Fetched all visible frequencies from second column")
 	public List<Integer> getSecondColumnFrequencies() {
 		try {
-			// ⏳ انتظر حتى تحتوي أي خلية في العمود الثاني على أرقام (بعد التطبيع)
-			new WebDriverWait(driver, Duration.ofSeconds(15)).until(d -> {
-				List<WebElement> cells = driver.findElements(secondColumnCells);
-				return cells.stream().map(WebElement::getText).map(this::normalizeDigitsAndTrim)
-						.anyMatch(t -> t.matches(".*\\d+.*"));
-			});
-
-			List<WebElement> cells = driver.findElements(secondColumnCells);
+			// ⏳ لقطة واحدة للجدول بعد أن تحتوي أي خلية في العمود الثاني على أرقام (بعد التطبيع)
+			String site = "NGramsPage.getSecondColumnFrequencies";
+			List<String> cells = awaitTableSnapshot(resultsTable,
+					snap -> snap.column(2).stream().map(this::normalizeDigitsAndTrim)
+							.anyMatch(t -> t.matches(".*\\d+.*")),
+					Duration.ofSeconds(15), site).column(2);
+			TableSnapshot.recordLegacyRoundTrips(site, 2 + 2L * cells.size());
 			if (cells.isEmpty())
 				throw new RuntimeException("❌ No second-column cells were found!");
 
 			List<Integer> numbers = new ArrayList<>();
-			for (WebElement cell : cells) {
-				String raw = cell.getText();
+			for (String raw : cells) {
 				String normalized = normalizeDigitsAndTrim(raw); // تطبيع الأرقام والمسافات
 				String digitsOnly = extractDigits(normalized); // إبقاء الأرقام فقط
 
@@ -864,6 +864,7 @@ public class NGramsPage extends BasePage {
 	 */
 	@Step("🔍 Click search button with form submission prevention")
 	public void clickSearchButton() {
+		sampleMemory("clickSearchButton");
 		try {
 			WebElement button = waitForElement(searchButton);
 
@@ -1273,51 +1274,22 @@ public class NGramsPage extends BasePage {
 	 */
 	public boolean waitForResultsOrNoDataMessage() {
 		installToastSpyIfNeeded();
-		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(60));
-		wait.pollingEvery(Duration.ofMillis(200)).ignoring(NoSuchElementException.class)
-				.ignoring(StaleElementReferenceException.class).ignoring(ElementNotInteractableException.class);
-
-		return wait.until(d -> {
-			System.out.println("⏳ Polling... table / no-data / error-toast");
-
-			// (1) تحقق من رسالة الخطأ عبر "spy" إذا ظهرت ثم اختفت
-			try {
-				String toast = getLastErrorToastWithinMs(5000); // آخر 5 ثوانٍ
-				if (toast != null && !toast.isBlank()) {
-					Allure.step("🚨 Error toast (spy): " + toast);
-					System.out.println("🚨 Error toast (spy): " + toast);
-					return true;
-				}
-			} catch (Exception e) {
-				System.out.println("🔸 spy check: " + e.getMessage());
-			}
-
-			// (2) تحقق من وجود رسالة الخطأ مباشرة (قد تكون مازالت معروضة)
-			try {
-				List<WebElement> now = d.findElements(By.cssSelector("p-toast .p-toast-message-error"));
-				if (!now.isEmpty() && now.get(0).isDisplayed())
-					return true;
-			} catch (Exception ignored) {
-			}
-
-			// (3) تحقق من الجدول
-			try {
-				if (isResultTableDisplayed())
-					return true;
-			} catch (Exception e) {
-				System.out.println("🔸 table check: " + e.getMessage());
-			}
-
-			// (4) تحقق من رسالة "لا توجد بيانات"
-			try {
-				if (isNoResultsMessageDisplayed())
-					return true;
-			} catch (Exception e) {
-				System.out.println("🔸 no-data check: " + e.getMessage());
-			}
 
-			return false; // استمر في الانتظار
-		});
+		// ⚡ استدعاء واحد يعود عند تحقق أول حالة (بدل الاستطلاع كل 200ms)
+		DomWaitEngine.Outcome outcome = waitEngine.waitForAny(Duration.ofSeconds(60),
+				DomWaitEngine.errorToastSeen("errorToastSpy", 5000),
+				DomWaitEngine.visible("errorToast", By.cssSelector("p-toast .p-toast-message-error")),
+				DomWaitEngine.visible("resultsTable", resultsTable),
+				DomWaitEngine.visible("noDataMessage", noDataMessage));
+
+		if ("errorToastSpy".equals(outcome.name)) {
+			String toast = getLastErrorToastWithinMs(5000);
+			Allure.step("🚨 Error toast (spy): " + toast);
+			System.out.println("🚨 Error toast (spy): " + toast);
+		} else {
+			System.out.println("✅ Outcome reached: " + outcome.name);
+		}
+		return true;
 	}
 
 	/**
@@ -1464,7 +1436,7 @@ public class NGramsPage extends BasePage {
 	 * @return true إذا تم العثور على ملف مطابق | true if a matching file exists
 	 */
 	public boolean isFileDownloaded(String expectedExtension) {
-		File downloadFolder = new File(System.getProperty("user.home") + "/Downloads");
+		File downloadFolder = getDownloadDir().toFile();
 		File[] files = downloadFolder.listFiles((dir, name) -> name.toLowerCase().endsWith(expectedExtension));
 		return files != null && files.length > 0;
 	}
@@ -1472,12 +1444,14 @@ public class NGramsPage extends BasePage {
 	/**
 	 * 📥 جلب آخر ملف تم تنزيله بامتداد معيّن من مجلد التنزيلات
 	 *
-	 * 🔹 ينتظر حتى 20 ثانية ليجد أحدث ملف تم تنزيله ويضمن أن حجمه ثابت (ليس قيد
-	 * الكتابة).
+	 * 🔹 ينتظر حتى 20 ثانية ليجد أحدث ملف تم تنزيله ويضمن أنه مكتمل (لا توجد ملفات
+	 * تنزيل مؤقتة). يتم الاستيقاظ عند كل تغيير في المجلد (WatchService) بدل النوم
+	 * الثابت.
 	 *
 	 * 📥 Retrieves the latest downloaded file with the given extension.
 	 *
-	 * 🔹 Waits up to 20 seconds to ensure file exists and is stable in size.
+	 * 🔹 Waits up to 20 seconds for the file to exist and be complete, waking up on
+	 * every change in the folder (WatchService) instead of sleeping.
 	 *
 	 * @param extension الامتداد المطلوب مثل xlsx أو csv | The file extension
 	 * @return مسار الملف الذي تم تنزيله | Path of the downloaded file
@@ -1488,45 +1462,69 @@ public class NGramsPage extends BasePage {
 		Path downloadDir = getDownloadDir();
 		String ext = extension.startsWith(".") ? extension : "." + extension;
 
-		long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(20);
-		Path latest = null;
-
-		while (System.currentTimeMillis() < deadline) {
-			try {
-				latest = Files.list(downloadDir).filter(p -> !Files.isDirectory(p))
-						.filter(p -> p.getFileName().toString().toLowerCase().endsWith(ext))
-						.max(Comparator.comparingLong(p -> p.toFile().lastModified())).orElse(null);
-
-				if (latest != null && Files.size(latest) > 0 && isStableSize(latest)) {
-					return latest;
+		long t0 = System.nanoTime();
+		long deadline = t0 + TimeUnit.SECONDS.toNanos(20);
+		int polls = 0;
+
+		try (WatchService watcher = downloadDir.getFileSystem().newWatchService()) {
+			downloadDir.register(watcher, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+					StandardWatchEventKinds.ENTRY_DELETE);
+
+			while (true) {
+				polls++;
+				try {
+					Path latest = findLatest(downloadDir, ext);
+					if (latest != null && Files.size(latest) > 0 && isStableSize(latest)) {
+						// ⏱️ الطريقة السابقة كانت تنام 500ms بين المحاولات + 300ms لفحص الثبات
+						NetworkIdleStats.record("NGramsPage.getLatestDownloadedFile",
+								(polls - 1) * 500L + polls * 300L, System.nanoTime() - t0);
+						return latest;
+					}
+				} catch (IOException ignore) {
 				}
-			} catch (IOException ignore) {
-			}
-			try {
-				Thread.sleep(500);
-			} catch (InterruptedException ie) {
-				Thread.currentThread().interrupt();
+
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0)
+					break;
+				WatchKey key = watcher.poll(remaining, TimeUnit.NANOSECONDS);
+				if (key == null)
+					break;
+				key.pollEvents();
+				key.reset();
 			}
+		} catch (IOException ignore) {
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
 		}
 		throw new RuntimeException("❌ لم يتم العثور على ملف " + extension + " جاهز في مجلد التنزيل: " + downloadDir);
 	}
 
+	private static Path findLatest(Path downloadDir, String ext) throws IOException {
+		try (Stream<Path> files = Files.list(downloadDir)) {
+			return files.filter(p -> !Files.isDirectory(p))
+					.filter(p -> p.getFileName().toString().toLowerCase().endsWith(ext))
+					.max(Comparator.comparingLong(p -> p.toFile().lastModified())).orElse(null);
+		}
+	}
+
 	/**
-	 * 🛡️ التحقق من أن حجم الملف استقر
+	 * 🛡️ التحقق من أن التنزيل اكتمل
 	 *
-	 * 🔹 يساعد على التأكد من أن الملف لم يعد قيد الكتابة قبل استخدامه.
+	 * 🔹 المتصفح يكتب إلى ملف مؤقت (.crdownload في Chrome/Edge و .part في Firefox)
+	 * ولا يُعيد تسميته / يحذفه إلا بعد اكتمال التنزيل؛ لذلك يكفي التأكد من عدم وجود
+	 * ملفات مؤقتة بدل النوم ومقارنة الحجم.
 	 *
-	 * 🛡️ Ensures that the file size has stabilized (not still being written).
+	 * 🛡️ Ensures the download has completed: browsers write to a temporary file
+	 * (.crdownload / .part) and only rename or delete it when done, so the absence
+	 * of temporary files replaces the sleep-and-compare size check.
 	 *
 	 * @param file مسار الملف | Path of the file
-	 * @return true إذا استقر الحجم | true if file size is stable
+	 * @return true إذا اكتمل التنزيل | true if the download is complete
 	 */
 	private boolean isStableSize(Path file) {
-		try {
-			long s1 = Files.size(file);
-			Thread.sleep(300);
-			long s2 = Files.size(file);
-			return s1 == s2;
+		try (Stream<Path> siblings = Files.list(file.getParent())) {
+			return siblings.map(p -> p.getFileName().toString().toLowerCase())
+					.noneMatch(n -> n.endsWith(".crdownload") || n.endsWith(".part") || n.endsWith(".tmp"));
 		} catch (Exception e) {
 			return false;
 		}
@@ -1535,17 +1533,22 @@ public class NGramsPage extends BasePage {
 	/**
 	 * 📂 إرجاع مسار مجلد التنزيلات
 	 *
-	 * 🔹 يُستخدم للحصول على موقع مجلد التنزيلات سواء من system property أو
-	 * الافتراضي (Downloads).
+	 * 🔹 يُستخدم للحصول على موقع مجلد التنزيلات من سياق الاختبار الحالي
+	 * (TestContext) أولًا، ثم من system property أو الافتراضي (Downloads).
 	 *
 	 * 📂 Returns the download directory path.
 	 *
-	 * 🔹 Either taken from system property "download.dir" or defaults to
-	 * ~/Downloads.
+	 * 🔹 Resolved from the current thread's TestContext first, otherwise from
+	 * system property "download.dir" or defaults to ~/Downloads.
 	 *
 	 * @return مسار مجلد التنزيلات | Path to the download directory
 	 */
 	private Path getDownloadDir() {
+		Optional<Path> contextDir = com.falak.qa.base.TestContext.find()
+				.map(com.falak.qa.base.TestContext::getDownloadsDir);
+		if (contextDir.isPresent()) {
+			return contextDir.get();
+		}
 		String dir = System.getProperty("download.dir", System.getProperty("user.home") + "/Downloads");
 		return Paths.get(dir);
 	}
@@ -1662,6 +1665,7 @@ public class NGramsPage extends BasePage {
 	 */
 	@Step("⏭️ Go to next page")
 	public void goToNextPage() {
+		sampleMemory("goToNextPage");
 		WebElement nextBtn = waitForElement(paginationNextButton);
 		nextBtn.click();
 	}
@@ -1675,6 +1679,7 @@ public class NGramsPage extends BasePage {
 	 */
 	@Step("⏮️ Go to previous page")
 	public void goToPreviousPage() {
+		sampleMemory("goToPreviousPage");
 		WebElement prevBtn = waitForElement(paginationPreviousButton);
 		prevBtn.click();
 	}
@@ -1692,6 +1697,7 @@ public class NGramsPage extends BasePage {
 	 */
 	@Step("🧭 Navigate to page number: {0}")
 	public void goToPage(int pageNumber) {
+		sampleMemory("goToPage " + pageNumber);
 		try {
 			List<WebElement> pageButtons = waitForElements(paginationPageNumbers);
 			for (WebElement button : pageButtons) {
@@ -1751,6 +1757,7 @@ public class NGramsPage extends BasePage {
 	 */
 	@Step("🔢 Select results per page: {0}")
 	public void selectResultsPerPage(int count) {
+		sampleMemory("selectResultsPerPage " + count);
 		try {
 			// افتح القائمة المنسدلة
 			waitAndClick(rowsPerPageDropdown);
@@ -1919,17 +1926,11 @@ public class NGramsPage extends BasePage {
 	 *         📌 الهدف: التحقق من ترتيب البيانات أو مطابقتها مع المتوقع.
 	 */
 	public List<String> getTopNColumnValues(int columnIndex, int count) {
-		List<String> values = new ArrayList<>();
-		List<WebElement> rows = waitForElements(tableRows);
-
-		int limit = Math.min(count, rows.size());
-
-		for (int i = 1; i <= limit; i++) {
-			String xpath = getColumnCellXpath(i, columnIndex);
-			String cellText = waitForElement(By.xpath(xpath)).getText().trim();
-			values.add(cellText);
-		}
-
+		String site = "NGramsPage.getTopNColumnValues";
+		TableSnapshot snapshot = awaitTableSnapshot(resultsTable, snap -> snap.rowCount() > 0, DEFAULT_TIMEOUT, site);
+		List<String> values = new ArrayList<>(snapshot.topN(columnIndex, count));
+		// ⏱️ الطريقة السابقة: findElements + isDisplayed لكل صف، ثم waitForElement + getText لكل خلية
+		TableSnapshot.recordLegacyRoundTrips(site, 1 + snapshot.rowCount() + 2L * values.size());
 		return values;
 	}
 
@@ -2147,6 +2148,9 @@ public class NGramsPage extends BasePage {
 		int guard = 0;
 		long lastScrollTop = -1;
 
+		// ⚡ حقن MutationObserver قبل التمرير حتى يُلتقط الرسم الكسول (lazy render)
+		waitEngine.install();
+
 		while (guard++ < 20) {
 			for (WebElement li : panel.findElements(dropdownItems)) {
 				String t = li.getText().trim();
@@ -2164,11 +2168,15 @@ public class NGramsPage extends BasePage {
 				break;
 			lastScrollTop = scrollTop;
 
-			js.executeScript("arguments[0].scrollTop = arguments[0].scrollTop + arguments[0].clientHeight;", scroller);
-			try {
-				Thread.sleep(120);
-			} catch (InterruptedException ignored) {
-			}
+			long since = ((Number) js.executeScript(
+					"var t = Date.now(); arguments[0].scrollTop = arguments[0].scrollTop + arguments[0].clientHeight; return t;",
+					scroller)).longValue();
+
+			// ⏳ انتظار رسم العناصر الجديدة (أول Mutation بعد التمرير) بدل النوم 120ms؛
+			// القوائم غير الكسولة لا تُحدث Mutation فيُكتفى بحد أقصى 150ms
+			long t0 = System.nanoTime();
+			waitEngine.awaitActivitySince(since, Duration.ofMillis(150));
+			NetworkIdleStats.record("NGramsPage.getFilterMatchTypeOptionsAllScrolling", 120, System.nanoTime() - t0);
 		}
 
 		return new ArrayList<>(seen);
@@ -2241,6 +2249,7 @@ public class NGramsPage extends BasePage {
 	 * 📌 الهدف: التأكد من أن الفلتر قد تم تنفيذه وتحديث البيانات في الجدول.
 	 */
 	public void applyFilter() {
+		sampleMemory("applyFilter");
 		WebElement overlay = waitForOpenFilterOverlay(Duration.ofSeconds(5));
 		WebElement applyBtn = overlay.findElement(overlayApplyButton);
 		((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", applyBtn);
@@ -2265,9 +2274,14 @@ public class NGramsPage extends BasePage {
 	 *         📌 الهدف: التحقق من القيم الظاهرة في عمود محدد لأغراض الاختبار.
 	 */
 	public List<String> getColumnTexts(int colIndex) {
-		String xpath = String.format(COLUMN_CELLS_XPATH_TMPL, colIndex);
-		List<WebElement> cells = driver.findElements(By.xpath(xpath));
-		List<String> values = cells.stream().map(e -> e.getText().trim()).toList();
+		String site = "NGramsPage.getColumnTexts";
+		List<String> values;
+		try {
+			values = TableSnapshot.capture(driver, resultsTable, site).column(colIndex);
+		} catch (NoSuchElementException e) {
+			values = List.of();
+		}
+		TableSnapshot.recordLegacyRoundTrips(site, 1 + values.size());
 		Allure.step("📑 Extracted " + values.size() + " texts from column index: " + colIndex);
 		return values;
 	}
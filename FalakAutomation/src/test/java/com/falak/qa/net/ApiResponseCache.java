@@ -0,0 +1,308 @@
+package com.falak.qa.net;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.utils.SuiteMetrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+//	✅ ApiResponseCache: ذاكرة مؤقتة دائمة على القرص لاستجابات الـ API (مفتاح = البيئة + الرابط + الباراميترز)
+// Persistent, content-addressed on-disk cache of tool API responses with TTL, LRU size bound and ETag revalidation
+public final class ApiResponseCache {
+
+	/**
+	 * 📦 استجابة مخزنة | A cached response
+	 */
+	public static final class Entry {
+		public final String key;
+		public final byte[] body;
+		public final String etag;
+		public final String contentType;
+		public final long storedAt;
+
+		private Entry(String key, byte[] body, String etag, String contentType, long storedAt) {
+			this.key = key;
+			this.body = body;
+			this.etag = etag;
+			this.contentType = contentType;
+			this.storedAt = storedAt;
+		}
+
+		/**
+		 * ⏳ هل ما زالت ضمن مدة الصلاحية؟ | Whether still within the TTL
+		 * 📌 المدخلات المخزنة في تشغيل سابق لا تُعد صالحة أبداً، بل يُعاد التحقق منها عبر ETag
+		 * Entries stored by an earlier run are never fresh; they are revalidated via ETag instead
+		 *
+		 * @return true إذا كانت صالحة | true if fresh
+		 */
+		public boolean isFresh() {
+			return storedAt >= RUN_STARTED_AT && System.currentTimeMillis() - storedAt <= TTL.toMillis();
+		}
+	}
+
+	private static final boolean ENABLED;
+	private static final Duration TTL;
+	private static final long MAX_BYTES;
+	private static final Path DIR;
+	// 🕒 بداية تشغيل الـ JVM الحالي | Start of the current JVM run
+	private static final long RUN_STARTED_AT = ManagementFactory.getRuntimeMXBean().getStartTime();
+
+	// 🧾 فهرس LRU (ترتيب الوصول) → حجم الملف | LRU index (access order) → entry size on disk
+	private static final LinkedHashMap<String, Long> LRU = new LinkedHashMap<>(64, 0.75f, true);
+	private static long totalBytes;
+
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder REVALIDATED = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder STORES = new LongAdder();
+	private static final LongAdder EVICTIONS = new LongAdder();
+	private static final LongAdder BYTES_SERVED = new LongAdder();
+
+	static {
+		Properties p = ConfigReader.initProperties();
+		ENABLED = Boolean.parseBoolean(p.getProperty("api.cache.enabled", "true").trim());
+		TTL = Duration.ofMinutes(Long.parseLong(p.getProperty("api.cache.ttl.minutes", "60").trim()));
+		MAX_BYTES = Long.parseLong(p.getProperty("api.cache.max.mb", "512").trim()) * 1024 * 1024;
+		DIR = Path.of(System.getProperty("user.dir"), p.getProperty("api.cache.dir", "target/api-cache").trim());
+		if (ENABLED)
+			loadIndex();
+		SuiteMetrics.register("🗄️ API response cache", ApiResponseCache::summary);
+	}
+
+	private ApiResponseCache() {
+	}
+
+	public static boolean isEnabled() {
+		return ENABLED;
+	}
+
+	/**
+	 * 🔑 بناء مفتاح المحتوى: SHA-256 للبيئة + الرابط + الباراميترز (مرتبة)
+	 *
+	 * 🔑 Builds the content address: SHA-256 over environment, endpoint URL and
+	 * the query parameters sorted by name.
+	 *
+	 * @param environment اسم البيئة | Environment name
+	 * @param url         الرابط الكامل للأداة | Full endpoint URL
+	 * @param queryParams الباراميترز | Query parameters
+	 * @return المفتاح (hex) | Hex key
+	 */
+	public static String key(String environment, String url, Map<String, ?> queryParams) {
+		StringBuilder sb = new StringBuilder().append(environment).append('|').append(url).append('|');
+		if (queryParams != null)
+			new TreeMap<>(queryParams).forEach((k, v) -> sb.append(k).append('=').append(v).append('&'));
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new RuntimeException("❌ SHA-256 unavailable for API cache key", e);
+		}
+	}
+
+	/**
+	 * 🔎 قراءة استجابة مخزنة (صالحة أو منتهية) أو null
+	 *
+	 * 🔎 Returns the stored entry (fresh or stale) or null. Callers serve fresh
+	 * entries directly and revalidate stale ones that carry an ETag.
+	 *
+	 * @param key المفتاح | Key
+	 * @return الاستجابة أو null | Entry or null
+	 */
+	public static Entry lookup(String key) {
+		synchronized (LRU) {
+			if (LRU.get(key) == null)
+				return null;
+		}
+		try {
+			Properties meta = new Properties();
+			try (InputStream in = Files.newInputStream(metaFile(key))) {
+				meta.load(in);
+			}
+			byte[] body = Files.readAllBytes(bodyFile(key));
+			return new Entry(key, body, meta.getProperty("etag"), meta.getProperty("contentType", "application/json"),
+					Long.parseLong(meta.getProperty("storedAt", "0")));
+		} catch (IOException | NumberFormatException e) {
+			remove(key);
+			return null;
+		}
+	}
+
+	/**
+	 * ✅ تسجيل إصابة مباشرة (ضمن مدة الصلاحية) | Records a fresh hit
+	 *
+	 * @param entry الاستجابة المقدَّمة | Served entry
+	 */
+	public static void recordHit(Entry entry) {
+		HITS.increment();
+		BYTES_SERVED.add(entry.body.length);
+	}
+
+	/**
+	 * 🔁 تسجيل إعادة تحقق ناجحة (304) وتجديد وقت التخزين
+	 *
+	 * 🔁 Records a successful 304 revalidation and renews the entry's TTL.
+	 *
+	 * @param entry الاستجابة المقدَّمة | Served entry
+	 */
+	public static void recordRevalidated(Entry entry) {
+		REVALIDATED.increment();
+		BYTES_SERVED.add(entry.body.length);
+		writeMeta(entry.key, entry.etag, entry.contentType);
+	}
+
+	public static void recordMiss() {
+		MISSES.increment();
+	}
+
+	/**
+	 * 💾 تخزين استجابة 200 على القرص ثم إخلاء الأقدم إذا تجاوز الحجم الحد
+	 *
+	 * 💾 Stores a 200 response on disk, then evicts least-recently-used entries
+	 * while the cache exceeds api.cache.max.mb.
+	 *
+	 * @param key         المفتاح | Key
+	 * @param body        جسم الاستجابة | Response body
+	 * @param etag        قيمة ETag إن وجدت | ETag header, or null
+	 * @param contentType نوع المحتوى | Content type
+	 */
+	public static void store(String key, byte[] body, String etag, String contentType) {
+		try {
+			Files.createDirectories(DIR);
+			Path tmp = Files.createTempFile(DIR, key, ".tmp");
+			Files.write(tmp, body);
+			Files.move(tmp, bodyFile(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			writeMeta(key, etag, contentType);
+		} catch (IOException e) {
+			System.out.println("⚠️ API cache write failed: " + e.getMessage());
+			return;
+		}
+		STORES.increment();
+
+		List<String> evict = new ArrayList<>();
+		synchronized (LRU) {
+			Long previous = LRU.put(key, (long) body.length);
+			totalBytes += body.length - (previous == null ? 0 : previous);
+			Iterator<Map.Entry<String, Long>> it = LRU.entrySet().iterator();
+			while (totalBytes > MAX_BYTES && it.hasNext()) {
+				Map.Entry<String, Long> eldest = it.next();
+				if (eldest.getKey().equals(key))
+					continue;
+				totalBytes -= eldest.getValue();
+				evict.add(eldest.getKey());
+				it.remove();
+			}
+		}
+		for (String k : evict) {
+			deleteFiles(k);
+			EVICTIONS.increment();
+		}
+	}
+
+	// ==================== Internals ====================
+
+	private static Path bodyFile(String key) {
+		return DIR.resolve(key + ".body");
+	}
+
+	private static Path metaFile(String key) {
+		return DIR.resolve(key + ".meta");
+	}
+
+	private static void writeMeta(String key, String etag, String contentType) {
+		Properties meta = new Properties();
+		meta.setProperty("storedAt", String.valueOf(System.currentTimeMillis()));
+		if (etag != null)
+			meta.setProperty("etag", etag);
+		if (contentType != null)
+			meta.setProperty("contentType", contentType);
+		try (OutputStream out = Files.newOutputStream(metaFile(key))) {
+			meta.store(out, null);
+		} catch (IOException e) {
+			System.out.println("⚠️ API cache meta write failed: " + e.getMessage());
+		}
+	}
+
+	private static void remove(String key) {
+		synchronized (LRU) {
+			Long size = LRU.remove(key);
+			if (size != null)
+				totalBytes -= size;
+		}
+		deleteFiles(key);
+	}
+
+	private static void deleteFiles(String key) {
+		try {
+			Files.deleteIfExists(bodyFile(key));
+			Files.deleteIfExists(metaFile(key));
+		} catch (IOException ignored) {
+			// 🔹 يُعاد المحاولة عند الإخلاء التالي
+		}
+	}
+
+	// 📂 إعادة بناء فهرس LRU من القرص (الأقدم تعديلًا أولًا) | Rebuilds the LRU index from disk, oldest first
+	private static void loadIndex() {
+		if (!Files.isDirectory(DIR))
+			return;
+		try (Stream<Path> files = Files.list(DIR)) {
+			files.filter(f -> f.getFileName().toString().endsWith(".body"))
+					.sorted(Comparator.comparingLong(ApiResponseCache::lastModified)).forEach(f -> {
+						String name = f.getFileName().toString();
+						String key = name.substring(0, name.length() - ".body".length());
+						try {
+							long size = Files.size(f);
+							LRU.put(key, size);
+							totalBytes += size;
+						} catch (IOException ignored) {
+							// 🔹 ملف غير مقروء يُتجاهل
+						}
+					});
+		} catch (IOException e) {
+			System.out.println("⚠️ API cache index load failed: " + e.getMessage());
+		}
+	}
+
+	private static long lastModified(Path f) {
+		try {
+			return Files.getLastModifiedTime(f).toMillis();
+		} catch (IOException e) {
+			return 0;
+		}
+	}
+
+	private static String summary() {
+		if (!ENABLED)
+			return "disabled";
+		long hits = HITS.sum(), revalidated = REVALIDATED.sum(), misses = MISSES.sum();
+		long lookups = hits + revalidated + misses;
+		synchronized (LRU) {
+			return String.format(
+					"lookups=%d hits=%d revalidated(304)=%d misses=%d hitRate=%.1f%% servedFromCache=%.1fMB stores=%d evictions=%d%n"
+							+ "entries=%d size=%.1fMB/%dMB ttl=%dmin dir=%s",
+					lookups, hits, revalidated, misses, lookups == 0 ? 0 : 100.0 * (hits + revalidated) / lookups,
+					BYTES_SERVED.sum() / 1048576.0, STORES.sum(), EVICTIONS.sum(), LRU.size(), totalBytes / 1048576.0,
+					MAX_BYTES / 1048576, TTL.toMinutes(), DIR);
+		}
+	}
+
+}
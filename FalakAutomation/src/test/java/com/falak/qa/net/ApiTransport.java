@@ -0,0 +1,339 @@
+package com.falak.qa.net;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.utils.SuiteMetrics;
+
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.specification.RequestSpecification;
+
+import org.apache.http.conn.ClientConnectionManager;
+import org.apache.http.conn.ClientConnectionRequest;
+import org.apache.http.conn.ManagedClientConnection;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.scheme.PlainSocketFactory;
+import org.apache.http.conn.scheme.Scheme;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.conn.ssl.SSLSocketFactory;
+import org.apache.http.conn.ssl.X509HostnameVerifier;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.net.http.HttpClient;
+import java.security.SecureRandom;
+import java.security.cert.X509Certificate;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManager;
+import javax.net.ssl.X509TrustManager;
+
+//	✅ ApiTransport: ناقل HTTP مشترك لكل عملاء الـ API (تجمّع اتصالات keep-alive + gzip/deflate + مقاييس)
+// Shared HTTP transport for every API client: pooled keep-alive connections, gzip/deflate, reuse metrics
+@SuppressWarnings("deprecation") // RestAssured 5 still drives Apache HttpClient through the 4.x AbstractHttpClient API
+public final class ApiTransport {
+
+	private static final LongAdder REQUESTS = new LongAdder();
+	private static final LongAdder TLS_HANDSHAKES = new LongAdder();
+	private static final LongAdder BYTES_SENT = new LongAdder();
+	private static final LongAdder BYTES_RECEIVED = new LongAdder();
+	private static final LongAdder ASYNC_HTTP2 = new LongAdder();
+	private static final LongAdder ASYNC_HTTP1 = new LongAdder();
+
+	private static final int MAX_TOTAL;
+	private static final int MAX_PER_ROUTE;
+	private static final long KEEP_ALIVE_MS;
+	private static final boolean RELAXED_TLS;
+
+	private static final RestAssuredConfig CONFIG;
+	// 🔓 تجمّع منفصل بثقة كاملة للطلبات التي استخدمت relaxedHTTPSValidation سابقًا فقط
+	// Separate trust-all pool, only for calls that used relaxedHTTPSValidation before pooling
+	private static final RestAssuredConfig RELAXED_CONFIG;
+	private static volatile HttpClient asyncClient;
+
+	static {
+		Properties p = ConfigReader.initProperties();
+		MAX_TOTAL = Integer.parseInt(p.getProperty("api.http.max.connections", "20").trim());
+		MAX_PER_ROUTE = Integer.parseInt(p.getProperty("api.http.max.per.route", "10").trim());
+		KEEP_ALIVE_MS = TimeUnit.SECONDS.toMillis(Long.parseLong(p.getProperty("api.http.keepalive.seconds", "30").trim()));
+		RELAXED_TLS = Boolean.parseBoolean(p.getProperty("api.http.relaxed.tls", "false").trim());
+
+		CONFIG = newConfig(RELAXED_TLS);
+		RELAXED_CONFIG = RELAXED_TLS ? CONFIG : newConfig(true);
+
+		SuiteMetrics.register("🔌 API transport", ApiTransport::summary);
+	}
+
+	private ApiTransport() {
+	}
+
+	/**
+	 * 🌐 بداية طلب RestAssured على الناقل المشترك
+	 *
+	 * 🔹 بديل RestAssured.given(): كل الطلبات تمر عبر نفس تجمّع الاتصالات، فتُعاد
+	 * استخدام اتصالات TLS بين الصفحات بدل مصافحة جديدة لكل طلب.
+	 *
+	 * 🌐 Drop-in replacement for RestAssured.given(): every request goes through
+	 * the same connection pool, so TLS connections are reused across pages
+	 * instead of handshaking per request.
+	 *
+	 * @return RequestSpecification مهيأ | Configured request specification
+	 */
+	public static RequestSpecification given() {
+		return RestAssured.given().config(CONFIG);
+	}
+
+	/**
+	 * 🔓 مثل {@link #given()} لكن دون التحقق من شهادة TLS واسم المضيف
+	 *
+	 * 🔹 بديل RestAssured.given().relaxedHTTPSValidation() على تجمّع منفصل، حتى لا
+	 * يمتد التساهل إلى بقية عملاء الـ API.
+	 *
+	 * 🔓 Same as {@link #given()} without certificate or hostname checks; the
+	 * pooled replacement for relaxedHTTPSValidation(), kept on its own pool so
+	 * the other API clients still validate TLS.
+	 *
+	 * @return RequestSpecification مهيأ | Configured request specification
+	 */
+	public static RequestSpecification givenRelaxed() {
+		return RestAssured.given().config(RELAXED_CONFIG);
+	}
+
+	/**
+	 * ⚡ عميل java.net.http غير متزامن ومشترك (HTTP/2 عند توفره)
+	 *
+	 * 🔹 يُستخدم لمسار الطلبات غير المتزامنة (sendGetAsync)؛ يعيد استخدام الاتصالات
+	 * داخليًا ويتفاوض على HTTP/2 عبر ALPN، بنفس إعداد TLS للناقل المتزامن.
+	 *
+	 * ⚡ Shared non-blocking java.net.http client (HTTP/2 when the server
+	 * negotiates it via ALPN) using the same TLS settings as the blocking path.
+	 *
+	 * @return HttpClient مشترك | Shared HttpClient
+	 */
+	public static HttpClient asyncClient() {
+		HttpClient client = asyncClient;
+		if (client == null) {
+			synchronized (ApiTransport.class) {
+				if (asyncClient == null) {
+					asyncClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_2).sslContext(sslContext(RELAXED_TLS))
+							.connectTimeout(Duration.ofSeconds(30)).followRedirects(HttpClient.Redirect.NORMAL).build();
+				}
+				client = asyncClient;
+			}
+		}
+		return client;
+	}
+
+	/**
+	 * 📊 تسجيل إصدار HTTP المتفاوض عليه لطلب غير متزامن
+	 *
+	 * 📊 Records the HTTP version negotiated for an async request.
+	 *
+	 * @param version الإصدار | Negotiated version
+	 */
+	public static void recordAsync(HttpClient.Version version) {
+		(version == HttpClient.Version.HTTP_2 ? ASYNC_HTTP2 : ASYNC_HTTP1).increment();
+	}
+
+	// 🧱 تجمّع اتصالات + إعداد RestAssured يستخدمه | Connection pool and the RestAssured config using it
+	private static RestAssuredConfig newConfig(boolean relaxed) {
+		SchemeRegistry schemes = new SchemeRegistry();
+		schemes.register(new Scheme("http", 80, PlainSocketFactory.getSocketFactory()));
+		schemes.register(new Scheme("https", 443, new CountingSslSocketFactory(sslContext(relaxed),
+				relaxed ? SSLSocketFactory.ALLOW_ALL_HOSTNAME_VERIFIER
+						: SSLSocketFactory.BROWSER_COMPATIBLE_HOSTNAME_VERIFIER)));
+
+		PoolingClientConnectionManager pool = new PoolingClientConnectionManager(schemes, KEEP_ALIVE_MS,
+				TimeUnit.MILLISECONDS);
+		pool.setMaxTotal(MAX_TOTAL);
+		pool.setDefaultMaxPerRoute(MAX_PER_ROUTE);
+		ClientConnectionManager shared = new SharedConnectionManager(pool);
+
+		return RestAssuredConfig.config()
+				.httpClient(HttpClientConfig.httpClientConfig().httpClientFactory(() -> newClient(shared)))
+				.decoderConfig(DecoderConfig.decoderConfig().contentDecoders(DecoderConfig.ContentDecoder.GZIP,
+						DecoderConfig.ContentDecoder.DEFLATE));
+	}
+
+	// 🧱 عميل خفيف لكل طلب فوق التجمّع المشترك | Lightweight per-request client over the shared pool
+	private static DefaultHttpClient newClient(ClientConnectionManager pool) {
+		DefaultHttpClient client = new DefaultHttpClient(pool);
+		client.addRequestInterceptor((request, context) -> REQUESTS.increment());
+		client.setKeepAliveStrategy((response, context) -> {
+			long advertised = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+			return advertised > 0 ? Math.min(advertised, KEEP_ALIVE_MS) : KEEP_ALIVE_MS;
+		});
+		return client;
+	}
+
+	private static SSLContext sslContext(boolean relaxed) {
+		try {
+			if (!relaxed)
+				return SSLContext.getDefault();
+			SSLContext ctx = SSLContext.getInstance("TLS");
+			ctx.init(null, new TrustManager[] { new X509TrustManager() {
+				@Override
+				public void checkClientTrusted(X509Certificate[] chain, String authType) {
+				}
+
+				@Override
+				public void checkServerTrusted(X509Certificate[] chain, String authType) {
+				}
+
+				@Override
+				public X509Certificate[] getAcceptedIssuers() {
+					return new X509Certificate[0];
+				}
+			} }, new SecureRandom());
+			return ctx;
+		} catch (Exception e) {
+			throw new RuntimeException("❌ Failed to initialise API transport TLS context: " + e.getMessage(), e);
+		}
+	}
+
+	private static String summary() {
+		long requests = REQUESTS.sum();
+		long handshakes = TLS_HANDSHAKES.sum();
+		long reused = Math.max(0, requests - handshakes);
+		return String.format(
+				"requests=%d tlsHandshakes=%d reusedConnections=%d reuseRate=%.1f%% wireSent=%.1fKB wireReceived=%.1fKB%n"
+						+ "pool maxTotal=%d maxPerRoute=%d keepAlive=%ds relaxedTls=%s protocol=HTTP/1.1 encodings=gzip,deflate%n"
+						+ "async (java.net.http) requests=%d http2=%d http1.1=%d",
+				requests, handshakes, reused, requests == 0 ? 0 : 100.0 * reused / requests, BYTES_SENT.sum() / 1024.0,
+				BYTES_RECEIVED.sum() / 1024.0, MAX_TOTAL, MAX_PER_ROUTE, KEEP_ALIVE_MS / 1000, RELAXED_TLS,
+				ASYNC_HTTP2.sum() + ASYNC_HTTP1.sum(), ASYNC_HTTP2.sum(), ASYNC_HTTP1.sum());
+	}
+
+	/**
+	 * 🔐 مصنع TLS يعدّ المصافحات ويقيس البايتات الفعلية على السلك
+	 *
+	 * 🔐 TLS socket factory that counts handshakes and measures raw bytes on the
+	 * wire (TLS records included) through the underlying plain socket.
+	 */
+	private static final class CountingSslSocketFactory extends SSLSocketFactory {
+
+		CountingSslSocketFactory(SSLContext ctx, X509HostnameVerifier verifier) {
+			super(ctx, verifier);
+		}
+
+		@Override
+		public Socket createSocket(HttpContext context) {
+			return new CountingSocket();
+		}
+
+		@Override
+		public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context)
+				throws IOException {
+			TLS_HANDSHAKES.increment();
+			return super.createLayeredSocket(socket, target, port, context);
+		}
+	}
+
+	// 📏 Socket يحسب البايتات المرسلة والمستقبلة | Socket counting bytes sent and received
+	private static final class CountingSocket extends Socket {
+		private InputStream countingIn;
+		private OutputStream countingOut;
+
+		@Override
+		public synchronized InputStream getInputStream() throws IOException {
+			if (countingIn == null) {
+				countingIn = new FilterInputStream(super.getInputStream()) {
+					@Override
+					public int read() throws IOException {
+						int b = super.read();
+						if (b >= 0)
+							BYTES_RECEIVED.increment();
+						return b;
+					}
+
+					@Override
+					public int read(byte[] buf, int off, int len) throws IOException {
+						int n = super.read(buf, off, len);
+						if (n > 0)
+							BYTES_RECEIVED.add(n);
+						return n;
+					}
+				};
+			}
+			return countingIn;
+		}
+
+		@Override
+		public synchronized OutputStream getOutputStream() throws IOException {
+			if (countingOut == null) {
+				countingOut = new FilterOutputStream(super.getOutputStream()) {
+					@Override
+					public void write(int b) throws IOException {
+						out.write(b);
+						BYTES_SENT.increment();
+					}
+
+					@Override
+					public void write(byte[] buf, int off, int len) throws IOException {
+						out.write(buf, off, len);
+						BYTES_SENT.add(len);
+					}
+				};
+			}
+			return countingOut;
+		}
+	}
+
+	/**
+	 * ♻️ تغليف للتجمّع يتجاهل shutdown() الذي يستدعيه RestAssured بعد كل طلب
+	 *
+	 * ♻️ Wraps the pool so the shutdown() RestAssured issues after each request
+	 * does not close the shared connections.
+	 */
+	private static final class SharedConnectionManager implements ClientConnectionManager {
+		private final ClientConnectionManager delegate;
+
+		SharedConnectionManager(ClientConnectionManager delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public SchemeRegistry getSchemeRegistry() {
+			return delegate.getSchemeRegistry();
+		}
+
+		@Override
+		public ClientConnectionRequest requestConnection(HttpRoute route, Object state) {
+			return delegate.requestConnection(route, state);
+		}
+
+		@Override
+		public void releaseConnection(ManagedClientConnection conn, long validDuration, TimeUnit timeUnit) {
+			delegate.releaseConnection(conn, validDuration, timeUnit);
+		}
+
+		@Override
+		public void closeIdleConnections(long idletime, TimeUnit tunit) {
+			delegate.closeIdleConnections(idletime, tunit);
+		}
+
+		@Override
+		public void closeExpiredConnections() {
+			delegate.closeExpiredConnections();
+		}
+
+		@Override
+		public void shutdown() {
+			// 🔹 التجمّع يعيش طوال الـ Suite | The pool lives for the whole suite
+		}
+	}
+
+}
@@ -0,0 +1,786 @@
+package com.falak.qa.net;
+
+import com.falak.qa.utils.SuiteMetrics;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.HasDevTools;
+
+// 🔌 المكان الوحيد المرتبط بإصدار DevTools | The only place bound to a DevTools version
+import org.openqa.selenium.devtools.v136.browser.Browser;
+import org.openqa.selenium.devtools.v136.browser.model.DownloadProgress;
+import org.openqa.selenium.devtools.v136.fetch.Fetch;
+import org.openqa.selenium.devtools.v136.fetch.model.HeaderEntry;
+import org.openqa.selenium.devtools.v136.fetch.model.RequestPaused;
+import org.openqa.selenium.devtools.v136.fetch.model.RequestPattern;
+import org.openqa.selenium.devtools.v136.fetch.model.RequestStage;
+import org.openqa.selenium.devtools.v136.heapprofiler.HeapProfiler;
+import org.openqa.selenium.devtools.v136.network.Network;
+import org.openqa.selenium.devtools.v136.network.model.ErrorReason;
+import org.openqa.selenium.devtools.v136.performance.Performance;
+import org.openqa.selenium.devtools.v136.performance.model.Metric;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+//	✅ CdpHub: جلسة CDP واحدة لكل متصفح، تفعيل المجالات بعدّ مرجعي، وتوزيع الأحداث على المشتركين من خيط واحد
+// Per-driver CDP hub: one DevTools session, reference-counted domain enablement, one raw listener per event
+// type fanned out to subscribers on a single dispatch thread, and Fetch interception. Consumers only see the
+// version-neutral types below.
+public final class CdpHub {
+
+	/**
+	 * 🧩 مجالات CDP ذات enable/disable | CDP domains with enable/disable
+	 */
+	public enum Domain {
+		NETWORK, PERFORMANCE
+	}
+
+	/**
+	 * 🔓 اشتراك أو حجز مجال؛ الإغلاق آمن للتكرار | A subscription or domain
+	 * lease; closing twice is a no-op
+	 */
+	public interface Registration extends AutoCloseable {
+		@Override
+		void close();
+	}
+
+	// ===================== 📨 الأحداث (مستقلة عن الإصدار) | Version-neutral events =====================
+
+	/** 🛫 Network.requestWillBeSent */
+	public static final class RequestSent {
+		public final String requestId;
+		public final String url;
+		public final String method;
+		public final double wallTimeMs;
+		public final double timestampMs;
+
+		RequestSent(String requestId, String url, String method, double wallTimeMs, double timestampMs) {
+			this.requestId = requestId;
+			this.url = url;
+			this.method = method;
+			this.wallTimeMs = wallTimeMs;
+			this.timestampMs = timestampMs;
+		}
+	}
+
+	/**
+	 * ⏱️ مراحل التوقيت بالمللي ثانية نسبةً إلى requestTimeMs (-1 = غير متاح) |
+	 * Timing phases in ms relative to requestTimeMs; -1 when not applicable
+	 */
+	public static final class ResourceTiming {
+		public final double requestTimeMs;
+		public final double dnsStart, dnsEnd;
+		public final double connectStart, connectEnd;
+		public final double sslStart, sslEnd;
+		public final double sendEnd;
+		public final double receiveHeadersEnd;
+
+		private ResourceTiming(org.openqa.selenium.devtools.v136.network.model.ResourceTiming t) {
+			this.requestTimeMs = t.getRequestTime().doubleValue() * 1000;
+			this.dnsStart = ms(t.getDnsStart());
+			this.dnsEnd = ms(t.getDnsEnd());
+			this.connectStart = ms(t.getConnectStart());
+			this.connectEnd = ms(t.getConnectEnd());
+			this.sslStart = ms(t.getSslStart());
+			this.sslEnd = ms(t.getSslEnd());
+			this.sendEnd = ms(t.getSendEnd());
+			this.receiveHeadersEnd = ms(t.getReceiveHeadersEnd());
+		}
+
+		private static double ms(Number n) {
+			return n == null ? -1 : n.doubleValue();
+		}
+	}
+
+	/** 📨 Network.responseReceived */
+	public static final class ResponseReceived {
+		public final String requestId;
+		public final String url;
+		public final int status;
+		public final long encodedDataLength;
+		public final ResourceTiming timing; // null إذا لم تتوفر | null when not reported
+
+		ResponseReceived(String requestId, String url, int status, long encodedDataLength, ResourceTiming timing) {
+			this.requestId = requestId;
+			this.url = url;
+			this.status = status;
+			this.encodedDataLength = encodedDataLength;
+			this.timing = timing;
+		}
+	}
+
+	/** ✅ Network.loadingFinished */
+	public static final class LoadingFinished {
+		public final String requestId;
+		public final double timestampMs;
+		public final long encodedDataLength;
+
+		LoadingFinished(String requestId, double timestampMs, long encodedDataLength) {
+			this.requestId = requestId;
+			this.timestampMs = timestampMs;
+			this.encodedDataLength = encodedDataLength;
+		}
+	}
+
+	/** ❌ Network.loadingFailed */
+	public static final class LoadingFailed {
+		public final String requestId;
+		public final double timestampMs;
+		public final String resourceType;
+		public final String errorText;
+
+		LoadingFailed(String requestId, double timestampMs, String resourceType, String errorText) {
+			this.requestId = requestId;
+			this.timestampMs = timestampMs;
+			this.resourceType = resourceType;
+			this.errorText = errorText;
+		}
+	}
+
+	/** ⬇️ Browser.downloadWillBegin */
+	public static final class DownloadStarted {
+		public final String guid;
+		public final String url;
+		public final String suggestedFilename;
+
+		DownloadStarted(String guid, String url, String suggestedFilename) {
+			this.guid = guid;
+			this.url = url;
+			this.suggestedFilename = suggestedFilename;
+		}
+	}
+
+	/** 📶 Browser.downloadProgress */
+	public static final class DownloadUpdate {
+		public enum State {
+			IN_PROGRESS, COMPLETED, CANCELED
+		}
+
+		public final String guid;
+		public final State state;
+		public final long receivedBytes;
+		public final long totalBytes;
+
+		DownloadUpdate(String guid, State state, long receivedBytes, long totalBytes) {
+			this.guid = guid;
+			this.state = state;
+			this.receivedBytes = receivedBytes;
+			this.totalBytes = totalBytes;
+		}
+
+		public boolean isDone() {
+			return state != State.IN_PROGRESS;
+		}
+	}
+
+	/**
+	 * ⏸️ Fetch.requestPaused (مرحلة الطلب أو الاستجابة) | Fetch.requestPaused at
+	 * the request or response stage
+	 */
+	public static final class PausedRequest {
+		public final String requestId;
+		public final String url;
+		public final String method;
+		public final String resourceType;
+		public final int status; // 0 في مرحلة الطلب، -1 لاستجابة فاشلة | 0 at the request stage, -1 for a failed response
+		public final String contentType; // null في مرحلة الطلب | null at the request stage
+
+		PausedRequest(String requestId, String url, String method, String resourceType, int status,
+				String contentType) {
+			this.requestId = requestId;
+			this.url = url;
+			this.method = method;
+			this.resourceType = resourceType;
+			this.status = status;
+			this.contentType = contentType;
+		}
+
+		public boolean isResponse() {
+			return status != 0;
+		}
+	}
+
+	/** ❌ أسباب فشل الطلب المُحاكى | Network error reasons for a failed request */
+	public enum FailReason {
+		FAILED, ABORTED, TIMED_OUT, CONNECTION_REFUSED
+	}
+
+	/**
+	 * 🧲 معالج طلب موقوف: يُرجع true إذا تكفّل بالرد (fulfill/fail/continue، ولو
+	 * لاحقًا)، وإلا يُكمل المحور الطلب كما هو
+	 *
+	 * 🧲 Handles a paused request. Returns true when it takes responsibility for
+	 * answering it (fulfill, fail or continue, possibly later); otherwise the hub
+	 * continues the request unchanged.
+	 */
+	@FunctionalInterface
+	public interface FetchHandler {
+		boolean handle(PausedRequest request);
+	}
+
+	/**
+	 * 📨 نوع حدث: اسم + طريقة ربط المستمع الخام وتحويله | An event type: name
+	 * plus how its raw listener is bound and converted
+	 */
+	public static final class Event<T> {
+		private final String name;
+		private final BiConsumer<DevTools, Consumer<T>> binder;
+
+		private Event(String name, BiConsumer<DevTools, Consumer<T>> binder) {
+			this.name = name;
+			this.binder = binder;
+		}
+
+		@Override
+		public String toString() {
+			return name;
+		}
+	}
+
+	public static final Event<RequestSent> REQUEST_WILL_BE_SENT = new Event<>("Network.requestWillBeSent",
+			(dt, sink) -> dt.addListener(Network.requestWillBeSent(),
+					e -> sink.accept(new RequestSent(e.getRequestId().toString(), e.getRequest().getUrl(),
+							e.getRequest().getMethod(), e.getWallTime().toJson().doubleValue() * 1000,
+							e.getTimestamp().toJson().doubleValue() * 1000))));
+
+	public static final Event<ResponseReceived> RESPONSE_RECEIVED = new Event<>("Network.responseReceived",
+			(dt, sink) -> dt.addListener(Network.responseReceived(), e -> {
+				var r = e.getResponse();
+				sink.accept(new ResponseReceived(e.getRequestId().toString(), r.getUrl(), r.getStatus().intValue(),
+						r.getEncodedDataLength() == null ? 0L : r.getEncodedDataLength().longValue(),
+						r.getTiming().map(ResourceTiming::new).orElse(null)));
+			}));
+
+	public static final Event<LoadingFinished> LOADING_FINISHED = new Event<>("Network.loadingFinished",
+			(dt, sink) -> dt.addListener(Network.loadingFinished(),
+					e -> sink.accept(new LoadingFinished(e.getRequestId().toString(),
+							e.getTimestamp().toJson().doubleValue() * 1000, e.getEncodedDataLength().longValue()))));
+
+	public static final Event<LoadingFailed> LOADING_FAILED = new Event<>("Network.loadingFailed",
+			(dt, sink) -> dt.addListener(Network.loadingFailed(),
+					e -> sink.accept(new LoadingFailed(e.getRequestId().toString(),
+							e.getTimestamp().toJson().doubleValue() * 1000, e.getType().toString(),
+							e.getErrorText()))));
+
+	public static final Event<DownloadStarted> DOWNLOAD_WILL_BEGIN = new Event<>("Browser.downloadWillBegin",
+			(dt, sink) -> dt.addListener(Browser.downloadWillBegin(),
+					e -> sink.accept(new DownloadStarted(e.getGuid(), e.getUrl(), e.getSuggestedFilename()))));
+
+	public static final Event<DownloadUpdate> DOWNLOAD_PROGRESS = new Event<>("Browser.downloadProgress",
+			(dt, sink) -> dt.addListener(Browser.downloadProgress(), e -> {
+				DownloadUpdate.State st = e.getState() == DownloadProgress.State.COMPLETED
+						? DownloadUpdate.State.COMPLETED
+						: e.getState() == DownloadProgress.State.CANCELED ? DownloadUpdate.State.CANCELED
+								: DownloadUpdate.State.IN_PROGRESS;
+				sink.accept(new DownloadUpdate(e.getGuid(), st, e.getReceivedBytes().longValue(),
+						e.getTotalBytes().longValue()));
+			}));
+
+	// ===================== 🗂️ سجل المحاور لكل متصفح | Per-driver registry =====================
+
+	private static final Map<WebDriver, CdpHub> HUBS = new ConcurrentHashMap<>();
+	private static final AtomicInteger SEQ = new AtomicInteger();
+
+	private static final LongAdder SESSIONS = new LongAdder();
+	private static final LongAdder RAW_LISTENERS = new LongAdder();
+	private static final LongAdder SUBSCRIPTIONS = new LongAdder();
+	private static final LongAdder DISPATCHED = new LongAdder();
+	private static final LongAdder ENABLES_SENT = new LongAdder();
+	private static final LongAdder ENABLES_SHARED = new LongAdder();
+	private static final LongAdder LEAKED = new LongAdder();
+	private static final LongAdder PAUSED = new LongAdder();
+
+	static {
+		SuiteMetrics.register("🔌 CDP hub", CdpHub::summary);
+	}
+
+	private final DevTools devTools;
+	private final ExecutorService dispatcher;
+	private final Map<Event<?>, List<Consumer<?>>> subscribers = new ConcurrentHashMap<>();
+	private final Map<Domain, Integer> leases = new EnumMap<>(Domain.class);
+	// 🧲 معالجات Fetch بالترتيب مع أنماط روابطها | Fetch handlers in order, with their URL patterns
+	private final List<Interceptor> interceptors = new CopyOnWriteArrayList<>();
+	private boolean fetchBound;
+
+	private CdpHub(WebDriver driver) {
+		this.devTools = ((HasDevTools) driver).getDevTools();
+		devTools.createSessionIfThereIsNotOne();
+		SESSIONS.increment();
+		String name = "cdp-hub-" + SEQ.incrementAndGet();
+		this.dispatcher = Executors.newSingleThreadExecutor(r -> {
+			Thread t = new Thread(r, name);
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	/**
+	 * 🔌 محور CDP للمتصفح (يُنشأ مع أول استدعاء ويفتح جلسة واحدة)
+	 *
+	 * 🔌 Returns the driver's hub, opening its single DevTools session on first
+	 * use.
+	 *
+	 * @param driver المتصفح | Driver
+	 * @return المحور، أو فارغ إذا لم يدعم المتصفح DevTools | The hub, or empty
+	 *         when the driver has no DevTools (Firefox)
+	 * @throws RuntimeException إذا فشل فتح الجلسة | If the session cannot be
+	 *                          opened
+	 */
+	public static Optional<CdpHub> of(WebDriver driver) {
+		if (!(driver instanceof HasDevTools))
+			return Optional.empty();
+		return Optional.of(HUBS.computeIfAbsent(driver, CdpHub::new));
+	}
+
+	/**
+	 * 🔎 المحور إذا كان مفتوحًا مسبقًا (بدون إنشاء) | The hub if already open,
+	 * without creating one
+	 *
+	 * @param driver المتصفح | Driver
+	 * @return المحور أو فارغ | Hub or empty
+	 */
+	public static Optional<CdpHub> find(WebDriver driver) {
+		return driver == null ? Optional.empty() : Optional.ofNullable(HUBS.get(driver));
+	}
+
+	/**
+	 * 🛑 إغلاق محور المتصفح (قبل driver.quit) | Closes the driver's hub; call
+	 * before quitting the driver
+	 *
+	 * @param driver المتصفح | Driver
+	 */
+	public static void close(WebDriver driver) {
+		CdpHub hub = driver == null ? null : HUBS.remove(driver);
+		if (hub == null)
+			return;
+		try {
+			hub.devTools.clearListeners();
+		} catch (Exception ignore) {
+		}
+		hub.subscribers.clear();
+		hub.interceptors.clear();
+		hub.dispatcher.shutdownNow();
+	}
+
+	/**
+	 * 📨 الاشتراك في حدث
+	 *
+	 * 🔹 أول مشترك في نوع حدث يربط مستمعًا خامًا واحدًا في DevTools؛ بعده يكلّف
+	 * الاشتراك إضافة إلى قائمة فقط. الأحداث تُسلَّم بالترتيب على خيط التوزيع
+	 * الخاص بالمتصفح، فيجب ألا يحجبه المشترك.
+	 *
+	 * 📨 Subscribes to an event. The first subscriber of an event type binds one
+	 * raw DevTools listener; later ones only join a list. Events are delivered in
+	 * order on this driver's dispatch thread, so subscribers must not block.
+	 *
+	 * @param event    نوع الحدث (مثل CdpHub.LOADING_FAILED) | Event type
+	 * @param consumer المشترك | Subscriber
+	 * @return اشتراك يُغلق لإلغائه | Registration that unsubscribes on close
+	 */
+	public synchronized <T> Registration subscribe(Event<T> event, Consumer<? super T> consumer) {
+		List<Consumer<?>> list = subscribers.get(event);
+		if (list == null) {
+			list = new CopyOnWriteArrayList<>();
+			subscribers.put(event, list);
+			event.binder.accept(devTools, value -> dispatch(event, value));
+			RAW_LISTENERS.increment();
+		}
+		list.add(consumer);
+		SUBSCRIPTIONS.increment();
+		List<Consumer<?>> target = list;
+		AtomicBoolean closed = new AtomicBoolean();
+		return () -> {
+			if (closed.compareAndSet(false, true))
+				target.remove(consumer);
+		};
+	}
+
+	/**
+	 * 🧩 حجز مجال CDP (enable عند أول حجز، disable عند إغلاق آخر حجز)
+	 *
+	 * 🧩 Leases a domain: it is enabled by the first lease and disabled when the
+	 * last lease closes, so one consumer stopping never turns it off for another.
+	 *
+	 * @param domain المجال | Domain
+	 * @return حجز يُغلق لتحريره | Lease released on close
+	 */
+	public synchronized Registration enable(Domain domain) {
+		int n = leases.merge(domain, 1, Integer::sum);
+		if (n == 1) {
+			try {
+				send(domain, true);
+				ENABLES_SENT.increment();
+			} catch (RuntimeException e) {
+				leases.remove(domain);
+				throw e;
+			}
+		} else {
+			ENABLES_SHARED.increment();
+		}
+		AtomicBoolean closed = new AtomicBoolean();
+		return () -> {
+			if (closed.compareAndSet(false, true))
+				release(domain);
+		};
+	}
+
+	/**
+	 * 🧽 إزالة كل المشتركين ومعالجات Fetch (شبكة أمان عند إعادة الجلسة إلى
+	 * DriverPool)
+	 *
+	 * 🧽 Drops every subscriber and Fetch handler; a safety net when the session
+	 * goes back to the DriverPool. Anything still attached here was never closed
+	 * by its owner and is counted as leaked.
+	 *
+	 * @return عدد المشتركين المُزالين | Subscribers dropped
+	 */
+	public synchronized int dropSubscribers() {
+		int dropped = 0;
+		for (List<Consumer<?>> list : subscribers.values()) {
+			dropped += list.size();
+			list.clear();
+		}
+		if (!interceptors.isEmpty()) {
+			dropped += interceptors.size();
+			interceptors.clear();
+			refreshFetch();
+		}
+		LEAKED.add(dropped);
+		return dropped;
+	}
+
+	/**
+	 * 🧲 اعتراض الطلبات عبر مجال Fetch
+	 *
+	 * 🔹 يُفعَّل Fetch بأنماط كل المعالجات النشطة فقط (لا يُوقف أي طلب آخر)، ويُعطَّل
+	 * عند إغلاق آخر معالج. المعالجات تُستدعى بالترتيب على خيط التوزيع، وأول معالج
+	 * يُرجع true يتكفّل بالرد؛ إن لم يتكفّل أحد يُكمل الطلب كما هو.
+	 *
+	 * 🧲 Intercepts requests through the Fetch domain. Fetch is enabled only for
+	 * the URL patterns of the active handlers, so other requests are never
+	 * paused, and disabled when the last handler closes. Handlers run in order
+	 * on the dispatch thread; the first returning true owns the answer, and an
+	 * unclaimed request is continued unchanged.
+	 *
+	 * @param urlPatterns أنماط CDP (* تطابق أي نص) | CDP URL patterns (*
+	 *                    wildcard)
+	 * @param handler     المعالج | Handler
+	 * @return اشتراك يُغلق لإيقاف الاعتراض | Registration that stops
+	 *         intercepting on close
+	 */
+	public Registration intercept(List<String> urlPatterns, FetchHandler handler) {
+		return intercept(urlPatterns, false, handler);
+	}
+
+	/**
+	 * 📼 اعتراض الاستجابات قبل وصولها للصفحة (لقراءة المحتوى عبر
+	 * {@link #responseBody(String)}) | Intercepts responses before the page sees
+	 * them, so their body can be read with {@link #responseBody(String)}
+	 *
+	 * @param urlPatterns أنماط CDP | CDP URL patterns
+	 * @param handler     المعالج | Handler
+	 * @return اشتراك يُغلق لإيقاف الاعتراض | Registration that stops
+	 *         intercepting on close
+	 */
+	public Registration interceptResponses(List<String> urlPatterns, FetchHandler handler) {
+		return intercept(urlPatterns, true, handler);
+	}
+
+	private synchronized Registration intercept(List<String> urlPatterns, boolean responseStage,
+			FetchHandler handler) {
+		if (!fetchBound) {
+			devTools.addListener(Fetch.requestPaused(), e -> onPaused(paused(e)));
+			fetchBound = true;
+			RAW_LISTENERS.increment();
+		}
+		Interceptor interceptor = new Interceptor(List.copyOf(urlPatterns), responseStage, handler);
+		interceptors.add(interceptor);
+		refreshFetch();
+		AtomicBoolean closed = new AtomicBoolean();
+		return () -> {
+			if (closed.compareAndSet(false, true)) {
+				synchronized (this) {
+					interceptors.remove(interceptor);
+					refreshFetch();
+				}
+			}
+		};
+	}
+
+	// ===================== 📤 الأوامر | Commands =====================
+
+	/**
+	 * 📦 الرد على طلب موقوف باستجابة مُعدّة | Answers a paused request with a
+	 * canned response
+	 *
+	 * @param requestId معرّف الطلب الموقوف | Paused request id
+	 * @param status    رمز الحالة | Status code
+	 * @param headers   الترويسات | Response headers
+	 * @param body      المحتوى | Body bytes
+	 */
+	public void fulfill(String requestId, int status, Map<String, String> headers, byte[] body) {
+		List<HeaderEntry> entries = new ArrayList<>();
+		headers.forEach((k, v) -> entries.add(new HeaderEntry(k, v)));
+		devTools.send(Fetch.fulfillRequest(new org.openqa.selenium.devtools.v136.fetch.model.RequestId(requestId),
+				status, Optional.of(entries), Optional.empty(),
+				Optional.of(Base64.getEncoder().encodeToString(body)), Optional.empty()));
+	}
+
+	/**
+	 * 📄 محتوى استجابة موقوفة (مرحلة الاستجابة فقط) | Body of a response paused at
+	 * the response stage
+	 *
+	 * @param requestId معرّف الطلب الموقوف | Paused request id
+	 * @return المحتوى | Body bytes
+	 */
+	public byte[] responseBody(String requestId) {
+		Fetch.GetResponseBodyResponse r = devTools
+				.send(Fetch.getResponseBody(new org.openqa.selenium.devtools.v136.fetch.model.RequestId(requestId)));
+		return r.getBase64Encoded() ? Base64.getDecoder().decode(r.getBody())
+				: r.getBody().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * ❌ إفشال طلب موقوف بخطأ شبكة | Fails a paused request with a network error
+	 *
+	 * @param requestId معرّف الطلب الموقوف | Paused request id
+	 * @param reason    السبب | Reason
+	 */
+	public void fail(String requestId, FailReason reason) {
+		ErrorReason r = switch (reason) {
+		case ABORTED -> ErrorReason.ABORTED;
+		case TIMED_OUT -> ErrorReason.TIMEDOUT;
+		case CONNECTION_REFUSED -> ErrorReason.CONNECTIONREFUSED;
+		default -> ErrorReason.FAILED;
+		};
+		devTools.send(Fetch.failRequest(new org.openqa.selenium.devtools.v136.fetch.model.RequestId(requestId), r));
+	}
+
+	/**
+	 * ▶️ إكمال طلب موقوف بدون تعديل | Continues a paused request unchanged
+	 *
+	 * @param requestId معرّف الطلب الموقوف | Paused request id
+	 */
+	public void continueRequest(String requestId) {
+		devTools.send(Fetch.continueRequest(new org.openqa.selenium.devtools.v136.fetch.model.RequestId(requestId),
+				Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty()));
+	}
+
+	/**
+	 * 🚫 حجب أنماط روابط (قائمة فارغة تُلغي الحجب) | Blocks URL patterns; an empty
+	 * list clears them. Requires a NETWORK lease.
+	 *
+	 * @param patterns الأنماط (* تطابق أي نص) | Patterns, * is a wildcard
+	 */
+	public void setBlockedUrls(List<String> patterns) {
+		devTools.send(Network.setBlockedURLs(patterns));
+	}
+
+	/**
+	 * 📶 محاكاة ظروف الشبكة (-1 = بدون حد للإنتاجية) | Emulates network
+	 * conditions; -1 throughput disables the limit. Requires a NETWORK lease.
+	 *
+	 * @param latencyMs          زمن الاستجابة | Added latency
+	 * @param downloadBytesPerSec إنتاجية التنزيل | Download throughput
+	 * @param uploadBytesPerSec  إنتاجية الرفع | Upload throughput
+	 * @param packetLossPercent  نسبة فقدان الحزم | Packet loss, percent
+	 */
+	public void emulateNetworkConditions(long latencyMs, long downloadBytesPerSec, long uploadBytesPerSec,
+			double packetLossPercent) {
+		devTools.send(Network.emulateNetworkConditions(false, latencyMs, downloadBytesPerSec, uploadBytesPerSec,
+				Optional.empty(), Optional.of(packetLossPercent), Optional.empty(), Optional.empty()));
+	}
+
+	/**
+	 * ⬇️ السماح بالتنزيل إلى مجلد مع تفعيل أحداث التنزيل، أو إعادة السلوك
+	 * الافتراضي
+	 *
+	 * ⬇️ Allows downloads into a folder with download events enabled, or
+	 * restores the browser default (events off).
+	 *
+	 * @param allow       true للسماح مع الأحداث | true to allow with events
+	 * @param downloadDir المجلد (null = الافتراضي) | Folder, null for the default
+	 */
+	public void setDownloadBehavior(boolean allow, Path downloadDir) {
+		if (allow)
+			devTools.send(Browser.setDownloadBehavior(Browser.SetDownloadBehaviorBehavior.ALLOW, Optional.empty(),
+					Optional.ofNullable(downloadDir == null ? null : downloadDir.toString()), Optional.of(true)));
+		else
+			devTools.send(Browser.setDownloadBehavior(Browser.SetDownloadBehaviorBehavior.DEFAULT, Optional.empty(),
+					Optional.empty(), Optional.of(false)));
+	}
+
+	/**
+	 * 📊 مقاييس Performance.getMetrics بالاسم | Performance.getMetrics by name.
+	 * Requires a PERFORMANCE lease.
+	 *
+	 * @return المقاييس (مثل JSHeapUsedSize, Nodes) | Metrics, e.g. JSHeapUsedSize
+	 */
+	public Map<String, Double> performanceMetrics() {
+		Map<String, Double> metrics = new LinkedHashMap<>();
+		for (Metric m : devTools.send(Performance.getMetrics()))
+			metrics.put(m.getName(), m.getValue().doubleValue());
+		return metrics;
+	}
+
+	/**
+	 * 🧹 جمع القمامة في صفحة المتصفح (HeapProfiler.collectGarbage) | Forces a
+	 * garbage collection in the page
+	 */
+	public void collectGarbage() {
+		devTools.send(HeapProfiler.collectGarbage());
+	}
+
+	// ===================== ⚙️ داخلي | Internals =====================
+
+	@SuppressWarnings("unchecked")
+	private <T> void dispatch(Event<T> event, T value) {
+		List<Consumer<?>> list = subscribers.get(event);
+		if (list == null || list.isEmpty())
+			return;
+		try {
+			dispatcher.execute(() -> {
+				for (Consumer<?> c : list) {
+					try {
+						((Consumer<T>) c).accept(value);
+					} catch (RuntimeException e) {
+						System.out.println("⚠️ CDP subscriber of " + event + " failed: " + e.getMessage());
+					}
+				}
+			});
+			DISPATCHED.increment();
+		} catch (RejectedExecutionException ignore) {
+			// 🔹 المحور مغلق | Hub already closed
+		}
+	}
+
+	// ⏸️ على خيط CDP: التسليم لخيط التوزيع، وإكمال الطلب إذا لم يتكفّل به أحد
+	// On the CDP thread: hand over to the dispatch thread; continue the request if nobody claims it
+	private void onPaused(PausedRequest request) {
+		PAUSED.increment();
+		Runnable work = () -> {
+			for (Interceptor i : interceptors) {
+				if (i.responseStage != request.isResponse())
+					continue;
+				try {
+					if (i.handler.handle(request))
+						return;
+				} catch (RuntimeException e) {
+					System.out.println("⚠️ Fetch handler failed for " + request.url + ": " + e.getMessage());
+				}
+			}
+			safeContinue(request.requestId);
+		};
+		try {
+			dispatcher.execute(work);
+		} catch (RejectedExecutionException e) {
+			safeContinue(request.requestId);
+		}
+	}
+
+	private void safeContinue(String requestId) {
+		try {
+			continueRequest(requestId);
+		} catch (Exception e) {
+			System.out.println("⚠️ Failed to continue paused request " + requestId + ": " + e.getMessage());
+		}
+	}
+
+	// 🔁 إعادة Fetch.enable باتحاد الأنماط أو تعطيله | Re-enables Fetch with the pattern union, or disables it
+	private void refreshFetch() {
+		Set<String> union = new LinkedHashSet<>();
+		for (Interceptor i : interceptors)
+			for (String p : i.patterns)
+				union.add((i.responseStage ? "R|" : "Q|") + p);
+		try {
+			if (union.isEmpty()) {
+				devTools.send(Fetch.disable());
+				return;
+			}
+			List<RequestPattern> patterns = new ArrayList<>();
+			for (String p : union)
+				patterns.add(new RequestPattern(Optional.of(p.substring(2)), Optional.empty(),
+						Optional.of(p.startsWith("R|") ? RequestStage.RESPONSE : RequestStage.REQUEST)));
+			devTools.send(Fetch.enable(Optional.of(patterns), Optional.of(false)));
+		} catch (RuntimeException e) {
+			System.out.println("⚠️ Failed to update CDP Fetch patterns: " + e.getMessage());
+			if (!union.isEmpty())
+				throw e;
+		}
+	}
+
+	private static PausedRequest paused(RequestPaused e) {
+		int status = e.getResponseErrorReason().isPresent() ? -1 : e.getResponseStatusCode().orElse(0);
+		String contentType = null;
+		for (HeaderEntry h : e.getResponseHeaders().orElse(List.of())) {
+			if ("content-type".equalsIgnoreCase(h.getName()))
+				contentType = h.getValue();
+		}
+		return new PausedRequest(e.getRequestId().toString(), e.getRequest().getUrl(), e.getRequest().getMethod(),
+				e.getResourceType().toString(), status, contentType);
+	}
+
+	private static final class Interceptor {
+		final List<String> patterns;
+		final boolean responseStage;
+		final FetchHandler handler;
+
+		Interceptor(List<String> patterns, boolean responseStage, FetchHandler handler) {
+			this.patterns = patterns;
+			this.responseStage = responseStage;
+			this.handler = handler;
+		}
+	}
+
+	private synchronized void release(Domain domain) {
+		Integer n = leases.get(domain);
+		if (n == null)
+			return;
+		if (n > 1) {
+			leases.put(domain, n - 1);
+			return;
+		}
+		leases.remove(domain);
+		try {
+			send(domain, false);
+		} catch (Exception e) {
+			System.out.println("⚠️ Failed to disable CDP " + domain + ": " + e.getMessage());
+		}
+	}
+
+	private void send(Domain domain, boolean enable) {
+		switch (domain) {
+		case NETWORK -> devTools.send(enable ? Network.enable(Optional.empty(), Optional.empty(), Optional.empty())
+				: Network.disable());
+		case PERFORMANCE -> devTools.send(enable ? Performance.enable(Optional.empty()) : Performance.disable());
+		}
+	}
+
+	private static String summary() {
+		return String.format("sessions=%d rawListeners=%d subscriptions=%d eventsDispatched=%d domainEnables=%d"
+				+ " sharedEnables=%d leakedSubscribers=%d pausedRequests=%d", SESSIONS.sum(), RAW_LISTENERS.sum(),
+				SUBSCRIPTIONS.sum(), DISPATCHED.sum(), ENABLES_SENT.sum(), ENABLES_SHARED.sum(), LEAKED.sum(),
+				PAUSED.sum());
+	}
+
+}
@@ -0,0 +1,149 @@
+package com.falak.qa.net;
+
+import org.openqa.selenium.WebDriver;
+
+import io.qameta.allure.Allure;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class CdpNetworkIdle implements NetworkIdle {
+
+	// ⏳ الطلبات الأقدم من هذا الحد (long-polling / SSE) لا تمنع السكون
+	// Requests older than this (long-polling, SSE) do not block idleness
+	private static final long STALE_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+	private final CdpHub hub;
+	private final List<CdpHub.Registration> registrations = new ArrayList<>();
+	private final Map<String, Long> inFlight = new ConcurrentHashMap<>();
+	private final Object signal = new Object();
+	private volatile long lastActivity = System.nanoTime();
+	private boolean started = false;
+
+	/**
+	 * 🛠️ المُنشئ: يربط WebDriver مع محور CDP المشترك
+	 *
+	 * 🛠️ Constructor: binds to the driver's shared CDP hub.
+	 *
+	 * @param driver كائن WebDriver المستخدم | The WebDriver instance
+	 */
+	public CdpNetworkIdle(WebDriver driver) {
+		this.hub = CdpHub.of(driver).orElseThrow(() -> new IllegalStateException("Driver has no DevTools"));
+	}
+
+	/**
+	 * ▶️ بدء تتبع الطلبات عبر requestWillBeSent / loadingFinished / loadingFailed
+	 *
+	 * ▶️ Starts tracking requests via CDP requestWillBeSent, loadingFinished and
+	 * loadingFailed.
+	 */
+	@Override
+	public void start() {
+		if (started)
+			return;
+		try {
+			registrations.add(hub.enable(CdpHub.Domain.NETWORK));
+			registrations.add(hub.subscribe(CdpHub.REQUEST_WILL_BE_SENT, evt -> {
+				inFlight.put(evt.requestId, System.nanoTime());
+				touch();
+			}));
+			registrations.add(hub.subscribe(CdpHub.LOADING_FINISHED, evt -> {
+				inFlight.remove(evt.requestId);
+				touch();
+			}));
+			registrations.add(hub.subscribe(CdpHub.LOADING_FAILED, evt -> {
+				inFlight.remove(evt.requestId);
+				touch();
+			}));
+			started = true;
+		} catch (Exception e) {
+			registrations.forEach(CdpHub.Registration::close);
+			registrations.clear();
+			String msg = "❌ Failed to start CDP network-idle tracking";
+			Allure.attachment("CdpNetworkIdle Start Error", msg);
+			throw new RuntimeException(msg, e);
+		}
+	}
+
+	@Override
+	public long mark() {
+		return System.nanoTime();
+	}
+
+	@Override
+	public boolean awaitIdle(long mark, Duration quiet, Duration timeout) {
+		long deadline = System.nanoTime() + timeout.toNanos();
+		long quietNanos = quiet.toNanos();
+
+		while (true) {
+			long now = System.nanoTime();
+			long waitNanos;
+			if (inFlight() == 0) {
+				long quietFor = now - Math.max(lastActivity, mark);
+				if (quietFor >= quietNanos)
+					return true;
+				waitNanos = quietNanos - quietFor;
+			} else {
+				// 🔁 إعادة الفحص دوريًا حتى تُستبعد الطلبات المعلّقة (STALE_NANOS)
+				waitNanos = TimeUnit.MILLISECONDS.toNanos(500);
+			}
+			waitNanos = Math.min(waitNanos, deadline - now);
+			if (waitNanos <= 0)
+				return false;
+
+			// 💤 انتظار أول حدث شبكة (أو انتهاء فترة السكون المتبقية)
+			synchronized (signal) {
+				try {
+					TimeUnit.NANOSECONDS.timedWait(signal, waitNanos);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return false;
+				}
+			}
+		}
+	}
+
+	@Override
+	public int inFlight() {
+		long cutoff = System.nanoTime() - STALE_NANOS;
+		inFlight.values().removeIf(sentAt -> sentAt < cutoff);
+		return inFlight.size();
+	}
+
+	/**
+	 * ⏹️ إيقاف التتبع
+	 *
+	 * 🔹 تُلغى الاشتراكات ويُحرَّر حجز Network لأن الجلسة قد يُعاد استخدامها من
+	 * DriverPool؛ لا يتأثر أي مستهلك آخر على نفس المحور.
+	 *
+	 * ⏹️ Stops tracking. Subscriptions are closed and the Network lease released
+	 * because the session may be reused by the DriverPool; other consumers of the
+	 * same hub are unaffected.
+	 */
+	@Override
+	public void close() {
+		if (!started)
+			return;
+		try {
+			registrations.forEach(CdpHub.Registration::close);
+			registrations.clear();
+		} catch (Exception e) {
+			Allure.step("⚠️ Failed to clear network-idle listeners: " + e.getMessage());
+		} finally {
+			inFlight.clear();
+			started = false;
+		}
+	}
+
+	private void touch() {
+		lastActivity = System.nanoTime();
+		synchronized (signal) {
+			signal.notifyAll();
+		}
+	}
+
+}
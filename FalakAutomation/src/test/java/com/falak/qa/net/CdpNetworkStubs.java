@@ -0,0 +1,154 @@
+package com.falak.qa.net;
+
+import org.openqa.selenium.WebDriver;
+
+import io.qameta.allure.Allure;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+//	✅ CdpNetworkStubs: استبدال الردود عبر مجال Fetch في CDP (يُوقف فقط الطلبات المطابقة لأنماط القواعد)
+// Stubs responses through the CDP Fetch domain; only requests matching a rule pattern are ever paused
+public class CdpNetworkStubs implements NetworkStubs {
+
+	// ⏳ الردود المؤجلة تُجدول هنا حتى لا ينام خيط توزيع CDP المشترك
+	// Delayed answers are scheduled here so the shared CDP dispatch thread never sleeps
+	private static final ScheduledExecutorService DELAYS = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread t = new Thread(r, "cdp-stub-delay");
+		t.setDaemon(true);
+		return t;
+	});
+
+	private final CdpHub hub;
+	private final List<StubRule> rules = new CopyOnWriteArrayList<>();
+	private CdpHub.Registration registration;
+	private CdpHub.Registration recording;
+
+	/**
+	 * 🌐 مُنشئ CdpNetworkStubs باستخدام جلسة CDP المشتركة للمتصفح
+	 *
+	 * 🌐 Builds stubs on the driver's shared CDP hub.
+	 *
+	 * @param driver متصفح يدعم DevTools | DevTools-capable driver
+	 * @throws IllegalStateException إذا لم يدعم المتصفح DevTools | If DevTools is
+	 *                               unavailable
+	 */
+	public CdpNetworkStubs(WebDriver driver) {
+		this.hub = CdpHub.of(driver).orElseThrow(() -> new IllegalStateException("❌ DevTools not available"));
+	}
+
+	@Override
+	public synchronized void add(StubRule... newRules) {
+		for (StubRule r : newRules) {
+			rules.add(r);
+			StubRule.registered();
+			Allure.step("🧪 Stub (CDP Fetch): " + r);
+		}
+		reinstall();
+	}
+
+	@Override
+	public synchronized void record(String urlGlob, FixtureStore store) {
+		if (recording != null)
+			recording.close();
+		Pattern pattern = StubRule.globPattern(urlGlob);
+		recording = hub.interceptResponses(List.of("*" + urlGlob + "*"), response -> {
+			if (!pattern.matcher(response.url).find())
+				return false;
+			// 🔹 التحويلات (3xx) والاستجابات الفاشلة بلا محتوى | Redirects and failed responses carry no body
+			if (response.status >= 200 && (response.status < 300 || response.status >= 400)) {
+				try {
+					store.record(response.method, response.url, response.status, response.contentType,
+							hub.responseBody(response.requestId));
+				} catch (Exception e) {
+					System.out.println("⚠️ Failed to record " + response.url + ": " + e.getMessage());
+				}
+			}
+			hub.continueRequest(response.requestId);
+			return true;
+		});
+		Allure.step("⏺️ Recording " + urlGlob + " responses (CDP Fetch) → " + store.file());
+	}
+
+	@Override
+	public List<StubRule> rules() {
+		return Collections.unmodifiableList(rules);
+	}
+
+	@Override
+	public synchronized void clear() {
+		rules.clear();
+		reinstall();
+	}
+
+	@Override
+	public synchronized void close() {
+		if (registration != null) {
+			registration.close();
+			registration = null;
+		}
+		if (recording != null) {
+			recording.close();
+			recording = null;
+		}
+		StubRule.report("CDP Fetch", rules);
+	}
+
+	// 🔁 إعادة تسجيل المعالج بأنماط القواعد الحالية | Re-registers the handler with the current rule patterns
+	private void reinstall() {
+		if (registration != null) {
+			registration.close();
+			registration = null;
+		}
+		if (rules.isEmpty())
+			return;
+		List<String> patterns = new ArrayList<>();
+		for (StubRule r : rules)
+			patterns.add(r.cdpPattern());
+		registration = hub.intercept(patterns, this::handle);
+	}
+
+	// 🧲 على خيط توزيع المحور: أول قاعدة مطابقة تتكفّل بالرد | On the hub dispatch thread: first matching rule answers
+	private boolean handle(CdpHub.PausedRequest request) {
+		StubRule rule = null;
+		for (StubRule r : rules) {
+			if (r.matches(request.url, request.method)) {
+				rule = r;
+				break;
+			}
+		}
+		if (rule == null)
+			return false;
+		rule.hit();
+
+		StubRule matched = rule;
+		Runnable answer = () -> {
+			try {
+				switch (matched.action) {
+				case RESPOND, REPLAY -> {
+					StubRule.Answer a = matched.answer(request.url, request.method);
+					if (a == null)
+						hub.continueRequest(request.requestId);
+					else
+						hub.fulfill(request.requestId, a.status, a.headers, a.body);
+				}
+				case FAIL -> hub.fail(request.requestId, CdpHub.FailReason.FAILED);
+				case DELAY -> hub.continueRequest(request.requestId);
+				}
+			} catch (Exception e) {
+				System.out.println("⚠️ Failed to answer stubbed request " + request.url + ": " + e.getMessage());
+			}
+		};
+		if (matched.delay.isZero())
+			answer.run();
+		else
+			DELAYS.schedule(answer, matched.delay.toMillis(), TimeUnit.MILLISECONDS);
+		return true;
+	}
+}
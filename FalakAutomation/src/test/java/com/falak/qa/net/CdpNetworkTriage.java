@@ -1,25 +1,29 @@
 package com.falak.qa.net;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.devtools.DevTools;
-import org.openqa.selenium.devtools.HasDevTools;
-
-import org.openqa.selenium.devtools.v136.network.Network;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class CdpNetworkTriage implements NetworkTriage {
-	private final DevTools devTools;
-	private final List<TriageEvent> events = Collections.synchronizedList(new ArrayList<>());
-	private volatile List<Pattern> filters = List.of();
+	private final CdpHub hub;
+	// 🔓 الاشتراكات + حجز مجال Network (تُغلق في stop) | Subscriptions and the Network lease, closed in stop()
+	private final List<CdpHub.Registration> registrations = new ArrayList<>();
+	// 🔁 مخزن دائري بدون أقفال يكتب فيه خيط CDP فقط (لا Allure هناك) | Lock-free ring written by the CDP thread
+	private final TriageEventRing events = new TriageEventRing();
+	// ⏱️ توقيتات كل الطلبات + الطلبات الجارية حسب requestId | All request timings, plus in-flight ones by requestId
+	private final NetworkWaterfall waterfall = new NetworkWaterfall();
+	private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+	private volatile String networkProfile = "none";
+	// 🎯 كل الفلاتر مجمّعة في مطابِق واحد (مرور واحد لكل رابط) | All filters compiled into one single-pass matcher
+	private volatile UrlMatcher filters = UrlMatcher.ALL;
 	private boolean started = false;
 
 	/**
@@ -32,7 +36,7 @@ public class CdpNetworkTriage implements NetworkTriage {
 	 */
 	public CdpNetworkTriage(WebDriver driver) {
 		try {
-			this.devTools = ((HasDevTools) driver).getDevTools();
+			this.hub = CdpHub.of(driver).orElseThrow(() -> new IllegalStateException("Driver has no DevTools"));
 			Allure.step("✅ DevTools session prepared successfully");
 		} catch (Exception e) {
 			String msg = "❌ Failed to initialize DevTools from WebDriver";
@@ -56,35 +60,54 @@ public class CdpNetworkTriage implements NetworkTriage {
 			if (started)
 				return;
 
-			// إنشاء جلسة جديدة وتفعيل مراقبة الشبكة
-			devTools.createSession();
-			devTools.send(Network.enable(Optional.empty(), Optional.empty(), Optional.empty()));
+			// 🔌 حجز مجال Network من المحور المشترك (جلسة واحدة لكل متصفح)
+			registrations.add(hub.enable(CdpHub.Domain.NETWORK));
 			Allure.step("✅ CDP Network session enabled");
 
-			// مراقبة أخطاء الاستجابة (status >= 400)
-			devTools.addListener(Network.responseReceived(), evt -> {
-				var r = evt.getResponse();
-				long len = (r.getEncodedDataLength() == null) ? 0L : r.getEncodedDataLength().longValue();
-				if (matches(r.getUrl()) && r.getStatus().intValue() >= 400) {
-					events.add(TriageEvent.responseError(r.getUrl(), evt.getRequestId().toString(),
-							r.getStatus().intValue(), len, Instant.now()));
-					Allure.step("🚨 Response error detected: " + r.getUrl() + " | Status: " + r.getStatus());
+			// ⏱️ بداية كل طلب (الطريقة والوقت) | Start of every request: method and clocks
+			registrations.add(hub.subscribe(CdpHub.REQUEST_WILL_BE_SENT, evt -> {
+				if (evt.url.startsWith("data:"))
+					return;
+				inFlight.put(evt.requestId, new InFlight(evt.url, evt.method, evt.wallTimeMs, evt.timestampMs));
+			}));
+
+			// مراقبة أخطاء الاستجابة (status >= 400) + مراحل التوقيت
+			registrations.add(hub.subscribe(CdpHub.RESPONSE_RECEIVED, evt -> {
+				InFlight f = inFlight.get(evt.requestId);
+				if (f != null) {
+					f.status = evt.status;
+					f.timing = evt.timing;
+				}
+				if (matches(evt.url) && evt.status >= 400) {
+					events.add(TriageEvent.responseError(evt.url, evt.requestId, evt.status, evt.encodedDataLength,
+							Instant.now()));
 				}
-			});
+			}));
+
+			// ⏱️ اكتمال التنزيل → توقيت كامل | Download finished: the timing is complete
+			registrations.add(hub.subscribe(CdpHub.LOADING_FINISHED, evt -> {
+				InFlight f = inFlight.remove(evt.requestId);
+				if (f != null)
+					waterfall.add(f.toTiming(evt.timestampMs, evt.encodedDataLength));
+			}));
 
 			// مراقبة فشل التحميل
-			devTools.addListener(Network.loadingFailed(), evt -> {
-				String id = evt.getRequestId().toString(); // URL قد لا يكون متاحًا
+			registrations.add(hub.subscribe(CdpHub.LOADING_FAILED, evt -> {
+				String id = evt.requestId; // URL قد لا يكون متاحًا
+				InFlight f = inFlight.remove(id);
+				if (f != null)
+					waterfall.add(f.toTiming(evt.timestampMs, 0));
 				if (matches(id)) {
-					events.add(TriageEvent.loadFailed(id, evt.getType().toString(), evt.getErrorText(), Instant.now()));
-					Allure.step("⚠️ Loading failed detected: " + evt.getErrorText());
+					events.add(TriageEvent.loadFailed(id, evt.resourceType, evt.errorText, Instant.now()));
 				}
-			});
+			}));
 
 			started = true;
 			Allure.step("✅ CDP network monitoring started");
 
 		} catch (Exception e) {
+			registrations.forEach(CdpHub.Registration::close);
+			registrations.clear();
 			String msg = "❌ Failed to start CDP network monitoring";
 			Allure.attachment("CdpNetworkTriage Start Error", msg);
 			throw new RuntimeException(msg, e);
@@ -103,8 +126,9 @@ public class CdpNetworkTriage implements NetworkTriage {
 			if (!started)
 				return;
 
-			// تعطيل مراقبة الشبكة
-			devTools.send(Network.disable());
+			// إلغاء الاشتراكات وتحرير Network (يُعطَّل فقط إذا لم يحجزه مستهلك آخر)
+			registrations.forEach(CdpHub.Registration::close);
+			registrations.clear();
 			Allure.step("✅ CDP Network session disabled");
 
 		} catch (Exception e) {
@@ -124,6 +148,8 @@ public class CdpNetworkTriage implements NetworkTriage {
 	@Override
 	@Step("🧹 Clear collected triage events")
 	public void clear() {
+		// 🧾 الأحداث السابقة تُسجَّل في التقرير قبل مسحها | Earlier events are reported before being dropped
+		drainToReport();
 		events.clear();
 		Allure.step("✅ Triage events cleared");
 	}
@@ -141,14 +167,10 @@ public class CdpNetworkTriage implements NetworkTriage {
 	@Step("🎯 Arm triage with URL filters")
 	public void arm(String... urlRegex) {
 		if (urlRegex == null || urlRegex.length == 0) {
-			this.filters = List.of(); // لا فلترة = كل شيء
+			this.filters = UrlMatcher.ALL; // لا فلترة = كل شيء
 			Allure.step("ℹ️ No URL filters provided. Monitoring ALL requests.");
 		} else {
-			List<Pattern> ps = new ArrayList<>();
-			for (String r : urlRegex) {
-				ps.add(Pattern.compile(r));
-			}
-			this.filters = ps;
+			this.filters = UrlMatcher.compile(urlRegex);
 			Allure.step("✅ Armed with " + urlRegex.length + " URL regex filter(s)");
 		}
 	}
@@ -163,18 +185,8 @@ public class CdpNetworkTriage implements NetworkTriage {
 	 * @return true إذا كان يطابق أي فلتر، أو إذا لم توجد فلاتر | true if matches or
 	 *         if no filters
 	 */
-	@Step("🔎 Match URL against active filters")
 	private boolean matches(String url) {
-		if (filters.isEmpty()) {
-			// لا توجد فلاتر = قبول جميع العناوين
-			return true;
-		}
-		for (Pattern p : filters) {
-			if (p.matcher(url).find()) {
-				return true;
-			}
-		}
-		return false;
+		return filters.matches(url);
 	}
 
 	/**
@@ -182,22 +194,17 @@ public class CdpNetworkTriage implements NetworkTriage {
 	 *
 	 * 🚨 Retrieves the first recorded triage error event (if available).
 	 *
+	 * 🔹 O(1) وبدون أقفال أو خطوات Allure: يُستدعى كل دورة انتظار في
+	 * waitForOutcomeWithTriage. | O(1), lock-free and step-free: polled on every
+	 * iteration of waitForOutcomeWithTriage.
+	 *
 	 * 📌 يُستخدم لمراجعة أول مشكلة شبكة تم التقاطها أثناء الجلسة.
 	 *
 	 * @return أول حدث خطأ داخل Optional | The first error event wrapped in Optional
 	 */
 	@Override
-	@Step("🚨 Retrieve first triage error event")
 	public Optional<TriageEvent> firstError() {
-		synchronized (events) {
-			Optional<TriageEvent> first = events.stream().findFirst();
-			if (first.isPresent()) {
-				Allure.step("✅ First error event found: " + first.get().toString());
-			} else {
-				Allure.step("ℹ️ No error events recorded");
-			}
-			return first;
-		}
+		return events.first();
 	}
 
 	/**
@@ -213,10 +220,107 @@ public class CdpNetworkTriage implements NetworkTriage {
 	@Override
 	@Step("📋 Retrieve all collected triage error events")
 	public List<TriageEvent> errors() {
-		synchronized (events) {
-			List<TriageEvent> allErrors = List.copyOf(events);
-			Allure.step("📊 Total error events retrieved: " + allErrors.size());
-			return allErrors;
+		List<TriageEvent> allErrors = events.snapshot();
+		Allure.step("📊 Total error events retrieved: " + allErrors.size());
+		return allErrors;
+	}
+
+	/**
+	 * 🧾 تفريغ الأحداث المخزنة إلى تقرير Allure (على خيط الاختبار) ثم بدء جلسة جديدة
+	 *
+	 * 🧾 Reports the buffered events to Allure from the test thread, including
+	 * how many were overwritten when the ring was full, then starts a new session.
+	 *
+	 * 📌 الهدف: إبقاء خيط CDP خاليًا من أي كتابة في التقرير.
+	 */
+	@Override
+	public void drainToReport() {
+		long recorded = events.recorded();
+		if (recorded == 0)
+			return;
+		List<TriageEvent> retained = events.snapshot();
+		long overwritten = events.overwritten();
+		events.clear();
+
+		for (TriageEvent e : retained) {
+			if (e.kind == TriageEvent.Kind.RESPONSE_ERROR)
+				Allure.step("🚨 Response error detected: " + e.url + " | Status: " + e.status);
+			else
+				Allure.step("⚠️ Loading failed detected: " + e.errorText);
+		}
+		if (overwritten > 0)
+			Allure.step("♻️ " + overwritten + " older triage event(s) overwritten (buffer capacity "
+					+ events.capacity() + ")");
+		if (!"none".equals(networkProfile))
+			Allure.step("📶 Captured under network profile: " + networkProfile);
+		System.out.println("🕸️ Triage events: " + recorded + " recorded, " + overwritten + " overwritten (network profile "
+				+ networkProfile + ")");
+	}
+
+	/**
+	 * 📶 ربط ملف الشبكة بالأحداث والتوقيتات | Tags the reported events and
+	 * timings with the network profile
+	 *
+	 * @param profile معرّف الملف | Profile id
+	 */
+	@Override
+	public void setNetworkProfile(String profile) {
+		this.networkProfile = profile;
+		waterfall.setNetworkProfile(profile);
+	}
+
+	/**
+	 * 🌊 إرفاق المخطط الشلالي وملخص زمن نقاط النهاية للاختبار الحالي
+	 *
+	 * 🌊 Reports the waterfall and per-endpoint latency of the current test, then
+	 * forgets requests that never finished (long polls, aborted navigations).
+	 *
+	 * @param testName اسم الاختبار | Test name
+	 */
+	@Override
+	public void reportTimings(String testName) {
+		inFlight.clear();
+		waterfall.report(testName);
+	}
+
+	// 🛫 طلب جارٍ: يكتمل توقيته عند loadingFinished/loadingFailed | In-flight request, completed on finish/fail
+	private static final class InFlight {
+		final String url;
+		final String method;
+		final double wallStartMs;
+		final double startMs;
+		volatile int status;
+		volatile CdpHub.ResourceTiming timing;
+
+		InFlight(String url, String method, double wallStartMs, double startMs) {
+			this.url = url;
+			this.method = method;
+			this.wallStartMs = wallStartMs;
+			this.startMs = startMs;
+		}
+
+		NetworkWaterfall.Timing toTiming(double endMs, long bytes) {
+			double dns = -1, connect = -1, tls = -1, ttfb = -1, download = -1;
+			CdpHub.ResourceTiming t = timing;
+			if (t != null) {
+				dns = phase(t.dnsStart, t.dnsEnd);
+				tls = phase(t.sslStart, t.sslEnd);
+				connect = phase(t.connectStart, t.connectEnd);
+				// 🔹 في CDP يشمل الاتصال مرحلة TLS | CDP's connect phase includes TLS
+				if (connect >= 0 && tls > 0)
+					connect -= tls;
+				ttfb = phase(t.sendEnd, t.receiveHeadersEnd);
+				double headersAt = t.requestTimeMs + t.receiveHeadersEnd;
+				download = Math.max(0, endMs - headersAt);
+			}
+			return new NetworkWaterfall.Timing(url, method, status, (long) wallStartMs, dns, connect, tls, ttfb,
+					download, Math.max(0, endMs - startMs), bytes);
+		}
+
+		private static double phase(double start, double end) {
+			if (start < 0 || end < 0)
+				return -1;
+			return end - start;
 		}
 	}
 
@@ -0,0 +1,418 @@
+package com.falak.qa.net;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.utils.SuiteMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.qameta.allure.Allure;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+//	✅ FixtureStore: ملف fixtures مضغوط ومفهرس لردود API، يُسجَّل من حركة الشبكة ويُعاد تشغيله عبر الاعتراض
+// Compressed, indexed file of recorded API responses, keyed by method + path + normalized query
+public final class FixtureStore {
+
+	/** 📼 استجابة مُسجّلة | One recorded response */
+	public static final class Entry {
+		public final String key;
+		public final String method;
+		public final String path;
+		public final Map<String, String> query;
+		public final int status;
+		public final String contentType;
+		public final byte[] body;
+
+		Entry(String method, String path, Map<String, String> query, int status, String contentType, byte[] body) {
+			this.key = key(method, path, query);
+			this.method = method;
+			this.path = path;
+			this.query = query;
+			this.status = status;
+			this.contentType = contentType;
+			this.body = body;
+		}
+	}
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+	private static final int VERSION = 1;
+
+	// 🧽 معاملات متغيرة لا تدخل في المفتاح (مثل كاسر الكاش) | Volatile params left out of the key, e.g. cache busters
+	private static final Set<String> IGNORED_PARAMS = new HashSet<>();
+
+	private static final LongAdder RECORDED = new LongAdder();
+	private static final LongAdder REPLAYED = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+	private static final LongAdder FILES_SAVED = new LongAdder();
+	private static final LongAdder FILES_LOADED = new LongAdder();
+
+	static {
+		for (String p : ConfigReader.initProperties().getProperty("fixtures.ignore.params", "").split(",")) {
+			if (!p.isBlank())
+				IGNORED_PARAMS.add(p.trim());
+		}
+		SuiteMetrics.register("📼 Fixture store",
+				() -> String.format("recorded=%d replayed=%d misses=%d filesSaved=%d filesLoaded=%d", RECORDED.sum(),
+						REPLAYED.sum(), MISSES.sum(), FILES_SAVED.sum(), FILES_LOADED.sum()));
+	}
+
+	private final Path file;
+	private final List<Entry> entries = new ArrayList<>();
+	// 🗂️ المفتاح → مواضع الاستجابات بترتيب التسجيل | Key → entry positions in recording order
+	private final Map<String, List<Integer>> index = new LinkedHashMap<>();
+	// 🔁 موضع الإعادة لكل مفتاح (آخر استجابة تتكرر) | Replay cursor per key; the last response repeats
+	private final Map<String, Integer> cursors = new LinkedHashMap<>();
+	private final Set<String> misses = new LinkedHashSet<>();
+
+	private FixtureStore(Path file) {
+		this.file = file;
+	}
+
+	/**
+	 * 🆕 ملف fixtures فارغ للتسجيل | Empty store to record into
+	 *
+	 * @param file مسار الحفظ | Where {@link #save()} writes
+	 * @return المخزن | The store
+	 */
+	public static FixtureStore create(Path file) {
+		return new FixtureStore(file);
+	}
+
+	/**
+	 * 📂 تحميل ملف fixtures مضغوط | Loads a compressed fixture file
+	 *
+	 * @param file المسار | Path
+	 * @return المخزن | The store
+	 * @throws IOException إذا فشلت القراءة | If reading fails
+	 */
+	public static FixtureStore load(Path file) throws IOException {
+		FixtureStore store = new FixtureStore(file);
+		JsonNode root;
+		try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(file)), 64 * 1024)) {
+			root = MAPPER.readTree(in);
+		}
+		for (JsonNode e : root.path("entries")) {
+			Map<String, String> query = new TreeMap<>();
+			for (Map.Entry<String, JsonNode> f : e.path("query").properties())
+				query.put(f.getKey(), f.getValue().asText());
+			byte[] body = e.has("bodyBase64") ? Base64.getDecoder().decode(e.get("bodyBase64").asText())
+					: e.path("body").asText("").getBytes(StandardCharsets.UTF_8);
+			store.entries.add(new Entry(e.path("method").asText(), e.path("path").asText(), query,
+					e.path("status").asInt(), e.path("contentType").asText(null), body));
+		}
+		// 🗂️ استخدام الفهرس المحفوظ، أو إعادة بنائه لملفات قديمة | Use the saved index, rebuild it for older files
+		JsonNode savedIndex = root.path("index");
+		if (savedIndex.isObject()) {
+			for (Map.Entry<String, JsonNode> f : savedIndex.properties()) {
+				List<Integer> positions = new ArrayList<>();
+				f.getValue().forEach(n -> positions.add(n.asInt()));
+				store.index.put(f.getKey(), positions);
+			}
+		} else {
+			for (int i = 0; i < store.entries.size(); i++)
+				store.index.computeIfAbsent(store.entries.get(i).key, k -> new ArrayList<>()).add(i);
+		}
+		FILES_LOADED.increment();
+		return store;
+	}
+
+	/**
+	 * 📥 بناء fixtures من ملف HAR (مثل ناتج saveHarIfSupported)
+	 *
+	 * 🔹 يتطلب أن يكون HAR قد التقط محتوى الاستجابات (CaptureType.RESPONSE_CONTENT
+	 * في BrowserUp)؛ المدخلات بلا محتوى تُتجاهل.
+	 *
+	 * 📥 Builds a store from a HAR file such as the one written by
+	 * saveHarIfSupported. The HAR must include response content; entries without
+	 * it are skipped.
+	 *
+	 * @param har     ملف HAR | HAR file
+	 * @param urlGlob نمط الروابط المطلوبة (مثل /api/) | URL glob to keep, e.g.
+	 *                /api/
+	 * @param out     مسار الحفظ | Where {@link #save()} writes
+	 * @return المخزن | The store
+	 * @throws IOException إذا فشلت القراءة | If reading fails
+	 */
+	public static FixtureStore fromHar(Path har, String urlGlob, Path out) throws IOException {
+		FixtureStore store = new FixtureStore(out);
+		Pattern pattern = StubRule.globPattern(urlGlob);
+		JsonNode root;
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(har), 64 * 1024)) {
+			root = MAPPER.readTree(in);
+		}
+		for (JsonNode e : root.path("log").path("entries")) {
+			String url = e.path("request").path("url").asText();
+			JsonNode content = e.path("response").path("content");
+			if (!pattern.matcher(url).find() || !content.has("text"))
+				continue;
+			byte[] body = "base64".equals(content.path("encoding").asText())
+					? Base64.getDecoder().decode(content.get("text").asText())
+					: content.get("text").asText().getBytes(StandardCharsets.UTF_8);
+			store.record(e.path("request").path("method").asText("GET"), url, e.path("response").path("status").asInt(),
+					content.path("mimeType").asText(null), body);
+		}
+		return store;
+	}
+
+	/**
+	 * 📁 مسار ملف fixtures لحالة اختبار: {@code <fixtures.dir>/<Class>/<method>.fixtures.json.gz}
+	 *
+	 * 📁 Fixture file of a test method under {@code fixtures.dir}.
+	 *
+	 * @param testClass  كلاس الاختبار | Test class
+	 * @param methodName اسم الدالة | Test method name
+	 * @return المسار | Path
+	 */
+	public static Path fileFor(Class<?> testClass, String methodName) {
+		String dir = ConfigReader.initProperties().getProperty("fixtures.dir", "src/test/resources/fixtures/recorded")
+				.trim();
+		return Paths.get(dir, testClass.getSimpleName(), methodName + ".fixtures.json.gz");
+	}
+
+	/**
+	 * 🔑 المفتاح الموحّد: الطريقة + المسار + معاملات مرتبة بلا قيم فارغة
+	 *
+	 * 🔹 يقبل ناتج {@code NGramsFilterParams.toMap()} مباشرة، فيتطابق مع الطلب
+	 * الذي ترسله الواجهة لنفس الفلاتر بغض النظر عن ترتيب المعاملات.
+	 *
+	 * 🔑 Normalized key: method + path + query params sorted by name, with null,
+	 * blank and ignored params dropped. Accepts {@code NGramsFilterParams.toMap()}
+	 * directly, so it matches the UI request for the same filters whatever the
+	 * parameter order.
+	 *
+	 * @param method طريقة HTTP | HTTP method
+	 * @param path   المسار بدون المضيف | Path without host
+	 * @param params المعاملات | Query params
+	 * @return المفتاح | Key, e.g. {@code GET /api/tools/ngram/7?limit=10&n=2}
+	 */
+	public static String key(String method, String path, Map<String, ?> params) {
+		StringBuilder sb = new StringBuilder(method.toUpperCase()).append(' ').append(path);
+		char sep = '?';
+		for (Map.Entry<String, String> p : normalize(params).entrySet()) {
+			sb.append(sep).append(p.getKey()).append('=').append(p.getValue());
+			sep = '&';
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 🔑 المفتاح الموحّد لرابط كامل | Normalized key of a full URL
+	 *
+	 * @param method طريقة HTTP | HTTP method
+	 * @param url    الرابط | URL
+	 * @return المفتاح | Key
+	 */
+	public static String keyOf(String method, String url) {
+		String[] parts = splitUrl(url);
+		return key(method, parts[0], parseQuery(parts[1]));
+	}
+
+	/**
+	 * ⏺️ تسجيل استجابة (التكرار المطابق لآخر استجابة بنفس المفتاح يُتجاهل)
+	 *
+	 * ⏺️ Records a response; a repeat identical to the last one under the same key
+	 * (polling) is skipped.
+	 *
+	 * @param method      طريقة HTTP | HTTP method
+	 * @param url         الرابط | URL
+	 * @param status      رمز الحالة | Status code
+	 * @param contentType نوع المحتوى | Content type
+	 * @param body        المحتوى | Body
+	 */
+	public synchronized void record(String method, String url, int status, String contentType, byte[] body) {
+		String[] parts = splitUrl(url);
+		Entry entry = new Entry(method.toUpperCase(), parts[0], normalize(parseQuery(parts[1])), status, contentType,
+				body);
+		List<Integer> positions = index.computeIfAbsent(entry.key, k -> new ArrayList<>());
+		if (!positions.isEmpty()) {
+			Entry last = entries.get(positions.get(positions.size() - 1));
+			if (last.status == status && Arrays.equals(last.body, body))
+				return;
+		}
+		positions.add(entries.size());
+		entries.add(entry);
+		RECORDED.increment();
+	}
+
+	/**
+	 * ▶️ الاستجابة التالية المسجّلة لهذا الطلب (آخر استجابة تتكرر بعد النفاد)
+	 *
+	 * ▶️ Next recorded response for the request; once exhausted the last one keeps
+	 * being served.
+	 *
+	 * @param method طريقة HTTP | HTTP method
+	 * @param url    الرابط | URL
+	 * @return الاستجابة أو فارغ عند عدم وجود تسجيل | The response, empty on a miss
+	 */
+	public synchronized Optional<Entry> replay(String method, String url) {
+		String key = keyOf(method, url);
+		List<Integer> positions = index.get(key);
+		if (positions == null || positions.isEmpty()) {
+			misses.add(key);
+			MISSES.increment();
+			return Optional.empty();
+		}
+		int cursor = cursors.getOrDefault(key, 0);
+		cursors.put(key, Math.min(cursor + 1, positions.size() - 1));
+		REPLAYED.increment();
+		return Optional.of(entries.get(positions.get(cursor)));
+	}
+
+	/**
+	 * 💾 حفظ الملف مضغوطًا (ملف مؤقت ثم نقل ذري) | Saves the store gzipped via a
+	 * temp file and an atomic move
+	 *
+	 * @throws IOException إذا فشلت الكتابة | If writing fails
+	 */
+	public synchronized void save() throws IOException {
+		ObjectNode root = MAPPER.createObjectNode();
+		root.put("version", VERSION);
+		root.put("recordedAt", Instant.now().toString());
+		ObjectNode idx = root.putObject("index");
+		index.forEach((k, positions) -> {
+			ArrayNode arr = idx.putArray(k);
+			positions.forEach(arr::add);
+		});
+		ArrayNode arr = root.putArray("entries");
+		for (Entry e : entries) {
+			ObjectNode n = arr.addObject();
+			n.put("key", e.key);
+			n.put("method", e.method);
+			n.put("path", e.path);
+			ObjectNode q = n.putObject("query");
+			e.query.forEach(q::put);
+			n.put("status", e.status);
+			if (e.contentType != null)
+				n.put("contentType", e.contentType);
+			if (isText(e.contentType))
+				n.put("body", new String(e.body, StandardCharsets.UTF_8));
+			else
+				n.put("bodyBase64", Base64.getEncoder().encodeToString(e.body));
+		}
+
+		Path dir = file.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+		try {
+			try (OutputStream os = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)),
+					64 * 1024)) {
+				MAPPER.writeValue(os, root);
+			}
+			Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			FILES_SAVED.increment();
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	/**
+	 * 📎 إرفاق ملخص المفاتيح والطلبات غير المسجّلة في Allure | Attaches the keys
+	 * and replay misses to Allure
+	 *
+	 * @param title العنوان | Attachment title
+	 */
+	public synchronized void report(String title) {
+		StringBuilder sb = new StringBuilder("file: ").append(file).append(System.lineSeparator());
+		sb.append("entries: ").append(entries.size()).append(", keys: ").append(index.size())
+				.append(System.lineSeparator());
+		index.forEach((k, positions) -> sb.append(String.format("%3d × %s%n", positions.size(), k)));
+		if (!misses.isEmpty()) {
+			sb.append(System.lineSeparator()).append("misses:").append(System.lineSeparator());
+			misses.forEach(m -> sb.append("  ").append(m).append(System.lineSeparator()));
+			Allure.step("⚠️ " + misses.size() + " request(s) had no recorded fixture");
+		}
+		Allure.addAttachment(title, "text/plain", sb.toString());
+	}
+
+	public Path file() {
+		return file;
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized Set<String> misses() {
+		return Collections.unmodifiableSet(new LinkedHashSet<>(misses));
+	}
+
+	// ===================== ⚙️ داخلي | Internals =====================
+
+	private static Map<String, String> normalize(Map<String, ?> params) {
+		Map<String, String> sorted = new TreeMap<>();
+		if (params == null)
+			return sorted;
+		params.forEach((k, v) -> {
+			if (k == null || v == null || IGNORED_PARAMS.contains(k))
+				return;
+			String value = String.valueOf(v).trim();
+			if (!value.isEmpty())
+				sorted.put(k, value);
+		});
+		return sorted;
+	}
+
+	// ✂️ [المسار، الاستعلام] بدون المضيف والجزء (#) — بلا URI حتى لا تفشل الروابط غير المرمّزة
+	// [path, query] without host or fragment; no java.net.URI so unencoded URLs never throw
+	private static String[] splitUrl(String url) {
+		int hash = url.indexOf('#');
+		if (hash >= 0)
+			url = url.substring(0, hash);
+		int scheme = url.indexOf("://");
+		int pathStart = scheme < 0 ? 0 : url.indexOf('/', scheme + 3);
+		if (pathStart < 0)
+			return new String[] { "/", null };
+		int q = url.indexOf('?', pathStart);
+		return q < 0 ? new String[] { url.substring(pathStart), null }
+				: new String[] { url.substring(pathStart, q), url.substring(q + 1) };
+	}
+
+	private static Map<String, String> parseQuery(String rawQuery) {
+		Map<String, String> params = new LinkedHashMap<>();
+		if (rawQuery == null || rawQuery.isEmpty())
+			return params;
+		for (String pair : rawQuery.split("&")) {
+			int eq = pair.indexOf('=');
+			String k = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+			String v = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+			params.merge(k, v, (a, b) -> a + "," + b);
+		}
+		return params;
+	}
+
+	private static boolean isText(String contentType) {
+		if (contentType == null)
+			return false;
+		String ct = contentType.toLowerCase();
+		return ct.contains("json") || ct.startsWith("text/") || ct.contains("xml") || ct.contains("javascript");
+	}
+}
@@ -0,0 +1,88 @@
+package com.falak.qa.net;
+
+import com.browserup.harreader.model.Har;
+import com.browserup.harreader.model.HarEntry;
+import com.browserup.harreader.model.HarLog;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+//	✅ HarStreamWriter: كتابة HAR إلى القرص مدخلًا تلو الآخر (بدون بناء نسخة كاملة في الذاكرة)
+// Streams a live HAR to disk entry by entry so a large HAR is never materialized twice in memory
+final class HarStreamWriter {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.setSerializationInclusion(JsonInclude.Include.NON_NULL)
+			.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false)
+			.configure(SerializationFeature.FLUSH_AFTER_WRITE_VALUE, false);
+
+	private HarStreamWriter() {
+	}
+
+	/**
+	 * 💾 كتابة HAR إلى ملف مؤقت ثم نقله ذريًا إلى المسار النهائي
+	 *
+	 * 💾 Writes the HAR to a temp file, then moves it atomically into place.
+	 * Entries are serialized one at a time from the live list; entries added
+	 * while writing are included up to the size seen when the array is reached.
+	 *
+	 * @param har HAR الحالي | Live HAR
+	 * @param out مسار الإخراج | Output path
+	 * @return عدد المدخلات المكتوبة | Entries written
+	 * @throws IOException إذا فشلت الكتابة | If writing fails
+	 */
+	static int write(Har har, Path out) throws IOException {
+		Path dir = out.toAbsolutePath().getParent();
+		Files.createDirectories(dir);
+		Path tmp = Files.createTempFile(dir, out.getFileName().toString(), ".tmp");
+		int written = 0;
+		try {
+			try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(tmp), 64 * 1024);
+					JsonGenerator gen = MAPPER.getFactory().createGenerator(os, JsonEncoding.UTF8)) {
+				HarLog log = har.getLog();
+				gen.writeStartObject();
+				gen.writeObjectFieldStart("log");
+				gen.writeStringField("version", log.getVersion());
+				writeField(gen, "creator", log.getCreator());
+				writeField(gen, "browser", log.getBrowser());
+				writeField(gen, "pages", log.getPages());
+
+				gen.writeArrayFieldStart("entries");
+				List<HarEntry> entries = log.getEntries();
+				int size = entries.size();
+				for (int i = 0; i < size; i++) {
+					MAPPER.writeValue(gen, entries.get(i));
+					written++;
+				}
+				gen.writeEndArray();
+
+				if (log.getComment() != null)
+					gen.writeStringField("comment", log.getComment());
+				gen.writeEndObject();
+				gen.writeEndObject();
+			}
+			Files.move(tmp, out, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			return written;
+		} finally {
+			Files.deleteIfExists(tmp);
+		}
+	}
+
+	private static void writeField(JsonGenerator gen, String name, Object value) throws IOException {
+		if (value == null)
+			return;
+		gen.writeFieldName(name);
+		MAPPER.writeValue(gen, value);
+	}
+
+}
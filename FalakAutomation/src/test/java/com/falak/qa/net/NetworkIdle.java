@@ -0,0 +1,46 @@
+package com.falak.qa.net;
+
+import java.time.Duration;
+
+/**
+ * 🌐 مراقبة الطلبات الجارية لانتظار "سكون الشبكة" بدل Thread.sleep
+ *
+ * 🌐 Tracks in-flight requests so tests can wait for "no requests for N ms after
+ * action X" instead of sleeping a fixed time.
+ *
+ * 📌 الاستخدام: {@code long m = idle.mark(); action(); idle.awaitIdle(m, quiet, timeout);}
+ */
+public interface NetworkIdle extends AutoCloseable {
+
+	void start(); // تفعيل التتبع
+
+	/**
+	 * 📍 علامة زمنية تُؤخذ قبل الإجراء؛ فترة السكون تُحسب بعدها فقط
+	 *
+	 * 📍 Marker taken before an action; the quiet period is only counted after it.
+	 *
+	 * @return العلامة (بساعة التنفيذ الخاصة بكل تطبيق) | Implementation-specific
+	 *         marker
+	 */
+	long mark();
+
+	/**
+	 * ⏳ الانتظار حتى لا توجد طلبات جارية لمدة quiet بعد العلامة
+	 *
+	 * ⏳ Waits until no request has been in flight for {@code quiet} after the
+	 * marker.
+	 *
+	 * @param mark    العلامة من {@link #mark()} | Marker from {@link #mark()}
+	 * @param quiet   مدة السكون المطلوبة | Required quiet period
+	 * @param timeout أقصى مدة انتظار | Maximum wait
+	 * @return true إذا تحقق السكون، false عند انتهاء المهلة | true when idle,
+	 *         false on timeout
+	 */
+	boolean awaitIdle(long mark, Duration quiet, Duration timeout);
+
+	int inFlight(); // عدد الطلبات الجارية حاليًا
+
+	@Override
+	void close(); // إيقاف التتبع
+
+}
@@ -0,0 +1,34 @@
+package com.falak.qa.net;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+
+import io.qameta.allure.Allure;
+
+public class NetworkIdleFactory {
+	/**
+	 * 🛠️ إنشاء كائن NetworkIdle مناسب اعتمادًا على قدرات المتصفح
+	 *
+	 * 🛠️ Creates a suitable NetworkIdle implementation for the driver.
+	 *
+	 * 📌 منطق الاختيار: - إذا كان WebDriver يدعم DevTools → استخدم
+	 * {@link CdpNetworkIdle} - غير ذلك (Firefox) → استخدم {@link ScriptNetworkIdle}
+	 * (عدّاد XHR/fetch محقون في الصفحة).
+	 *
+	 * @param driver كائن WebDriver المستخدم | The active WebDriver instance
+	 * @return NetworkIdle مناسب للاستخدام | The chosen NetworkIdle implementation
+	 */
+	public static NetworkIdle create(WebDriver driver) {
+		try {
+			if (driver instanceof HasDevTools) {
+				Allure.step("🌐 Using CDP-based NetworkIdle (CdpNetworkIdle)");
+				return new CdpNetworkIdle(driver);
+			}
+		} catch (Throwable t) {
+			Allure.step("❌ Failed to initialize CdpNetworkIdle, falling back to script counter: " + t.getMessage());
+		}
+		Allure.step("🌐 Using script-based NetworkIdle (ScriptNetworkIdle)");
+		return new ScriptNetworkIdle(driver);
+	}
+
+}
@@ -0,0 +1,61 @@
+package com.falak.qa.net;
+
+import com.falak.qa.utils.SuiteMetrics;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ NetworkIdleStats: قياس الوقت الموفَّر باستبدال Thread.sleep الثابت بانتظار قائم على الأحداث
+// Wall-clock time saved per call site by replacing fixed sleeps with event-driven waits
+public final class NetworkIdleStats {
+
+	private static final Map<String, Site> SITES = new ConcurrentSkipListMap<>();
+
+	static {
+		SuiteMetrics.register("⏱️ Fixed sleeps replaced", NetworkIdleStats::summary);
+	}
+
+	private NetworkIdleStats() {
+	}
+
+	/**
+	 * ⏱️ تسجيل استدعاء واحد لموضع كان ينام مدة ثابتة
+	 *
+	 * ⏱️ Records one call of a site that used to sleep a fixed time.
+	 *
+	 * @param site        اسم الموضع (Class.method) | Call site (Class.method)
+	 * @param replacedMs  مدة النوم الثابتة السابقة | Former fixed sleep
+	 * @param waitedNanos مدة الانتظار الفعلية | Actual wait
+	 */
+	public static void record(String site, long replacedMs, long waitedNanos) {
+		Site s = SITES.computeIfAbsent(site, k -> new Site());
+		s.calls.increment();
+		s.replacedMs.add(replacedMs);
+		s.waitedNanos.add(waitedNanos);
+	}
+
+	private static String summary() {
+		if (SITES.isEmpty())
+			return "no samples";
+		StringBuilder sb = new StringBuilder();
+		double totalSaved = 0;
+		for (Map.Entry<String, Site> e : SITES.entrySet()) {
+			Site s = e.getValue();
+			double replaced = s.replacedMs.sum();
+			double waited = s.waitedNanos.sum() / 1_000_000.0;
+			totalSaved += replaced - waited;
+			sb.append(String.format("%s calls=%d fixed=%.0fms actual=%.0fms saved=%+.0fms%n", e.getKey(),
+					s.calls.sum(), replaced, waited, replaced - waited));
+		}
+		sb.append(String.format("total saved=%+.0fms", totalSaved));
+		return sb.toString();
+	}
+
+	private static final class Site {
+		private final LongAdder calls = new LongAdder();
+		private final LongAdder replacedMs = new LongAdder();
+		private final LongAdder waitedNanos = new LongAdder();
+	}
+
+}
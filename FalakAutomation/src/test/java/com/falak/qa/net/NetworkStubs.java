@@ -0,0 +1,51 @@
+package com.falak.qa.net;
+
+import java.util.List;
+
+//	✅ NetworkStubs: استبدال ردود نقاط API أثناء الاختبار (CDP Fetch في كروم/إيدج، فلتر BrowserUp في فايرفوكس)
+// Per-test request stubbing: CDP Fetch on Chrome/Edge, a BrowserUp request filter on Firefox
+public interface NetworkStubs extends AutoCloseable {
+
+	/**
+	 * ➕ إضافة قواعد استبدال؛ أول قاعدة مطابقة هي التي تُطبّق
+	 *
+	 * ➕ Adds stub rules; the first matching rule wins.
+	 *
+	 * @param rules القواعد | Rules
+	 *
+	 *              📌 الهدف: عزل اختبارات الواجهة عن الخادم وحقن الأخطاء عند
+	 *              الطلب.
+	 */
+	void add(StubRule... rules);
+
+	/**
+	 * ⏺️ تسجيل ردود الروابط المطابقة في FixtureStore أثناء مرورها للصفحة
+	 *
+	 * ⏺️ Records responses of matching URLs into a FixtureStore as they reach the
+	 * page; the page still receives the live response.
+	 *
+	 * @param urlGlob نمط الروابط (مثل /api/) | URL glob, e.g. /api/
+	 * @param store   المخزن | Fixture store
+	 */
+	void record(String urlGlob, FixtureStore store);
+
+	/**
+	 * 📋 القواعد النشطة بالترتيب | Active rules in match order
+	 *
+	 * @return قائمة غير قابلة للتعديل | Unmodifiable list
+	 */
+	List<StubRule> rules();
+
+	/**
+	 * 🧹 إزالة كل القواعد مع إبقاء الاعتراض جاهزًا | Removes every rule
+	 */
+	void clear();
+
+	/**
+	 * 🛑 إيقاف الاعتراض وإرفاق عدد التطابقات لكل قاعدة في Allure
+	 *
+	 * 🛑 Stops intercepting and reports per-rule hit counts to Allure.
+	 */
+	@Override
+	void close();
+}
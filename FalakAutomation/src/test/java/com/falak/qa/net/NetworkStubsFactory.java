@@ -0,0 +1,39 @@
+package com.falak.qa.net;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.HasDevTools;
+import com.browserup.bup.BrowserUpProxy;
+
+import io.qameta.allure.Allure;
+
+public class NetworkStubsFactory {
+	/**
+	 * 🛠️ إنشاء كائن NetworkStubs مناسب اعتمادًا على قدرات المتصفح والبروكسي
+	 *
+	 * 🛠️ Creates a suitable NetworkStubs instance depending on WebDriver
+	 * capabilities and proxy availability.
+	 *
+	 * 📌 منطق الاختيار: - DevTools → {@link CdpNetworkStubs} - Proxy →
+	 * {@link ProxyNetworkStubs} - غير ذلك → {@link NoopNetworkStubs}.
+	 *
+	 * @param driver     كائن WebDriver المستخدم | The active WebDriver instance
+	 * @param proxyIfAny كائن البروكسي إن وُجد | BrowserUpProxy if provided
+	 * @return NetworkStubs مناسب للاستخدام | The chosen NetworkStubs
+	 *         implementation
+	 */
+	public static NetworkStubs create(WebDriver driver, BrowserUpProxy proxyIfAny) {
+		try {
+			if (driver instanceof HasDevTools) {
+				return new CdpNetworkStubs(driver);
+			} else if (proxyIfAny != null) {
+				return new ProxyNetworkStubs(proxyIfAny);
+			} else {
+				return new NoopNetworkStubs();
+			}
+		} catch (Throwable t) {
+			Allure.step("❌ Failed to initialize NetworkStubs, falling back to Noop: " + t.getMessage());
+			return new NoopNetworkStubs();
+		}
+	}
+
+}
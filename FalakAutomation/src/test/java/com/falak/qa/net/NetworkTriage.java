@@ -38,6 +38,40 @@ public interface NetworkTriage extends AutoCloseable {
 		Allure.step("ℹ️ saveHarIfSupported not implemented for this triage tool.");
 	}
 
+	/**
+	 * 🧾 تفريغ الأحداث الملتقطة إلى تقرير Allure (يُستدعى في نهاية الاختبار)
+	 *
+	 * 🧾 Reports the captured events to Allure; called once at test end so that
+	 * capture threads never write to the report.
+	 */
+	default void drainToReport() {
+		// ⚠️ الافتراضي: التقرير يتم وقت الالتقاط
+	}
+
+	/**
+	 * 📶 تسجيل ملف الشبكة المُحاكاة النشط حتى يظهر مع الأخطاء والتوقيتات
+	 *
+	 * 📶 Records the active emulated network profile so the triage and timing
+	 * reports say which conditions they were captured under.
+	 *
+	 * @param profile معرّف الملف (مثل 3g) | Profile id, e.g. 3g
+	 */
+	default void setNetworkProfile(String profile) {
+		// ⚠️ الافتراضي: لا يوجد تقرير
+	}
+
+	/**
+	 * 🌊 إرفاق توقيتات كل الطلبات (مخطط شلالي + p50/p95/max لكل نقطة نهاية + JSON)
+	 *
+	 * 🌊 Reports every request's timing phases for the finished test: waterfall,
+	 * per-endpoint p50/p95/max and a JSON file.
+	 *
+	 * @param testName اسم الاختبار | Test name
+	 */
+	default void reportTimings(String testName) {
+		// ⚠️ الافتراضي: لا توجد توقيتات
+	}
+
 	/**
 	 * 🛑 إغلاق موارد Triage الحالية وإيقاف المراقبة
 	 *
@@ -0,0 +1,268 @@
+package com.falak.qa.net;
+
+import com.falak.qa.config.ConfigReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.qameta.allure.Allure;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+//	✅ NetworkWaterfall: توقيتات كل طلب (DNS/اتصال/TLS/TTFB/تنزيل) ومخطط شلالي وملخص لكل نقطة نهاية لكل اختبار
+// Per-test capture of every request's timing phases and sizes, reported as a waterfall, per-endpoint
+// p50/p95/max and a machine-readable JSON file
+public final class NetworkWaterfall {
+
+	/**
+	 * ⏱️ توقيت طلب واحد (بالمللي ثانية، -1 = غير متاح)
+	 *
+	 * ⏱️ Timing of one request in milliseconds; -1 means not applicable (e.g. a
+	 * reused connection has no DNS/connect/TLS phase).
+	 */
+	public static final class Timing {
+		public final String url;
+		public final String method;
+		public final int status;
+		// 🕐 بداية الطلب (epoch ms) | Request start, epoch milliseconds
+		public final long startedAt;
+		public final double dns;
+		public final double connect;
+		public final double tls;
+		// 📨 من إرسال الطلب حتى أول بايت | From request sent to first response byte
+		public final double ttfb;
+		public final double download;
+		public final double total;
+		public final long bytes;
+
+		public Timing(String url, String method, int status, long startedAt, double dns, double connect, double tls,
+				double ttfb, double download, double total, long bytes) {
+			this.url = url;
+			this.method = method;
+			this.status = status;
+			this.startedAt = startedAt;
+			this.dns = dns;
+			this.connect = connect;
+			this.tls = tls;
+			this.ttfb = ttfb;
+			this.download = download;
+			this.total = total;
+			this.bytes = bytes;
+		}
+	}
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+	private static final Pattern ID_SEGMENT = Pattern
+			.compile("^([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|\\d+|[0-9a-fA-F]{24,})$");
+	private static final int BAR_WIDTH = 40;
+	private static final int MAX_WATERFALL_LINES = 200;
+	private static final int MAX_SUMMARY_LINES = 25;
+
+	private final ConcurrentLinkedQueue<Timing> timings = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicInteger dropped = new AtomicInteger();
+	private final int maxRequests;
+	private final Path outputDir;
+	private volatile String networkProfile = "none";
+
+	/**
+	 * 🛠️ المُنشئ: الحد الأقصى للطلبات من network.timing.max.requests ومجلد JSON
+	 * من network.timing.dir
+	 *
+	 * 🛠️ Reads the per-test request cap (network.timing.max.requests) and the
+	 * JSON output folder (network.timing.dir).
+	 */
+	public NetworkWaterfall() {
+		var p = ConfigReader.initProperties();
+		this.maxRequests = Integer.parseInt(p.getProperty("network.timing.max.requests", "2000").trim());
+		this.outputDir = Path.of(System.getProperty("user.dir"),
+				p.getProperty("network.timing.dir", "target/network-timings").trim());
+	}
+
+	/**
+	 * ➕ تسجيل توقيت طلب (آمن من أي خيط، بدون أقفال) | Records a request timing;
+	 * lock-free and safe from any thread
+	 *
+	 * @param timing التوقيت | Timing
+	 */
+	public void add(Timing timing) {
+		if (size.incrementAndGet() > maxRequests) {
+			size.decrementAndGet();
+			dropped.incrementAndGet();
+			return;
+		}
+		timings.add(timing);
+	}
+
+	/**
+	 * 📶 ملف الشبكة المُحاكاة الذي تُلتقط تحته التوقيتات | Emulated network
+	 * profile the timings are captured under
+	 *
+	 * @param profile معرّف الملف (مثل 3g) | Profile id, e.g. 3g
+	 */
+	public void setNetworkProfile(String profile) {
+		this.networkProfile = profile == null || profile.isBlank() ? "none" : profile;
+	}
+
+	/**
+	 * 📊 إرفاق المخطط الشلالي وملخص نقاط النهاية في Allure وكتابة ملف JSON ثم
+	 * التفريغ
+	 *
+	 * 📊 Attaches the waterfall and per-endpoint summary to Allure, writes the
+	 * JSON file, then resets for the next test.
+	 *
+	 * @param testName اسم الاختبار (اسم ملف JSON) | Test name, used for the JSON
+	 *                 file name
+	 *
+	 *                 📌 الهدف: معرفة أي طلبات Falak API بطيئة في كل اختبار.
+	 */
+	public void report(String testName) {
+		List<Timing> all = new ArrayList<>(timings);
+		timings.clear();
+		size.set(0);
+		int lost = dropped.getAndSet(0);
+		if (all.isEmpty())
+			return;
+		all.sort(Comparator.comparingLong((Timing t) -> t.startedAt));
+
+		Map<String, List<Timing>> byEndpoint = new TreeMap<>();
+		for (Timing t : all)
+			byEndpoint.computeIfAbsent(endpoint(t.url), k -> new ArrayList<>()).add(t);
+		List<Map<String, Object>> endpoints = new ArrayList<>();
+		for (Map.Entry<String, List<Timing>> e : byEndpoint.entrySet())
+			endpoints.add(summarize(e.getKey(), e.getValue()));
+		endpoints.sort(Comparator.comparingDouble((Map<String, Object> m) -> (double) m.get("p95")).reversed());
+
+		String profile = networkProfile;
+		String summary = "network profile: " + profile + "\n" + summaryText(endpoints);
+		Allure.addAttachment("🌊 Network waterfall", "network profile: " + profile + "\n" + waterfallText(all, lost));
+		Allure.addAttachment("⏱️ Endpoint latency (p50/p95/max)", summary);
+		System.out.println("⏱️ " + testName + " endpoint latency:\n" + summary);
+
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("test", testName);
+		json.put("networkProfile", profile);
+		json.put("requests", all);
+		json.put("dropped", lost);
+		json.put("endpoints", endpoints);
+		try {
+			Files.createDirectories(outputDir);
+			// 🔹 ملف منفصل لكل ملف شبكة للمقارنة | One file per network profile, for side-by-side comparison
+			String name = "none".equals(profile) ? testName : testName + "__" + profile;
+			Path file = outputDir.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".json");
+			byte[] bytes = MAPPER.writeValueAsBytes(json);
+			Files.write(file, bytes);
+			Allure.addAttachment("🌊 Network timings (JSON)", "application/json",
+					new String(bytes, StandardCharsets.UTF_8), ".json");
+		} catch (IOException e) {
+			Allure.step("⚠️ Failed to write network timings JSON: " + e.getMessage());
+		}
+	}
+
+	// 🔗 المسار بدون الاستعلام مع استبدال المعرّفات بـ {id} | Path without query, ids replaced by {id}
+	static String endpoint(String url) {
+		String path;
+		try {
+			URI uri = URI.create(url);
+			path = (uri.getHost() == null ? "" : uri.getHost()) + (uri.getPath() == null ? "" : uri.getPath());
+		} catch (IllegalArgumentException e) {
+			int q = url.indexOf('?');
+			path = q < 0 ? url : url.substring(0, q);
+		}
+		String[] parts = path.split("/");
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < parts.length; i++) {
+			if (i > 0)
+				sb.append('/');
+			sb.append(ID_SEGMENT.matcher(parts[i]).matches() ? "{id}" : parts[i]);
+		}
+		return sb.toString();
+	}
+
+	private static Map<String, Object> summarize(String endpoint, List<Timing> list) {
+		double[] total = list.stream().mapToDouble(t -> t.total).sorted().toArray();
+		double[] ttfb = list.stream().mapToDouble(t -> t.ttfb).filter(v -> v >= 0).sorted().toArray();
+		Map<String, Object> m = new LinkedHashMap<>();
+		m.put("endpoint", endpoint);
+		m.put("count", list.size());
+		m.put("p50", percentile(total, 0.50));
+		m.put("p95", percentile(total, 0.95));
+		m.put("max", total[total.length - 1]);
+		m.put("ttfbP95", ttfb.length == 0 ? -1.0 : percentile(ttfb, 0.95));
+		m.put("bytes", list.stream().mapToLong(t -> Math.max(0, t.bytes)).sum());
+		return m;
+	}
+
+	// 📐 النسبة المئوية (nearest-rank) | Nearest-rank percentile over a sorted array
+	private static double percentile(double[] sorted, double p) {
+		return sorted[Math.max(0, (int) Math.ceil(sorted.length * p) - 1)];
+	}
+
+	private static String summaryText(List<Map<String, Object>> endpoints) {
+		StringBuilder sb = new StringBuilder(String.format("%-6s %8s %8s %8s %9s  %s%n", "count", "p50", "p95", "max",
+				"ttfbP95", "endpoint"));
+		int n = 0;
+		for (Map<String, Object> m : endpoints) {
+			if (n++ == MAX_SUMMARY_LINES) {
+				sb.append("… ").append(endpoints.size() - MAX_SUMMARY_LINES).append(" more in JSON\n");
+				break;
+			}
+			sb.append(String.format("%-6d %6.0fms %6.0fms %6.0fms %7.0fms  %s%n", m.get("count"), m.get("p50"),
+					m.get("p95"), m.get("max"), m.get("ttfbP95"), m.get("endpoint")));
+		}
+		return sb.toString();
+	}
+
+	// 🌊 سطر لكل طلب: الإزاحة، المدة، الحالة، والشريط (d=DNS c=اتصال s=TLS w=انتظار r=تنزيل)
+	// One line per request: offset, duration, status and a bar (d=DNS c=connect s=TLS w=TTFB r=download)
+	private static String waterfallText(List<Timing> all, int lost) {
+		long origin = all.get(0).startedAt;
+		double span = 1;
+		for (Timing t : all)
+			span = Math.max(span, t.startedAt - origin + t.total);
+		double scale = BAR_WIDTH / span;
+
+		StringBuilder sb = new StringBuilder("legend: d=DNS c=connect s=TLS w=TTFB r=download, span="
+				+ Math.round(span) + "ms\n");
+		int n = 0;
+		for (Timing t : all) {
+			if (n++ == MAX_WATERFALL_LINES) {
+				sb.append("… ").append(all.size() - MAX_WATERFALL_LINES).append(" more in JSON\n");
+				break;
+			}
+			StringBuilder bar = new StringBuilder(" ".repeat((int) ((t.startedAt - origin) * scale)));
+			appendPhase(bar, 'd', t.dns, scale);
+			appendPhase(bar, 'c', t.connect, scale);
+			appendPhase(bar, 's', t.tls, scale);
+			appendPhase(bar, 'w', t.ttfb, scale);
+			appendPhase(bar, 'r', t.download, scale);
+			if (bar.toString().isBlank())
+				bar.append('|');
+			String url = t.url.length() > 100 ? t.url.substring(0, 97) + "..." : t.url;
+			sb.append(String.format("+%6dms %6.0fms %3d %-6s %-" + (BAR_WIDTH + 1) + "s %s%n", t.startedAt - origin,
+					t.total, t.status, t.method, bar, url));
+		}
+		if (lost > 0)
+			sb.append("⚠️ ").append(lost).append(" request(s) not recorded (network.timing.max.requests)\n");
+		return sb.toString();
+	}
+
+	private static void appendPhase(StringBuilder bar, char symbol, double ms, double scale) {
+		if (ms <= 0)
+			return;
+		bar.append(String.valueOf(symbol).repeat(Math.max(1, (int) Math.round(ms * scale))));
+	}
+
+}
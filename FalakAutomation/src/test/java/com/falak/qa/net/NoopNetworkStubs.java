@@ -0,0 +1,39 @@
+package com.falak.qa.net;
+
+import io.qameta.allure.Allure;
+
+import java.util.List;
+
+public class NoopNetworkStubs implements NetworkStubs {
+
+	/**
+	 * 🚫 المتصفح لا يدعم الاعتراض: القواعد تُتجاهل مع تحذير في التقرير
+	 *
+	 * 🚫 The browser cannot intercept; rules are ignored with a report warning.
+	 *
+	 * @param rules القواعد (تُتجاهل) | Rules (ignored)
+	 */
+	@Override
+	public void add(StubRule... rules) {
+		if (rules.length > 0)
+			Allure.step("⚠️ NoopNetworkStubs.add() — " + rules.length + " stub rule(s) ignored, no interception");
+	}
+
+	@Override
+	public void record(String urlGlob, FixtureStore store) {
+		Allure.step("⚠️ NoopNetworkStubs.record() — responses are not recorded, no interception");
+	}
+
+	@Override
+	public List<StubRule> rules() {
+		return List.of();
+	}
+
+	@Override
+	public void clear() {
+	}
+
+	@Override
+	public void close() {
+	}
+}
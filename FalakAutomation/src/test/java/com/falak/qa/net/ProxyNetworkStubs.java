@@ -0,0 +1,216 @@
+package com.falak.qa.net;
+
+import com.browserup.bup.BrowserUpProxy;
+import com.browserup.bup.util.HttpMessageContents;
+import com.browserup.bup.util.HttpMessageInfo;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import io.qameta.allure.Allure;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+//	✅ ProxyNetworkStubs: استبدال الردود عبر فلتر طلبات في BrowserUp (فايرفوكس)
+// Stubs responses through a BrowserUp request filter (Firefox)
+public class ProxyNetworkStubs implements NetworkStubs {
+
+	// 🔌 فلتر واحد لكل بروكسي (لا تُزال فلاتر BrowserUp)، يستشير الكائن النشط حاليًا
+	// One filter per proxy (BrowserUp filters cannot be removed); it consults whichever instance is active
+	private static final Set<BrowserUpProxy> FILTERED = Collections.synchronizedSet(
+			Collections.newSetFromMap(new WeakHashMap<>()));
+	private static final Map<BrowserUpProxy, ProxyNetworkStubs> ACTIVE = new ConcurrentHashMap<>();
+
+	private final BrowserUpProxy proxy;
+	private final List<StubRule> rules = new CopyOnWriteArrayList<>();
+	private volatile FixtureStore recordStore;
+	private volatile Pattern recordPattern;
+
+	/**
+	 * 🌐 مُنشئ ProxyNetworkStubs باستخدام BrowserUpProxy
+	 *
+	 * 🌐 Builds stubs on a BrowserUpProxy, installing its request filter once.
+	 *
+	 * @param proxy البروكسي المرتبط بالمتصفح | Proxy the browser goes through
+	 */
+	public ProxyNetworkStubs(BrowserUpProxy proxy) {
+		this.proxy = proxy;
+		if (FILTERED.add(proxy)) {
+			proxy.addRequestFilter((request, contents, info) -> {
+				ProxyNetworkStubs active = ACTIVE.get(proxy);
+				return active == null ? null : active.filter(request, info);
+			});
+			proxy.addResponseFilter((response, contents, info) -> {
+				ProxyNetworkStubs active = ACTIVE.get(proxy);
+				if (active != null)
+					active.onResponse(response, contents, info);
+			});
+		}
+	}
+
+	@Override
+	public void add(StubRule... newRules) {
+		for (StubRule r : newRules) {
+			rules.add(r);
+			StubRule.registered();
+			Allure.step("🧪 Stub (BrowserUp filter): " + r);
+		}
+		ACTIVE.put(proxy, this);
+	}
+
+	@Override
+	public void record(String urlGlob, FixtureStore store) {
+		recordPattern = StubRule.globPattern(urlGlob);
+		recordStore = store;
+		ACTIVE.put(proxy, this);
+		Allure.step("⏺️ Recording " + urlGlob + " responses (BrowserUp filter) → " + store.file());
+	}
+
+	@Override
+	public List<StubRule> rules() {
+		return Collections.unmodifiableList(rules);
+	}
+
+	@Override
+	public void clear() {
+		rules.clear();
+	}
+
+	@Override
+	public void close() {
+		ACTIVE.remove(proxy, this);
+		recordStore = null;
+		StubRule.report("BrowserUp", rules);
+	}
+
+	// 🧲 على خيط Netty: null = تمرير الطلب كما هو | On a Netty thread: null passes the request through
+	private HttpResponse filter(HttpRequest request, HttpMessageInfo info) {
+		String url = info.getOriginalUrl();
+		String method = request.method().name();
+		for (StubRule rule : rules) {
+			if (!rule.matches(url, method))
+				continue;
+			rule.hit();
+			// ⏳ لا نوم على خيط Netty: الرد (المُستبدل أو الحقيقي) يُحجز على هذا الاتصال حتى انتهاء التأخير
+			// Never sleep on the Netty thread: this connection's response (stubbed or live) is held until the delay ends
+			if (!rule.delay.isZero())
+				DelayedWrites.on(info.getChannelHandlerContext().pipeline()).holdFor(rule.delay);
+			if (rule.action == StubRule.Action.DELAY)
+				return null;
+			// ❌ BrowserUp لا يُنتج خطأ اتصال: FAIL يُرد كـ 502 | BrowserUp cannot drop the connection, FAIL answers 502
+			StubRule.Answer a = rule.answer(url, method);
+			if (a == null)
+				return null;
+			DefaultFullHttpResponse response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1,
+					HttpResponseStatus.valueOf(a.status), Unpooled.wrappedBuffer(a.body));
+			a.headers.forEach((k, v) -> response.headers().set(k, v));
+			response.headers().set(HttpHeaderNames.CONTENT_LENGTH, a.body.length);
+			return response;
+		}
+		return null;
+	}
+
+	// ⏺️ على خيط Netty: تسجيل الاستجابة الحقيقية (محتوى حتى 2 MB المخزّن في BrowserUp)
+	// On a Netty thread: records the live response (BrowserUp buffers up to its default 2 MB)
+	private void onResponse(HttpResponse response, HttpMessageContents contents, HttpMessageInfo info) {
+		FixtureStore store = recordStore;
+		String url = info.getOriginalUrl();
+		if (store == null || url == null || !recordPattern.matcher(url).find())
+			return;
+		int status = response.status().code();
+		if (status >= 300 && status < 400)
+			return;
+		try {
+			store.record(info.getOriginalRequest().method().name(), url, status,
+					response.headers().get(HttpHeaderNames.CONTENT_TYPE), contents.getBinaryContents());
+		} catch (Exception e) {
+			System.out.println("⚠️ Failed to record " + url + ": " + e.getMessage());
+		}
+	}
+
+	/**
+	 * ⏳ حجز كتابات اتصال المتصفح حتى موعد محدد، ثم تفريغها بمؤقّت على حلقة أحداث
+	 * القناة نفسها (بدون حجز أي خيط)
+	 *
+	 * ⏳ Holds the browser connection's outgoing writes until a deadline and
+	 * releases them from a timer on the channel's own event loop, so no thread is
+	 * blocked. Browsers do not pipeline HTTP/1.1 requests, so holding the
+	 * connection delays exactly the response to the stubbed request.
+	 */
+	private static final class DelayedWrites extends ChannelOutboundHandlerAdapter {
+		private static final String NAME = "falak-stub-delay";
+
+		private final Deque<Object> messages = new ArrayDeque<>();
+		private final Deque<ChannelPromise> promises = new ArrayDeque<>();
+		private ChannelHandlerContext ctx;
+		private long releaseAt;
+
+		// 🔌 معالج واحد لكل اتصال، في آخر الـ pipeline ليرى كل كتابات LittleProxy | One per connection, at the tail
+		static DelayedWrites on(ChannelPipeline pipeline) {
+			DelayedWrites handler = (DelayedWrites) pipeline.get(NAME);
+			if (handler == null) {
+				handler = new DelayedWrites();
+				pipeline.addLast(NAME, handler);
+			}
+			return handler;
+		}
+
+		@Override
+		public void handlerAdded(ChannelHandlerContext ctx) {
+			this.ctx = ctx;
+		}
+
+		// يُستدعى على حلقة أحداث القناة (من فلتر الطلب) | Called on the channel's event loop, from the request filter
+		void holdFor(Duration delay) {
+			releaseAt = Math.max(releaseAt, System.nanoTime() + delay.toNanos());
+			ctx.executor().schedule(this::release, delay.toNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		@Override
+		public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+			if (messages.isEmpty() && System.nanoTime() >= releaseAt) {
+				ctx.write(msg, promise);
+				return;
+			}
+			messages.add(msg);
+			promises.add(promise);
+		}
+
+		@Override
+		public void flush(ChannelHandlerContext ctx) {
+			if (messages.isEmpty())
+				ctx.flush();
+		}
+
+		private void release() {
+			// 🔁 تأخير أحدث مُدِّد بعد جدولة هذا المؤقّت | A later hold extended the deadline
+			long remaining = releaseAt - System.nanoTime();
+			if (remaining > 0) {
+				ctx.executor().schedule(this::release, remaining, TimeUnit.NANOSECONDS);
+				return;
+			}
+			while (!messages.isEmpty())
+				ctx.write(messages.poll(), promises.poll());
+			ctx.flush();
+		}
+	}
+}
@@ -1,22 +1,31 @@
 package com.falak.qa.net;
 
 import com.browserup.bup.BrowserUpProxy;
+import com.browserup.harreader.model.Har;
 import com.browserup.harreader.model.HarEntry;
 
 import io.qameta.allure.Allure;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.*;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 public class ProxyNetworkTriage implements NetworkTriage {
 	private final BrowserUpProxy proxy;
-	private volatile List<Pattern> filters = List.of();
-	private List<TriageEvent> latest = new ArrayList<>();
+	// 🎯 كل الفلاتر مجمّعة في مطابِق واحد (مرور واحد لكل رابط) | All filters compiled into one single-pass matcher
+	private volatile UrlMatcher filters = UrlMatcher.ALL;
+	// 🧾 الأخطاء بترتيب وصولها (لا إعادة فرز) | Errors in arrival order, never re-sorted
+	private final List<TriageEvent> latest = new ArrayList<>();
+
+	// 📍 مؤشر تزايدي داخل مدخلات HAR الحالية | Incremental cursor into the current HAR's entries
+	private Har cursorHar;
+	private int cursor;
+	// ⏳ مدخلات بلا استجابة بعد (تُضاف للـ HAR عند الطلب) | Entries still awaiting their response
+	private final List<HarEntry> pending = new ArrayList<>();
+	// ⏱️ توقيتات كل الطلبات (تُقرأ من HAR قبل استبداله وفي نهاية الاختبار) | Request timings, read from the HAR
+	private final NetworkWaterfall waterfall = new NetworkWaterfall();
+	private volatile String networkProfile = "none";
 
 	/**
 	 * 🌐 مُنشئ ProxyNetworkTriage باستخدام BrowserUpProxy
@@ -67,9 +76,10 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	 * events list.
 	 */
 	@Override
-	public void clear() {
+	public synchronized void clear() {
+		captureTimings(proxy.getHar());
 		proxy.newHar("triage-clear");
-		latest.clear();
+		resetCursor(null);
 		Allure.step("🧹 Cleared captured events and reset HAR");
 	}
 
@@ -83,15 +93,14 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	 *                 to filter requests
 	 */
 	@Override
-	public void arm(String... urlRegex) {
+	public synchronized void arm(String... urlRegex) {
+		// 🔁 فلاتر جديدة → إعادة فحص HAR الحالي مرة واحدة | New filters: rescan the current HAR once
+		resetCursor(null);
 		if (urlRegex == null || urlRegex.length == 0) {
-			this.filters = List.of(); // لا فلترة = كل شيء
+			this.filters = UrlMatcher.ALL; // لا فلترة = كل شيء
 			Allure.step("🎯 No filters applied — capturing all network traffic");
 		} else {
-			List<Pattern> ps = new ArrayList<>();
-			for (String r : urlRegex)
-				ps.add(Pattern.compile(r));
-			this.filters = ps;
+			this.filters = UrlMatcher.compile(urlRegex);
 			Allure.step("🎯 Applied network filters: " + Arrays.toString(urlRegex));
 		}
 	}
@@ -105,11 +114,9 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	 *         TriageEvent if present
 	 */
 	@Override
-	public Optional<TriageEvent> firstError() {
+	public synchronized Optional<TriageEvent> firstError() {
 		collect();
-		Optional<TriageEvent> first = latest.stream().findFirst();
-		Allure.step("🚨 First error retrieved: " + (first.isPresent() ? first.get().toString() : "No errors found"));
-		return first;
+		return latest.isEmpty() ? Optional.empty() : Optional.of(latest.get(0));
 	}
 
 	/**
@@ -121,7 +128,7 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	 *         captured TriageEvents
 	 */
 	@Override
-	public List<TriageEvent> errors() {
+	public synchronized List<TriageEvent> errors() {
 		collect();
 		Allure.step("📋 Retrieved total errors: " + latest.size());
 		return List.copyOf(latest);
@@ -130,7 +137,8 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	/**
 	 * 💾 حفظ ملف HAR إن كان مدعومًا
 	 *
-	 * 💾 Saves the HAR file if supported by the proxy.
+	 * 💾 Saves the HAR file if supported by the proxy. Entries are streamed to
+	 * disk one by one instead of serializing the whole HAR in memory first.
 	 *
 	 * @param out مسار الإخراج حيث سيتم حفظ HAR | Path where the HAR file should be
 	 *            saved
@@ -140,18 +148,25 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	public void saveHarIfSupported(Path out) throws IOException {
 		var har = proxy.getHar();
 		if (har != null) {
-			Files.createDirectories(out.getParent());
-			har.writeTo(out.toFile());
-			Allure.step("💾 HAR saved successfully to: " + out.toAbsolutePath());
+			if (!"none".equals(networkProfile))
+				har.getLog().setComment("network profile: " + networkProfile);
+			int entries = HarStreamWriter.write(har, out);
+			Allure.step("💾 HAR saved successfully to: " + out.toAbsolutePath() + " (" + entries + " entries)");
 		} else {
 			Allure.step("⚠️ No HAR available to save.");
 		}
 	}
 
 	/**
-	 * 🧮 جمع وتحويل بيانات HAR إلى أحداث TriageEvent
+	 * 🧮 جمع وتحويل بيانات HAR إلى أحداث TriageEvent (المدخلات الجديدة فقط)
 	 *
-	 * 🧮 Collects and transforms HAR data into TriageEvent objects.
+	 * 🔹 يتذكر موضعه في قائمة المدخلات فلا يفحص إلا ما أُضيف منذ آخر استدعاء، إضافة
+	 * إلى المدخلات التي لم تصل استجابتها بعد. عند إنشاء HAR جديد يبدأ المؤشر من
+	 * الصفر.
+	 *
+	 * 🧮 Collects and transforms HAR data into TriageEvent objects, evaluating
+	 * only entries added since the previous call plus those still awaiting a
+	 * response. A new HAR (newHar) resets the cursor.
 	 *
 	 * 📌 يقوم بفلترة الروابط، ويرصد فقط الاستجابات التي تحمل كود ≥ 400. 📌 Filters
 	 * URLs and records only responses with status ≥ 400.
@@ -159,28 +174,101 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	private void collect() {
 		var har = proxy.getHar();
 		if (har == null) {
-			latest = List.of();
-			Allure.step("⚠️ No HAR available — no events collected.");
+			resetCursor(null);
 			return;
 		}
+		if (har != cursorHar)
+			resetCursor(har);
 
-		List<TriageEvent> res = new ArrayList<>();
-		for (HarEntry e : har.getLog().getEntries()) {
-			String url = e.getRequest().getUrl();
-			if (!matches(url))
+		// ⏳ إعادة فحص المدخلات المعلقة فقط | Re-check only entries that were still in flight
+		for (Iterator<HarEntry> it = pending.iterator(); it.hasNext();) {
+			if (evaluate(it.next()))
+				it.remove();
+		}
+
+		List<HarEntry> entries = har.getLog().getEntries();
+		int size = entries.size();
+		for (; cursor < size; cursor++) {
+			HarEntry e = entries.get(cursor);
+			if (!matches(e.getRequest().getUrl()))
 				continue;
+			if (!evaluate(e))
+				pending.add(e);
+		}
+	}
+
+	// ✅ true إذا اكتملت الاستجابة (وسُجّل الخطأ إن وُجد) | true once the response is in (error recorded if any)
+	private boolean evaluate(HarEntry e) {
+		int status = e.getResponse().getStatus();
+		if (status == 0)
+			return false;
+		if (status >= 400) {
+			String url = e.getRequest().getUrl();
+			latest.add(new TriageEvent(TriageEvent.Kind.RESPONSE_ERROR, url, e.getRequest().getMethod().name(), status,
+					null, e.getResponse().getBodySize() == null ? 0 : e.getResponse().getBodySize(),
+					Instant.ofEpochMilli(e.getStartedDateTime().getTime())));
+			Allure.step("🚨 Captured error: " + url + " (status " + status + ")");
+		}
+		return true;
+	}
+
+	/**
+	 * 📶 ربط ملف الشبكة بالتوقيتات وبتعليق HAR | Tags the timings and the saved
+	 * HAR with the network profile
+	 *
+	 * @param profile معرّف الملف | Profile id
+	 */
+	@Override
+	public void setNetworkProfile(String profile) {
+		this.networkProfile = profile;
+		waterfall.setNetworkProfile(profile);
+	}
+
+	/**
+	 * 🌊 إرفاق المخطط الشلالي وملخص زمن نقاط النهاية للاختبار الحالي
+	 *
+	 * 🌊 Reports the waterfall and per-endpoint latency of the current test from
+	 * the HAR timings.
+	 *
+	 * @param testName اسم الاختبار | Test name
+	 */
+	@Override
+	public synchronized void reportTimings(String testName) {
+		captureTimings(proxy.getHar());
+		waterfall.report(testName);
+	}
 
-			int status = e.getResponse().getStatus();
-			if (status >= 400) {
-				res.add(new TriageEvent(TriageEvent.Kind.RESPONSE_ERROR, url, e.getRequest().getMethod().name(), status,
-						null, e.getResponse().getBodySize() == null ? 0 : e.getResponse().getBodySize(),
-						Instant.ofEpochMilli(e.getStartedDateTime().getTime())));
-				Allure.step("🚨 Captured error: " + url + " (status " + status + ")");
-			}
+	// ⏱️ تحويل توقيتات HAR (بالمللي ثانية، -1 = غير متاح) | HAR timings in ms, -1 = not applicable
+	private void captureTimings(Har har) {
+		if (har == null)
+			return;
+		List<HarEntry> entries = har.getLog().getEntries();
+		int size = entries.size();
+		for (int i = 0; i < size; i++) {
+			HarEntry e = entries.get(i);
+			var t = e.getTimings();
+			double tls = ms(t.getSsl());
+			double connect = ms(t.getConnect());
+			// 🔹 في HAR يشمل connect مرحلة TLS | HAR's connect includes the TLS phase
+			if (connect >= 0 && tls > 0)
+				connect -= tls;
+			Long bodySize = e.getResponse().getBodySize();
+			waterfall.add(new NetworkWaterfall.Timing(e.getRequest().getUrl(), e.getRequest().getMethod().name(),
+					e.getResponse().getStatus(), e.getStartedDateTime().getTime(), ms(t.getDns()), connect, tls,
+					ms(t.getWait()), ms(t.getReceive()), Math.max(0, ms(e.getTime())),
+					bodySize == null ? 0 : bodySize));
 		}
+	}
+
+	private static double ms(Integer value) {
+		return value == null ? -1 : value;
+	}
 
-		latest = res.stream().sorted(Comparator.comparing((TriageEvent t) -> t.time)).collect(Collectors.toList());
-		Allure.step("🧮 Total collected events: " + latest.size());
+	private void resetCursor(Har har) {
+		cursorHar = har;
+		cursor = 0;
+		pending.clear();
+		latest.clear();
 	}
 
 	/**
@@ -193,15 +281,7 @@ public class ProxyNetworkTriage implements NetworkTriage {
 	 *         otherwise
 	 */
 	private boolean matches(String url) {
-		if (filters.isEmpty()) {
-			return true; // لا فلاتر = الكل مسموح
-		}
-		for (Pattern p : filters) {
-			if (p.matcher(url).find()) {
-				return true;
-			}
-		}
-		return false;
+		return filters.matches(url);
 	}
 
 }
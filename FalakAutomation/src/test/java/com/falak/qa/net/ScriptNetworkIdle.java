@@ -0,0 +1,63 @@
+package com.falak.qa.net;
+
+import com.falak.qa.base.DomWaitEngine;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+
+public class ScriptNetworkIdle implements NetworkIdle {
+
+	private final DomWaitEngine engine;
+
+	/**
+	 * 🛠️ المُنشئ: تتبع الطلبات عبر عدّاد XHR/fetch المحقون في الصفحة (Firefox أو
+	 * عند غياب CDP)
+	 *
+	 * 🛠️ Constructor: tracks requests with the XHR/fetch counter injected by
+	 * DomWaitEngine (Firefox, or whenever CDP is unavailable).
+	 *
+	 * @param driver كائن WebDriver المستخدم | The WebDriver instance
+	 */
+	public ScriptNetworkIdle(WebDriver driver) {
+		this.engine = new DomWaitEngine(driver);
+	}
+
+	@Override
+	public void start() {
+		// 🔹 يُحقن العدّاد عند أول mark() / awaitIdle() في كل مستند
+	}
+
+	/**
+	 * 📍 يحقن العدّاد (إن لزم) قبل الإجراء ويُرجع توقيت المتصفح
+	 *
+	 * 📍 Installs the counter (if missing) before the action so its requests are
+	 * counted, and returns the browser clock.
+	 */
+	@Override
+	public long mark() {
+		return engine.install();
+	}
+
+	@Override
+	public boolean awaitIdle(long mark, Duration quiet, Duration timeout) {
+		try {
+			engine.waitForAny(timeout, DomWaitEngine.networkIdle("networkIdle", mark, quiet.toMillis()));
+			return true;
+		} catch (TimeoutException e) {
+			return false;
+		}
+	}
+
+	@Override
+	public int inFlight() {
+		return engine.inFlightRequests();
+	}
+
+	@Override
+	public void close() {
+		// 🔹 لا توجد موارد في جهة Java
+	}
+
+}
@@ -0,0 +1,321 @@
+package com.falak.qa.net;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.config.StubEndpoint;
+import com.falak.qa.utils.SuiteMetrics;
+
+import io.qameta.allure.Allure;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+//	✅ StubRule: قاعدة استبدال ردّ نقطة API (استجابة مُعدّة، خطأ شبكة، أو تأخير) مستقلة عن المتصفح
+// Browser-neutral rule that stubs, fails or delays requests whose URL matches a glob
+public final class StubRule {
+
+	/** 🎭 نوع الاستبدال | What the rule does with a matching request */
+	public enum Action {
+		RESPOND, FAIL, DELAY, REPLAY
+	}
+
+	/** 📦 الرد المُحدد لطلب واحد | The answer chosen for one request */
+	static final class Answer {
+		final int status;
+		final Map<String, String> headers;
+		final byte[] body;
+
+		Answer(int status, Map<String, String> headers, byte[] body) {
+			this.status = status;
+			this.headers = headers;
+			this.body = body;
+		}
+	}
+
+	private static final LongAdder RULES = new LongAdder();
+	private static final LongAdder STUBBED = new LongAdder();
+	private static final LongAdder FAILED = new LongAdder();
+	private static final LongAdder DELAYED = new LongAdder();
+
+	static {
+		SuiteMetrics.register("🧪 Network stubs", () -> String.format(
+				"rules=%d requestsAnswered=%d requestsFailed=%d requestsDelayed=%d", RULES.sum(), STUBBED.sum(),
+				FAILED.sum(), DELAYED.sum()));
+	}
+
+	public final String urlGlob;
+	public final String method; // null = أي طريقة | null matches any method
+	public final Action action;
+	public final int status;
+	public final Map<String, String> headers;
+	public final byte[] body;
+	public final Duration delay;
+	public final String source; // 📄 اسم الملف أو "inline" للتقرير | Fixture name or "inline", for the report
+
+	private final Pattern pattern;
+	private final FixtureStore store; // REPLAY فقط | REPLAY only
+	private final AtomicInteger hits = new AtomicInteger();
+
+	private StubRule(String urlGlob, String method, Action action, int status, byte[] body, Duration delay,
+			String source) {
+		this(urlGlob, method, action, status, body, delay, source, null);
+	}
+
+	private StubRule(String urlGlob, String method, Action action, int status, byte[] body, Duration delay,
+			String source, FixtureStore store) {
+		this.urlGlob = urlGlob;
+		this.method = method == null || method.isBlank() ? null : method.trim().toUpperCase();
+		this.action = action;
+		this.status = status;
+		this.headers = Map.of("Content-Type", "application/json; charset=utf-8", "Access-Control-Allow-Origin", "*",
+				"X-Falak-Stub", source);
+		this.body = body;
+		this.delay = delay;
+		this.source = source;
+		this.pattern = globPattern(urlGlob);
+		this.store = store;
+	}
+
+	/**
+	 * 📦 ردّ JSON مُعدّ | Canned JSON response
+	 *
+	 * @param urlGlob نمط الرابط | URL glob
+	 * @param status  رمز الحالة | Status code
+	 * @param json    المحتوى | Body
+	 * @return القاعدة | The rule
+	 */
+	public static StubRule respond(String urlGlob, int status, String json) {
+		return new StubRule(urlGlob, null, Action.RESPOND, status, json.getBytes(StandardCharsets.UTF_8),
+				Duration.ZERO, "inline");
+	}
+
+	/**
+	 * 📄 ردّ من ملف fixture في classpath (مثل fixtures/ngram-empty.json)
+	 *
+	 * 📄 Responds with a classpath fixture, e.g. fixtures/ngram-empty.json.
+	 *
+	 * @param urlGlob  نمط الرابط | URL glob
+	 * @param resource مسار الملف في classpath | Classpath resource path
+	 * @return القاعدة | The rule
+	 * @throws RuntimeException إذا لم يوجد الملف | If the fixture is missing
+	 */
+	public static StubRule fixture(String urlGlob, String resource) {
+		return new StubRule(urlGlob, null, Action.RESPOND, 200, readFixture(resource), Duration.ZERO, resource);
+	}
+
+	/**
+	 * 🔢 ردّ برمز حالة فقط (مثل 500 لحقن الأخطاء) | Status-only response, e.g.
+	 * 500 for error injection
+	 *
+	 * @param urlGlob نمط الرابط | URL glob
+	 * @param status  رمز الحالة | Status code
+	 * @return القاعدة | The rule
+	 */
+	public static StubRule status(String urlGlob, int status) {
+		return respond(urlGlob, status, "{\"status\":" + status + ",\"message\":\"stubbed by test\"}");
+	}
+
+	/**
+	 * ❌ إفشال الطلب بخطأ شبكة (BrowserUp: 502 لعدم دعم أخطاء الشبكة)
+	 *
+	 * ❌ Fails the request with a network error; the proxy answers 502 since it
+	 * cannot produce a connection-level failure.
+	 *
+	 * @param urlGlob نمط الرابط | URL glob
+	 * @return القاعدة | The rule
+	 */
+	public static StubRule fail(String urlGlob) {
+		return new StubRule(urlGlob, null, Action.FAIL, 502, new byte[0], Duration.ZERO, "fail");
+	}
+
+	/**
+	 * ⏳ تأخير الطلب الحقيقي ثم تمريره | Delays the real request, then passes it
+	 * through
+	 *
+	 * @param urlGlob نمط الرابط | URL glob
+	 * @param delay   مدة التأخير | Delay
+	 * @return القاعدة | The rule
+	 */
+	public static StubRule delay(String urlGlob, Duration delay) {
+		return new StubRule(urlGlob, null, Action.DELAY, 0, new byte[0], delay, "delay");
+	}
+
+	/**
+	 * 📼 إعادة تشغيل ردود مسجّلة من FixtureStore حسب الطريقة والمسار والمعاملات
+	 *
+	 * 🔹 الطلب غير المسجّل يُرد بـ 404 (fixtures.replay.miss=fail) أو يُمرَّر
+	 * للخادم (passthrough).
+	 *
+	 * 📼 Replays recorded responses from a FixtureStore by method, path and
+	 * normalized query. A request with no recording answers 404
+	 * (fixtures.replay.miss=fail) or goes to the live backend (passthrough).
+	 *
+	 * @param urlGlob نمط الرابط | URL glob
+	 * @param store   المخزن | Fixture store
+	 * @return القاعدة | The rule
+	 */
+	public static StubRule replay(String urlGlob, FixtureStore store) {
+		return new StubRule(urlGlob, null, Action.REPLAY, 0, new byte[0], Duration.ZERO,
+				String.valueOf(store.file().getFileName()), store);
+	}
+
+	/**
+	 * ⏳ نسخة من القاعدة تُنفَّذ بعد تأخير | Copy of this rule applied after a
+	 * delay
+	 *
+	 * @param delay مدة التأخير | Delay
+	 * @return قاعدة جديدة | New rule
+	 */
+	public StubRule after(Duration delay) {
+		return new StubRule(urlGlob, method, action, status, body, delay, source, store);
+	}
+
+	/**
+	 * 🔤 نسخة من القاعدة تطابق طريقة HTTP واحدة | Copy of this rule restricted to
+	 * one HTTP method
+	 *
+	 * @param httpMethod طريقة HTTP | HTTP method
+	 * @return قاعدة جديدة | New rule
+	 */
+	public StubRule forMethod(String httpMethod) {
+		return new StubRule(urlGlob, httpMethod, action, status, body, delay, source, store);
+	}
+
+	/**
+	 * 🏷️ تحويل @StubEndpoint إلى قاعدة | Converts a @StubEndpoint annotation
+	 *
+	 * @param stub التعليق | Annotation
+	 * @return القاعدة | The rule
+	 */
+	public static StubRule from(StubEndpoint stub) {
+		StubRule rule;
+		if (stub.fail())
+			rule = fail(stub.url());
+		else if (!stub.fixture().isBlank())
+			rule = new StubRule(stub.url(), null, Action.RESPOND, stub.status(), readFixture(stub.fixture()),
+					Duration.ZERO, stub.fixture());
+		else if (!stub.body().isEmpty())
+			rule = respond(stub.url(), stub.status(), stub.body());
+		else if (stub.status() != 200 || stub.delayMs() <= 0)
+			rule = status(stub.url(), stub.status());
+		else
+			rule = delay(stub.url(), Duration.ZERO);
+		return rule.after(Duration.ofMillis(Math.max(0, stub.delayMs()))).forMethod(stub.method());
+	}
+
+	/**
+	 * 🎯 هل يطابق الطلب هذه القاعدة؟ | Whether a request matches this rule
+	 *
+	 * @param url        رابط الطلب | Request URL
+	 * @param httpMethod طريقة الطلب | Request method
+	 * @return true عند التطابق | true on match
+	 */
+	public boolean matches(String url, String httpMethod) {
+		if (method != null && !method.equalsIgnoreCase(httpMethod))
+			return false;
+		return url != null && pattern.matcher(url).find();
+	}
+
+	/**
+	 * 📦 الرد لهذا الطلب (RESPOND/REPLAY)؛ null = تمرير الطلب للخادم | Answer for
+	 * the request (RESPOND/REPLAY); null passes it to the backend
+	 */
+	Answer answer(String url, String httpMethod) {
+		if (action != Action.REPLAY)
+			return new Answer(status, headers, body);
+		Optional<FixtureStore.Entry> recorded = store.replay(httpMethod, url);
+		if (recorded.isPresent()) {
+			FixtureStore.Entry e = recorded.get();
+			return new Answer(e.status, Map.of("Content-Type",
+					e.contentType == null ? "application/json; charset=utf-8" : e.contentType,
+					"Access-Control-Allow-Origin", "*", "X-Falak-Stub", source), e.body);
+		}
+		if ("passthrough".equalsIgnoreCase(
+				ConfigReader.initProperties().getProperty("fixtures.replay.miss", "fail").trim()))
+			return null;
+		return new Answer(404, headers, ("{\"status\":404,\"message\":\"no recorded fixture for "
+				+ FixtureStore.keyOf(httpMethod, url).replace("\"", "'") + "\"}").getBytes(StandardCharsets.UTF_8));
+	}
+
+	/** 🔁 تحويل نمط glob إلى Regex يُطابق في أي موضع | Glob to a regex matched anywhere */
+	static Pattern globPattern(String glob) {
+		return Pattern
+				.compile(Arrays.stream(glob.split("\\*", -1)).map(Pattern::quote).collect(Collectors.joining(".*")));
+	}
+
+	/** 🔁 نمط CDP Fetch المكافئ | Equivalent CDP Fetch URL pattern */
+	String cdpPattern() {
+		return "*" + urlGlob + "*";
+	}
+
+	/** 📊 تسجيل تطابق | Records a hit */
+	void hit() {
+		hits.incrementAndGet();
+		switch (action) {
+		case RESPOND -> STUBBED.increment();
+		case FAIL -> FAILED.increment();
+		case DELAY -> DELAYED.increment();
+		case REPLAY -> STUBBED.increment();
+		}
+	}
+
+	/** 📊 عدد الطلبات المطابقة | Number of matched requests */
+	public int hits() {
+		return hits.get();
+	}
+
+	static void registered() {
+		RULES.increment();
+	}
+
+	/**
+	 * 📎 إرفاق القواعد وعدد تطابقاتها في Allure | Attaches the rules and their hit
+	 * counts to Allure
+	 *
+	 * @param via   آلية الاعتراض (CDP/Proxy) | Interception mechanism
+	 * @param rules القواعد | Rules
+	 */
+	static void report(String via, List<StubRule> rules) {
+		if (rules.isEmpty())
+			return;
+		StringBuilder sb = new StringBuilder();
+		for (StubRule r : rules)
+			sb.append(String.format("%4d × %s%n", r.hits(), r));
+		Allure.addAttachment("🧪 Network stubs (" + via + ")", "text/plain", sb.toString());
+		for (StubRule r : rules) {
+			if (r.hits() == 0)
+				Allure.step("⚠️ Stub never matched: " + r);
+		}
+	}
+
+	@Override
+	public String toString() {
+		String what = switch (action) {
+		case RESPOND -> status + " " + source + " (" + body.length + " B)";
+		case FAIL -> "network failure";
+		case DELAY -> "pass-through";
+		case REPLAY -> "replay " + source;
+		};
+		return (method == null ? "*" : method) + " " + urlGlob + " → " + what
+				+ (delay.isZero() ? "" : " after " + delay.toMillis() + "ms");
+	}
+
+	private static byte[] readFixture(String resource) {
+		try (InputStream in = StubRule.class.getClassLoader().getResourceAsStream(resource)) {
+			if (in == null)
+				throw new RuntimeException("❌ Stub fixture not found on classpath: " + resource);
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new RuntimeException("❌ Failed to read stub fixture: " + resource, e);
+		}
+	}
+}
@@ -0,0 +1,144 @@
+package com.falak.qa.net;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.utils.SuiteMetrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ TriageEventRing: مخزن دائري محدود السعة وبدون أقفال لأحداث الشبكة (يحتفظ بالأحدث ويعدّ الفائض)
+// Lock-free, fixed-capacity ring of TriageEvents: keeps the newest events, counts overwritten ones,
+// and pins the first error of the session for an O(1) poll
+final class TriageEventRing {
+
+	private static final LongAdder RECORDED = new LongAdder();
+	private static final LongAdder OVERWRITTEN = new LongAdder();
+
+	static {
+		SuiteMetrics.register("🕸️ Network triage buffer", TriageEventRing::summary);
+	}
+
+	// 📦 حدث مع رقمه التسلسلي (للتحقق أن الخانة لم تُستبدل أثناء القراءة) | Event tagged with its sequence number
+	private static final class Slot {
+		final long seq;
+		final TriageEvent event;
+
+		Slot(long seq, TriageEvent event) {
+			this.seq = seq;
+			this.event = event;
+		}
+	}
+
+	private final AtomicReferenceArray<Slot> slots;
+	private final int mask;
+	// ✍️ رقم الخانة التالية للكتابة | Next sequence to write
+	private final AtomicLong head = new AtomicLong();
+	// 🧹 بداية الجلسة الحالية (بعد آخر clear/drain) | First sequence of the current session
+	private final AtomicLong floor = new AtomicLong();
+	private final AtomicReference<TriageEvent> first = new AtomicReference<>();
+
+	/**
+	 * 🛠️ المُنشئ: السعة من triage.buffer.capacity (تُقرّب لأقرب قوة للعدد 2)
+	 *
+	 * 🛠️ Capacity comes from triage.buffer.capacity, rounded up to a power of two.
+	 */
+	TriageEventRing() {
+		int requested = Integer.parseInt(
+				ConfigReader.initProperties().getProperty("triage.buffer.capacity", "256").trim());
+		int capacity = Integer.highestOneBit(Math.max(1, requested - 1)) << 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	/**
+	 * ➕ إضافة حدث (من خيط مستمع CDP) دون أقفال ودون كتابة في Allure
+	 *
+	 * ➕ Appends an event without locking or reporting; the oldest event is
+	 * overwritten when the ring is full.
+	 *
+	 * @param event الحدث | Event
+	 */
+	void add(TriageEvent event) {
+		long seq = head.getAndIncrement();
+		slots.set((int) (seq & mask), new Slot(seq, event));
+		first.compareAndSet(null, event);
+		RECORDED.increment();
+		if (seq - floor.get() >= slots.length())
+			OVERWRITTEN.increment();
+	}
+
+	/**
+	 * 🚨 أول خطأ في الجلسة الحالية (O(1)، لا يتأثر بالاستبدال)
+	 *
+	 * @return أول حدث أو فارغ | First event, or empty
+	 */
+	Optional<TriageEvent> first() {
+		return Optional.ofNullable(first.get());
+	}
+
+	/**
+	 * 📋 لقطة بالأحداث المحفوظة (الأقدم أولًا) | Snapshot of the retained events,
+	 * oldest first
+	 *
+	 * @return قائمة غير قابلة للتعديل | Immutable list
+	 */
+	List<TriageEvent> snapshot() {
+		long end = head.get();
+		long start = Math.max(floor.get(), end - slots.length());
+		List<TriageEvent> out = new ArrayList<>((int) (end - start));
+		for (long s = start; s < end; s++) {
+			Slot slot = slots.get((int) (s & mask));
+			// 🔹 خانة لم تُكتب بعد أو استُبدلت أثناء القراءة تُتخطى
+			if (slot != null && slot.seq == s)
+				out.add(slot.event);
+		}
+		return List.copyOf(out);
+	}
+
+	/**
+	 * 🔢 عدد الأحداث المستبدلة في الجلسة الحالية | Events overwritten in the
+	 * current session
+	 *
+	 * @return العدد | Count
+	 */
+	long overwritten() {
+		return Math.max(0, head.get() - floor.get() - slots.length());
+	}
+
+	/**
+	 * 🔢 عدد الأحداث منذ بداية الجلسة الحالية | Events recorded in the current
+	 * session
+	 *
+	 * @return العدد | Count
+	 */
+	long recorded() {
+		return head.get() - floor.get();
+	}
+
+	/**
+	 * 🧹 بدء جلسة جديدة (الأحداث السابقة لا تظهر بعد الآن)
+	 *
+	 * 🧹 Starts a new session; earlier events are no longer visible.
+	 */
+	void clear() {
+		floor.set(head.get());
+		first.set(null);
+	}
+
+	int capacity() {
+		return slots.length();
+	}
+
+	private static String summary() {
+		long n = RECORDED.sum();
+		if (n == 0)
+			return "no samples";
+		return String.format("events=%d overwritten=%d", n, OVERWRITTEN.sum());
+	}
+
+}
@@ -0,0 +1,227 @@
+package com.falak.qa.net;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+//	✅ UrlMatcher: مطابقة الرابط مع كل فلاتر arm() في مرور واحد (Trie للنصوص الحرفية + Regex واحد مدمج للباقي)
+// Compiled URL filter set: literal prefixes/substrings are folded into a trie (Aho-Corasick), the remaining
+// regexes are merged into one alternation, so each URL is scanned once instead of once per pattern
+public final class UrlMatcher {
+
+	/** 🌐 بدون فلاتر = مطابقة كل الروابط | No filters: every URL matches */
+	public static final UrlMatcher ALL = new UrlMatcher(null, null, null, List.of(), 0);
+
+	// 🔁 مراجع خلفية (\1، \k<name>) تتغير أرقامها عند الدمج | Back-references would be renumbered by merging
+	private static final Pattern BACK_REFERENCE = Pattern.compile("\\\\[1-9]|\\\\k<");
+
+	private final Node prefixes;
+	private final Node substrings;
+	private final Pattern merged;
+	private final List<Pattern> separate;
+	private final int size;
+
+	private UrlMatcher(Node prefixes, Node substrings, Pattern merged, List<Pattern> separate, int size) {
+		this.prefixes = prefixes;
+		this.substrings = substrings;
+		this.merged = merged;
+		this.separate = separate;
+		this.size = size;
+	}
+
+	/**
+	 * 🏗️ تجميع فلاتر Regex بنفس دلالة {@code Pattern.find()} لكل نمط
+	 *
+	 * 🔹 النمط الحرفي (مع .* في أوله/آخره فقط) يصبح نصًا في Trie: مع ^ → بادئة،
+	 * وبدونها → بحث داخل الرابط. باقي الأنماط تُدمج في Regex واحد (?:a)|(?:b).
+	 *
+	 * 🏗️ Compiles regex filters with the same semantics as calling
+	 * {@code find()} for each pattern. A pattern that is a literal, optionally
+	 * wrapped in {@code .*}, becomes a trie string: a prefix when anchored with
+	 * {@code ^}, a substring otherwise. All other patterns are merged into one
+	 * alternation.
+	 *
+	 * @param urlRegex الأنماط (فارغة = كل الروابط) | Patterns; none means all
+	 * @return المطابِق | Matcher
+	 * @throws java.util.regex.PatternSyntaxException إذا كان نمط غير صالح | If a
+	 *                                                pattern is invalid
+	 */
+	public static UrlMatcher compile(String... urlRegex) {
+		if (urlRegex == null || urlRegex.length == 0)
+			return ALL;
+
+		Node prefixes = null;
+		Node substrings = null;
+		List<String> rest = new ArrayList<>();
+		List<Pattern> separate = new ArrayList<>();
+		for (String regex : urlRegex) {
+			Pattern compiled = Pattern.compile(regex); // ❗ نفس أخطاء الصياغة كما في السابق | Same syntax errors
+			if (BACK_REFERENCE.matcher(regex).find()) {
+				separate.add(compiled);
+				continue;
+			}
+			String body = regex;
+			boolean anchored = body.startsWith("^");
+			if (anchored)
+				body = body.substring(1);
+			while (body.startsWith(".*")) {
+				body = body.substring(2);
+				anchored = false;
+			}
+			while (body.endsWith(".*") && !body.endsWith("\\.*"))
+				body = body.substring(0, body.length() - 2);
+
+			String literal = literalOf(body);
+			if (literal == null || literal.isEmpty()) {
+				rest.add(regex);
+			} else if (anchored) {
+				prefixes = insert(prefixes, literal);
+			} else {
+				substrings = insert(substrings, literal);
+			}
+		}
+		if (substrings != null)
+			link(substrings);
+
+		Pattern merged = null;
+		if (!rest.isEmpty()) {
+			StringBuilder sb = new StringBuilder();
+			for (String r : rest) {
+				if (sb.length() > 0)
+					sb.append('|');
+				sb.append("(?:").append(r).append(')');
+			}
+			merged = Pattern.compile(sb.toString());
+		}
+		return new UrlMatcher(prefixes, substrings, merged, List.copyOf(separate), urlRegex.length);
+	}
+
+	/**
+	 * 🔎 هل يطابق الرابط أي فلتر؟ | Whether the URL matches any filter
+	 *
+	 * @param url الرابط | URL
+	 * @return true عند المطابقة أو عدم وجود فلاتر | true on a match, or when no
+	 *         filters are armed
+	 */
+	public boolean matches(String url) {
+		if (size == 0)
+			return true;
+		if (url == null)
+			return false;
+		if (prefixes != null && startsWithAny(url))
+			return true;
+		if (substrings != null && containsAny(url))
+			return true;
+		if (merged != null && merged.matcher(url).find())
+			return true;
+		for (Pattern p : separate) {
+			if (p.matcher(url).find())
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * 🔢 عدد الفلاتر | Number of armed filters
+	 *
+	 * @return العدد | Count
+	 */
+	public int size() {
+		return size;
+	}
+
+	// 🔤 النص الحرفي للنمط (مع فك \. و \/ وما شابه) أو null إذا احتوى رموز Regex
+	// Literal text of the pattern (escapes like \. resolved), or null if it has any regex construct
+	private static String literalOf(String body) {
+		if (body.startsWith("\\Q") && body.endsWith("\\E") && body.indexOf("\\E") == body.length() - 2)
+			return body.substring(2, body.length() - 2);
+		StringBuilder sb = new StringBuilder(body.length());
+		for (int i = 0; i < body.length(); i++) {
+			char c = body.charAt(i);
+			if (c == '\\') {
+				if (i + 1 == body.length())
+					return null;
+				char next = body.charAt(++i);
+				if (Character.isLetterOrDigit(next))
+					return null; // \d \w \b \1 ...
+				sb.append(next);
+			} else if (".[]{}()*+?^$|".indexOf(c) >= 0) {
+				return null;
+			} else {
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	// 🌳 عقدة Trie مع رابط فشل (Aho-Corasick) | Trie node with an Aho-Corasick failure link
+	private static final class Node {
+		final Map<Character, Node> next = new HashMap<>(4);
+		Node fail;
+		boolean terminal;
+	}
+
+	private static Node insert(Node root, String literal) {
+		Node r = root == null ? new Node() : root;
+		Node n = r;
+		for (int i = 0; i < literal.length(); i++)
+			n = n.next.computeIfAbsent(literal.charAt(i), k -> new Node());
+		n.terminal = true;
+		return r;
+	}
+
+	// 🔗 بناء روابط الفشل بالعرض أولًا | Builds failure links breadth first
+	private static void link(Node root) {
+		ArrayDeque<Node> queue = new ArrayDeque<>();
+		for (Node child : root.next.values()) {
+			child.fail = root;
+			queue.add(child);
+		}
+		while (!queue.isEmpty()) {
+			Node n = queue.poll();
+			for (Map.Entry<Character, Node> e : n.next.entrySet()) {
+				Node child = e.getValue();
+				Node f = n.fail;
+				while (f != root && !f.next.containsKey(e.getKey()))
+					f = f.fail;
+				Node target = f.next.get(e.getKey());
+				child.fail = target != null && target != child ? target : root;
+				child.terminal |= child.fail.terminal;
+				queue.add(child);
+			}
+		}
+	}
+
+	private boolean startsWithAny(String url) {
+		Node n = prefixes;
+		for (int i = 0; i < url.length(); i++) {
+			n = n.next.get(url.charAt(i));
+			if (n == null)
+				return false;
+			if (n.terminal)
+				return true;
+		}
+		return false;
+	}
+
+	private boolean containsAny(String url) {
+		Node root = substrings;
+		Node n = root;
+		for (int i = 0; i < url.length(); i++) {
+			char c = url.charAt(i);
+			Node next = n.next.get(c);
+			while (next == null && n != root) {
+				n = n.fail;
+				next = n.next.get(c);
+			}
+			n = next == null ? root : next;
+			if (n.terminal)
+				return true;
+		}
+		return false;
+	}
+
+}
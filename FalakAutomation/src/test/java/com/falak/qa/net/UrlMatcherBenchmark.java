@@ -0,0 +1,99 @@
+package com.falak.qa.net;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+//	✅ UrlMatcherBenchmark: قياس أحداث/ثانية لمطابقة الروابط (القائمة القديمة مقابل UrlMatcher) مع 1 و10 و50 فلتر
+// Micro-benchmark: URL events/sec for the former List<Pattern> loop vs UrlMatcher with 1, 10 and 50 armed filters.
+// Run: java -cp target/test-classes com.falak.qa.net.UrlMatcherBenchmark
+public final class UrlMatcherBenchmark {
+
+	private static final int URLS = 20_000;
+	private static final int WARMUP_ROUNDS = 5;
+	private static final int MEASURED_ROUNDS = 10;
+
+	private UrlMatcherBenchmark() {
+	}
+
+	public static void main(String[] args) {
+		List<String> urls = sampleUrls(new Random(42));
+		System.out.printf("%-8s %16s %16s %8s%n", "filters", "legacy ev/s", "matcher ev/s", "speedup");
+		for (int n : new int[] { 1, 10, 50 }) {
+			String[] regex = sampleFilters(n);
+			List<Pattern> legacy = new ArrayList<>();
+			for (String r : regex)
+				legacy.add(Pattern.compile(r));
+			UrlMatcher matcher = UrlMatcher.compile(regex);
+
+			// ✅ نفس النتيجة لكل رابط قبل القياس | Same verdict for every URL before timing anything
+			for (String url : urls) {
+				if (legacyMatches(legacy, url) != matcher.matches(url))
+					throw new IllegalStateException("❌ Verdict mismatch for " + url + " with " + n + " filters");
+			}
+
+			double legacyRate = measure(urls, url -> legacyMatches(legacy, url));
+			double matcherRate = measure(urls, matcher::matches);
+			System.out.printf("%-8d %16.0f %16.0f %7.1fx%n", n, legacyRate, matcherRate, matcherRate / legacyRate);
+		}
+	}
+
+	private static boolean legacyMatches(List<Pattern> filters, String url) {
+		for (Pattern p : filters) {
+			if (p.matcher(url).find())
+				return true;
+		}
+		return false;
+	}
+
+	private static double measure(List<String> urls, java.util.function.Predicate<String> matcher) {
+		int sink = 0;
+		for (int r = 0; r < WARMUP_ROUNDS; r++)
+			for (String url : urls)
+				sink += matcher.test(url) ? 1 : 0;
+		long start = System.nanoTime();
+		for (int r = 0; r < MEASURED_ROUNDS; r++)
+			for (String url : urls)
+				sink += matcher.test(url) ? 1 : 0;
+		long nanos = System.nanoTime() - start;
+		if (sink == -1)
+			System.out.println(sink); // 🔹 يمنع حذف الحلقة | Keeps the loop alive
+		return (double) URLS * MEASURED_ROUNDS / (nanos / 1e9);
+	}
+
+	// 🌐 روابط شبيهة بصفحة أداة: أصول ثابتة + نداءات API | Tool-page-like traffic: static assets plus API calls
+	private static List<String> sampleUrls(Random random) {
+		String[] assets = { "/assets/js/chunk-%d.js", "/assets/css/app.%d.css", "/assets/fonts/font-%d.woff2",
+				"/assets/img/icon-%d.svg" };
+		List<String> urls = new ArrayList<>(URLS);
+		for (int i = 0; i < URLS; i++) {
+			int kind = random.nextInt(10);
+			if (kind == 0)
+				urls.add("https://falak.ksaa.gov.sa/api/tools/ngram/" + java.util.UUID.randomUUID()
+						+ "?pageNumber=" + random.nextInt(50) + "&limit=1000");
+			else if (kind == 1)
+				urls.add("https://falak.ksaa.gov.sa/api/new-public/corpus?page=" + random.nextInt(10));
+			else
+				urls.add("https://falak.ksaa.gov.sa"
+						+ String.format(assets[random.nextInt(assets.length)], random.nextInt(500)));
+		}
+		return urls;
+	}
+
+	// 🎯 خليط من فلاتر حرفية وRegex حقيقية | Mix of literal and real regex filters
+	private static String[] sampleFilters(int n) {
+		String[] filters = new String[n];
+		filters[0] = ".*/api/tools/ngram/.*";
+		for (int i = 1; i < n; i++) {
+			switch (i % 4) {
+			case 0 -> filters[i] = ".*/api/tool-" + i + "/.*";
+			case 1 -> filters[i] = "^https://service-" + i + "\\.example\\.org/";
+			case 2 -> filters[i] = "/api/v" + i + "/items/\\d+";
+			default -> filters[i] = "(?i)/REPORTS-" + i + "/.*\\.json$";
+			}
+		}
+		return filters;
+	}
+
+}
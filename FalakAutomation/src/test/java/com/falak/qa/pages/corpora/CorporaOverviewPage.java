@@ -69,6 +69,12 @@ public class CorporaOverviewPage extends BasePage {
 		super(driver);
 	}
 
+	// 📦 مُنشئ يعتمد على سياق الخيط الحالي (TestContext)
+	// Resolves the WebDriver from the current thread's TestContext.
+	public CorporaOverviewPage() {
+		this(com.falak.qa.base.TestContext.current().getDriver());
+	}
+
 	/**
 	 * 🔍 الحصول على المحدد (Locator) الخاص بزر الأداة في القائمة اليمنى
 	 * 
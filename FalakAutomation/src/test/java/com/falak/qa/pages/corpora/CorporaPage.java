@@ -25,6 +25,12 @@ public class CorporaPage extends BasePage {
 		this.corporaUrl = com.falak.qa.config.EnvironmentConfigLoader.getUrl("corporaUrl");
 	}
 
+	// 📦 مُنشئ يعتمد على سياق الخيط الحالي (TestContext)
+	// Resolves the WebDriver from the current thread's TestContext.
+	public CorporaPage() {
+		this(com.falak.qa.base.TestContext.current().getDriver());
+	}
+
 	/**
 	 * 🌐 إرجاع رابط صفحة المدونات
 	 * 
@@ -21,10 +21,8 @@ import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.openqa.selenium.By;
-import org.openqa.selenium.ElementNotInteractableException;
 import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
-import org.openqa.selenium.StaleElementReferenceException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
@@ -36,6 +34,10 @@ import org.openqa.selenium.ElementClickInterceptedException;
 import org.testng.Assert;
 
 import com.falak.qa.base.BasePage;
+import com.falak.qa.base.DomWaitEngine;
+import com.falak.qa.net.NetworkIdle;
+import com.falak.qa.net.NetworkIdleStats;
+import com.falak.qa.utils.TableSnapshot;
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
 
@@ -287,6 +289,12 @@ public class ConcordancerPage extends BasePage {
 		super(driver);
 	}
 
+	// 📦 مُنشئ يعتمد على سياق الخيط الحالي (TestContext)
+	// Resolves the WebDriver from the current thread's TestContext.
+	public ConcordancerPage() {
+		this(com.falak.qa.base.TestContext.current().getDriver());
+	}
+
 	/**
 	 * 🏷️ استرجاع النص الظاهر لعنوان الأداة الرئيسي
 	 *
@@ -627,6 +635,7 @@ public class ConcordancerPage extends BasePage {
 	 */
 	@Step("🔍 Click search button with form submission prevention")
 	public void clickSearchButton() {
+		sampleMemory("clickSearchButton");
 		try {
 			// 🔎 العثور على زر البحث
 			WebElement button = waitForElement(searchButton);
@@ -908,7 +917,8 @@ public class ConcordancerPage extends BasePage {
 	 */
 	@Step("📁 Verify file download with extension: {expectedExtension}")
 	public boolean isFileDownloaded(String expectedExtension) {
-		File downloadFolder = new File(System.getProperty("user.home") + "/Downloads");
+		File downloadFolder = com.falak.qa.base.TestContext.find().map(ctx -> ctx.getDownloadsDir().toFile())
+				.orElseGet(() -> new File(System.getProperty("user.home") + "/Downloads"));
 		File[] files = downloadFolder.listFiles((dir, name) -> name.toLowerCase().endsWith(expectedExtension));
 
 		boolean found = files != null && files.length > 0;
@@ -1666,12 +1676,12 @@ public class ConcordancerPage extends BasePage {
 	@Step("📥 Retrieved column values for column index: {0}")
 	public List<String> getColumnValues(int columnIndex) {
 		try {
-			List<String> values = new ArrayList<>();
-			List<WebElement> rows = waitForElements(tableRows);
-			for (int i = 1; i <= rows.size(); i++) {
-				String xpath = getColumnCellXpath(i, columnIndex);
-				values.add(waitForElement(By.xpath(xpath)).getText().trim());
-			}
+			String site = "ConcordancerPage.getColumnValues";
+			TableSnapshot snapshot = awaitTableSnapshot(resultsTable, snap -> snap.rowCount() > 0, DEFAULT_TIMEOUT,
+					site);
+			List<String> values = new ArrayList<>(snapshot.column(columnIndex));
+			// ⏱️ الطريقة السابقة: findElements + isDisplayed لكل صف، ثم waitForElement + getText لكل خلية
+			TableSnapshot.recordLegacyRoundTrips(site, 1 + snapshot.rowCount() + 2L * values.size());
 			return values;
 		} catch (Exception e) {
 			throw new RuntimeException("❌ Failed to retrieve column values for index: " + columnIndex, e);
@@ -1704,22 +1714,27 @@ public class ConcordancerPage extends BasePage {
 	 *                           index (1-based)
 	 * @param previousFirstValue القيمة السابقة لأول خلية قبل الضغط | Previous first
 	 *                           cell value
-	 * @throws InterruptedException 
+	 *
+	 *                           📌 بدل النوم الثابت (5 ثوانٍ) يتم انتظار سكون الشبكة
+	 *                           ثم تغيّر نص أول خلية داخل المتصفح.
 	 */
 	@Step("⏳ Wait for column {0} to be sorted (first cell value changes)")
-	public void waitForColumnToBeSorted(int columnIndex, String previousFirstValue) throws InterruptedException {
-		WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-		Thread.sleep(5000);
+	public void waitForColumnToBeSorted(int columnIndex, String previousFirstValue) {
+		long t0 = System.nanoTime();
 		try {
-			wait.until(driver -> {
-				String currentFirst = getFirstCellText(columnIndex);
-				return currentFirst != null && !currentFirst.trim().isEmpty()
-						&& !currentFirst.equals(previousFirstValue);
-			});
+			// 🌐 انتظار انتهاء طلب الفرز (لا طلبات لمدة 500ms)
+			NetworkIdle idle = networkIdle();
+			idle.awaitIdle(idle.mark(), Duration.ofMillis(500), Duration.ofSeconds(10));
+
+			// ✏️ انتظار تغيّر أول خلية عن قيمتها السابقة
+			waitEngine.waitForAny(Duration.ofSeconds(10), DomWaitEngine.textChanged("firstCell",
+					By.xpath(getColumnCellXpath(1, columnIndex)), previousFirstValue));
 			Allure.step("✅ Column " + columnIndex + " was sorted successfully.");
 			System.out.println("✅ Column " + columnIndex + " was sorted successfully.");
 		} catch (TimeoutException te) {
 			Allure.step("⚠️ Sorting wait timed out for column: " + columnIndex);
+		} finally {
+			NetworkIdleStats.record("ConcordancerPage.waitForColumnToBeSorted", 5000, System.nanoTime() - t0);
 		}
 	}
 
@@ -1756,16 +1771,11 @@ public class ConcordancerPage extends BasePage {
 	@Step("📥 Get top {1} values from column {0}")
 	public List<String> getTopNColumnValues(int columnIndex, int count) {
 		try {
-			List<String> values = new ArrayList<>();
-			List<WebElement> rows = waitForElements(tableRows);
-
-			int limit = Math.min(count, rows.size());
-
-			for (int i = 1; i <= limit; i++) {
-				String xpath = getColumnCellXpath(i, columnIndex);
-				String cellText = waitForElement(By.xpath(xpath)).getText().trim();
-				values.add(cellText);
-			}
+			String site = "ConcordancerPage.getTopNColumnValues";
+			TableSnapshot snapshot = awaitTableSnapshot(resultsTable, snap -> snap.rowCount() > 0, DEFAULT_TIMEOUT,
+					site);
+			List<String> values = new ArrayList<>(snapshot.topN(columnIndex, count));
+			TableSnapshot.recordLegacyRoundTrips(site, 1 + snapshot.rowCount() + 2L * values.size());
 
 			Allure.step("📥 Extracted top " + count + " values from column " + columnIndex + ": " + values);
 			return values;
@@ -1982,6 +1992,7 @@ public class ConcordancerPage extends BasePage {
 	 */
 	@Step("🧭 Navigate to page number: {0}")
 	public void goToPage(int pageNumber) {
+		sampleMemory("goToPage " + pageNumber);
 		try {
 			List<WebElement> pageButtons = waitForElements(paginationPageNumbers);
 
@@ -2025,6 +2036,7 @@ public class ConcordancerPage extends BasePage {
 	 */
 	@Step("🔢 Select results per page: {0}")
 	public void selectResultsPerPage(int count) {
+		sampleMemory("selectResultsPerPage " + count);
 		try {
 			// ⬇️ افتح القائمة المنسدلة
 			// Open the rows-per-page dropdown
@@ -2054,32 +2066,11 @@ public class ConcordancerPage extends BasePage {
 	@Step("⏳ Wait until results table or 'No Data' message is displayed")
 	public void waitForResultsOrNoDataMessage() {
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(180));
-			wait.pollingEvery(Duration.ofMillis(100)).ignoring(NoSuchElementException.class)
-					.ignoring(StaleElementReferenceException.class).ignoring(ElementNotInteractableException.class);
-
-			wait.until(driver -> {
-				System.out.println("⏳ Polling... checking for table or no results message...");
-
-				boolean tableVisible = false;
-				boolean noResultsVisible = false;
-
-				// تحقق من ظهور الجدول
-				try {
-					tableVisible = isResultTableDisplayed();
-				} catch (Exception e) {
-					System.out.println("🔸 Table check failed: " + e.getMessage());
-				}
-
-				// تحقق من ظهور رسالة "لا توجد بيانات"
-				try {
-					noResultsVisible = isNoResultsMessageDisplayed();
-				} catch (Exception e) {
-					System.out.println("🔸 No Results check failed: " + e.getMessage());
-				}
-
-				return tableVisible || noResultsVisible;
-			});
+			// ⚡ استدعاء واحد يعود عند ظهور الجدول أو رسالة "لا توجد بيانات" (بدل الاستطلاع كل 100ms)
+			DomWaitEngine.Outcome outcome = waitEngine.waitForAny(Duration.ofSeconds(180),
+					DomWaitEngine.visible("resultsTable", resultsTable),
+					DomWaitEngine.visible("noDataMessage", noDataMessage));
+			System.out.println("✅ Outcome reached: " + outcome.name);
 		} catch (Exception e) {
 			throw new RuntimeException("❌ Timed out waiting for results or 'No Data' message", e);
 		}
@@ -102,6 +102,12 @@ public class HomePage extends BasePage {
 		this.baseUrl = com.falak.qa.config.EnvironmentConfigLoader.getUrl("baseUrl");
 	}
 
+	// 📦 مُنشئ يعتمد على سياق الخيط الحالي (TestContext)
+	// Resolves the WebDriver from the current thread's TestContext.
+	public HomePage() {
+		this(com.falak.qa.base.TestContext.current().getDriver());
+	}
+
 	// ====================== Navigation Button Methods ======================
 
 	/**
@@ -57,11 +57,11 @@ public class ConcordancerToolTC extends BaseTest {
 		System.out.println("TC01_openConcordancerToolFromHomePage");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(10));
 			// 🏠 1. إنشاء الصفحة الرئيسية وفتحها
-			HomePage homePage = new HomePage(driver);
+			HomePage homePage = new HomePage(getDriver());
 			String baseUrl = EnvironmentConfigLoader.getUrl("baseUrl");
-			driver.get(baseUrl);
+			getDriver().get(baseUrl);
 			Allure.step("✅ Opened base URL: " + baseUrl);
 
 			// 🖱️ 2. الضغط على زر "المدونات"
@@ -69,7 +69,7 @@ public class ConcordancerToolTC extends BaseTest {
 			Allure.step("🖱️ Clicked on 'المدونات' in header");
 
 			// 🧭 3. الانتقال إلى صفحة المدونات
-			CorporaPage corporaPage = new CorporaPage(driver);
+			CorporaPage corporaPage = new CorporaPage(getDriver());
 			wait.until(ExpectedConditions.urlContains(EnvironmentConfigLoader.getUrl("corporaUrl")));
 
 			// 🔍 4. البحث عن بطاقة المجمع
@@ -84,13 +84,13 @@ public class ConcordancerToolTC extends BaseTest {
 			Allure.step("🖱️ Clicked 'اختر المدونة' on card: " + selectedCorpora.getDisplayName());
 
 			// 🧭 6. الانتقال إلى صفحة نظرة عامة على المدونة
-			CorporaOverviewPage overviewPage = new CorporaOverviewPage(driver);
+			CorporaOverviewPage overviewPage = new CorporaOverviewPage(getDriver());
 			wait.until(ExpectedConditions.urlContains(selectedCorpora.getUuid()));
 
 			// 🧪 7. الضغط على زر "الكشاف السياقي"
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 			By toolLocator = overviewPage.getToolCardLocator(selectedTool);
-			Assert.assertTrue(driver.findElements(toolLocator).size() > 0,
+			Assert.assertTrue(getDriver().findElements(toolLocator).size() > 0,
 					"❌ الزر الخاص بأداة " + selectedTool.getArabicName() + " غير موجود في هذه المدونة!");
 			Allure.step("🎯 Tool button found: " + selectedTool.getArabicName());
 
@@ -101,7 +101,7 @@ public class ConcordancerToolTC extends BaseTest {
 			wait.until(d -> d.getCurrentUrl().contains("/" + selectedTool.getPathSegment() + "/"));
 
 			// 🌐 9. التحقق من الرابط الحالي
-			String currentUrl = driver.getCurrentUrl();
+			String currentUrl = getDriver().getCurrentUrl();
 			String normalizedUrl = currentUrl.split("\\?")[0];
 			Assert.assertTrue(normalizedUrl.contains("/" + selectedTool.getPathSegment() + "/"),
 					"❌ الرابط لا يحتوي على مسار الأداة المتوقع: " + selectedTool.getPathSegment() + "\nالرابط الحالي: "
@@ -115,7 +115,7 @@ public class ConcordancerToolTC extends BaseTest {
 			Allure.step("🆔 UUID found in URL");
 
 			// 🧪 11. التحقق من عنوان الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			String actualToolTitle = concordancerPage.getToolTitleText();
 			String expectedToolTitle = selectedTool.getArabicName();
 			Assert.assertEquals(actualToolTitle, expectedToolTitle,
@@ -150,14 +150,14 @@ public class ConcordancerToolTC extends BaseTest {
 		System.out.println("TC02_verifyConcordancerToolTitleFromDirectURL");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(10));
 			// 🔢 1. تحديد المدونة والأداة
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			// 🔗 2. بناء الرابط المباشر باستخدام UUID والأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// ⏳ 3. الانتظار حتى يتم تحميل الصفحة وتحتوي على مسار الأداة
@@ -165,7 +165,7 @@ public class ConcordancerToolTC extends BaseTest {
 			Allure.step("⏳ Waited for tool path segment in URL");
 
 			// 🧪 4. التحقق من عنوان الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			String actualTitle = concordancerPage.getToolTitleText();
 			String expectedTitle = selectedTool.getArabicName();
 
@@ -215,11 +215,11 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر باستخدام UUID والأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			// concordancerPage.waitForAngularToFinish();
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 			Allure.step("📥 Page loaded successfully with expected tool path");
@@ -277,7 +277,7 @@ public class ConcordancerToolTC extends BaseTest {
 		System.out.println("TC04_verifyInfoPopupCanBeClosed");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(10));
 
 			// 🔢 1. تحديد المدونة والأداة
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
@@ -285,11 +285,11 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			// concordancerPage.waitForAngularToFinish();
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 			Allure.step("📥 Page loaded successfully");
@@ -357,11 +357,11 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			// concordancerPage.waitForAngularToFinish();
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
@@ -439,11 +439,11 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 🎹 4. فتح لوحة المفاتيح الافتراضية
@@ -504,16 +504,16 @@ public class ConcordancerToolTC extends BaseTest {
 		System.out.println("TC07_verifyExportButtonFunctionality");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(10));
 
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// فتح لوحة المفاتيح وكتابة الكلمة
@@ -547,7 +547,7 @@ public class ConcordancerToolTC extends BaseTest {
 			System.out.println("📊 Results table appeared");
 
 			// الانتظار قليلاً لظهور زر التصدير
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> concordancerPage.isExportButtonVisisable());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> concordancerPage.isExportButtonVisisable());
 
 			// الضغط على زر التصدير
 			concordancerPage.clickExportButton();
@@ -599,10 +599,10 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// فتح لوحة المفاتيح وكتابة الكلمة
@@ -617,7 +617,7 @@ public class ConcordancerToolTC extends BaseTest {
 			System.out.println("❎ Clicked on (X) close button");
 
 			// التأكد من اختفاء النافذة
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 			System.out.println("التأكد من اختفاء النافذة");
 
@@ -705,10 +705,10 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// استخدام لوحة المفاتيح
@@ -721,7 +721,7 @@ public class ConcordancerToolTC extends BaseTest {
 			concordancerPage.closeInfoDialog();
 			System.out.println("❎ Clicked on (X) close button");
 
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// توسيع قسم المحددات
@@ -806,10 +806,10 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// استخدام لوحة المفاتيح
@@ -822,7 +822,7 @@ public class ConcordancerToolTC extends BaseTest {
 			concordancerPage.closeInfoDialog();
 			System.out.println("❎ Clicked on (X) close button");
 
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// توسيع قسم المحددات
@@ -905,10 +905,10 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// استخدام لوحة المفاتيح
@@ -921,7 +921,7 @@ public class ConcordancerToolTC extends BaseTest {
 			concordancerPage.closeInfoDialog();
 			System.out.println("❎ Clicked on (X) close button");
 
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// توسيع قسم المحددات
@@ -1004,10 +1004,10 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// استخدام لوحة المفاتيح
@@ -1020,7 +1020,7 @@ public class ConcordancerToolTC extends BaseTest {
 			concordancerPage.closeInfoDialog();
 			System.out.println("❎ Clicked on (X) close button");
 
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// توسيع قسم المحددات
@@ -1106,11 +1106,11 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 2️⃣ بناء الرابط وفتح الصفحة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3️⃣ إنشاء صفحة الأداة وانتظار التحميل
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 4️⃣ استخدام لوحة المفاتيح الظاهرية لكتابة الكلمة
@@ -1122,7 +1122,7 @@ public class ConcordancerToolTC extends BaseTest {
 			// 5️⃣ إغلاق النافذة التوضيحية إن ظهرت
 			concordancerPage.closeInfoDialog();
 			System.out.println("❎ Clicked on (X) close button");
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 6️⃣ الضغط على زر البحث
@@ -1219,11 +1219,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ فتح الأداة وانتظار التحميل
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ استخدام لوحة المفاتيح الظاهرية للبحث عن كلمة
@@ -1234,7 +1234,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن ظهرت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1300,7 +1300,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// اغلاق نافذة التفاصيل
 			concordancerPage.closeDetailDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 		} catch (AssertionError ae) {
@@ -1344,11 +1344,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1359,7 +1359,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1450,11 +1450,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1465,7 +1465,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1553,11 +1553,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1568,7 +1568,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1637,11 +1637,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1652,7 +1652,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1740,11 +1740,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1755,7 +1755,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1842,11 +1842,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1857,7 +1857,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1884,7 +1884,7 @@ public class ConcordancerToolTC extends BaseTest {
 			System.out.println("🔽 Selected " + desiredCount + " results per page");
 
 			// 8️⃣ انتظار تحديث الجدول
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(driver -> {
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> {
 				int rows = concordancerPage.getNumberOfResultsRows();
 				return rows > 0 && rows <= desiredCount;
 			});
@@ -1940,11 +1940,11 @@ public class ConcordancerToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.CONCORDANCER;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الأداة
-			ConcordancerPage concordancerPage = new ConcordancerPage(driver);
+			ConcordancerPage concordancerPage = new ConcordancerPage(getDriver());
 			concordancerPage.waitForPageReady(selectedTool.getPathSegment(), concordancerPage::searchInputWebElement);
 
 			// 3️⃣ كتابة كلمة بحث باستخدام لوحة المفاتيح الظاهرية
@@ -1955,7 +1955,7 @@ public class ConcordancerToolTC extends BaseTest {
 
 			// 4️⃣ إغلاق النافذة التعريفية (إن وُجدت)
 			concordancerPage.closeInfoDialog();
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(
 					ExpectedConditions.invisibilityOfElementLocated(concordancerPage.getInfoDialogTextLocator()));
 
 			// 5️⃣ تنفيذ البحث
@@ -1991,7 +1991,7 @@ public class ConcordancerToolTC extends BaseTest {
 			System.out.println("🔽 Changed results per page to: " + desiredCount);
 
 			// 9 انتظار تحديث الجدول وتحديث الترقيم
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> {
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> {
 				int rows = concordancerPage.getNumberOfResultsRows();
 				return rows > 0 && rows <= desiredCount;
 			});
@@ -10,6 +10,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import com.falak.qa.base.BaseTest;
+import com.falak.qa.config.LeanBrowser;
 import com.falak.qa.enums.CorporaName;
 import com.falak.qa.enums.ToolsName;
 import com.falak.qa.pages.corpora.CorporaOverviewPage;
@@ -21,6 +22,7 @@ import io.qameta.allure.SeverityLevel;
 import io.qameta.allure.Story;
 
 @Test
+@LeanBrowser
 public class CorporaPageTC extends BaseTest {
 
 	@Severity(SeverityLevel.CRITICAL)
@@ -34,25 +36,25 @@ public class CorporaPageTC extends BaseTest {
 
 		// 🔗 فتح صفحة نظرة عامة على المدونة
 		String overviewUrl = CorporaToolUrlBuilder.buildCorporaOverviewUrl(selectedCorpora);
-		driver.get(overviewUrl);
+		getDriver().get(overviewUrl);
 
 		// 🧭 إنشاء كائن الصفحة
-		CorporaOverviewPage corporaPage = new CorporaOverviewPage(driver);
+		CorporaOverviewPage corporaPage = new CorporaOverviewPage(getDriver());
 
 		// 🎯 التأكد أن الزر الخاص بالأداة موجود
 		By toolLocator = corporaPage.getToolCardLocator(selectedTool);
-		Assert.assertTrue(driver.findElements(toolLocator).size() > 0,
+		Assert.assertTrue(getDriver().findElements(toolLocator).size() > 0,
 				"❌ الزر الخاص بالأداة غير موجود في هذه المدونة: " + selectedTool.getArabicName());
 
 		// 🖱️ تنفيذ النقر
 		corporaPage.clickOnToolCard(selectedTool);
 
 		// ⏳ انتظر حتى يتغير الرابط ويحتوي على path الخاص بالأداة المطلوبة
-		new WebDriverWait(driver, Duration.ofSeconds(10))
-				.until(driver -> driver.getCurrentUrl().contains("/" + selectedTool.getPathSegment() + "/"));
+		new WebDriverWait(getDriver(), Duration.ofSeconds(10))
+				.until(d -> d.getCurrentUrl().contains("/" + selectedTool.getPathSegment() + "/"));
 
 		// 🌐 بعد الانتقال، نحصل على الرابط الحالي
-		String currentUrl = driver.getCurrentUrl();
+		String currentUrl = getDriver().getCurrentUrl();
 		String normalizedUrl = currentUrl.split("\\?")[0];
 
 		// ✅ تحقق من مسار الأداة
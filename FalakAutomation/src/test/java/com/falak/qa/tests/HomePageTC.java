@@ -45,7 +45,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'الرئيسية' in the top nav")
 	public void TC01_testHomeButtonRedirect() {
 		System.out.println("TC01_testHomeButtonRedirect");
-		runNavTest("الرئيسية", () -> homePage.clickHomePageHeaderButton(), EnvironmentConfigLoader.getUrl("baseUrl"));
+		runNavTest("الرئيسية", () -> getHomePage().clickHomePageHeaderButton(), EnvironmentConfigLoader.getUrl("baseUrl"));
 	}
 
 	@Test(description = "TC-02 | Verify 'عن فلك' button redirects correctly", retryAnalyzer = RetryAnalyzer.class)
@@ -53,7 +53,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'عن فلك' in the top nav")
 	public void TC02_testAboutFalakButtonRedirect() {
 		System.out.println("TC02_testAboutFalakButtonRedirect");
-		runNavTest("عن فلك", () -> homePage.clickAboutFalakHeaderButton(),
+		runNavTest("عن فلك", () -> getHomePage().clickAboutFalakHeaderButton(),
 				EnvironmentConfigLoader.getUrl("aboutUsUrl"));
 	}
 
@@ -62,7 +62,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'المدونات' in the top nav")
 	public void TC03_testCorporaButtonRedirect() {
 		System.out.println("TC03_testCorporaButtonRedirect");
-		runNavTest("المدونات", () -> homePage.clickCorporaHeaderButton(), EnvironmentConfigLoader.getUrl("corporaUrl"));
+		runNavTest("المدونات", () -> getHomePage().clickCorporaHeaderButton(), EnvironmentConfigLoader.getUrl("corporaUrl"));
 	}
 
 	@Test(description = "TC-04 | Verify 'الجدارية الصوتية' button redirects correctly", retryAnalyzer = RetryAnalyzer.class)
@@ -70,7 +70,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'الجدارية الصوتية' in the top nav")
 	public void TC04_testVoicewallButtonRedirect() {
 		System.out.println("TC04_testVoicewallButtonRedirect");
-		runNavTest("الجدارية الصوتية", () -> homePage.clickVoiceWallHeaderButton(),
+		runNavTest("الجدارية الصوتية", () -> getHomePage().clickVoiceWallHeaderButton(),
 				EnvironmentConfigLoader.getUrl("voiceWallUrl"));
 	}
 
@@ -79,7 +79,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'قوائم الشيوع' in the top nav")
 	public void TC05_testFrequencyListsButtonRedirect() {
 		System.out.println("TC05_testFrequencyListsButtonRedirect");
-		runNavTest("قوائم الشيوع", () -> homePage.clickFrequencyListsHeaderButton(),
+		runNavTest("قوائم الشيوع", () -> getHomePage().clickFrequencyListsHeaderButton(),
 				EnvironmentConfigLoader.getUrl("frequencyListsUrl"));
 	}
 
@@ -88,7 +88,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'المطورون' in the top nav")
 	public void TC06_testDevelopersButtonRedirect() {
 		System.out.println("TC06_testDevelopersButtonRedirect");
-		runNavTest("المطورون", () -> homePage.clickDevelopersHeaderButton(),
+		runNavTest("المطورون", () -> getHomePage().clickDevelopersHeaderButton(),
 				EnvironmentConfigLoader.getUrl("developersUrl"));
 	}
 
@@ -97,7 +97,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'اتصل بنا' in the top nav")
 	public void TC07_testContactUsButtonRedirect() {
 		System.out.println("TC07_testContactUsButtonRedirect");
-		runNavTest("اتصل بنا", () -> homePage.clickContactUsHeaderButton(),
+		runNavTest("اتصل بنا", () -> getHomePage().clickContactUsHeaderButton(),
 				EnvironmentConfigLoader.getUrl("contactUsUrl"));
 	}
 
@@ -106,7 +106,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'المدونات' Card")
 	public void TC08_testCorporaCard() {
 		System.out.println("TC08_testCorporaCard");
-		runNavTest("المدونات", () -> homePage.clickCorporaCard(), EnvironmentConfigLoader.getUrl("corporaUrl"));
+		runNavTest("المدونات", () -> getHomePage().clickCorporaCard(), EnvironmentConfigLoader.getUrl("corporaUrl"));
 	}
 
 	@Test(description = "TC-09 | Verify that clicking the 'الأدوات' button scrolls the page to the 'الأدوات' section on the current page.", retryAnalyzer = RetryAnalyzer.class)
@@ -114,7 +114,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'الأدوات' Card")
 	public void TC09_testToolsCard() {
 		System.out.println("TC09_testToolsCard");
-		runSectionTest("أدوات المنصة", () -> homePage.clickToolsCard(), () -> homePage.isToolsSectionVisible());
+		runSectionTest("أدوات المنصة", () -> getHomePage().clickToolsCard(), () -> getHomePage().isToolsSectionVisible());
 
 	}
 
@@ -123,7 +123,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'المزايا' Card")
 	public void TC10_testFeatureCard() {
 		System.out.println("TC10_testFeatureCard");
-		runSectionTest("أدوات المنصة", () -> homePage.clickFeaturesCard(), () -> homePage.isFeaturesSectionVisible());
+		runSectionTest("أدوات المنصة", () -> getHomePage().clickFeaturesCard(), () -> getHomePage().isFeaturesSectionVisible());
 
 	}
 
@@ -132,7 +132,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'أضف مدونتك' Card")
 	public void TC11_testaddCorporaCard() {
 		System.out.println("TC11_testaddCorporaCard");
-		runNavTest("أضف مدونتك", () -> homePage.clickAddCorporaCards(), EnvironmentConfigLoader.getUrl("addCorpusUrl"));
+		runNavTest("أضف مدونتك", () -> getHomePage().clickAddCorporaCards(), EnvironmentConfigLoader.getUrl("addCorpusUrl"));
 	}
 
 	@Test(description = "TC-12 | Verify that clicking the 'استخدم منصة فلك والتسجيل' section redirects the user to the 'لقاء تعريفي بمنصَّة فلك' registration page where the user can submit a registration request.", retryAnalyzer = RetryAnalyzer.class)
@@ -140,7 +140,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'التسجيل للقاء تعريفي بمنصَّة فلك' section")
 	public void TC12_testRegistrationSection() {
 		System.out.println("TC12_testRegistrationSection");
-		runNavTest("التسجيل للقاء تعريفي بمنصَّة فلك", () -> homePage.clickRegistrationSection(),
+		runNavTest("التسجيل للقاء تعريفي بمنصَّة فلك", () -> getHomePage().clickRegistrationSection(),
 				EnvironmentConfigLoader.getUrl("trainingUrl"));
 	}
 
@@ -162,10 +162,10 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			// Scroll down (في حال كان القسم بعيد عن أول الصفحة)
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0, 600)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0, 600)");
 
 			// Step: Count the cards
-			int actualCount = homePage.getNumberOfCorporaContentCard();
+			int actualCount = getHomePage().getNumberOfCorporaContentCard();
 			Allure.step("🧮 عدد بطاقات المدونات الظاهرة: " + actualCount);
 
 			// Step: Assert the count
@@ -205,11 +205,11 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			// Step 1: Scroll to section
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0, 600)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0, 600)");
 			Allure.step("🔽 Scroll to 'المدونات' section");
 
 			// Step 2: Get all cards
-			List<HomePageCorporaCardComponent> cards = homePage.getAllCorporaCards();
+			List<HomePageCorporaCardComponent> cards = getHomePage().getAllCorporaCards();
 			Allure.step("📦 Found " + cards.size() + " cards");
 
 			// Step 3: Validate each element of each card
@@ -302,21 +302,21 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			// ✅ 1) انتظار ذكي لظهور القسم والبطاقات
-			homePage.waitForCorporaSectionReady(Duration.ofSeconds(15), /* minCards */ 1);
+			getHomePage().waitForCorporaSectionReady(Duration.ofSeconds(15), /* minCards */ 1);
 			Allure.step("🔎 Corpora section is visible & scrolled into view");
 
 			/* 🔽 1. الانتقال للقسم مرة واحدة -------------------------------- */
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0,600)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0,600)");
 			Allure.step("🔽 Scrolled to ‘المدونات’ section");
 			System.out.println("🔽 Scrolled to ‘المدونات’ section");
 
 			/* 📦 2. جلب البطاقات كمكوّنات ----------------------------------- */
-			List<HomePageCorporaCardComponent> cards = homePage.getAllCorporaItemDetailComponents(); // الميثود الجديد
+			List<HomePageCorporaCardComponent> cards = getHomePage().getAllCorporaItemDetailComponents(); // الميثود الجديد
 			Allure.step("📦 Found " + cards.size() + " cards for hover test");
 			System.out.println("📦 Found " + cards.size() + " cards for hover test");
 			Assert.assertTrue(cards.size() > 0, "❌ No corpora cards found!");
 
-			Actions actions = new Actions(driver);
+			Actions actions = new Actions(getDriver());
 
 			/* 🔄 3. اللوب على كل بطاقة -------------------------------------- */
 			for (int i = 0; i < cards.size(); i++) {
@@ -330,14 +330,14 @@ public class HomePageTC extends BaseTest {
 					System.out.println("🎨 box-shadow BEFORE: " + before);
 
 					// 🖱️ تنفيذ التحويم
-					((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});",
+					((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView({block:'center'});",
 							card.getCardRoot());
 					actions.moveToElement(card.getCardRoot()).perform();
 					Allure.step("🖱 Pointer hovered on card #" + cardNo);
 					System.out.println("🖱 Pointer hovered on card #" + cardNo);
 
 					// ⏳ انتظار حتى تتغير قيمة الـ box-shadow
-					new WebDriverWait(driver, Duration.ofSeconds(5)).until(d -> {
+					new WebDriverWait(getDriver(), Duration.ofSeconds(5)).until(d -> {
 						String afterShadow = card.getBoxShadow();
 						return !afterShadow.equals(before);
 					});
@@ -391,11 +391,11 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* 🔽 (1) scroll once to section ---------------------------------- */
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0,600)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0,600)");
 			Allure.step("🔽 Scrolled to 'المدونات' section");
 
 			/* 📦 (2) fetch all cards ----------------------------------------- */
-			List<HomePageCorporaCardComponent> cards = homePage.getAllCorporaCards();
+			List<HomePageCorporaCardComponent> cards = getHomePage().getAllCorporaCards();
 			Allure.step("📦 Found " + cards.size() + " cards");
 
 			for (int i = 0; i < cards.size(); i++) {
@@ -406,7 +406,7 @@ public class HomePageTC extends BaseTest {
 				Allure.step("🧪 Checking redirect for card #" + cardNumber, () -> {
 
 					/* —— ❶ re-grab card after each back ———————————— */
-					HomePageCorporaCardComponent card = homePage.getAllCorporaCards().get(index);
+					HomePageCorporaCardComponent card = getHomePage().getAllCorporaCards().get(index);
 
 					Assert.assertTrue(card.isSelectButtonVisible(),
 							"❌ زر 'اختر المدونة' غير ظاهر في البطاقة رقم " + cardNumber);
@@ -421,10 +421,10 @@ public class HomePageTC extends BaseTest {
 					Allure.step("🖱️ Clicked 'اختر المدونة' (card #" + cardNumber + ")");
 
 					/* —— ❸ wait for navigation ———————————————— */
-					new WebDriverWait(driver, Duration.ofSeconds(10))
+					new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 							.until(d -> d.getCurrentUrl().contains(expectedHref));
 
-					String actualUrl = driver.getCurrentUrl();
+					String actualUrl = getDriver().getCurrentUrl();
 					Allure.step("🌍 Landed on: " + actualUrl);
 
 					Assert.assertTrue(actualUrl.contains(expectedHref),
@@ -434,7 +434,7 @@ public class HomePageTC extends BaseTest {
 					By headerLocator = By
 							.cssSelector("nav.p-breadcrumb ol.p-breadcrumb-list li:last-child span.p-menuitem-text");
 
-					String detailsHeaderText = new WebDriverWait(driver, Duration.ofSeconds(10))
+					String detailsHeaderText = new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 							.until(d -> d.findElement(headerLocator)).getText().trim();
 
 					Allure.step("📖 تفاصيل الصفحة | Header text: " + detailsHeaderText);
@@ -443,12 +443,12 @@ public class HomePageTC extends BaseTest {
 							"❌ عنوان صفحة التفاصيل لا يحتوي على عنوان البطاقة (" + expectedTitle + ")");
 
 					/* —— ❺ back to home & scroll again ————————— */
-					driver.navigate().back();
-					new WebDriverWait(driver, Duration.ofSeconds(10))
-							.until(d -> d.getCurrentUrl().equals(homePage.getBaseUrl()));
+					getDriver().navigate().back();
+					new WebDriverWait(getDriver(), Duration.ofSeconds(10))
+							.until(d -> d.getCurrentUrl().equals(getHomePage().getBaseUrl()));
 
 					// أعد التمرير لأن الصفحة عادت لأعلى
-					((JavascriptExecutor) driver).executeScript("window.scrollBy(0,600)");
+					((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0,600)");
 				});
 			}
 
@@ -488,11 +488,11 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* 🔽 (1) scroll once to section ---------------------------------- */
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0,800)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0,800)");
 			Allure.step("🔽 Scrolled to 'المدونات' section");
 
 			/* 📦 (2) fetch all cards count ------------------------------------ */
-			int totalCards = homePage.getAllCorporaCards().size();
+			int totalCards = getHomePage().getAllCorporaCards().size();
 			Allure.step("📦 Found " + totalCards + " cards");
 			System.out.println("📦 Found " + totalCards + " cards");
 
@@ -506,7 +506,7 @@ public class HomePageTC extends BaseTest {
 					System.out.println("I'm inside Allure.step " + totalCards);
 
 					/* —— ❶ إعادة جلب البطاقة ——————— */
-					HomePageCorporaCardComponent card = homePage.getAllCorporaCards().get(idx);
+					HomePageCorporaCardComponent card = getHomePage().getAllCorporaCards().get(idx);
 
 					Assert.assertTrue(card.isMoreLinkVisible(),
 							"❌ رابط 'المزيد' غير ظاهر في البطاقة رقم " + cardNumber);
@@ -524,10 +524,10 @@ public class HomePageTC extends BaseTest {
 					System.out.println("🖱️ Clicked 'المزيد' (card #" + cardNumber + ")");
 
 					/* —— ❸ wait for navigation ———————————————— */
-					new WebDriverWait(driver, Duration.ofSeconds(10))
+					new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 							.until(d -> d.getCurrentUrl().contains(expectedHref));
 
-					String actualUrl = driver.getCurrentUrl();
+					String actualUrl = getDriver().getCurrentUrl();
 					Allure.step("🌍 Landed on: " + actualUrl);
 					System.out.println("🌍 Landed on: " + actualUrl);
 
@@ -538,7 +538,7 @@ public class HomePageTC extends BaseTest {
 					By headerLocator = By
 							.cssSelector("nav.p-breadcrumb ol.p-breadcrumb-list li:last-child span.p-menuitem-text");
 
-					String detailsHeaderText = new WebDriverWait(driver, Duration.ofSeconds(10))
+					String detailsHeaderText = new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 							.until(d -> d.findElement(headerLocator)).getText().trim();
 
 					Allure.step("📖 تفاصيل الصفحة | Header text: " + detailsHeaderText);
@@ -547,12 +547,12 @@ public class HomePageTC extends BaseTest {
 							"❌ عنوان صفحة التفاصيل لا يحتوي على عنوان البطاقة (" + expectedTitle + ")");
 
 					/* —— ❺ العودة للصفحة الرئيسة واستئناف اللوب —— */
-					driver.navigate().back();
-					new WebDriverWait(driver, Duration.ofSeconds(10))
-							.until(d -> d.getCurrentUrl().equals(homePage.getBaseUrl()));
+					getDriver().navigate().back();
+					new WebDriverWait(getDriver(), Duration.ofSeconds(10))
+							.until(d -> d.getCurrentUrl().equals(getHomePage().getBaseUrl()));
 
 					// إعادة التمرير لأن الصفحة عادت لأعلى
-					((JavascriptExecutor) driver).executeScript("window.scrollBy(0,600)");
+					((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0,600)");
 				});
 			}
 
@@ -575,7 +575,7 @@ public class HomePageTC extends BaseTest {
 	@Story("User clicks on 'المزيد' Button to go to the Fuall 'المدونات' Pages")
 	public void TC18_testMoreCorporaButton() {
 		System.out.println("TC18_testMoreCorporaButton");
-		runNavTest("المزيد", () -> homePage.clickMoreCorporaButton(), EnvironmentConfigLoader.getUrl("corporaUrl"));
+		runNavTest("المزيد", () -> getHomePage().clickMoreCorporaButton(), EnvironmentConfigLoader.getUrl("corporaUrl"));
 	}
 
 	@Test(description = "TC-19 | Verify that the 'مدونة الشهر' section is displayed correctly on the home page with one مدونة card.", retryAnalyzer = RetryAnalyzer.class)
@@ -597,13 +597,13 @@ public class HomePageTC extends BaseTest {
 		try {
 			/* —— ❶ Scroll حتى يصبح القسم داخل الـ viewport ——————— */
 			/* 🔽 scroll once to Corpora-of-Month */
-			homePage.scrollToCorporaOfMonth();
+			getHomePage().scrollToCorporaOfMonth();
 			Allure.step("🔽 Scrolled & waited until 'مدونة الشهر' section is visible");
 
 			/* —— ❷ Assertions ———————————————————————————————— */
-			Assert.assertTrue(homePage.isCorporaOfMonthSectionVisible(), "❌ قسم «مدونة الشهر» غير ظاهر على الصفحة!");
+			Assert.assertTrue(getHomePage().isCorporaOfMonthSectionVisible(), "❌ قسم «مدونة الشهر» غير ظاهر على الصفحة!");
 
-			int cardCount = homePage.getCorporaOfMonthCardsCount();
+			int cardCount = getHomePage().getCorporaOfMonthCardsCount();
 			Allure.step("📦 Corpora-of-the-Month cards found: " + cardCount);
 
 			Assert.assertEquals(cardCount, 1, "❌ يجب أن يحتوي قسم «مدونة الشهر» على بطاقة واحدة بالضبط");
@@ -645,10 +645,10 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* ❶ Scroll to section & fetch the card --------------------------- */
-			homePage.scrollToCorporaOfMonth(); // (يستعمل BasePage.scrollToElement)
+			getHomePage().scrollToCorporaOfMonth(); // (يستعمل BasePage.scrollToElement)
 			Allure.step("🔽 Scrolled & waited until 'مدونة الشهر' section is visible");
 
-			CorporaOfMonthCardComponent monthCard = homePage.getCorporaOfMonthCard();
+			CorporaOfMonthCardComponent monthCard = getHomePage().getCorporaOfMonthCard();
 			Allure.step("📦 Retrieved Corpora-of-Month card component");
 
 			/* ❷ Assertions & logging ---------------------------------------- */
@@ -720,22 +720,22 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* 🔽 1. الانتقال إلى القسم --------------------------------------- */
-			homePage.scrollToCorporaOfMonth();
+			getHomePage().scrollToCorporaOfMonth();
 			Allure.step("🔽 Scrolled & waited for 'مدونة الشهر' section");
 
 			/* 📦 2. الحصول على المكوّن والـ box-shadow قبل التحويم ------------ */
-			CorporaOfMonthCardComponent card = homePage.getCorporaOfMonthCard();
+			CorporaOfMonthCardComponent card = getHomePage().getCorporaOfMonthCard();
 			String before = card.getBoxShadow();
 			Allure.step("🎨 box-shadow BEFORE hover: " + before);
 
 			/* 🖱 3. تنفيذ التحويم -------------------------------------------- */
-			((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});",
+			((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView({block:'center'});",
 					card.getCardRoot());
-			new Actions(driver).moveToElement(card.getCardRoot()).perform();
+			new Actions(getDriver()).moveToElement(card.getCardRoot()).perform();
 			Allure.step("🖱 Pointer hovered on the Blog-of-Month card");
 
 			// انتظار تغير box-shadow بدلًا من Thread.sleep
-			new WebDriverWait(driver, Duration.ofSeconds(2)).until(d -> {
+			new WebDriverWait(getDriver(), Duration.ofSeconds(2)).until(d -> {
 				String newShadow = card.getBoxShadow();
 				return !newShadow.equals(before);
 			});
@@ -779,15 +779,15 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* 🔽 1-Scroll to section ------------------------------------------ */
-			homePage.scrollToToolsSection();
+			getHomePage().scrollToToolsSection();
 			Allure.step("🔽 Scrolled to 'أدوات المنصة' section");
 
 			/* 👀 2-Visibility assertions -------------------------------------- */
-			Assert.assertTrue(homePage.isToolsSectionVisible(), "❌ قسم «أدوات المنصة» (العنوان أو الوصف) غير ظاهر!");
+			Assert.assertTrue(getHomePage().isToolsSectionVisible(), "❌ قسم «أدوات المنصة» (العنوان أو الوصف) غير ظاهر!");
 			Allure.step("👁️ Title & description are visible.");
 
 			/* 📊 3-Card-count assertion --------------------------------------- */
-			int toolsCount = homePage.getToolsCardsCount();
+			int toolsCount = getHomePage().getToolsCardsCount();
 			Allure.step("📦 Tool cards found: " + toolsCount);
 
 			Assert.assertEquals(toolsCount, 13, "❌ يجب أن يحتوي قسم «أدوات المنصة» على 13 بطاقة بالضبط");
@@ -828,14 +828,14 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* ❶ الانتقال إلى القسم ------------------------------------------------- */
-			homePage.scrollToToolsSection(); // يستخدم BasePage.scrollToElement
+			getHomePage().scrollToToolsSection(); // يستخدم BasePage.scrollToElement
 			Allure.step("🔽 Scrolled & waited until 'أدوات المنصة' section is visible");
 
 			// تأكيد ظهور العنوان نفسه
-			Assert.assertTrue(homePage.isToolsSectionVisible(), "❌ قسم «أدوات المنصة» غير ظاهر على الصفحة");
+			Assert.assertTrue(getHomePage().isToolsSectionVisible(), "❌ قسم «أدوات المنصة» غير ظاهر على الصفحة");
 
 			/* ❷ جلب بطاقات الأدوات كمكوّنات ---------------------------------------- */
-			List<ToolsCardComponent> toolCards = homePage.getAllToolsCards();
+			List<ToolsCardComponent> toolCards = getHomePage().getAllToolsCards();
 			Allure.step("📦 Tool-cards retrieved: " + toolCards.size());
 
 			Assert.assertEquals(toolCards.size(), 13, "❌ يجب أن يحتوي القسم على 13 بطاقة أداة بالضبط");
@@ -897,17 +897,17 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* 🔽 1. الانتقال إلى القسم مرة واحدة -------------------------------- */
-			homePage.scrollToToolsSection();
+			getHomePage().scrollToToolsSection();
 			Allure.step("🔽 Scrolled to 'أدوات المنصة' section");
 
-			Assert.assertTrue(homePage.isToolsSectionVisible(), "❌ قسم «أدوات المنصة» غير ظاهر!");
+			Assert.assertTrue(getHomePage().isToolsSectionVisible(), "❌ قسم «أدوات المنصة» غير ظاهر!");
 
 			/* 📦 2. جلب البطاقات كمكوّنات --------------------------------------- */
-			List<ToolsCardComponent> cards = homePage.getAllToolsCards();
+			List<ToolsCardComponent> cards = getHomePage().getAllToolsCards();
 			Allure.step("📦 Tool-cards found: " + cards.size());
 			Assert.assertEquals(cards.size(), 13, "❌ يجب أن يكون عدد بطاقات الأدوات = 13 بالضبط!");
 
-			Actions actions = new Actions(driver);
+			Actions actions = new Actions(getDriver());
 
 			/* 🔄 3. اللوب على كل بطاقة / زر ------------------------------------ */
 			for (int i = 0; i < cards.size(); i++) {
@@ -925,11 +925,11 @@ public class HomePageTC extends BaseTest {
 					Allure.step("🎨 background BEFORE: " + before);
 
 					/* 🖱 Hover */
-					((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
+					((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView({block:'center'});", btn);
 					actions.moveToElement(btn).perform();
 
 					// مهلة قصيرة لتطبيق الـ CSS
-					new WebDriverWait(driver, Duration.ofSeconds(2)).until(d -> {
+					new WebDriverWait(getDriver(), Duration.ofSeconds(2)).until(d -> {
 						String newShadow = card.getDetailsBackground();
 						return !newShadow.equals(before);
 					});
@@ -989,13 +989,13 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* ── ❶ الانتقال إلى القسم ------------------------------------------------ */
-			homePage.scrollToToolsSection();
+			getHomePage().scrollToToolsSection();
 			Allure.step("🔽 Scrolled to 'أدوات المنصة' section");
 
 			/* ── ❷ جلب القائمة مرة واحدة -------------------------------------------- */
-			List<ToolsCardComponent> cards = homePage.getAllToolsCards();
+			List<ToolsCardComponent> cards = getHomePage().getAllToolsCards();
 
-			JavascriptExecutor js = (JavascriptExecutor) driver; // للعدّ فقط
+			JavascriptExecutor js = (JavascriptExecutor) getDriver(); // للعدّ فقط
 			Allure.step("📦 Tool-cards retrieved: " + cards.size());
 			Assert.assertEquals(cards.size(), 13, "❌ يجب أن يكون عدد البطاقات 13 بالضبط");
 			System.out.println("📦 Tool-cards retrieved: " + cards.size());
@@ -1011,7 +1011,7 @@ public class HomePageTC extends BaseTest {
 					js.executeScript("arguments[0].scrollIntoView({block:'center'});", card.getRootElement());
 					js.executeScript("arguments[0].click();", card.getDetailsButtonElement());
 
-					ToolDetailsModal modal = new ToolDetailsModal(driver);
+					ToolDetailsModal modal = new ToolDetailsModal(getDriver());
 					Allure.step("🖱️ Clicked 'التفاصيل' → modal should appear");
 					System.out.println("🖱️ Clicked 'التفاصيل' → modal should appear");
 
@@ -1078,13 +1078,13 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* ── ❶ الانتقال إلى القسم ------------------------------------------------ */
-			homePage.scrollToToolsSection();
+			getHomePage().scrollToToolsSection();
 			Allure.step("🔽 Scrolled to 'أدوات المنصة' section");
 
 			/* ── ❷ جلب القائمة مرة واحدة -------------------------------------------- */
-			List<ToolsCardComponent> cards = homePage.getAllToolsCards();
+			List<ToolsCardComponent> cards = getHomePage().getAllToolsCards();
 
-			JavascriptExecutor js = (JavascriptExecutor) driver;
+			JavascriptExecutor js = (JavascriptExecutor) getDriver();
 			Allure.step("📦 Tool-cards retrieved: " + cards.size());
 			Assert.assertEquals(cards.size(), 13, "❌ يجب أن يكون عدد البطاقات 13 بالضبط");
 
@@ -1100,7 +1100,7 @@ public class HomePageTC extends BaseTest {
 					js.executeScript("arguments[0].scrollIntoView({block:'center'});", card.getRootElement());
 					card.getDetailsButtonElement().click(); // ⬅️ تغيّر أساسي: استخدام .click() الحقيقي
 
-					ToolDetailsModal modal = new ToolDetailsModal(driver);
+					ToolDetailsModal modal = new ToolDetailsModal(getDriver());
 					Allure.step("🖱️ Clicked 'التفاصيل' → modal should appear");
 
 					// ✅ التحقق من ظهور المودال
@@ -1119,7 +1119,7 @@ public class HomePageTC extends BaseTest {
 
 					// ✅ الانتظار الذكي حتى يبدأ الفيديو تشغيله فعليًا
 					// ✅ Smart wait for video to auto-play
-					Boolean isPlaying = new WebDriverWait(driver, Duration.ofSeconds(6)).until(driver1 -> {
+					Boolean isPlaying = new WebDriverWait(getDriver(), Duration.ofSeconds(6)).until(driver1 -> {
 						return (Boolean) ((JavascriptExecutor) driver1).executeScript("""
 								const video = arguments[0];
 								if (!video) return false;
@@ -1172,15 +1172,15 @@ public class HomePageTC extends BaseTest {
 			 * ── ❶ الانتقال إلى قسم أدوات المنصة | Scroll to "Tools" section
 			 * ───────────────
 			 */
-			homePage.scrollToToolsSection();
+			getHomePage().scrollToToolsSection();
 			Allure.step("🔽 Scrolled to 'أدوات المنصة' section");
 
 			/*
 			 * ── ❷ جلب كل بطاقات الأدوات | Retrieve all tool cards
 			 * ─────────────────────────
 			 */
-			List<ToolsCardComponent> cards = homePage.getAllToolsCards();
-			JavascriptExecutor js = (JavascriptExecutor) driver;
+			List<ToolsCardComponent> cards = getHomePage().getAllToolsCards();
+			JavascriptExecutor js = (JavascriptExecutor) getDriver();
 
 			Allure.step("📦 Tool-cards retrieved: " + cards.size());
 			Assert.assertEquals(cards.size(), 13, "❌ يجب أن يكون عدد البطاقات 13 بالضبط");
@@ -1201,7 +1201,7 @@ public class HomePageTC extends BaseTest {
 					js.executeScript("arguments[0].click();", card.getDetailsButtonElement());
 
 					// 🪟 إنشاء كائن نافذة التفاصيل | Initialize the details modal
-					ToolDetailsModal modal = new ToolDetailsModal(driver);
+					ToolDetailsModal modal = new ToolDetailsModal(getDriver());
 
 					// ✅ تأكيد ظهور المودال | Ensure the modal is visible
 					Assert.assertTrue(modal.isVisible(), "❌ المودال لم يظهر (card #" + cardNo + ")");
@@ -1273,14 +1273,14 @@ public class HomePageTC extends BaseTest {
 			 * ── ❶ الانتقال إلى قسم أدوات المنصة | Scroll to 'Tools' section
 			 * ───────────────
 			 */
-			homePage.scrollToToolsSection();
+			getHomePage().scrollToToolsSection();
 			Allure.step("🔽 Scrolled to 'أدوات المنصة' section");
 
 			/*
 			 * ── ❷ جلب بطاقات الأدوات | Retrieve all tool cards ───────────────────────────
 			 */
-			List<ToolsCardComponent> cards = homePage.getAllToolsCards();
-			JavascriptExecutor js = (JavascriptExecutor) driver;
+			List<ToolsCardComponent> cards = getHomePage().getAllToolsCards();
+			JavascriptExecutor js = (JavascriptExecutor) getDriver();
 
 			Allure.step("📦 Tool-cards retrieved: " + cards.size());
 			Assert.assertEquals(cards.size(), 13, "❌ يجب أن يكون عدد البطاقات 13 بالضبط");
@@ -1300,7 +1300,7 @@ public class HomePageTC extends BaseTest {
 					js.executeScript("arguments[0].click();", card.getDetailsButtonElement());
 
 					// 🪟 إنشاء نافذة التفاصيل | Initialize modal window
-					ToolDetailsModal modal = new ToolDetailsModal(driver);
+					ToolDetailsModal modal = new ToolDetailsModal(getDriver());
 
 					// ✅ تأكيد ظهور النافذة | Confirm modal is visible
 					Assert.assertTrue(modal.isVisible(), "❌ المودال لم يظهر (card #" + cardNo + ")");
@@ -1354,13 +1354,13 @@ public class HomePageTC extends BaseTest {
 			/*
 			 * ── ❶ الانتقال إلى قسم مزايا المنصة | Scroll to the 'Features' section ───────
 			 */
-			homePage.scrollToFeaturesSection(); // ⚠️ Optional: if you have a scroll method
+			getHomePage().scrollToFeaturesSection(); // ⚠️ Optional: if you have a scroll method
 			Allure.step("🔽 Scrolled to 'مزايا المنصة' section");
 
 			/*
 			 * ── ❷ التحقق من ظهور القسم | Check if the section is visible ───────────────
 			 */
-			boolean isVisible = homePage.isFeaturesSectionVisible();
+			boolean isVisible = getHomePage().isFeaturesSectionVisible();
 
 			// ✅ إضافة النتيجة إلى تقرير Allure
 			Allure.step("👁️ Features section visible: " + isVisible);
@@ -1402,11 +1402,11 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* ── ❶ الانتقال إلى قسم المزايا | Scroll to features section ───────────── */
-			homePage.scrollToFeaturesSection();
+			getHomePage().scrollToFeaturesSection();
 			Allure.step("🔽 Scrolled to 'مزايا المنصة' section");
 
 			/* ── ❷ جلب البطاقات | Get all feature cards ───────────────────────────── */
-			List<FeatureCardComponent> cards = homePage.getAllFeatureCards();
+			List<FeatureCardComponent> cards = getHomePage().getAllFeatureCards();
 			Allure.step("📦 Feature cards retrieved: " + cards.size());
 			Assert.assertEquals(cards.size(), 4, "❌ يجب أن يكون عدد البطاقات 4 بالضبط");
 
@@ -1461,11 +1461,11 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			/* 🔽 1. الانتقال إلى قسم المزايا ---------------------------------------- */
-			homePage.scrollToFeaturesSection();
+			getHomePage().scrollToFeaturesSection();
 			Allure.step("🔽 Scrolled to 'مزايا المنصة' section");
 
 			/* 📦 2. الحصول على كل البطاقات كمكونات ------------------------------ */
-			List<FeatureCardComponent> cards = homePage.getAllFeatureCards();
+			List<FeatureCardComponent> cards = getHomePage().getAllFeatureCards();
 			Assert.assertEquals(cards.size(), 4, "❌ يجب أن يكون عدد بطاقات المزايا 4");
 
 			/* 🖱 3. التكرار على كل بطاقة وتحقيق التأثير -------------------------- */
@@ -1481,13 +1481,13 @@ public class HomePageTC extends BaseTest {
 					Allure.step("🎨 box-shadow BEFORE hover: " + before);
 
 					// تنفيذ التحويم
-					((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});",
+					((JavascriptExecutor) getDriver()).executeScript("arguments[0].scrollIntoView({block:'center'});",
 							card.getCardRoot());
-					new Actions(driver).moveToElement(card.getCardRoot()).perform();
+					new Actions(getDriver()).moveToElement(card.getCardRoot()).perform();
 					Allure.step("🖱 Pointer hovered on feature card #" + cardNo);
 
 					// انتظار تغير box-shadow بدلًا من Thread.sleep
-					new WebDriverWait(driver, Duration.ofSeconds(2)).until(d -> {
+					new WebDriverWait(getDriver(), Duration.ofSeconds(2)).until(d -> {
 						String newShadow = card.getBoxShadow();
 						return !newShadow.equals(before);
 					});
@@ -1540,25 +1540,25 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			// 🔽 الانتقال إلى القسم
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0, 1200)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0, 1200)");
 			Allure.step("🔽 Scrolled to the ‘فلك في أرقام’ section");
 
 			// ✅ التحقق من الظهور الكامل للقسم
-			Assert.assertTrue(homePage.isFalakStatsSectionVisible(), "❌ قسم 'فلك في أرقام' غير ظاهر");
+			Assert.assertTrue(getHomePage().isFalakStatsSectionVisible(), "❌ قسم 'فلك في أرقام' غير ظاهر");
 
 			// 🧾 التحقق من عنوان القسم
-			String actualTitle = homePage.getFalakStatsTitleText();
+			String actualTitle = getHomePage().getFalakStatsTitleText();
 			Assert.assertEquals(actualTitle, "فلك في أرقام", "❌ عنوان القسم غير صحيح");
 			Allure.step("🏷️ Section title: " + actualTitle);
 
 			// 📄 التحقق من الوصف
-			String desc = homePage.getFalakStatsDescriptionText();
+			String desc = getHomePage().getFalakStatsDescriptionText();
 			Assert.assertTrue(desc.contains("منصة فلك") && desc.length() > 20, "❌ الوصف غير صحيح أو غير ظاهر");
 			Allure.step("📄 Section description: " + desc);
 
 			// 🖼️ التحقق من ظهور الصورة
-			Assert.assertTrue(homePage.isFalakStatsImageVisible(), "❌ صورة القسم غير ظاهرة");
-			Allure.step("🖼️ Statistics image is visible: " + homePage.getFalakStatsImageSrc());
+			Assert.assertTrue(getHomePage().isFalakStatsImageVisible(), "❌ صورة القسم غير ظاهرة");
+			Allure.step("🖼️ Statistics image is visible: " + getHomePage().getFalakStatsImageSrc());
 
 			Allure.step("✅ ‘فلك في أرقام’ section is displayed successfully");
 
@@ -1593,20 +1593,20 @@ public class HomePageTC extends BaseTest {
 
 		try {
 			// 🔽 الانتقال إلى القسم
-			((JavascriptExecutor) driver).executeScript("window.scrollBy(0, 1200)");
+			((JavascriptExecutor) getDriver()).executeScript("window.scrollBy(0, 1200)");
 			Allure.step("🔽 Scrolled to the ‘فلك في أرقام’ section");
 
 			// 🖼️ التحقق من ظهور الصورة
-			Assert.assertTrue(homePage.isFalakStatsImageVisible(), "❌ صورة قسم 'فلك في أرقام' غير ظاهرة");
+			Assert.assertTrue(getHomePage().isFalakStatsImageVisible(), "❌ صورة قسم 'فلك في أرقام' غير ظاهرة");
 
 			// 🔗 التحقق من صحة الرابط
-			String imgSrc = homePage.getFalakStatsImageSrc();
+			String imgSrc = getHomePage().getFalakStatsImageSrc();
 			Assert.assertNotNull(imgSrc, "❌ رابط الصورة غير موجود (null)");
 			Assert.assertFalse(imgSrc.isEmpty(), "❌ رابط الصورة فارغ");
 			Allure.step("🔗 Image source: " + imgSrc);
 
 			// 📏 التحقق من أبعاد الصورة (للتأكد أنها غير مكسورة)
-			WebElement imgElement = driver
+			WebElement imgElement = getDriver()
 					.findElement(By.xpath("//section[.//h2[normalize-space()='فلك في أرقام']]//img"));
 			int imgWidth = imgElement.getSize().getWidth();
 			int imgHeight = imgElement.getSize().getHeight();
@@ -1645,29 +1645,29 @@ public class HomePageTC extends BaseTest {
 						""");
 
 		try {
-			JavascriptExecutor js = (JavascriptExecutor) driver;
+			JavascriptExecutor js = (JavascriptExecutor) getDriver();
 
 			// 🔽 Scroll down to make button appear
 			js.executeScript("window.scrollTo(0, document.body.scrollHeight)");
 			// إتاحة وقت لظهور الزر
-			new WebDriverWait(driver, Duration.ofSeconds(5))
-					.until(ExpectedConditions.visibilityOf(homePage.getBackToTopButtonElement()));
+			new WebDriverWait(getDriver(), Duration.ofSeconds(5))
+					.until(ExpectedConditions.visibilityOf(getHomePage().getBackToTopButtonElement()));
 			Allure.step("🔽 Scrolled to bottom of the page");
 
 			// 👁️ Check button is visible
-			Assert.assertTrue(homePage.isBackToTopButtonVisible(), "❌ زر العودة للأعلى غير ظاهر");
+			Assert.assertTrue(getHomePage().isBackToTopButtonVisible(), "❌ زر العودة للأعلى غير ظاهر");
 
 			// 🔼 Click the button
-			homePage.clickBackToTopButton();
+			getHomePage().clickBackToTopButton();
 			Allure.step("🔼 Clicked the Back-to-Top button");
 
 			// ⏳ Wait for smooth scroll
-			new WebDriverWait(driver, Duration.ofSeconds(5))
-					.until(ExpectedConditions.visibilityOf(homePage.getHeaderElement()));
+			new WebDriverWait(getDriver(), Duration.ofSeconds(5))
+					.until(ExpectedConditions.visibilityOf(getHomePage().getHeaderElement()));
 
 			// 📍 تأكيد الوصول إلى الأعلى عبر عنصر ظاهر في البداية (مثلاً العنوان الرئيسي
 			// للصفحة)
-			boolean isAtTop = homePage.isHeaderVisible();
+			boolean isAtTop = getHomePage().isHeaderVisible();
 			Assert.assertTrue(isAtTop, "❌ لم يتم الرجوع لأعلى الصفحة بعد الضغط على الزر");
 
 			Allure.step("✅ Page scrolled to the top successfully");
@@ -1700,7 +1700,7 @@ public class HomePageTC extends BaseTest {
 				""", cardName, cardName, cardName, cardName, cardName));
 		try {
 			Allure.step("click on" + cardName + " Card", () -> clickAction.run());
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> isVisibleCheck.get());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> isVisibleCheck.get());
 
 			Allure.step("Section '" + cardName + "' is visible in the viewport");
 
@@ -1736,12 +1736,12 @@ public class HomePageTC extends BaseTest {
 
 			// Step 2: Wait until URL changes to expected (footer as indicator)
 			// الخطوة 2: انتظار تحميل الصفحة بناءً على تغير الرابط
-			new WebDriverWait(driver, Duration.ofSeconds(10))
-					.until(ignored -> homePage.getCurrentURL().contains(expectedUrl));
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10))
+					.until(ignored -> getHomePage().getCurrentURL().contains(expectedUrl));
 
 			// Step 3: Get the current URL and attach it to the report
 			// الخطوة 3: الحصول على الرابط الحالي وإضافته للتقرير
-			String actualUrl = homePage.getCurrentURL();
+			String actualUrl = getHomePage().getCurrentURL();
 			Allure.step("Capture current URL", () -> Allure.attachment("Actual URL", actualUrl));
 			Allure.step("🔗 Final page URL: " + actualUrl); // ✅ تم التوثيق هنا فقط
 
@@ -1,6 +1,5 @@
 package com.falak.qa.tests;
 
-import java.io.File;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.util.List;
@@ -21,6 +20,7 @@ import com.falak.qa.config.EnvironmentConfigLoader;
 import com.falak.qa.config.RetryAnalyzer;
 import com.falak.qa.enums.CorporaName;
 import com.falak.qa.enums.ToolsName;
+import com.falak.qa.models.ngrams.NGramColumnStore;
 import com.falak.qa.models.ngrams.NGramResult;
 import com.falak.qa.models.ngrams.NGramsApiClient;
 import com.falak.qa.models.ngrams.NGramsFilterParams;
@@ -32,6 +32,7 @@ import com.falak.qa.pages.home.HomePage;
 import com.falak.qa.utils.CorporaToolUrlBuilder;
 import com.falak.qa.utils.DownloadsCdpHelper;
 import com.falak.qa.utils.NavigationUtils;
+import com.falak.qa.utils.SubsetVerifier;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Description;
@@ -65,11 +66,11 @@ public class NGramsToolTC extends BaseTest {
 		System.out.println("TC01_openNGramsToolFromHomePage");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(15));
 			// 🏠 1. إنشاء الصفحة الرئيسية وفتحها
-			HomePage homePage = new HomePage(driver);
+			HomePage homePage = new HomePage(getDriver());
 			String baseUrl = EnvironmentConfigLoader.getUrl("baseUrl");
-			driver.get(baseUrl);
+			getDriver().get(baseUrl);
 			Allure.step("✅ Opened base URL: " + baseUrl);
 
 			// 🖱️ 2. الضغط على زر "المدونات"
@@ -77,7 +78,7 @@ public class NGramsToolTC extends BaseTest {
 			Allure.step("🖱️ Clicked on 'المدونات' in header");
 
 			// 🧭 3. الانتقال إلى صفحة المدونات
-			CorporaPage corporaPage = new CorporaPage(driver);
+			CorporaPage corporaPage = new CorporaPage(getDriver());
 			wait.until(ExpectedConditions.urlContains(EnvironmentConfigLoader.getUrl("corporaUrl")));
 
 			// 🔍 4. البحث عن بطاقة المجمع
@@ -92,13 +93,13 @@ public class NGramsToolTC extends BaseTest {
 			Allure.step("🖱️ Clicked 'اختر المدونة' on card: " + selectedCorpora.getDisplayName());
 
 			// 🧭 6. الانتقال إلى صفحة نظرة عامة على المدونة
-			CorporaOverviewPage overviewPage = new CorporaOverviewPage(driver);
+			CorporaOverviewPage overviewPage = new CorporaOverviewPage(getDriver());
 			wait.until(ExpectedConditions.urlContains(selectedCorpora.getUuid()));
 
 			// 🧪 7. الضغط على زر "التتابعات اللَّفظيَّة"
 			ToolsName selectedTool = ToolsName.NGRAMS;
 			By toolLocator = overviewPage.getToolCardLocator(selectedTool);
-			Assert.assertTrue(driver.findElements(toolLocator).size() > 0,
+			Assert.assertTrue(getDriver().findElements(toolLocator).size() > 0,
 					"❌ الزر الخاص بأداة " + selectedTool.getArabicName() + " غير موجود في هذه المدونة!");
 			Allure.step("🎯 Tool button found: " + selectedTool.getArabicName());
 
@@ -108,7 +109,7 @@ public class NGramsToolTC extends BaseTest {
 			wait.until(d -> d.getCurrentUrl().contains("/" + selectedTool.getPathSegment() + "/"));
 
 			// 🌐 9. التحقق من الرابط الحالي
-			String currentUrl = driver.getCurrentUrl();
+			String currentUrl = getDriver().getCurrentUrl();
 			String normalizedUrl = currentUrl.split("\\?")[0];
 			Assert.assertTrue(normalizedUrl.contains("/" + selectedTool.getPathSegment() + "/"),
 					"❌ الرابط لا يحتوي على مسار الأداة المتوقع: " + selectedTool.getPathSegment() + "\nالرابط الحالي: "
@@ -122,7 +123,7 @@ public class NGramsToolTC extends BaseTest {
 			Allure.step("🆔 UUID found in URL");
 
 			// 🧪 11. التحقق من عنوان الأداة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			String actualToolTitle = nGramsPage.getToolTitleText();
 			String expectedToolTitle = selectedTool.getArabicName();
 			Assert.assertEquals(actualToolTitle, expectedToolTitle,
@@ -161,14 +162,14 @@ public class NGramsToolTC extends BaseTest {
 		System.out.println("TC02_verifyToolTitleIsDisplayedCorrectly");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(15));
 			// 🔢 1. تحديد المدونة والأداة
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			// 🔗 2. بناء الرابط المباشر باستخدام UUID والأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// ⏳ 3. الانتظار حتى يتم تحميل الصفحة وتحتوي على مسار الأداة
@@ -176,7 +177,7 @@ public class NGramsToolTC extends BaseTest {
 			Allure.step("⏳ Waited for tool path segment in URL");
 
 			// 🧪 4. التحقق من عنوان الأداة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			String actualTitle = nGramsPage.getToolTitleText();
 			String expectedTitle = selectedTool.getArabicName();
 
@@ -217,7 +218,7 @@ public class NGramsToolTC extends BaseTest {
 		System.out.println("TC03_verifyInfoPopupInNGramsTool");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(15));
 
 			// 🔢 1. تحديد المدونة والأداة
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
@@ -225,11 +226,11 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر باستخدام UUID والأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully with expected tool path");
 
@@ -285,7 +286,7 @@ public class NGramsToolTC extends BaseTest {
 		System.out.println("TC04_verifyInfoPopupCanBeClosed");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(30));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(30));
 
 			// 🔢 1. تحديد المدونة والأداة
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
@@ -293,11 +294,11 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			// concordancerPage.waitForAngularToFinish();
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
@@ -366,12 +367,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -419,21 +420,16 @@ public class NGramsToolTC extends BaseTest {
 			NGramsFilterParams filters = new NGramsFilterParams().withN(selectedWordCount);
 
 			// 🌐 10. جلب النتائج من الـ API
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
-			List<String> apiWords = apiAllResults.stream().map(NGramResult::getWord).toList();
-
-			boolean allApiMatch = apiWords.stream().map(w -> w.trim().split("\\s+").length)
-					.allMatch(count -> count == selectedWordCount);
+			NGramColumnStore apiAllResults = NGramsApiClient.getAllResultsColumnar(toolId, filters);
+			boolean allApiMatch = apiAllResults.allHaveTokenCount(selectedWordCount);
 
 			Assert.assertTrue(allApiMatch, "❌ Some API results do not match the selected word count!");
 			Allure.step("✅ All API results matched the expected word count: " + selectedWordCount);
 			System.out.println("✅ All API results matched the expected word count: " + selectedWordCount);
 
 			// 🧾 طباعة النتائج في Allure والكونسول
-			apiAllResults.forEach(result -> Allure.step("🔹 " + result.getWord() + " → count: " + result.getCount()));
-			for (NGramResult result : apiAllResults) {
-				System.out.println("🔹 " + result.getWord() + " → count: " + result.getCount());
-			}
+			apiAllResults.forEach((word, count) -> Allure.step("🔹 " + word + " → count: " + count));
+			apiAllResults.forEach((word, count) -> System.out.println("🔹 " + word + " → count: " + count));
 
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 Word Count Filter - Assertion Failure");
@@ -479,12 +475,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -602,11 +598,11 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء الرابط المباشر للأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. التأكد من تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 
@@ -720,13 +716,13 @@ public class NGramsToolTC extends BaseTest {
 			// 🔗 2. بناء الرابط المباشر للأداة من خلال المدونة والأداة
 			// Construct the full URL to access the tool page directly
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. انتظار تحميل صفحة الأداة بالكامل
 			// Wait for the tool page to finish loading
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -778,30 +774,27 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🌐 11. استدعاء الـ API باستخدام نفس الفلاتر وجلب جميع الصفحات
 			// Call the API and retrieve all results (across all pages)
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
+			NGramColumnStore apiAllResults = NGramsApiClient.getAllResultsColumnar(toolId, filters);
 
 			// 📝 12. التحقق من أن نتائج API لا تحتوي على الكلمة
 			// Ensure all words from the API do not contain the excluded word
-			List<String> apiWords = apiAllResults.stream().map(NGramResult::getWord).toList();
-			boolean noneContainInApi = apiWords.stream().noneMatch(w -> w.contains(excludedWord));
+			boolean noneContainInApi = apiAllResults.noneContain(excludedWord);
 			Assert.assertTrue(noneContainInApi, "❌ Some API results contain the excluded word: " + excludedWord);
 
 			// 🔁 طباعة كل نتيجة في Allure
 			// Log each result in Allure for detailed inspection
-			apiAllResults.forEach(result -> Allure.step("🔹 " + result.getWord() + " → count: " + result.getCount()));
+			apiAllResults.forEach((word, count) -> Allure.step("🔹 " + word + " → count: " + count));
 
 			System.out.println("✅ جلب جميع النتائج عبر API (جميع الصفحات)");
 			System.out.println("✅ All API results excluded the word: " + excludedWord);
 
 			// 🧾 طباعة النتائج في Allure والكونسول
-			apiAllResults.forEach(result -> Allure.step("🔹 " + result.getWord() + " → count: " + result.getCount()));
-			for (NGramResult result : apiAllResults) {
-				System.out.println("🔹 " + result.getWord() + " → count: " + result.getCount());
-			}
+			apiAllResults.forEach((word, count) -> Allure.step("🔹 " + word + " → count: " + count));
+			apiAllResults.forEach((word, count) -> System.out.println("🔹 " + word + " → count: " + count));
 
 			// 🔗 13. التحقق من أن كل نتائج UI موجودة ضمن بيانات API
 			// Verify that UI results are a subset of the full API results
-			boolean uiIsSubsetOfApi = apiWords.containsAll(uiResults);
+			boolean uiIsSubsetOfApi = apiAllResults.containsAll(uiResults);
 			Assert.assertTrue(uiIsSubsetOfApi, "❌ UI results are not a subset of full API results.");
 			Allure.step("✅ Verified that UI results are a subset of full API results");
 			System.out.println("✅ Verified that UI results are a subset of full API results");
@@ -854,12 +847,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء رابط الأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -902,25 +895,21 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("✅ إعداد فلاتر API");
 
 			// 🌐 10. جلب جميع النتائج من الـ API
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
-			List<String> apiWords = apiAllResults.stream().map(NGramResult::getWord).toList();
-
-			boolean allApiContain = apiWords.stream().allMatch(w -> w.contains(containedWord));
+			NGramColumnStore apiAllResults = NGramsApiClient.getAllResultsColumnar(toolId, filters);
+			boolean allApiContain = apiAllResults.allContain(containedWord);
 			Assert.assertTrue(allApiContain, "❌ Some API results do not contain the word: " + containedWord);
 			Allure.step("✅ All API results contain the word: " + containedWord);
 			System.out.println("✅ All API results contain the word: " + containedWord);
 
 			// ✅ 11. التحقق أن كل نتائج UI موجودة ضمن نتائج API
-			boolean uiIsSubsetOfApi = apiWords.containsAll(uiResults);
+			boolean uiIsSubsetOfApi = apiAllResults.containsAll(uiResults);
 			Assert.assertTrue(uiIsSubsetOfApi, "❌ UI results are not a subset of API results");
 			Allure.step("✅ Verified that UI results are a subset of API results");
 			System.out.println("✅ Verified that UI results are a subset of API results");
 
 			// 🧾 طباعة النتائج في Allure والكونسول
-			apiAllResults.forEach(result -> Allure.step("🔹 " + result.getWord() + " → count: " + result.getCount()));
-			for (NGramResult result : apiAllResults) {
-				System.out.println("🔹 " + result.getWord() + " → count: " + result.getCount());
-			}
+			apiAllResults.forEach((word, count) -> Allure.step("🔹 " + word + " → count: " + count));
+			apiAllResults.forEach((word, count) -> System.out.println("🔹 " + word + " → count: " + count));
 
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 Assertion Error - Contains Filter");
@@ -965,12 +954,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء رابط الأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1017,25 +1006,21 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("✅ إعداد فلاتر API");
 
 			// 🌐 11. جلب جميع النتائج من الـ API
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
-			List<String> apiWords = apiAllResults.stream().map(NGramResult::getWord).toList();
-
-			boolean allApiStartWith = apiWords.stream().allMatch(w -> w.startsWith(startingWord));
+			NGramColumnStore apiAllResults = NGramsApiClient.getAllResultsColumnar(toolId, filters);
+			boolean allApiStartWith = apiAllResults.allStartWith(startingWord);
 			Assert.assertTrue(allApiStartWith, "❌ Some API results do not start with the word: " + startingWord);
 			Allure.step("✅ All API results start with the word: " + startingWord);
 			System.out.println("✅ All API results start with the word: " + startingWord);
 
 			// ✅ 12. التحقق أن كل نتائج UI موجودة ضمن نتائج API
-			boolean uiIsSubsetOfApi = apiWords.containsAll(uiResults);
+			boolean uiIsSubsetOfApi = apiAllResults.containsAll(uiResults);
 			Assert.assertTrue(uiIsSubsetOfApi, "❌ UI results are not a subset of API results");
 			Allure.step("✅ Verified that UI results are a subset of API results");
 			System.out.println("✅ Verified that UI results are a subset of API results");
 
 			// 🧾 طباعة النتائج في Allure والكونسول
-			apiAllResults.forEach(result -> Allure.step("🔹 " + result.getWord() + " → count: " + result.getCount()));
-			for (NGramResult result : apiAllResults) {
-				System.out.println("🔹 " + result.getWord() + " → count: " + result.getCount());
-			}
+			apiAllResults.forEach((word, count) -> Allure.step("🔹 " + word + " → count: " + count));
+			apiAllResults.forEach((word, count) -> System.out.println("🔹 " + word + " → count: " + count));
 
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 Assertion Error - Starts With Filter");
@@ -1080,12 +1065,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء رابط الأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1131,25 +1116,21 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("✅ إعداد فلاتر API");
 
 			// 🌐 11. جلب جميع النتائج من الـ API
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
-			List<String> apiWords = apiAllResults.stream().map(NGramResult::getWord).toList();
-
-			boolean allApiEndWith = apiWords.stream().allMatch(w -> w.endsWith(endingWord));
+			NGramColumnStore apiAllResults = NGramsApiClient.getAllResultsColumnar(toolId, filters);
+			boolean allApiEndWith = apiAllResults.allEndWith(endingWord);
 			Assert.assertTrue(allApiEndWith, "❌ Some API results do not end with the word: " + endingWord);
 			Allure.step("✅ All API results end with the word: " + endingWord);
 			System.out.println("✅ All API results end with the word: " + endingWord);
 
 			// ✅ 12. التحقق أن كل نتائج UI موجودة ضمن نتائج API
-			boolean uiIsSubsetOfApi = apiWords.containsAll(uiResults);
+			boolean uiIsSubsetOfApi = apiAllResults.containsAll(uiResults);
 			Assert.assertTrue(uiIsSubsetOfApi, "❌ UI results are not a subset of API results");
 			Allure.step("✅ Verified that UI results are a subset of API results");
 			System.out.println("✅ Verified that UI results are a subset of API results");
 
 			// 🧾 طباعة النتائج في Allure والكونسول
-			apiAllResults.forEach(result -> Allure.step("🔹 " + result.getWord() + " → count: " + result.getCount()));
-			for (NGramResult result : apiAllResults) {
-				System.out.println("🔹 " + result.getWord() + " → count: " + result.getCount());
-			}
+			apiAllResults.forEach((word, count) -> Allure.step("🔹 " + word + " → count: " + count));
+			apiAllResults.forEach((word, count) -> System.out.println("🔹 " + word + " → count: " + count));
 
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 Assertion Error - Ends With Filter");
@@ -1193,7 +1174,7 @@ public class NGramsToolTC extends BaseTest {
 		System.out.println("TC12_verifyExportWithApiParity");
 
 		try {
-			WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
+			WebDriverWait wait = new WebDriverWait(getDriver(), Duration.ofSeconds(15));
 
 			// 🔢 1. اختيار المدونة والأداة
 			CorporaName selectedCorpora = CorporaName.MAJMAA;
@@ -1201,12 +1182,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء رابط الأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1225,24 +1206,36 @@ public class NGramsToolTC extends BaseTest {
 			Allure.step("🔎 Clicked on search button");
 			System.out.println("🔎 Clicked on search button");
 
-			// استدعاء الجنريك بلامبادز من الصفحة الحالية
-			OutcomeResult outcome = waitForOutcomeWithTriage(() -> nGramsPage.isResultTableDisplayed(),
-					() -> nGramsPage.isNoResultsMessageDisplayed(), Duration.ofSeconds(60));
+			String toolId = CorporaToolUrlBuilder.extractToolUuidFromUrl(fullToolUrl);
+			System.out.println("✅ toolId: " + toolId);
+			Allure.step("✅ Extracted toolId: " + toolId);
+			NGramsFilterParams filters = new NGramsFilterParams().withEndWithWords(endingWord);
 
-			// التقييم
-			if (outcome.kind == OutcomeKind.TRIAGE_ERROR) {
-				var e = outcome.triageError.orElseThrow();
-				Allure.step("❗ Network error captured: " + e);
-				attachFullPageScreenshot("❗ Server/Network Error");
-				Assert.fail(
-						"الخدمة أعادت خطأ شبكة: status=" + e.status + " url=" + e.url + " type=" + e.requestIdOrType);
-				return;
-			}
-			if (outcome.kind == OutcomeKind.NO_DATA) {
-				Allure.step("ℹ️ No results (with exclude punctuation)");
-				System.out.println("ℹ️ No results message detected, finishing gracefully.");
-				return;
-			}
+			// ⚡ بدء جلب الـ API بالتوازي مع بحث الواجهة (نفس الفلاتر) | Start the API crawl alongside the UI search
+			NGramsApiClient.PendingCrawl<NGramColumnStore> apiCrawl = NGramsApiClient
+					.getAllResultsColumnarAsync(toolId, filters);
+
+			List<String> uiRows;
+			NGramColumnStore apiAllResults;
+			try {
+				// استدعاء الجنريك بلامبادز من الصفحة الحالية
+				OutcomeResult outcome = waitForOutcomeWithTriage(() -> nGramsPage.isResultTableDisplayed(),
+						() -> nGramsPage.isNoResultsMessageDisplayed(), Duration.ofSeconds(60));
+
+				// التقييم
+				if (outcome.kind == OutcomeKind.TRIAGE_ERROR) {
+					var e = outcome.triageError.orElseThrow();
+					Allure.step("❗ Network error captured: " + e);
+					attachFullPageScreenshot("❗ Server/Network Error");
+					Assert.fail(
+							"الخدمة أعادت خطأ شبكة: status=" + e.status + " url=" + e.url + " type=" + e.requestIdOrType);
+					return;
+				}
+				if (outcome.kind == OutcomeKind.NO_DATA) {
+					Allure.step("ℹ️ No results (with exclude punctuation)");
+					System.out.println("ℹ️ No results message detected, finishing gracefully.");
+					return;
+				}
 
 //			// ⏳ 6. انتظار ظهور الجدول أو رسالة لا توجد بيانات
 //			nGramsPage.waitForResultsOrNoDataMessage();
@@ -1255,43 +1248,31 @@ public class NGramsToolTC extends BaseTest {
 //				return;
 //			}
 
-			// 8) جمع نتائج الـ UI (العمود الأول مثلاً)
-			List<String> uiRows = nGramsPage.getFirstColumnSentences();
-			Assert.assertFalse(uiRows.isEmpty(), "❌ Empty UI results despite not showing 'no data' message!");
-			Allure.step("📊 UI results collected: " + uiRows.size());
-			System.out.println("📊 UI results collected: " + uiRows.size());
-
-			// 9) استخراج toolId من الرابط
-			String toolId = CorporaToolUrlBuilder.extractToolUuidFromUrl(fullToolUrl);
-			System.out.println("✅ toolId: " + toolId);
-			Allure.step("✅ Extracted toolId: " + toolId);
-
-			// 10) استدعاء API بنفس الاستعلام/الفلاتر
-			NGramsFilterParams filters = new NGramsFilterParams().withEndWithWords(endingWord);
-			System.out.println("✅ Concordancer API filters prepared");
-
-			// 🌐 11. جلب جميع النتائج من الـ API
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
-
-			Assert.assertNotNull(apiAllResults, "❌ API returned null results");
+				// 8) جمع نتائج الـ UI (العمود الأول مثلاً)
+				uiRows = nGramsPage.getFirstColumnSentences();
+				Assert.assertFalse(uiRows.isEmpty(), "❌ Empty UI results despite not showing 'no data' message!");
+				Allure.step("📊 UI results collected: " + uiRows.size());
+				System.out.println("📊 UI results collected: " + uiRows.size());
+
+				// 🌐 9-10. انتظار نتائج الـ API التي بدأت مع البحث (التجميع والتقرير على خيط الاختبار)
+				// Join the API crawl started with the search; assembly and reporting run on the test thread
+				apiAllResults = apiCrawl.join();
+			} finally {
+				// 🛑 أي خروج مبكر (مهلة، فشل تحقق، استثناء) يوقف الجلب الخلفي قبل الاختبار التالي
+				// Any early exit (timeout, failed assertion, exception) stops the background crawl before the next test
+				apiCrawl.cancel();
+			}
 			Assert.assertFalse(apiAllResults.isEmpty(), "❌ API returned empty results while UI has rows");
 			Allure.step("🌐 API results collected: " + apiAllResults.size());
 			System.out.println("🌐 API results collected: " + apiAllResults.size());
 
-			// 11) إسقاط نتائج API إلى قائمة نصوص مماثلة لطريقة UI (حسب نموذج بياناتكم)
-			// مثال: إذا كان لكل صف كلمة/جملة في حقل 'getText()' أو
-			// 'getLeftContext()+getKeyword()+getRightContext()'
-			List<String> apiWords = apiAllResults.stream().map(NGramResult::getWord).toList();
-
-			// 12) التحقق أن كل نتائج UI موجودة ضمن نتائج API (UI ⊆ API)
-			boolean uiSubsetOfApi = apiWords.containsAll(uiRows);
-			Assert.assertTrue(uiSubsetOfApi, "❌ UI results are not a subset of API results");
+			// 11) التحقق أن كل نتائج UI موجودة ضمن نتائج API (UI ⊆ API)
+			Assert.assertTrue(apiAllResults.containsAll(uiRows),
+					"❌ UI results are not a subset of API results, first missing: "
+							+ apiAllResults.firstMissing(uiRows));
 			Allure.step("✅ Verified UI results are a subset of API results");
 			System.out.println("✅ Verified UI results are a subset of API results");
 
-			// (اختياري) مزيد من التوثيق في Allure
-			apiAllResults.stream().limit(20).forEach(r -> Allure.step("🔹 API: " + r.getWord()));
-
 			// 13) انتظار ظهور زر التصدير ثم النقر عليه
 			wait.until(d -> nGramsPage.isExportButtonVisisable());
 
@@ -1348,12 +1329,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2. بناء رابط الأداة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 			System.out.println("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3. انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1425,24 +1406,16 @@ public class NGramsToolTC extends BaseTest {
 																								// لتوحيد المنطق
 					.withExcludeRegex("true"); // ← أضف هذا الفلاغ في كلاس params
 
-			List<NGramResult> apiAllResults = NGramsApiClient.getAllResults(toolId, filters);
-			Assert.assertNotNull(apiAllResults, "❌ API returned null results");
-			Assert.assertFalse(apiAllResults.isEmpty(), "❌ API returned empty results while UI has rows");
-			Allure.step("🌐 API results collected: " + apiAllResults.size());
-			System.out.println("🌐 API results collected: " + apiAllResults.size());
-
-			List<String> normalizedApi = apiAllResults.stream().map(NGramResult::getWord)
-					.map(this::normalizeAndStripPunct).filter(s -> !s.isBlank()).toList();
-
-			// 11) التحقق النهائي: UI ⊆ API (بعد نفس “التطبيع”)
-			Assert.assertTrue(normalizedApi.containsAll(normalizedUi),
-					"❌ UI normalized results are not a subset of API normalized results");
+			// 11) التحقق النهائي: UI ⊆ API (بعد نفس “التطبيع”) مع إيقاف الجلب فور المطابقة
+			SubsetVerifier.Result subset = NGramsApiClient.verifyUiSubset("TC-13 UI ⊆ API (normalized)", toolId,
+					filters, normalizedUi, this::normalizeAndStripPunct);
+			Assert.assertTrue(subset.recordsScanned > 0, "❌ API returned empty results while UI has rows");
+			Assert.assertTrue(subset.isSubset(),
+					"❌ UI normalized results are not a subset of API normalized results, missing: "
+							+ subset.missingSample());
 			Allure.step("✅ Verified UI ⊆ API after punctuation stripping");
 			System.out.println("✅ Verified UI ⊆ API after punctuation stripping");
 
-			// توثيق إضافي
-			normalizedApi.stream().limit(20).forEach(w -> Allure.step("🔹 API(norm): " + w));
-
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 Exclude Punctuation - Assertion Failure");
 			attachFailureVideo("📹 Video (on failure)");
@@ -1498,11 +1471,11 @@ public class NGramsToolTC extends BaseTest {
 
 			// 🔗 2) افتح صفحة الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("✅ Opened direct tool URL: " + fullToolUrl);
 
 			// 🧭 3) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 
@@ -1549,13 +1522,13 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("📊 Results table appeared");
 
 			// ⏳ انتظري ظهور زر التصدير ثم اضغطيه
-			new WebDriverWait(driver, Duration.ofSeconds(15)).until(d -> nGramsPage.isExportButtonVisisable());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(15)).until(d -> nGramsPage.isExportButtonVisisable());
 
 			// 💾 7) تأكدي من تنزيل الملف
 			AtomicBoolean downloadCompleted = new AtomicBoolean(false);
-			Path downloadDir = Path.of(System.getProperty("user.home"), "Downloads");
+			Path downloadDir = getDownloadsDir();
 
-			DownloadsCdpHelper.armChromeDownloadDone(driver, downloadDir, downloadCompleted);
+			DownloadsCdpHelper.armChromeDownloadDone(getDriver(), downloadDir, downloadCompleted);
 
 			nGramsPage.clickExportButton();
 			Allure.step("📥 Clicked export button");
@@ -1579,7 +1552,7 @@ public class NGramsToolTC extends BaseTest {
 			Allure.step("✅ Exported file downloaded successfully");
 
 			// انتظري اكتمال التحميل
-			new WebDriverWait(driver, Duration.ofSeconds(30)).until(d -> downloadCompleted.get());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(30)).until(d -> downloadCompleted.get());
 
 			Assert.assertTrue(downloadCompleted.get(), "❌ Export file was not downloaded!");
 			Allure.step("✅ Exported file downloaded successfully");
@@ -1612,12 +1585,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظر جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1673,7 +1646,7 @@ public class NGramsToolTC extends BaseTest {
 
 			// 10) تحقّق من ظهور شريط الترقيم أسفل الجدول
 			// (PrimeNG paginator عادةً: div.p-paginator)
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> nGramsPage.isPaginationBarVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> nGramsPage.isPaginationBarVisible());
 			Assert.assertTrue(nGramsPage.isPaginationBarVisible(), "❌ Pagination controls not visible!");
 			Allure.step("✅ Pagination bar is visible");
 			System.out.println("✅ Pagination bar is visible");
@@ -1706,12 +1679,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظر جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1807,12 +1780,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظر جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1858,7 +1831,7 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("➡️ Clicked 'Next >>' button");
 
 			// 10) انتظر تغير النتائج
-			new WebDriverWait(driver, Duration.ofSeconds(10))
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 					.until(d -> !safeEquals(nGramsPage.getFirstCellText(1), firstRowBefore));
 
 			String firstRowAfter = nGramsPage.getFirstCellText(1);
@@ -1921,12 +1894,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظر جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -1963,7 +1936,7 @@ public class NGramsToolTC extends BaseTest {
 			// 8) اذهب أولاً للصفحة التالية لضمان إمكانية العودة
 			int currentPageBefore = nGramsPage.getCurrentPageNumber();
 			nGramsPage.goToNextPage();
-			new WebDriverWait(driver, Duration.ofSeconds(10))
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 					.until(d -> nGramsPage.getCurrentPageNumber() == currentPageBefore + 1);
 			Allure.step("➡️ Moved to page " + nGramsPage.getCurrentPageNumber() + " before testing 'Previous'");
 			System.out.println("➡️ Moved to page " + nGramsPage.getCurrentPageNumber() + " before testing 'Previous'");
@@ -1978,7 +1951,7 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("⬅️ Clicked 'Previous <<' button");
 
 			// 11) انتظر تغير النتائج
-			new WebDriverWait(driver, Duration.ofSeconds(10))
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 					.until(d -> !safeEquals(nGramsPage.getFirstCellText(1), firstRowBefore));
 
 			String firstRowAfter = nGramsPage.getFirstCellText(1);
@@ -1996,10 +1969,7 @@ public class NGramsToolTC extends BaseTest {
 
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 NGrams Previous Page - Assertion Failure");
-			File vid = (videoRecorder != null) ? videoRecorder.stopAndGetFile() : null;
-			if (vid != null) {
-				videoRecorder.attachToAllure("📹 Video (on failure)", false);
-			}
+			attachFailureVideo("📹 Video (on failure)");
 			throw ae;
 
 		} catch (Exception e) {
@@ -2038,12 +2008,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2️⃣ افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3️⃣ انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -2089,7 +2059,7 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("📄 Navigated to page " + targetPage);
 
 			// 🔟 التحقق من اختلاف النتائج
-			new WebDriverWait(driver, Duration.ofSeconds(10))
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10))
 					.until(d -> !safeEquals(nGramsPage.getFirstCellText(1), firstRowBefore));
 
 			String firstRowAfter = nGramsPage.getFirstCellText(1);
@@ -2148,12 +2118,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2️⃣ افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3️⃣ انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -2247,12 +2217,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -2294,7 +2264,7 @@ public class NGramsToolTC extends BaseTest {
 
 				// انتظر تحديث الجدول: عدد الصفوف > 0 وبحد أقصى desiredCount (قد يكون أقل في
 				// الصفحة الأخيرة)
-				new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> {
+				new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> {
 					int rows = nGramsPage.getNumberOfResultsRows();
 					return rows > 0 && rows <= desiredCount;
 				});
@@ -2353,12 +2323,12 @@ public class NGramsToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 
 			// 3️⃣ تنفيذ بحث واسع
@@ -2394,7 +2364,7 @@ public class NGramsToolTC extends BaseTest {
 			System.out.println("🔽 Changed results per page to: " + desiredCount);
 
 			// 8️⃣ انتظار تحديث الصفوف
-			new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> {
+			new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> {
 				int rows = nGramsPage.getNumberOfResultsRows();
 				return rows > 0 && rows <= desiredCount;
 			});
@@ -2454,12 +2424,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -2555,12 +2525,12 @@ public class NGramsToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار تحميل الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -2670,12 +2640,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -2738,7 +2708,7 @@ public class NGramsToolTC extends BaseTest {
 				nGramsPage.clickFilterIcon(header);
 
 				// انتظري ظهور الـ overlay
-				boolean shown = new WebDriverWait(driver, Duration.ofSeconds(8))
+				boolean shown = new WebDriverWait(getDriver(), Duration.ofSeconds(8))
 						.until(d -> nGramsPage.isFilterOverlayVisible());
 				Assert.assertTrue(shown, "❌ Filter overlay did not appear for column: " + colName);
 
@@ -2755,7 +2725,7 @@ public class NGramsToolTC extends BaseTest {
 				nGramsPage.closeFilterOverlay(header);
 
 				// تأكدي أنه اختفى قبل الانتقال لعمود آخر
-				new WebDriverWait(driver, Duration.ofSeconds(5)).until(d -> !nGramsPage.isFilterOverlayVisible());
+				new WebDriverWait(getDriver(), Duration.ofSeconds(5)).until(d -> !nGramsPage.isFilterOverlayVisible());
 			}
 
 			Assert.assertTrue(openedCount > 0, "❌ No filter pop-up was opened!");
@@ -2811,12 +2781,12 @@ public class NGramsToolTC extends BaseTest {
 
 			// 2) افتح الأداة مباشرة
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 3) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 
@@ -2860,7 +2830,7 @@ public class NGramsToolTC extends BaseTest {
 
 			// افتح نافذة الفلترة لذلك العمود
 			nGramsPage.clickFilterIcon(mutatabiaHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
 			// افتح Dropdown "نوع المطابقة" (الثاني داخل الـ overlay)
 			nGramsPage.openFilterMatchTypeDropdown();
 
@@ -2879,7 +2849,7 @@ public class NGramsToolTC extends BaseTest {
 			// تنظيف
 			nGramsPage.dismissFilterMatchTypeDropdownIfOpen();
 			nGramsPage.closeFilterOverlay(mutatabiaHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(5)).until(d -> !nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(5)).until(d -> !nGramsPage.isFilterOverlayVisible());
 
 		} catch (AssertionError ae) {
 			attachFullPageScreenshot("🔴 NGrams Filter Match-Types - Assertion Failure");
@@ -2927,11 +2897,11 @@ public class NGramsToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 
@@ -2964,7 +2934,7 @@ public class NGramsToolTC extends BaseTest {
 
 			// 5) افتح نافذة الفلترة لذلك العمود
 			nGramsPage.clickFilterIcon(freqHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
 
 			// 6) افتح Dropdown "نوع المطابقة" داخل الـ overlay (الثاني)
 			nGramsPage.openFilterMatchTypeDropdown();
@@ -2988,7 +2958,7 @@ public class NGramsToolTC extends BaseTest {
 			// 10) تنظيف
 			nGramsPage.dismissFilterMatchTypeDropdownIfOpen();
 			nGramsPage.closeFilterOverlay(freqHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(5)).until(d -> !nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(5)).until(d -> !nGramsPage.isFilterOverlayVisible());
 
 			Allure.step("✅ Numeric match-type options verified successfully for 'التكرار'");
 
@@ -3033,11 +3003,11 @@ public class NGramsToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2️⃣ انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 
@@ -3070,7 +3040,7 @@ public class NGramsToolTC extends BaseTest {
 					.orElseThrow(() -> new AssertionError("لم يتم العثور على عمود 'المتتابعة'"));
 
 			nGramsPage.clickFilterIcon(mutatabiaHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
 			Allure.step("📂 Filter overlay opened for 'المتتابعة'");
 
 			// 5) الشرط الأول: يحتوي على = "ب"
@@ -3146,11 +3116,11 @@ public class NGramsToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 
@@ -3183,7 +3153,7 @@ public class NGramsToolTC extends BaseTest {
 					.orElseThrow(() -> new AssertionError("لم يتم العثور على عمود 'المتتابعة'"));
 
 			nGramsPage.clickFilterIcon(mutatabiaHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
 			Allure.step("📂 Filter overlay opened for 'المتتابعة'");
 			System.out.println("📂 Filter overlay opened for 'المتتابعة'");
 
@@ -3281,12 +3251,12 @@ public class NGramsToolTC extends BaseTest {
 			ToolsName selectedTool = ToolsName.NGRAMS;
 
 			String fullToolUrl = NavigationUtils.buildToolUrl(selectedCorpora, selectedTool);
-			driver.get(fullToolUrl);
+			getDriver().get(fullToolUrl);
 			Allure.step("🌐 Opened direct tool URL: " + fullToolUrl);
 			System.out.println("🌐 Opened direct tool URL: " + fullToolUrl);
 
 			// 2) انتظار جاهزية الصفحة
-			NGramsPage nGramsPage = new NGramsPage(driver);
+			NGramsPage nGramsPage = new NGramsPage(getDriver());
 			nGramsPage.waitForPageReady(selectedTool.getPathSegment(), nGramsPage::endWithWordInputWebElement);
 			Allure.step("📥 Page loaded successfully");
 			System.out.println("📥 Page loaded successfully");
@@ -3321,7 +3291,7 @@ public class NGramsToolTC extends BaseTest {
 					.orElseThrow(() -> new AssertionError("لم يتم العثور على عمود 'المتتابعة'"));
 
 			nGramsPage.clickFilterIcon(mutatabiaHeader);
-			new WebDriverWait(driver, Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
+			new WebDriverWait(getDriver(), Duration.ofSeconds(8)).until(d -> nGramsPage.isFilterOverlayVisible());
 
 			String matchType = "يحتوي على";
 			String[] candidates = { "ب", "ة", "ال" };
@@ -3334,7 +3304,7 @@ public class NGramsToolTC extends BaseTest {
 				nGramsPage.applyFilter();
 
 				// انتظر تحديث الجدول قليلًا
-				new WebDriverWait(driver, Duration.ofSeconds(5)).until(d -> nGramsPage.isResultTableDisplayed());
+				new WebDriverWait(getDriver(), Duration.ofSeconds(5)).until(d -> nGramsPage.isResultTableDisplayed());
 
 				List<String> vals = nGramsPage.getColumnTexts(1);
 				System.out.println("🔎 Trying filter value '" + candidate + "' -> rows found: " + vals.size());
@@ -3369,7 +3339,7 @@ public class NGramsToolTC extends BaseTest {
 				System.out.println("🔽 Selected " + desiredCount + " results per page (with filter active)");
 
 				// انتظر تحديث الجدول
-				new WebDriverWait(driver, Duration.ofSeconds(10)).until(d -> {
+				new WebDriverWait(getDriver(), Duration.ofSeconds(10)).until(d -> {
 					int rows = nGramsPage.getNumberOfResultsRows();
 					return rows >= 0 && rows <= desiredCount; // قد تكون الصفحة الأخيرة أقل من desiredCount
 				});
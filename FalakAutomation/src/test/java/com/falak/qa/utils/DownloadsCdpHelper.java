@@ -1,11 +1,8 @@
 package com.falak.qa.utils;
 
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.devtools.DevTools;
-import org.openqa.selenium.devtools.HasDevTools;
 
-import org.openqa.selenium.devtools.v136.browser.Browser;
-import org.openqa.selenium.devtools.v136.browser.model.DownloadProgress;
+import com.falak.qa.net.CdpHub;
 
 import io.qameta.allure.Allure;
 import io.qameta.allure.Step;
@@ -29,7 +26,7 @@ public class DownloadsCdpHelper {
 	 * DevTools</li>
 	 * <li>تعيين مجلد التحميل إلى {@code downloadDir}</li>
 	 * <li>تحديث {@code completedFlag} تلقائياً عند اكتمال/إلغاء التحميل</li>
-	 * <li>إرجاع {@code Runnable} اختياري لتعطيل السلوك لاحقاً</li>
+	 * <li>إرجاع {@code Runnable} اختياري لتعطيل السلوك وإلغاء الاشتراكات لاحقاً</li>
 	 * </ul>
 	 * </p>
 	 *
@@ -46,48 +43,42 @@ public class DownloadsCdpHelper {
 	public static Optional<Runnable> armChromeDownloadDone(WebDriver driver, Path downloadDir,
 			AtomicBoolean completedFlag) {
 		try {
-			if (!(driver instanceof HasDevTools)) {
+			Optional<CdpHub> maybeHub = CdpHub.of(driver);
+			if (maybeHub.isEmpty()) {
 				Allure.step("⚠️ Driver does not support DevTools. Skipping download listeners setup.");
 				return Optional.empty();
 			}
+			CdpHub hub = maybeHub.get();
+			Allure.step("🧩 DevTools session ready (shared CDP hub)");
 
-			DevTools devTools = ((HasDevTools) driver).getDevTools();
-			devTools.createSession();
-			Allure.step("🧩 DevTools session created");
-
-			// مهم: eventsEnabled=true حتى نحصل على downloadProgress/downloadWillBegin
-			devTools.send(Browser.setDownloadBehavior(Browser.SetDownloadBehaviorBehavior.ALLOW, // بدل ALLOWANDNAME
-					Optional.empty(), Optional.ofNullable(downloadDir == null ? null : downloadDir.toString()),
-					Optional.of(true) // eventsEnabled
-			));
+			// مهم: ALLOW مع eventsEnabled=true حتى نحصل على downloadProgress/downloadWillBegin
+			hub.setDownloadBehavior(true, downloadDir);
 			Allure.step("📂 Download behavior set to ALLOW with eventsEnabled=true, dir="
 					+ (downloadDir == null ? "(browser default)" : downloadDir));
 
 			// إشعار بداية التحميل
-			devTools.addListener(Browser.downloadWillBegin(), e -> {
-				String file = e.getSuggestedFilename();
-				String url = e.getUrl();
+			CdpHub.Registration willBegin = hub.subscribe(CdpHub.DOWNLOAD_WILL_BEGIN, e -> {
+				String file = e.suggestedFilename;
+				String url = e.url;
 				System.out.println("⬇️ Download will begin: name=" + file + " | url=" + url);
 				Allure.step("⬇️ Download will begin → file: " + file + " | url: " + url);
 			});
 
 			// إشعار التقدم/الاكتمال
-			devTools.addListener(Browser.downloadProgress(), e -> {
-				DownloadProgress.State st = e.getState();
-				if (st == DownloadProgress.State.COMPLETED || st == DownloadProgress.State.CANCELED) { // اعتبر الملغي
-																										// نهاية أيضاً
-																										// إن رغبت
+			CdpHub.Registration progress = hub.subscribe(CdpHub.DOWNLOAD_PROGRESS, e -> {
+				if (e.isDone()) { // اعتبر الملغي نهاية أيضاً
 					completedFlag.set(true);
-					System.out.println("✅ Download " + st + " (guid=" + e.getGuid() + ")");
-					Allure.step("✅ Download state: " + st + " | guid=" + e.getGuid());
+					System.out.println("✅ Download " + e.state + " (guid=" + e.guid + ")");
+					Allure.step("✅ Download state: " + e.state + " | guid=" + e.guid);
 				}
 			});
 
-			// دالة إرجاع لتعطيل السلوك لاحقًا (اختياري)
+			// دالة إرجاع لتعطيل السلوك وإلغاء الاشتراكات لاحقًا (اختياري)
 			return Optional.of(() -> {
+				willBegin.close();
+				progress.close();
 				try {
-					devTools.send(Browser.setDownloadBehavior(Browser.SetDownloadBehaviorBehavior.DEFAULT,
-							Optional.empty(), Optional.empty(), Optional.of(false)));
+					hub.setDownloadBehavior(false, null);
 					Allure.step("🛑 Download behavior reset to DEFAULT (events disabled)");
 				} catch (Exception ignore) {
 					System.out.println("⚠️ Failed to reset download behavior to DEFAULT: " + ignore.getMessage());
@@ -0,0 +1,335 @@
+package com.falak.qa.utils;
+
+import com.falak.qa.config.ConfigReader;
+import com.falak.qa.net.CdpHub;
+
+import io.qameta.allure.Allure;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ MemoryMonitor: تتبع نمو ذاكرة JS وعُقد DOM والمستمعين بين دورات الترقيم والفلترة لكشف التسريبات
+// Per-test frontend leak probe: samples JS heap, DOM nodes, event listeners and layout count after each
+// pagination/filter cycle (CDP Performance.getMetrics, performance.memory fallback) and flags sustained growth
+public final class MemoryMonitor {
+
+	/**
+	 * 📏 المقاييس التي يُفحص ميلها | Metrics whose growth slope is checked
+	 */
+	public enum Growth {
+		HEAP("KB/cycle"), NODES("nodes/cycle"), LISTENERS("listeners/cycle");
+
+		private final String unit;
+
+		Growth(String unit) {
+			this.unit = unit;
+		}
+	}
+
+	// 🔁 احتياطي بدون CDP: performance.memory (كروم فقط) + عدد العناصر
+	// Fallback without CDP: performance.memory (Chromium only) plus the element count
+	private static final String FALLBACK_JS = """
+			return {
+			  heap: (performance.memory && performance.memory.usedJSHeapSize) || null,
+			  nodes: document.getElementsByTagName('*').length
+			};
+			""";
+
+	private static final boolean ENABLED;
+	private static final boolean ENFORCE;
+	private static final boolean GC_BEFORE_SAMPLE;
+	private static final int WINDOW;
+	private static final double MAX_HEAP_SLOPE_KB;
+	private static final double MAX_NODE_SLOPE;
+	private static final double MAX_LISTENER_SLOPE;
+
+	private static final LongAdder TESTS = new LongAdder();
+	private static final LongAdder SAMPLES = new LongAdder();
+	private static final LongAdder FLAGGED = new LongAdder();
+	private static final DoubleAccumulator WORST_HEAP_SLOPE = new DoubleAccumulator(Math::max, 0);
+	private static final DoubleAccumulator WORST_NODE_SLOPE = new DoubleAccumulator(Math::max, 0);
+
+	static {
+		Properties p = ConfigReader.initProperties();
+		ENABLED = Boolean.parseBoolean(p.getProperty("memory.monitor.enabled", "false").trim());
+		ENFORCE = Boolean.parseBoolean(p.getProperty("memory.leak.enforce", "false").trim());
+		// 🧹 GC قسري قبل كل عينة فقط عندما تُفرض حدود التسرّب (يضيف توقفًا لكل عينة)
+		// Forced GC before each sample only when leak budgets are enforced; it adds a pause per sample
+		GC_BEFORE_SAMPLE = Boolean
+				.parseBoolean(p.getProperty("memory.gc.before.sample", String.valueOf(ENFORCE)).trim());
+		WINDOW = Math.max(3, Integer.parseInt(p.getProperty("memory.leak.window", "5").trim()));
+		MAX_HEAP_SLOPE_KB = Double.parseDouble(p.getProperty("memory.leak.heap.slope.kb", "512").trim());
+		MAX_NODE_SLOPE = Double.parseDouble(p.getProperty("memory.leak.nodes.slope", "200").trim());
+		MAX_LISTENER_SLOPE = Double.parseDouble(p.getProperty("memory.leak.listeners.slope", "50").trim());
+		SuiteMetrics.register("🧠 Frontend memory", MemoryMonitor::summary);
+	}
+
+	/**
+	 * 🧪 عينة واحدة (null = غير متاح في هذا المتصفح)
+	 *
+	 * 🧪 One sample; a null field is not exposed by the browser. Layout count is
+	 * cumulative for the document.
+	 */
+	public static final class Sample {
+		public final String action;
+		public final Long heapBytes;
+		public final Long nodes;
+		public final Long listeners;
+		public final Long layouts;
+
+		private Sample(String action, Long heapBytes, Long nodes, Long listeners, Long layouts) {
+			this.action = action;
+			this.heapBytes = heapBytes;
+			this.nodes = nodes;
+			this.listeners = listeners;
+			this.layouts = layouts;
+		}
+
+		private Double value(Growth g) {
+			Long v = switch (g) {
+			case HEAP -> heapBytes;
+			case NODES -> nodes;
+			case LISTENERS -> listeners;
+			};
+			return v == null ? null : g == Growth.HEAP ? v / 1024.0 : v.doubleValue();
+		}
+	}
+
+	private final WebDriver driver;
+	private final CdpHub hub;
+	private CdpHub.Registration performanceLease;
+	private final List<Sample> samples = new ArrayList<>();
+	private final Set<Growth> flagged = EnumSet.noneOf(Growth.class);
+	private boolean cdpReady;
+
+	/**
+	 * 🛠️ المُنشئ: يستخدم CDP إذا كان المتصفح يدعمه، وإلا JavaScript
+	 *
+	 * 🛠️ Uses CDP when the driver exposes DevTools, JavaScript otherwise.
+	 *
+	 * @param driver المتصفح | Driver
+	 */
+	public MemoryMonitor(WebDriver driver) {
+		this.driver = driver;
+		CdpHub h = null;
+		if (ENABLED) {
+			try {
+				h = CdpHub.of(driver).orElse(null);
+				if (h != null) {
+					performanceLease = h.enable(CdpHub.Domain.PERFORMANCE);
+					cdpReady = true;
+				}
+			} catch (Exception e) {
+				System.out.println("⚠️ CDP Performance domain unavailable, using performance.memory: " + e.getMessage());
+			}
+		}
+		this.hub = h;
+		if (ENABLED)
+			TESTS.increment();
+	}
+
+	/**
+	 * 🧪 أخذ عينة بعد إجراء ترقيم/فلترة ثم فحص ميل النمو لآخر N دورة
+	 *
+	 * 🔹 مع CDP: جمع القمامة أولًا (HeapProfiler.collectGarbage، عند
+	 * memory.gc.before.sample) حتى لا يظهر الـ garbage غير المجموع كتسريب، ثم
+	 * Performance.getMetrics. النمو المستمر
+	 * فوق الحد يُسجَّل مرة لكل مقياس، ويُفشل الاختبار فقط عند
+	 * memory.leak.enforce=true.
+	 *
+	 * 🧪 Takes a sample and checks the growth slope over the last
+	 * memory.leak.window samples. With CDP and memory.gc.before.sample the heap
+	 * is garbage-collected first so uncollected garbage does not read as a leak. Sustained growth is flagged
+	 * once per metric and only fails the test when memory.leak.enforce=true.
+	 *
+	 * @param action اسم الإجراء (مثل goToNextPage) | Action label
+	 * @throws AssertionError عند تجاوز الحد مع التفعيل | On sustained growth when
+	 *                        enforced
+	 *
+	 *                        📌 الهدف: كشف تسريب ذاكرة/DOM في تطبيق Angular أثناء
+	 *                        التنقل المتكرر بين الصفحات.
+	 */
+	public void sample(String action) {
+		if (!ENABLED)
+			return;
+		Sample s = cdpReady ? cdpSample(action) : null;
+		if (s == null)
+			s = scriptSample(action);
+		if (s == null)
+			return;
+		samples.add(s);
+		SAMPLES.increment();
+
+		List<String> violations = checkGrowth();
+		if (!violations.isEmpty() && ENFORCE)
+			throw new AssertionError(String.join("\n", violations));
+	}
+
+	/**
+	 * 📋 العينات المأخوذة حتى الآن | Samples taken so far
+	 *
+	 * @return نسخة من العينات | Copy of the samples
+	 */
+	public List<Sample> getSamples() {
+		return List.copyOf(samples);
+	}
+
+	/**
+	 * 📊 عينة أخيرة ثم إرفاق السلسلة والميول في Allure (بدون إفشال الاختبار)
+	 *
+	 * 📊 Takes a final sample, attaches the series and slopes to Allure and
+	 * releases the CDP domain. Never throws: at teardown the outcome is only
+	 * reported.
+	 *
+	 * @param testName اسم الاختبار | Test name
+	 */
+	public void report(String testName) {
+		if (!ENABLED)
+			return;
+		try {
+			if (!samples.isEmpty()) {
+				try {
+					sample("end of " + testName);
+				} catch (AssertionError ignore) {
+					// 🔹 سُجّلت بالفعل كخطوة | Already reported as a step
+				}
+			}
+			if (samples.size() >= 2) {
+				String text = seriesText();
+				Allure.addAttachment("🧠 Frontend memory — " + testName, text);
+				System.out.println("🧠 " + testName + " frontend memory:\n" + text);
+			}
+		} finally {
+			if (performanceLease != null) {
+				performanceLease.close();
+				performanceLease = null;
+				cdpReady = false;
+			}
+			samples.clear();
+		}
+	}
+
+	private Sample cdpSample(String action) {
+		try {
+			if (GC_BEFORE_SAMPLE)
+				hub.collectGarbage();
+			Map<String, Double> m = hub.performanceMetrics();
+			return new Sample(action, asLong(m.get("JSHeapUsedSize")), asLong(m.get("Nodes")),
+					asLong(m.get("JSEventListeners")), asLong(m.get("LayoutCount")));
+		} catch (Exception e) {
+			System.out.println("⚠️ CDP memory sample failed, using performance.memory: " + e.getMessage());
+			return null;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Sample scriptSample(String action) {
+		try {
+			Map<String, Object> raw = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(FALLBACK_JS);
+			return new Sample(action, asLong(raw.get("heap")), asLong(raw.get("nodes")), null, null);
+		} catch (Exception e) {
+			System.out.println("⚠️ Memory sample skipped (" + action + "): " + e.getMessage());
+			return null;
+		}
+	}
+
+	private static Long asLong(Object v) {
+		return v instanceof Number ? ((Number) v).longValue() : null;
+	}
+
+	// 📈 ميل المربعات الصغرى لآخر WINDOW عينة، والنمو يجب أن يكون صافيًا (الأخيرة > الأولى)
+	// Least-squares slope over the last WINDOW samples; growth must also be net (last > first)
+	private List<String> checkGrowth() {
+		List<String> violations = new ArrayList<>();
+		if (samples.size() < WINDOW)
+			return violations;
+		List<Sample> window = samples.subList(samples.size() - WINDOW, samples.size());
+		for (Growth g : Growth.values()) {
+			Double slope = slope(window, g);
+			if (slope == null)
+				continue;
+			if (g == Growth.HEAP)
+				WORST_HEAP_SLOPE.accumulate(slope);
+			else if (g == Growth.NODES)
+				WORST_NODE_SLOPE.accumulate(slope);
+			if (slope <= limit(g) || flagged.contains(g))
+				continue;
+			flagged.add(g);
+			if (flagged.size() == 1)
+				FLAGGED.increment();
+			String msg = String.format(Locale.ROOT,
+					"❌ Sustained %s growth: %.1f %s over the last %d cycles (limit %.1f, up to '%s')",
+					g.name().toLowerCase(Locale.ROOT), slope, g.unit, WINDOW, limit(g), window.get(WINDOW - 1).action);
+			Allure.step(msg);
+			System.out.println(msg);
+			violations.add(msg);
+		}
+		return violations;
+	}
+
+	private static Double slope(List<Sample> window, Growth g) {
+		int n = window.size();
+		double sumX = 0, sumY = 0, sumXY = 0, sumXX = 0;
+		for (int i = 0; i < n; i++) {
+			Double y = window.get(i).value(g);
+			if (y == null)
+				return null;
+			sumX += i;
+			sumY += y;
+			sumXY += i * y;
+			sumXX += (double) i * i;
+		}
+		if (window.get(n - 1).value(g) <= window.get(0).value(g))
+			return 0.0;
+		return (n * sumXY - sumX * sumY) / (n * sumXX - sumX * sumX);
+	}
+
+	private static double limit(Growth g) {
+		return switch (g) {
+		case HEAP -> MAX_HEAP_SLOPE_KB;
+		case NODES -> MAX_NODE_SLOPE;
+		case LISTENERS -> MAX_LISTENER_SLOPE;
+		};
+	}
+
+	private String seriesText() {
+		StringBuilder sb = new StringBuilder(String.format("%-3s %10s %8s %10s %8s  %s%n", "#", "heap MB", "nodes",
+				"listeners", "layouts", "after"));
+		Long firstLayouts = samples.get(0).layouts;
+		for (int i = 0; i < samples.size(); i++) {
+			Sample s = samples.get(i);
+			sb.append(String.format(Locale.ROOT, "%-3d %10s %8s %10s %8s  %s%n", i,
+					s.heapBytes == null ? "n/a" : String.format(Locale.ROOT, "%.2f", s.heapBytes / 1048576.0),
+					s.nodes == null ? "n/a" : s.nodes, s.listeners == null ? "n/a" : s.listeners,
+					s.layouts == null || firstLayouts == null ? "n/a" : "+" + (s.layouts - firstLayouts), s.action));
+		}
+		List<Sample> window = samples.subList(Math.max(0, samples.size() - WINDOW), samples.size());
+		sb.append("slope (last ").append(window.size()).append("):");
+		for (Growth g : Growth.values()) {
+			Double slope = window.size() < 2 ? null : slope(window, g);
+			sb.append(String.format(Locale.ROOT, " %s=%s", g.name().toLowerCase(Locale.ROOT),
+					slope == null ? "n/a" : String.format(Locale.ROOT, "%.1f %s", slope, g.unit)));
+		}
+		sb.append(flagged.isEmpty() ? "\n✅ no sustained growth\n" : "\n⚠️ flagged: " + flagged + "\n");
+		return sb.toString();
+	}
+
+	private static String summary() {
+		if (TESTS.sum() == 0)
+			return "disabled";
+		return String.format(Locale.ROOT, "tests=%d samples=%d flaggedTests=%d worstHeapSlope=%.1f KB/cycle"
+				+ " worstNodeSlope=%.1f nodes/cycle (window=%d, enforce=%s)", TESTS.sum(), SAMPLES.sum(), FLAGGED.sum(),
+				WORST_HEAP_SLOPE.get(), WORST_NODE_SLOPE.get(), WINDOW, ENFORCE);
+	}
+
+}
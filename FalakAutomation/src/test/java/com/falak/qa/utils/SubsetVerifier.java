@@ -0,0 +1,189 @@
+package com.falak.qa.utils;
+
+import com.falak.qa.base.PageListener;
+
+import io.qameta.allure.Allure;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+//	✅ SubsetVerifier: تحقق أن صفوف الـ UI موجودة في نتائج الـ API مع إيقاف الجلب فور مطابقة آخر صف
+// Early-terminating "UI rows ⊆ API records" check over a lazy page stream; crawls fully only to prove absence
+public final class SubsetVerifier {
+
+	private static final int MISSING_SAMPLE = 10;
+
+	private static final LongAdder ASSERTIONS = new LongAdder();
+	private static final LongAdder EARLY_STOPS = new LongAdder();
+	private static final LongAdder PAGES_FETCHED = new LongAdder();
+	private static final LongAdder PAGES_SKIPPED = new LongAdder();
+	private static final LongAdder NANOS_SPENT = new LongAdder();
+	private static final LongAdder NANOS_SAVED = new LongAdder();
+
+	static {
+		SuiteMetrics.register("🎯 Subset verification", SubsetVerifier::summary);
+	}
+
+	private SubsetVerifier() {
+	}
+
+	/**
+	 * 📊 نتيجة تحقق واحد | Outcome of one verification
+	 */
+	public static final class Result {
+		public final String assertion;
+		public final int targetRows;
+		public final Set<String> missing;
+		public final long recordsScanned;
+		public final int pagesFetched;
+		// 🔮 عدد الصفحات الكلي حسب totalRecords أو -1 | Estimated total pages from totalRecords, or -1
+		public final int estimatedPages;
+		public final long elapsedNanos;
+		// ⏱️ تقدير الوقت الموفّر (صفحات لم تُجلب × متوسط زمن الصفحة) | Skipped pages × mean page latency
+		public final long savedNanos;
+
+		private Result(String assertion, int targetRows, Set<String> missing, long recordsScanned, int pagesFetched,
+				int estimatedPages, long elapsedNanos, long savedNanos) {
+			this.assertion = assertion;
+			this.targetRows = targetRows;
+			this.missing = missing;
+			this.recordsScanned = recordsScanned;
+			this.pagesFetched = pagesFetched;
+			this.estimatedPages = estimatedPages;
+			this.elapsedNanos = elapsedNanos;
+			this.savedNanos = savedNanos;
+		}
+
+		public boolean isSubset() {
+			return missing.isEmpty();
+		}
+
+		/**
+		 * 🔎 عينة من الصفوف المفقودة لرسائل الفشل | Sample of missing rows for
+		 * failure messages
+		 *
+		 * @return حتى 10 صفوف | Up to 10 rows
+		 */
+		public List<String> missingSample() {
+			List<String> sample = new ArrayList<>(Math.min(missing.size(), MISSING_SAMPLE));
+			for (String row : missing) {
+				if (sample.size() == MISSING_SAMPLE)
+					break;
+				sample.add(row);
+			}
+			return sample;
+		}
+
+		@Override
+		public String toString() {
+			String pages = estimatedPages > 0 ? pagesFetched + "/" + estimatedPages : String.valueOf(pagesFetched);
+			return String.format("%s: matched=%d/%d scanned=%d pages=%s elapsed=%dms saved≈%s", assertion,
+					targetRows - missing.size(), targetRows, recordsScanned, pages, elapsedNanos / 1_000_000,
+					savedNanos > 0 ? savedNanos / 1_000_000 + "ms" : "0ms");
+		}
+	}
+
+	/**
+	 * 🎯 التحقق من أن كل صفوف الـ UI موجودة في سجلات الـ API
+	 *
+	 * 🔹 تُحوَّل صفوف الـ UI إلى مجموعة Hash، ثم تُستهلك سجلات الـ API من Stream
+	 * كسول صفحة بصفحة مع حذف كل صف مطابق. عند مطابقة آخر صف يُغلق الـ Stream فيتوقف
+	 * الجلب (ويُلغى الجلب المسبق). لا يُكمل الزحف حتى النهاية إلا إذا بقيت صفوف غير
+	 * مطابقة (لإثبات غيابها). يُسجَّل عدد الصفحات المجلوبة والوقت الموفّر في Allure.
+	 *
+	 * 🎯 Verifies that every UI row appears among the API records. The UI rows
+	 * become a hashed target set; API records are consumed page by page from a
+	 * lazy stream and each match is removed. Once the set is empty the stream is
+	 * closed, which stops fetching and cancels the prefetch. The crawl only runs
+	 * to the end when some rows are still unmatched, to prove their absence.
+	 * Pages fetched and the estimated time saved are reported per assertion.
+	 *
+	 * @param assertion اسم التحقق (للتقرير) | Assertion name, for the report
+	 * @param uiRows    صفوف الـ UI (بعد أي تطبيع) | UI rows, already normalized
+	 * @param source    يفتح Stream السجلات مع مستمع الصفحات | Opens the record
+	 *                  stream with the given page listener
+	 * @param key       مفتاح المقارنة لكل سجل (null يُتجاهل) | Comparison key
+	 *                  per record; null keys are ignored
+	 * @param <T>       نوع السجل | Record type
+	 * @return النتيجة | Outcome
+	 *
+	 *         📌 الهدف: تحقق UI ⊆ API بصفحة أو صفحتين بدل الزحف الكامل.
+	 */
+	public static <T> Result verify(String assertion, Collection<String> uiRows,
+			Function<PageListener, Stream<T>> source, Function<? super T, String> key) {
+		Set<String> pending = new HashSet<>(uiRows);
+		int targetRows = pending.size();
+
+		AtomicInteger pages = new AtomicInteger();
+		AtomicLong pageNanos = new AtomicLong();
+		AtomicLong total = new AtomicLong(-1);
+		AtomicInteger firstPageSize = new AtomicInteger();
+		PageListener listener = (pageNumber, records, totalRecords, nanos) -> {
+			if (pages.getAndIncrement() == 0)
+				firstPageSize.set(records);
+			pageNanos.addAndGet(nanos);
+			if (totalRecords >= 0)
+				total.compareAndSet(-1, totalRecords);
+		};
+
+		long scanned = 0;
+		long start = System.nanoTime();
+		if (!pending.isEmpty()) {
+			try (Stream<T> records = source.apply(listener)) {
+				Iterator<T> it = records.iterator();
+				while (!pending.isEmpty() && it.hasNext()) {
+					String k = key.apply(it.next());
+					scanned++;
+					if (k != null)
+						pending.remove(k);
+				}
+			}
+		}
+		long elapsed = System.nanoTime() - start;
+
+		int fetched = pages.get();
+		int estimated = total.get() > 0 && firstPageSize.get() > 0
+				? (int) ((total.get() + firstPageSize.get() - 1) / firstPageSize.get())
+				: -1;
+		int skipped = estimated > fetched ? estimated - fetched : 0;
+		long saved = fetched > 0 ? skipped * (pageNanos.get() / fetched) : 0;
+
+		Result result = new Result(assertion, targetRows, Set.copyOf(pending), scanned, fetched, estimated, elapsed,
+				saved);
+		record(result, skipped);
+		return result;
+	}
+
+	private static void record(Result result, int skipped) {
+		ASSERTIONS.increment();
+		if (result.isSubset() && skipped > 0)
+			EARLY_STOPS.increment();
+		PAGES_FETCHED.add(result.pagesFetched);
+		PAGES_SKIPPED.add(skipped);
+		NANOS_SPENT.add(result.elapsedNanos);
+		NANOS_SAVED.add(result.savedNanos);
+
+		String line = "🎯 " + result;
+		Allure.step(line);
+		System.out.println(line);
+	}
+
+	private static String summary() {
+		long n = ASSERTIONS.sum();
+		if (n == 0)
+			return "no samples";
+		return String.format("assertions=%d earlyStops=%d pagesFetched=%d pagesSkipped=%d spent=%dms saved≈%dms", n,
+				EARLY_STOPS.sum(), PAGES_FETCHED.sum(), PAGES_SKIPPED.sum(), NANOS_SPENT.sum() / 1_000_000,
+				NANOS_SAVED.sum() / 1_000_000);
+	}
+
+}
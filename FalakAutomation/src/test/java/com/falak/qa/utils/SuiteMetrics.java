@@ -0,0 +1,75 @@
+package com.falak.qa.utils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+
+//	✅ SuiteMetrics: سجلّ مركزي لأقسام تقرير الأداء الذي يُطبع في نهاية الـ Suite
+// Central registry of performance-report sections rendered once at suite end
+public final class SuiteMetrics {
+
+	// 📁 مسار ملف التقرير النهائي داخل المشروع
+	// Where the rendered report is written
+	private static final Path REPORT_FILE = Path.of(System.getProperty("user.dir"), "target", "suite-metrics.txt");
+
+	// 🧾 الأقسام المسجّلة (مرتبة بالاسم لثبات شكل التقرير)
+	// Registered sections, sorted by title for a stable layout
+	private static final Map<String, Supplier<String>> SECTIONS = new ConcurrentSkipListMap<>();
+
+	private SuiteMetrics() {
+	}
+
+	/**
+	 * 🧾 تسجيل قسم جديد في تقرير نهاية الـ Suite
+	 *
+	 * 🔹 يُستدعى عادةً من كتلة static داخل المكوّن صاحب المقاييس (مثل DriverPool)،
+	 * ويُقيَّم الـ Supplier فقط عند طباعة التقرير.
+	 *
+	 * 🧾 Registers a section of the end-of-suite report. The supplier is evaluated
+	 * lazily when the report is rendered.
+	 *
+	 * @param title    عنوان القسم | Section title
+	 * @param renderer دالة تُرجع نص القسم | Supplier rendering the section body
+	 */
+	public static void register(String title, Supplier<String> renderer) {
+		SECTIONS.put(title, renderer);
+	}
+
+	/**
+	 * 📊 توليد التقرير الكامل وطباعته في الكونسول وحفظه في
+	 * target/suite-metrics.txt
+	 *
+	 * 📊 Renders every registered section, prints it and writes it to
+	 * target/suite-metrics.txt.
+	 *
+	 * @return نص التقرير | Rendered report text
+	 *
+	 *         📌 الهدف: رؤية أثر تحسينات الأداء بعد كل تشغيل دون البحث في السجلات.
+	 */
+	public static String render() {
+		StringBuilder sb = new StringBuilder("📊 Suite performance metrics\n");
+		SECTIONS.forEach((title, renderer) -> {
+			sb.append("\n== ").append(title).append(" ==\n");
+			try {
+				sb.append(renderer.get()).append('\n');
+			} catch (Exception e) {
+				sb.append("⚠️ failed to render: ").append(e.getMessage()).append('\n');
+			}
+		});
+
+		String report = sb.toString();
+		System.out.println(report);
+		try {
+			Files.createDirectories(REPORT_FILE.getParent());
+			Files.writeString(REPORT_FILE, report, StandardCharsets.UTF_8);
+		} catch (IOException e) {
+			System.out.println("⚠️ Failed to write suite metrics: " + e.getMessage());
+		}
+		return report;
+	}
+
+}
@@ -0,0 +1,275 @@
+package com.falak.qa.utils;
+
+import com.falak.qa.base.DomWaitEngine;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ TableSnapshot: لقطة ثابتة (immutable) لجدول نتائج PrimeNG تُستخرج باستدعاء executeScript واحد
+// Immutable, column-indexed snapshot of a PrimeNG result table extracted in one executeScript call
+public final class TableSnapshot {
+
+	/**
+	 * 🧩 سكربت الاستخراج: العناوين، نصوص الخلايا، مؤشرات الفرز، وحالة الترقيم.
+	 * Extracts headers, cell texts, sort indicators and paginator state.
+	 */
+	private static final String SNAPSHOT_SCRIPT = """
+			var loc = arguments[0];
+			var table = loc.using === 'xpath'
+			  ? document.evaluate(loc.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue
+			  : document.querySelector(loc.value);
+			if (!table) return null;
+			function text(el){ return el ? String(el.innerText || '').replace(/\\s+/g, ' ').trim() : ''; }
+			var ths = Array.prototype.slice.call(table.querySelectorAll('thead tr:first-child > th'));
+			var headers = ths.map(text);
+			var sort = ths.map(function(th){
+			  var a = th.getAttribute('aria-sort');
+			  return a === 'ascending' ? 'ASC' : a === 'descending' ? 'DESC' : 'NONE';
+			});
+			var rows = [];
+			var bodies = table.tBodies;
+			for (var b = 0; b < bodies.length; b++) {
+			  for (var r = 0; r < bodies[b].rows.length; r++) {
+			    var tr = bodies[b].rows[r], cells = [];
+			    for (var c = 0; c < tr.children.length; c++) {
+			      if (tr.children[c].tagName === 'TD') cells.push(text(tr.children[c]));
+			    }
+			    rows.push(cells);
+			  }
+			}
+			var scope = table.closest('p-table, .p-datatable') || document;
+			var pg = scope.querySelector('.p-paginator') || document.querySelector('p-paginator .p-paginator');
+			var pagination = null;
+			if (pg) {
+			  var next = pg.querySelector('.p-paginator-next'), prev = pg.querySelector('.p-paginator-prev');
+			  var disabled = function(btn){ return !btn || btn.disabled || btn.classList.contains('p-disabled'); };
+			  pagination = {
+			    currentPage: text(pg.querySelector('.p-paginator-page.p-highlight')),
+			    visiblePages: pg.querySelectorAll('.p-paginator-page').length,
+			    hasNext: !disabled(next),
+			    hasPrevious: !disabled(prev),
+			    rowsPerPage: text(pg.querySelector('.p-paginator-rpp-options .p-dropdown-label')),
+			    report: text(pg.querySelector('.p-paginator-current'))
+			  };
+			}
+			return { headers: headers, sort: sort, rows: rows, pagination: pagination };
+			""";
+
+	// 📊 عدد الاستدعاءات الفعلية مقابل التقدير القديم (استدعاء لكل خلية) لكل موضع
+	// Actual vs legacy (one call per cell) WebDriver round-trips, per call site
+	private static final Map<String, RoundTrips> ROUND_TRIPS = new ConcurrentSkipListMap<>();
+
+	static {
+		SuiteMetrics.register("📋 Table snapshots", TableSnapshot::summary);
+	}
+
+	/** ↕️ اتجاه الفرز في عنوان العمود | Column sort direction */
+	public enum SortDirection {
+		ASC, DESC, NONE
+	}
+
+	/**
+	 * 🔢 حالة شريط الترقيم | Paginator state
+	 */
+	public static final class Pagination {
+		public final String currentPage;
+		public final int visiblePages;
+		public final boolean hasNext;
+		public final boolean hasPrevious;
+		public final String rowsPerPage;
+		public final String report;
+
+		private Pagination(Map<?, ?> raw) {
+			this.currentPage = String.valueOf(raw.get("currentPage"));
+			this.visiblePages = ((Number) raw.get("visiblePages")).intValue();
+			this.hasNext = Boolean.TRUE.equals(raw.get("hasNext"));
+			this.hasPrevious = Boolean.TRUE.equals(raw.get("hasPrevious"));
+			this.rowsPerPage = String.valueOf(raw.get("rowsPerPage"));
+			this.report = String.valueOf(raw.get("report"));
+		}
+
+		@Override
+		public String toString() {
+			return "page=" + currentPage + " pages=" + visiblePages + " next=" + hasNext + " prev=" + hasPrevious
+					+ " rpp=" + rowsPerPage;
+		}
+	}
+
+	private final List<String> headers;
+	private final List<SortDirection> sort;
+	private final List<List<String>> columns;
+	private final int rowCount;
+	private final Pagination pagination;
+
+	private TableSnapshot(List<String> headers, List<SortDirection> sort, List<List<String>> columns, int rowCount,
+			Pagination pagination) {
+		this.headers = headers;
+		this.sort = sort;
+		this.columns = columns;
+		this.rowCount = rowCount;
+		this.pagination = pagination;
+	}
+
+	/**
+	 * 📸 التقاط لقطة للجدول باستدعاء واحد إلى المتصفح
+	 *
+	 * 🔹 يستخرج العناوين، نصوص كل الخلايا، عدد الصفوف، مؤشرات الفرز، وحالة الترقيم
+	 * في رحلة واحدة بدل findElements + getText لكل خلية. الخلايا تُفهرس حسب العمود
+	 * (الصفوف التي لا تحتوي على العمود تُتخطى، مثل XPath td[N]).
+	 *
+	 * 📸 Captures the table in a single round-trip instead of findElements plus
+	 * one getText per cell. Cells are indexed by column; rows lacking a column are
+	 * skipped, mirroring XPath td[N].
+	 *
+	 * @param driver       WebDriver الحالي | Current driver
+	 * @param tableLocator محدد عنصر table | Locator of the table element
+	 * @param site         اسم موضع الاستدعاء (للمقاييس) | Call site, for metrics
+	 * @return لقطة ثابتة للجدول | Immutable snapshot
+	 * @throws NoSuchElementException إذا لم يوجد الجدول | If the table is absent
+	 */
+	public static TableSnapshot capture(WebDriver driver, By tableLocator, String site) {
+		ROUND_TRIPS.computeIfAbsent(site, k -> new RoundTrips()).actual.increment();
+		Object raw = ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT,
+				DomWaitEngine.toJsLocator(tableLocator));
+		if (!(raw instanceof Map))
+			throw new NoSuchElementException("❌ Table not found for snapshot: " + tableLocator);
+		return fromScript((Map<?, ?>) raw);
+	}
+
+	/**
+	 * 📊 تسجيل عدد الاستدعاءات التي كانت الطريقة القديمة ستحتاجها لنفس القراءة
+	 *
+	 * 📊 Records how many round-trips the replaced per-cell code path would have
+	 * made for the same read.
+	 *
+	 * @param site   اسم موضع الاستدعاء | Call site
+	 * @param legacy عدد الاستدعاءات القديم | Legacy round-trip count
+	 */
+	public static void recordLegacyRoundTrips(String site, long legacy) {
+		ROUND_TRIPS.computeIfAbsent(site, k -> new RoundTrips()).legacy.add(legacy);
+	}
+
+	private static TableSnapshot fromScript(Map<?, ?> raw) {
+		List<String> headers = new ArrayList<>();
+		for (Object h : (List<?>) raw.get("headers"))
+			headers.add(String.valueOf(h));
+
+		List<SortDirection> sort = new ArrayList<>();
+		for (Object s : (List<?>) raw.get("sort"))
+			sort.add(SortDirection.valueOf(String.valueOf(s)));
+
+		List<?> rows = (List<?>) raw.get("rows");
+		List<List<String>> columns = new ArrayList<>();
+		for (Object row : rows) {
+			List<?> cells = (List<?>) row;
+			for (int c = 0; c < cells.size(); c++) {
+				while (columns.size() <= c)
+					columns.add(new ArrayList<>());
+				columns.get(c).add(String.valueOf(cells.get(c)));
+			}
+		}
+		List<List<String>> frozen = new ArrayList<>(columns.size());
+		for (List<String> col : columns)
+			frozen.add(List.copyOf(col));
+
+		Object pg = raw.get("pagination");
+		return new TableSnapshot(List.copyOf(headers), List.copyOf(sort), Collections.unmodifiableList(frozen),
+				rows.size(), pg instanceof Map ? new Pagination((Map<?, ?>) pg) : null);
+	}
+
+	// ==================== Accessors ====================
+
+	public List<String> headers() {
+		return headers;
+	}
+
+	public int rowCount() {
+		return rowCount;
+	}
+
+	public int columnCount() {
+		return columns.size();
+	}
+
+	/**
+	 * 📑 نصوص عمود كامل (1 = أول عمود) | Texts of a column (1-based)
+	 *
+	 * @param columnIndex رقم العمود (يبدأ من 1) | Column index (1-based)
+	 * @return قائمة ثابتة، فارغة إذا لم يوجد العمود | Immutable list, empty if
+	 *         the column does not exist
+	 */
+	public List<String> column(int columnIndex) {
+		return columnIndex >= 1 && columnIndex <= columns.size() ? columns.get(columnIndex - 1) : List.of();
+	}
+
+	/**
+	 * 📥 أول N قيم من عمود | First N values of a column
+	 *
+	 * @param columnIndex رقم العمود (يبدأ من 1) | Column index (1-based)
+	 * @param count       عدد القيم | Number of values
+	 * @return قائمة ثابتة | Immutable list
+	 */
+	public List<String> topN(int columnIndex, int count) {
+		List<String> col = column(columnIndex);
+		return col.subList(0, Math.min(Math.max(count, 0), col.size()));
+	}
+
+	/**
+	 * 🧪 نص خلية (الصف والعمود يبدآن من 1) | Cell text (1-based row and column)
+	 *
+	 * @param rowIndex    رقم الصف | Row index
+	 * @param columnIndex رقم العمود | Column index
+	 * @return النص أو null إذا لم توجد الخلية | Text, or null if absent
+	 */
+	public String cell(int rowIndex, int columnIndex) {
+		List<String> col = column(columnIndex);
+		return rowIndex >= 1 && rowIndex <= col.size() ? col.get(rowIndex - 1) : null;
+	}
+
+	/**
+	 * ↕️ اتجاه الفرز لعمود (1 = أول عمود) | Sort direction of a column (1-based)
+	 *
+	 * @param columnIndex رقم العمود | Column index
+	 * @return الاتجاه، NONE إذا لم يُعرف | Direction, NONE if unknown
+	 */
+	public SortDirection sortDirection(int columnIndex) {
+		return columnIndex >= 1 && columnIndex <= sort.size() ? sort.get(columnIndex - 1) : SortDirection.NONE;
+	}
+
+	/**
+	 * 🔢 حالة الترقيم أو null إذا لم يوجد Paginator | Paginator state, or null
+	 *
+	 * @return حالة الترقيم | Pagination state
+	 */
+	public Pagination pagination() {
+		return pagination;
+	}
+
+	private static String summary() {
+		if (ROUND_TRIPS.isEmpty())
+			return "no samples";
+		StringBuilder sb = new StringBuilder();
+		for (Map.Entry<String, RoundTrips> e : ROUND_TRIPS.entrySet()) {
+			long legacy = e.getValue().legacy.sum();
+			long actual = e.getValue().actual.sum();
+			sb.append(String.format("%s roundTrips before=%d after=%d (%.1fx fewer)%n", e.getKey(), legacy, actual,
+					actual == 0 ? 0 : (double) legacy / actual));
+		}
+		return sb.toString().trim();
+	}
+
+	private static final class RoundTrips {
+		private final LongAdder legacy = new LongAdder();
+		private final LongAdder actual = new LongAdder();
+	}
+
+}
@@ -0,0 +1,268 @@
+package com.falak.qa.utils;
+
+import com.falak.qa.config.ConfigReader;
+
+import io.qameta.allure.Allure;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+//	✅ WebVitals: قياس أداء الواجهة (TTFB / FCP / LCP / CLS / المهام الطويلة / الموارد) لكل صفحة مع ميزانيات أداء
+// Frontend performance probe: PerformanceObserver-based Core Web Vitals and navigation timing per page object,
+// attached to Allure and checked against configurable budgets
+public final class WebVitals {
+
+	/** 📏 المقاييس المدعومة في الميزانيات | Metrics that can carry a budget */
+	public static final List<String> METRICS = List.of("ttfb", "fcp", "lcp", "cls", "longTaskMs", "resources");
+
+	// 👀 تسجيل المراقبين مرة واحدة لكل مستند (buffered يلتقط ما حدث قبل التسجيل)
+	// Registers the observers once per document; buffered:true replays entries recorded before registration
+	private static final String INSTALL_JS = """
+			(function () {
+			  if (window.__falakVitals) return;
+			  var v = window.__falakVitals = { lcp: null, cls: 0, longTasks: 0, longTaskMs: 0, obs: [] };
+			  function watch(type, fn) {
+			    try {
+			      var o = new PerformanceObserver(function (list) { list.getEntries().forEach(fn); });
+			      o.observe({ type: type, buffered: true });
+			      v.obs.push({ o: o, fn: fn });
+			    } catch (e) { /* نوع غير مدعوم في هذا المتصفح | unsupported entry type */ }
+			  }
+			  watch('largest-contentful-paint', function (e) { v.lcp = e.renderTime || e.loadTime || e.startTime; });
+			  watch('layout-shift', function (e) { if (!e.hadRecentInput) v.cls += e.value; });
+			  watch('longtask', function (e) { v.longTasks++; v.longTaskMs += e.duration; });
+			})();
+			""";
+
+	// 📥 takeRecords يسلّم ما لم يُسلَّم بعد بشكل متزامن | takeRecords flushes pending entries synchronously
+	private static final String COLLECT_JS = """
+			var v = window.__falakVitals;
+			if (v) v.obs.forEach(function (x) { x.o.takeRecords().forEach(x.fn); });
+			var nav = performance.getEntriesByType('navigation')[0];
+			var fcp = performance.getEntriesByName('first-contentful-paint')[0];
+			var res = performance.getEntriesByType('resource');
+			var bytes = 0;
+			res.forEach(function (r) { bytes += r.transferSize || 0; });
+			return {
+			  ttfb: nav ? nav.responseStart : null,
+			  domContentLoaded: nav ? nav.domContentLoadedEventEnd : null,
+			  load: nav ? nav.loadEventEnd : null,
+			  fcp: fcp ? fcp.startTime : null,
+			  lcp: v ? v.lcp : null,
+			  cls: v ? v.cls : null,
+			  longTasks: v ? v.longTasks : null,
+			  longTaskMs: v ? v.longTaskMs : null,
+			  resources: res.length,
+			  transferBytes: bytes,
+			  url: location.href
+			};
+			""";
+
+	private static final boolean ENFORCE;
+	private static final Properties CONFIG;
+	private static final Map<String, PageStats> PAGES = new ConcurrentSkipListMap<>();
+
+	static {
+		CONFIG = ConfigReader.initProperties();
+		ENFORCE = Boolean.parseBoolean(CONFIG.getProperty("perf.budget.enforce", "false").trim());
+		SuiteMetrics.register("📈 Web Vitals", WebVitals::summary);
+	}
+
+	private WebVitals() {
+	}
+
+	/**
+	 * 📊 لقطة مقاييس صفحة واحدة (بالمللي ثانية عدا cls و resources؛ null = غير
+	 * مدعوم)
+	 *
+	 * 📊 Metrics of one page in milliseconds (cls is unitless, resources is a
+	 * count); null when the browser does not expose the metric.
+	 */
+	public static final class Snapshot {
+		public final String page;
+		public final String url;
+		public final Map<String, Double> values;
+
+		private Snapshot(String page, String url, Map<String, Double> values) {
+			this.page = page;
+			this.url = url;
+			this.values = values;
+		}
+
+		public Double get(String metric) {
+			return values.get(metric);
+		}
+
+		/**
+		 * 🚦 التحقق من ميزانية مقياس (يفشل الاختبار عند التجاوز)
+		 *
+		 * 🚦 Fails with an AssertionError when the metric exceeds the budget. A
+		 * metric the browser does not report is skipped.
+		 *
+		 * @param metric اسم المقياس (مثل lcp) | Metric name (e.g. lcp)
+		 * @param max    الحد الأعلى | Upper bound
+		 * @return نفس اللقطة للتسلسل | This snapshot, for chaining
+		 *
+		 *         📌 الهدف: بوابة انحدار أداء مثل "NGrams LCP < 2.5s".
+		 */
+		public Snapshot assertBudget(String metric, double max) {
+			Double actual = values.get(metric);
+			if (actual == null) {
+				Allure.step("ℹ️ " + page + " " + metric + " not reported by this browser, budget skipped");
+				return this;
+			}
+			if (actual > max)
+				throw new AssertionError(String.format(Locale.ROOT, "❌ %s %s budget exceeded: %.2f > %.2f (%s)", page,
+						metric, actual, max, url));
+			Allure.step(String.format(Locale.ROOT, "✅ %s %s within budget: %.2f ≤ %.2f", page, metric, actual, max));
+			return this;
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder sb = new StringBuilder(page).append(':');
+			values.forEach((k, v) -> sb.append(' ').append(k).append('=')
+					.append(v == null ? "n/a" : String.format(Locale.ROOT, k.equals("cls") ? "%.3f" : "%.0f", v)));
+			return sb.toString();
+		}
+	}
+
+	/**
+	 * 👀 تسجيل PerformanceObserver في المستند الحالي (آمن للتكرار)
+	 *
+	 * 👀 Registers the PerformanceObservers in the current document; a no-op if
+	 * already installed. Call as early as possible after a navigation.
+	 *
+	 * @param driver المتصفح | Driver
+	 */
+	public static void install(WebDriver driver) {
+		try {
+			((JavascriptExecutor) driver).executeScript(INSTALL_JS);
+		} catch (Exception e) {
+			System.out.println("⚠️ Web Vitals probe not installed: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 📈 قراءة المقاييس وإرفاقها في Allure ثم فحص ميزانيات الإعدادات
+	 *
+	 * 🔹 الميزانيات تُقرأ من perf.budget.&lt;page&gt;.&lt;metric&gt; (اسم الصفحة
+	 * بأحرف صغيرة). التجاوز يُسجَّل دائمًا، ويُفشل الاختبار فقط إذا كان
+	 * perf.budget.enforce=true.
+	 *
+	 * 📈 Collects the metrics, attaches them to Allure and checks the configured
+	 * budgets (perf.budget.&lt;page&gt;.&lt;metric&gt;, page in lower case).
+	 * Violations are always reported and only fail the test when
+	 * perf.budget.enforce=true.
+	 *
+	 * @param driver المتصفح | Driver
+	 * @param page   اسم الصفحة (Page Object) | Page object name
+	 * @return اللقطة أو null إذا تعذرت القراءة | Snapshot, or null if unreadable
+	 */
+	@SuppressWarnings("unchecked")
+	public static Snapshot capture(WebDriver driver, String page) {
+		Map<String, Object> raw;
+		try {
+			install(driver);
+			raw = (Map<String, Object>) ((JavascriptExecutor) driver).executeScript(COLLECT_JS);
+		} catch (Exception e) {
+			System.out.println("⚠️ Web Vitals not collected for " + page + ": " + e.getMessage());
+			return null;
+		}
+
+		Map<String, Double> values = new LinkedHashMap<>();
+		for (String key : List.of("ttfb", "fcp", "lcp", "cls", "domContentLoaded", "load", "longTasks", "longTaskMs",
+				"resources", "transferBytes")) {
+			Object v = raw.get(key);
+			values.put(key, v instanceof Number ? ((Number) v).doubleValue() : null);
+		}
+		Snapshot snapshot = new Snapshot(page, String.valueOf(raw.get("url")), values);
+		PAGES.computeIfAbsent(page, k -> new PageStats()).add(snapshot);
+
+		Allure.step("📈 " + snapshot);
+		System.out.println("📈 " + snapshot);
+		Allure.addAttachment("📈 Web Vitals — " + page, snapshot.url + "\n" + snapshot.toString().replace(" ", "\n"));
+
+		checkConfiguredBudgets(snapshot);
+		return snapshot;
+	}
+
+	private static void checkConfiguredBudgets(Snapshot snapshot) {
+		List<String> violations = new ArrayList<>();
+		for (String metric : METRICS) {
+			String budget = CONFIG.getProperty("perf.budget." + snapshot.page.toLowerCase(Locale.ROOT) + "." + metric);
+			if (budget == null || budget.isBlank())
+				continue;
+			try {
+				snapshot.assertBudget(metric, Double.parseDouble(budget.trim()));
+			} catch (AssertionError e) {
+				violations.add(e.getMessage());
+				Allure.step(e.getMessage());
+				System.out.println(e.getMessage());
+			}
+		}
+		if (!violations.isEmpty()) {
+			PAGES.get(snapshot.page).violations.add(violations.size());
+			if (ENFORCE)
+				throw new AssertionError(String.join("\n", violations));
+		}
+	}
+
+	private static String summary() {
+		if (PAGES.isEmpty())
+			return "no samples";
+		StringBuilder sb = new StringBuilder();
+		PAGES.forEach((page, s) -> {
+			long n = s.samples.sum();
+			sb.append(String.format(Locale.ROOT, "%s samples=%d avg ttfb=%.0fms fcp=%.0fms lcp=%.0fms cls=%.3f"
+					+ " budgetViolations=%d%n", page, n, avg(s.ttfb), avg(s.fcp), avg(s.lcp), avg(s.cls),
+					s.violations.sum()));
+		});
+		return sb.toString().trim();
+	}
+
+	private static double avg(Metric m) {
+		long n = m.count.sum();
+		return n == 0 ? Double.NaN : m.sum.sum() / n;
+	}
+
+	private static final class Metric {
+		private final DoubleAdder sum = new DoubleAdder();
+		private final LongAdder count = new LongAdder();
+
+		void add(Double v) {
+			if (v != null) {
+				sum.add(v);
+				count.increment();
+			}
+		}
+	}
+
+	private static final class PageStats {
+		private final LongAdder samples = new LongAdder();
+		private final LongAdder violations = new LongAdder();
+		private final Metric ttfb = new Metric();
+		private final Metric fcp = new Metric();
+		private final Metric lcp = new Metric();
+		private final Metric cls = new Metric();
+
+		void add(Snapshot s) {
+			samples.increment();
+			ttfb.add(s.get("ttfb"));
+			fcp.add(s.get("fcp"));
+			lcp.add(s.get("lcp"));
+			cls.add(s.get("cls"));
+		}
+	}
+
+}